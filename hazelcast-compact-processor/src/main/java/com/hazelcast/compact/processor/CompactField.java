@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.compact.processor;
+
+/**
+ * A field of a class for which a Compact serializer is generated, along with
+ * the expressions to access it.
+ */
+final class CompactField {
+
+    final String name;
+    final String javaType;
+    final FieldType type;
+
+    /**
+     * Expression reading the value of the field from {@code object}.
+     */
+    final String getter;
+
+    /**
+     * Format of the statement assigning the value of the field in
+     * {@code object}, or {@code null} for the record components.
+     */
+    final String setter;
+
+    CompactField(String name, String javaType, FieldType type, String getter, String setter) {
+        this.name = name;
+        this.javaType = javaType;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.compact.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+/**
+ * Generates a {@code CompactSerializer} for each class or record annotated
+ * with {@code com.hazelcast.nio.serialization.compact.GenerateCompactSerializer}.
+ * <p>
+ * The generated serializers write the same fields with the same kinds and the
+ * same type name as the reflective serializer, hence the same binary form,
+ * but access the fields directly instead of through reflection. Reading
+ * tolerates missing fields in the same way, so the generated and reflective
+ * serializers are interchangeable between members and clients.
+ */
+@SupportedAnnotationTypes(CompactSerializerProcessor.ANNOTATION_NAME)
+public class CompactSerializerProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION_NAME = "com.hazelcast.nio.serialization.compact.GenerateCompactSerializer";
+    static final String SERIALIZER_SUFFIX = "CompactSerializer";
+
+    private static final String INDENT = "    ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                try {
+                    generate((TypeElement) element);
+                } catch (InvalidElementException e) {
+                    processingEnv.getMessager().printMessage(ERROR, e.getMessage(), e.element);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(ERROR,
+                            "Could not write the Compact serializer: " + e, element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        verifyInstantiable(type);
+        List<CompactField> fields = type.getKind() == ElementKind.RECORD ? recordFields(type) : classFields(type);
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String serializerName = serializerName(type);
+        String source = new SerializerSourceBuilder(type.getQualifiedName().toString(),
+                processingEnv.getElementUtils().getBinaryName(type).toString(),
+                type.getKind() == ElementKind.RECORD, fields)
+                .build(packageName, serializerName);
+
+        String qualifiedName = packageName.isEmpty() ? serializerName : packageName + "." + serializerName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    /**
+     * Returns the name of the serializer of the given type: the names of the
+     * type and its enclosing types joined with {@code _}, followed by
+     * {@value #SERIALIZER_SUFFIX}.
+     */
+    static String serializerName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement;
+             enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return name.append(SERIALIZER_SUFFIX).toString();
+    }
+
+    private void verifyInstantiable(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            throw new InvalidElementException(type, "Compact serializers can only be generated for classes and records");
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) {
+            throw new InvalidElementException(type,
+                    "Compact serializers cannot be generated for abstract or generic classes");
+        }
+        verifyAccessible(type);
+        if (type.getKind() == ElementKind.CLASS
+                && ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .noneMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE))) {
+            throw new InvalidElementException(type,
+                    "Compact serializers can only be generated for classes with a non-private empty constructor");
+        }
+    }
+
+    private static void verifyAccessible(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new InvalidElementException(type, "Compact serializers cannot be generated for private classes");
+            }
+            if (element.getEnclosingElement() instanceof TypeElement && element.getKind() == ElementKind.CLASS
+                    && !element.getModifiers().contains(Modifier.STATIC)) {
+                throw new InvalidElementException(type,
+                        "Compact serializers cannot be generated for inner classes, make the class static");
+            }
+        }
+    }
+
+    private List<CompactField> recordFields(TypeElement type) {
+        List<CompactField> fields = new ArrayList<>();
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            fields.add(new CompactField(name, component.asType().toString(), fieldType(component, component.asType()),
+                    "object." + name + "()", null));
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the non-static, non-transient fields of the class and its super
+     * classes, the same fields as the ones written by the reflective
+     * serializer.
+     */
+    private List<CompactField> classFields(TypeElement type) {
+        PackageElement targetPackage = processingEnv.getElementUtils().getPackageOf(type);
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type));
+        List<CompactField> fields = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                if (modifiers.contains(Modifier.FINAL)) {
+                    throw new InvalidElementException(field, "Final fields are not supported by the generated "
+                            + "Compact serializers, make the field non-final or transient");
+                }
+                String name = field.getSimpleName().toString();
+                FieldType fieldType = fieldType(field, field.asType());
+                if (isAccessible(field, targetPackage)) {
+                    fields.add(new CompactField(name, field.asType().toString(), fieldType,
+                            "object." + name, "object." + name + " = %s;"));
+                } else {
+                    fields.add(new CompactField(name, field.asType().toString(), fieldType,
+                            "object." + getter(field, methods, targetPackage) + "()",
+                            "object." + setter(field, methods, targetPackage) + "(%s);"));
+                }
+            }
+        }
+        return fields;
+    }
+
+    private String getter(VariableElement field, List<ExecutableElement> methods, PackageElement targetPackage) {
+        String suffix = capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : methods) {
+            String name = method.getSimpleName().toString();
+            boolean nameMatches = name.equals("get" + suffix)
+                    || (field.asType().getKind() == TypeKind.BOOLEAN && name.equals("is" + suffix));
+            if (nameMatches && method.getParameters().isEmpty() && isAccessible(method, targetPackage)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return name;
+            }
+        }
+        throw new InvalidElementException(field, "The field is not accessible by the generated Compact "
+                + "serializer, make the field non-private or add a non-private getter and setter for it");
+    }
+
+    private String setter(VariableElement field, List<ExecutableElement> methods, PackageElement targetPackage) {
+        String name = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == 1
+                    && isAccessible(method, targetPackage)
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return name;
+            }
+        }
+        throw new InvalidElementException(field, "The field is not accessible by the generated Compact "
+                + "serializer, make the field non-private or add a non-private getter and setter for it");
+    }
+
+    private FieldType fieldType(Element element, TypeMirror type) {
+        FieldType fieldType = FieldType.of(type);
+        if (fieldType == null) {
+            throw new InvalidElementException(element, "The type " + type + " is not supported by the generated "
+                    + "Compact serializers, consider writing a CompactSerializer for the class");
+        }
+        return fieldType;
+    }
+
+    private boolean isAccessible(Element member, PackageElement targetPackage) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && processingEnv.getElementUtils().getPackageOf(member).equals(targetPackage);
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Builds the source code of a generated serializer.
+     */
+    private static final class SerializerSourceBuilder {
+
+        private final StringBuilder source = new StringBuilder();
+        private final String className;
+        private final String typeName;
+        private final boolean record;
+        private final List<CompactField> fields;
+
+        SerializerSourceBuilder(String className, String typeName, boolean record, List<CompactField> fields) {
+            this.className = className;
+            this.typeName = typeName;
+            this.record = record;
+            this.fields = fields;
+        }
+
+        String build(String packageName, String serializerName) {
+            if (!packageName.isEmpty()) {
+                line(0, "package " + packageName + ";");
+                line(0, "");
+            }
+            line(0, "@javax.annotation.processing.Generated(\"" + CompactSerializerProcessor.class.getName() + "\")");
+            line(0, "public final class " + serializerName
+                    + " implements com.hazelcast.nio.serialization.compact.CompactSerializer<" + className + "> {");
+            line(0, "");
+            line(1, "@Override");
+            line(1, "public " + className + " read(com.hazelcast.nio.serialization.compact.CompactReader reader) {");
+            if (record) {
+                for (CompactField field : fields) {
+                    line(2, field.javaType + " $" + field.name + " = " + field.type.defaultValue + ";");
+                }
+            } else {
+                line(2, className + " object = new " + className + "();");
+            }
+            line(2, "com.hazelcast.nio.serialization.FieldKind kind;");
+            for (CompactField field : fields) {
+                read(field);
+            }
+            if (record) {
+                StringBuilder arguments = new StringBuilder();
+                for (CompactField field : fields) {
+                    arguments.append(arguments.length() == 0 ? "$" : ", $").append(field.name);
+                }
+                line(2, "return new " + className + "(" + arguments + ");");
+            } else {
+                line(2, "return object;");
+            }
+            line(1, "}");
+            line(0, "");
+            line(1, "@Override");
+            line(1, "public void write(com.hazelcast.nio.serialization.compact.CompactWriter writer, "
+                    + className + " object) {");
+            for (CompactField field : fields) {
+                line(2, "writer.write" + field.type.method + "(\"" + field.name + "\", "
+                        + String.format(field.type.toWire, field.getter) + ");");
+            }
+            line(1, "}");
+            line(0, "");
+            line(1, "@Override");
+            line(1, "public String getTypeName() {");
+            line(2, "return \"" + typeName + "\";");
+            line(1, "}");
+            line(0, "");
+            line(1, "@Override");
+            line(1, "public Class<" + className + "> getCompactClass() {");
+            line(2, "return " + className + ".class;");
+            line(1, "}");
+            line(0, "}");
+            return source.toString();
+        }
+
+        /**
+         * Reads the field only if it exists in the schema with a compatible
+         * kind, as the reflective serializer does.
+         */
+        private void read(CompactField field) {
+            line(2, "kind = reader.getFieldKind(\"" + field.name + "\");");
+            StringBuilder condition = new StringBuilder();
+            for (String kind : field.type.kinds) {
+                condition.append(condition.length() == 0 ? "" : " || ")
+                        .append("kind == com.hazelcast.nio.serialization.FieldKind.").append(kind);
+            }
+            line(2, "if (" + condition + ") {");
+            String value = "reader.read" + field.type.method + "(\"" + field.name + "\"" + field.type.readArguments + ")";
+            if (field.type.wireType != null) {
+                line(3, field.type.wireType + " value = " + value + ";");
+                value = String.format(field.type.fromWire, "value");
+            }
+            if (record) {
+                line(3, "$" + field.name + " = " + value + ";");
+            } else {
+                line(3, String.format(field.setter, value));
+            }
+            line(2, "}");
+        }
+
+        private void line(int indent, String line) {
+            if (!line.isEmpty()) {
+                source.append(INDENT.repeat(indent)).append(line);
+            }
+            source.append('\n');
+        }
+    }
+
+    /**
+     * Reports an element for which a serializer cannot be generated.
+     */
+    private static final class InvalidElementException extends RuntimeException {
+
+        private final transient Element element;
+
+        InvalidElementException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
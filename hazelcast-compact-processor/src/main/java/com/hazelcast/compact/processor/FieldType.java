@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.compact.processor;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Describes how a Java type is written to and read from the Compact format:
+ * the {@code CompactWriter}/{@code CompactReader} methods to use, the field
+ * kinds the value can be read from and the conversions, if any, between the
+ * Java type and the written type.
+ * <p>
+ * The mapping is the same as the one of the reflective serializer, so that the
+ * generated serializers produce the same schemas.
+ */
+@SuppressWarnings("checkstyle:executablestatementcount")
+final class FieldType {
+
+    private static final Map<TypeKind, FieldType> PRIMITIVES = new EnumMap<>(TypeKind.class);
+    private static final Map<TypeKind, FieldType> PRIMITIVE_ARRAYS = new EnumMap<>(TypeKind.class);
+    private static final Map<String, FieldType> DECLARED = new HashMap<>();
+    private static final Map<String, FieldType> DECLARED_ARRAYS = new HashMap<>();
+
+    static {
+        primitive(TypeKind.BOOLEAN, "Boolean", "BOOLEAN", "false");
+        primitive(TypeKind.BYTE, "Int8", "INT8", "(byte) 0");
+        primitive(TypeKind.SHORT, "Int16", "INT16", "(short) 0");
+        primitive(TypeKind.INT, "Int32", "INT32", "0");
+        primitive(TypeKind.LONG, "Int64", "INT64", "0L");
+        primitive(TypeKind.FLOAT, "Float32", "FLOAT32", "0F");
+        primitive(TypeKind.DOUBLE, "Float64", "FLOAT64", "0D");
+        PRIMITIVES.put(TypeKind.CHAR, new FieldType("Int16", "(char) 0", "INT16", "NULLABLE_INT16")
+                .withConversion("short", "(short) %s", "(char) %s"));
+
+        nullable("java.lang.Boolean", "Boolean", "BOOLEAN");
+        nullable("java.lang.Byte", "Int8", "INT8");
+        nullable("java.lang.Short", "Int16", "INT16");
+        nullable("java.lang.Integer", "Int32", "INT32");
+        nullable("java.lang.Long", "Int64", "INT64");
+        nullable("java.lang.Float", "Float32", "FLOAT32");
+        nullable("java.lang.Double", "Float64", "FLOAT64");
+        DECLARED.put("java.lang.Character", new FieldType("NullableInt16", "null", "NULLABLE_INT16", "INT16")
+                .withConversion("java.lang.Short",
+                        "%1$s == null ? null : (short) %1$s.charValue()",
+                        "%1$s == null ? null : (char) %1$s.shortValue()"));
+
+        object("java.lang.String", "String", "STRING");
+        object("java.math.BigDecimal", "Decimal", "DECIMAL");
+        object("java.time.LocalTime", "Time", "TIME");
+        object("java.time.LocalDate", "Date", "DATE");
+        object("java.time.LocalDateTime", "Timestamp", "TIMESTAMP");
+        object("java.time.OffsetDateTime", "TimestampWithTimezone", "TIMESTAMP_WITH_TIMEZONE");
+    }
+
+    /**
+     * Suffix of the {@code CompactWriter.write*} and {@code CompactReader.read*}
+     * methods, e.g. {@code Int32}.
+     */
+    final String method;
+
+    /**
+     * Value of the field when it does not exist in the schema, used for
+     * records.
+     */
+    final String defaultValue;
+
+    /**
+     * Names of the {@code FieldKind}s the field can be read from.
+     */
+    final String[] kinds;
+
+    /**
+     * Type returned by the reader method when it differs from the field type,
+     * {@code null} otherwise.
+     */
+    String wireType;
+
+    /**
+     * Formats converting the field value to and from the wire type.
+     */
+    String toWire = "%s";
+    String fromWire = "%s";
+
+    /**
+     * Extra arguments of the reader method.
+     */
+    String readArguments = "";
+
+    private FieldType(String method, String defaultValue, String... kinds) {
+        this.method = method;
+        this.defaultValue = defaultValue;
+        this.kinds = kinds;
+    }
+
+    /**
+     * Returns the field type of the given Java type or {@code null} if values
+     * of the type cannot be written by the generated serializers.
+     */
+    static FieldType of(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return arrayOf(((ArrayType) type).getComponentType());
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                TypeElement element = (TypeElement) declaredType.asElement();
+                String name = element.getQualifiedName().toString();
+                FieldType fieldType = DECLARED.get(name);
+                if (fieldType != null) {
+                    return fieldType;
+                }
+                if (element.getKind() == ElementKind.ENUM) {
+                    return new FieldType("String", "null", "STRING")
+                            .withConversion("java.lang.String",
+                                    "%1$s == null ? null : %1$s.name()",
+                                    "%1$s == null ? null : " + name + ".valueOf(%1$s)");
+                }
+                return isNestedCompact(declaredType, element) ? new FieldType("Compact", "null", "COMPACT") : null;
+            default:
+                return PRIMITIVES.get(type.getKind());
+        }
+    }
+
+    private static FieldType arrayOf(TypeMirror componentType) {
+        if (componentType.getKind().isPrimitive()) {
+            return PRIMITIVE_ARRAYS.get(componentType.getKind());
+        }
+        if (componentType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        DeclaredType declaredType = (DeclaredType) componentType;
+        TypeElement element = (TypeElement) declaredType.asElement();
+        String name = element.getQualifiedName().toString();
+        FieldType fieldType = DECLARED_ARRAYS.get(name);
+        if (fieldType != null || DECLARED.containsKey(name) || element.getKind() == ElementKind.ENUM) {
+            return fieldType;
+        }
+        if (!isNestedCompact(declaredType, element)) {
+            return null;
+        }
+        fieldType = new FieldType("ArrayOfCompact", "null", "ARRAY_OF_COMPACT");
+        fieldType.readArguments = ", " + name + ".class";
+        return fieldType;
+    }
+
+    /**
+     * Nested objects are written as Compact, except the JDK types which are
+     * not supported by the zero-config serialization and generic types.
+     */
+    private static boolean isNestedCompact(DeclaredType type, TypeElement element) {
+        String name = element.getQualifiedName().toString();
+        return type.getTypeArguments().isEmpty()
+                && (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.RECORD)
+                && !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    private FieldType withConversion(String wireType, String toWire, String fromWire) {
+        this.wireType = wireType;
+        this.toWire = toWire;
+        this.fromWire = fromWire;
+        return this;
+    }
+
+    private static void primitive(TypeKind kind, String method, String fieldKind, String defaultValue) {
+        PRIMITIVES.put(kind, new FieldType(method, defaultValue, fieldKind, "NULLABLE_" + fieldKind));
+        PRIMITIVE_ARRAYS.put(kind, new FieldType("ArrayOf" + method, "null",
+                "ARRAY_OF_" + fieldKind, "ARRAY_OF_NULLABLE_" + fieldKind));
+    }
+
+    private static void nullable(String className, String method, String fieldKind) {
+        DECLARED.put(className, new FieldType("Nullable" + method, "null", "NULLABLE_" + fieldKind, fieldKind));
+        DECLARED_ARRAYS.put(className, new FieldType("ArrayOfNullable" + method, "null",
+                "ARRAY_OF_NULLABLE_" + fieldKind, "ARRAY_OF_" + fieldKind));
+    }
+
+    private static void object(String className, String method, String fieldKind) {
+        DECLARED.put(className, new FieldType(method, "null", fieldKind));
+        DECLARED_ARRAYS.put(className, new FieldType("ArrayOf" + method, "null", "ARRAY_OF_" + fieldKind));
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.compact.processor;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.compact.CompactTestUtil;
+import com.hazelcast.internal.serialization.impl.compact.CompactUtil;
+import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compiles sample classes with and without the processor and checks that the
+ * generated serializers produce the same binary form as the reflective ones.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactSerializerProcessorTest {
+
+    private static final String EMPLOYEE = """
+            package com.example;
+
+            import com.hazelcast.nio.serialization.compact.GenerateCompactSerializer;
+
+            @GenerateCompactSerializer
+            public class Employee extends Person {
+                public int id;
+                long salary;
+                boolean active;
+                char grade;
+                Character nullableGrade;
+                Integer age;
+                Double rating;
+                String name;
+                java.math.BigDecimal bonus;
+                java.time.LocalDate hired;
+                java.time.LocalDateTime lastLogin;
+                int[] scores;
+                Long[] counts;
+                String[] tags;
+                Status status;
+                Address address;
+                Address[] previousAddresses;
+                private String email;
+                transient int cache;
+
+                public String getEmail() {
+                    return email;
+                }
+
+                public void setEmail(String email) {
+                    this.email = email;
+                }
+
+                public enum Status {
+                    ACTIVE, RETIRED
+                }
+
+                @GenerateCompactSerializer
+                public static class Address {
+                    public String city;
+                    public int zip;
+                }
+            }
+            """;
+
+    private static final String PERSON = """
+            package com.example;
+
+            public class Person {
+                String surname;
+            }
+            """;
+
+    private static final String POINT = """
+            package com.example;
+
+            import com.hazelcast.nio.serialization.compact.GenerateCompactSerializer;
+
+            @GenerateCompactSerializer
+            public record Point(int x, Integer y, String label) {
+            }
+            """;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testGeneratedSerializerNames() throws Exception {
+        ClassLoader generated = compile(true, EMPLOYEE, PERSON, POINT);
+
+        assertNotNull(generated.loadClass("com.example.EmployeeCompactSerializer"));
+        assertNotNull(generated.loadClass("com.example.Employee_AddressCompactSerializer"));
+        assertNotNull(generated.loadClass("com.example.PointCompactSerializer"));
+        assertTrue(CompactUtil.createGeneratedSerializerOrNull(generated.loadClass("com.example.Employee$Address"))
+                .getClass().getName().endsWith("Employee_AddressCompactSerializer"));
+        assertNull(CompactUtil.createGeneratedSerializerOrNull(generated.loadClass("com.example.Person")));
+
+        ClassLoader reflective = compile(false, EMPLOYEE, PERSON, POINT);
+        assertNull(CompactUtil.createGeneratedSerializerOrNull(reflective.loadClass("com.example.Employee")));
+    }
+
+    @Test
+    public void testClass_sameBinaryAsReflective() throws Exception {
+        ClassLoader generated = compile(true, EMPLOYEE, PERSON, POINT);
+        ClassLoader reflective = compile(false, EMPLOYEE, PERSON, POINT);
+
+        assertSameBinary(newEmployee(generated), newEmployee(reflective), generated, reflective);
+    }
+
+    @Test
+    public void testClass_nullFields_sameBinaryAsReflective() throws Exception {
+        ClassLoader generated = compile(true, EMPLOYEE, PERSON, POINT);
+        ClassLoader reflective = compile(false, EMPLOYEE, PERSON, POINT);
+
+        Object generatedEmployee = generated.loadClass("com.example.Employee").getConstructor().newInstance();
+        Object reflectiveEmployee = reflective.loadClass("com.example.Employee").getConstructor().newInstance();
+        assertSameBinary(generatedEmployee, reflectiveEmployee, generated, reflective);
+    }
+
+    @Test
+    public void testRecord_sameBinaryAsReflective() throws Exception {
+        ClassLoader generated = compile(true, EMPLOYEE, PERSON, POINT);
+        ClassLoader reflective = compile(false, EMPLOYEE, PERSON, POINT);
+
+        assertSameBinary(newPoint(generated), newPoint(reflective), generated, reflective);
+    }
+
+    /**
+     * Compares the round trip throughput of the generated and the reflective
+     * serializers, to be run manually.
+     */
+    @Test
+    @Ignore("benchmark, the result depends on the machine")
+    public void testThroughput_generatedVsReflective() throws Exception {
+        ClassLoader generated = compile(true, EMPLOYEE, PERSON, POINT);
+        ClassLoader reflective = compile(false, EMPLOYEE, PERSON, POINT);
+        SchemaService schemaService = CompactTestUtil.createInMemorySchemaService();
+        InternalSerializationService generatedService = serializationService(generated, schemaService);
+        InternalSerializationService reflectiveService = serializationService(reflective, schemaService);
+        Object generatedEmployee = newEmployee(generated);
+        Object reflectiveEmployee = newEmployee(reflective);
+
+        for (int round = 0; round < 5; round++) {
+            System.out.println("generated: " + roundTripsPerMillisecond(generatedService, generatedEmployee)
+                    + " round trips/ms, reflective: " + roundTripsPerMillisecond(reflectiveService, reflectiveEmployee)
+                    + " round trips/ms");
+        }
+    }
+
+    @Test
+    public void testRead_missingFieldsKeepDefaults() throws Exception {
+        String oldPoint = """
+                package com.example;
+
+                public record Point(int x) {
+                }
+                """;
+        ClassLoader generated = compile(true, EMPLOYEE, PERSON, POINT);
+        ClassLoader old = compile(false, oldPoint);
+
+        Object point = old.loadClass("com.example.Point").getConstructor(int.class).newInstance(42);
+        SchemaService schemaService = CompactTestUtil.createInMemorySchemaService();
+        Data data = serializationService(old, schemaService).toData(point);
+        Object newPoint = serializationService(generated, schemaService).toObject(data);
+
+        assertEquals(generated.loadClass("com.example.Point"), newPoint.getClass());
+        assertEquals("Point[x=42, y=null, label=null]", newPoint.toString());
+    }
+
+    @Test
+    public void testUnsupportedField_compilationFails() throws Exception {
+        String source = """
+                package com.example;
+
+                import com.hazelcast.nio.serialization.compact.GenerateCompactSerializer;
+
+                @GenerateCompactSerializer
+                public class Unsupported {
+                    java.util.List<String> names;
+                }
+                """;
+
+        assertCompilationError("The type java.util.List<java.lang.String> is not supported", source);
+    }
+
+    @Test
+    public void testInaccessibleField_compilationFails() throws Exception {
+        String source = """
+                package com.example;
+
+                import com.hazelcast.nio.serialization.compact.GenerateCompactSerializer;
+
+                @GenerateCompactSerializer
+                public class Inaccessible {
+                    private String name;
+                }
+                """;
+
+        assertCompilationError("The field is not accessible by the generated Compact serializer", source);
+    }
+
+    @Test
+    public void testNoEmptyConstructor_compilationFails() throws Exception {
+        String source = """
+                package com.example;
+
+                import com.hazelcast.nio.serialization.compact.GenerateCompactSerializer;
+
+                @GenerateCompactSerializer
+                public class NoEmptyConstructor {
+                    int value;
+
+                    public NoEmptyConstructor(int value) {
+                        this.value = value;
+                    }
+                }
+                """;
+
+        assertCompilationError("non-private empty constructor", source);
+    }
+
+    private void assertSameBinary(Object generatedObject, Object reflectiveObject,
+                                  ClassLoader generated, ClassLoader reflective) {
+        SchemaService schemaService = CompactTestUtil.createInMemorySchemaService();
+        InternalSerializationService generatedService = serializationService(generated, schemaService);
+        InternalSerializationService reflectiveService = serializationService(reflective, schemaService);
+
+        Data generatedData = generatedService.toData(generatedObject);
+        Data reflectiveData = reflectiveService.toData(reflectiveObject);
+        assertArrayEquals(reflectiveData.toByteArray(), generatedData.toByteArray());
+
+        // read the binary of each serializer with the other one
+        Object fromReflective = generatedService.toObject(reflectiveData);
+        assertEquals(generatedObject.getClass(), fromReflective.getClass());
+        assertArrayEquals(generatedData.toByteArray(), generatedService.toData(fromReflective).toByteArray());
+        Object fromGenerated = reflectiveService.toObject(generatedData);
+        assertArrayEquals(reflectiveData.toByteArray(), reflectiveService.toData(fromGenerated).toByteArray());
+    }
+
+    private static long roundTripsPerMillisecond(InternalSerializationService serializationService, Object object) {
+        int roundTrips = 1_000_000;
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < roundTrips; i++) {
+            Data data = serializationService.toData(object);
+            if (serializationService.toObject(data) == null) {
+                throw new AssertionError();
+            }
+        }
+        return roundTrips / Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private static InternalSerializationService serializationService(ClassLoader classLoader,
+                                                                     SchemaService schemaService) {
+        return new DefaultSerializationServiceBuilder()
+                .setClassLoader(classLoader)
+                .setSchemaService(schemaService)
+                .build();
+    }
+
+    private static Object newEmployee(ClassLoader classLoader) throws Exception {
+        Class<?> employeeClass = classLoader.loadClass("com.example.Employee");
+        Class<?> addressClass = classLoader.loadClass("com.example.Employee$Address");
+        Class<?> statusClass = classLoader.loadClass("com.example.Employee$Status");
+
+        Object address = newAddress(addressClass, "Istanbul", 34000);
+        Object[] previousAddresses = (Object[]) java.lang.reflect.Array.newInstance(addressClass, 2);
+        previousAddresses[0] = newAddress(addressClass, "London", 10000);
+
+        Object employee = employeeClass.getConstructor().newInstance();
+        setFields(employee, Map.ofEntries(
+                Map.entry("surname", "Doe"),
+                Map.entry("id", 7),
+                Map.entry("salary", 100_000L),
+                Map.entry("active", true),
+                Map.entry("grade", 'A'),
+                Map.entry("nullableGrade", 'B'),
+                Map.entry("age", 42),
+                Map.entry("name", "John"),
+                Map.entry("bonus", new BigDecimal("1234.5")),
+                Map.entry("hired", LocalDate.of(2020, 1, 2)),
+                Map.entry("lastLogin", LocalDateTime.of(2024, 3, 4, 5, 6)),
+                Map.entry("scores", new int[]{1, 2, 3}),
+                Map.entry("counts", new Long[]{1L, null, 3L}),
+                Map.entry("tags", new String[]{"a", null}),
+                Map.entry("status", statusClass.getEnumConstants()[1]),
+                Map.entry("address", address),
+                Map.entry("previousAddresses", previousAddresses),
+                Map.entry("email", "john@example.com"),
+                Map.entry("cache", 99)
+        ));
+        return employee;
+    }
+
+    private static Object newAddress(Class<?> addressClass, String city, int zip) throws Exception {
+        Object address = addressClass.getConstructor().newInstance();
+        setFields(address, Map.of("city", city, "zip", zip));
+        return address;
+    }
+
+    private static Object newPoint(ClassLoader classLoader) throws Exception {
+        return classLoader.loadClass("com.example.Point")
+                .getConstructor(int.class, Integer.class, String.class)
+                .newInstance(1, null, "origin");
+    }
+
+    private static void setFields(Object object, Map<String, Object> values) throws Exception {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Field field = findField(object.getClass(), entry.getKey());
+            field.setAccessible(true);
+            field.set(object, entry.getValue());
+        }
+    }
+
+    private static Field findField(Class<?> clazz, String name) throws NoSuchFieldException {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException ignored) {
+                // look up in the super class
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+
+    private void assertCompilationError(String expectedMessage, String source) throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(compile(true, diagnostics, temporaryFolder.newFolder(), source));
+
+        String errors = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.joining("\n"));
+        assertTrue(errors, errors.contains(expectedMessage));
+    }
+
+    private ClassLoader compile(boolean process, String... sources) throws Exception {
+        File outputDir = temporaryFolder.newFolder();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(diagnostics.getDiagnostics().toString(), compile(process, diagnostics, outputDir, sources));
+        return new URLClassLoader(new URL[]{outputDir.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    private static boolean compile(boolean process, DiagnosticCollector<JavaFileObject> diagnostics,
+                                   File outputDir, String... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> compilationUnits = new ArrayList<>();
+        for (String source : sources) {
+            compilationUnits.add(new SourceFile(source));
+        }
+        List<String> options = new ArrayList<>(List.of("-d", outputDir.getPath(),
+                "-classpath", System.getProperty("java.class.path")));
+        if (!process) {
+            options.add("-proc:none");
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    compilationUnits);
+            if (process) {
+                task.setProcessors(List.of(new CompactSerializerProcessor()));
+            }
+            return task.call();
+        }
+    }
+
+    /**
+     * In-memory source file, named after the public type it declares.
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private static final Pattern PACKAGE = Pattern.compile("package ([\\w.]+);");
+        private static final Pattern PUBLIC_TYPE = Pattern.compile("public (?:class|record) (\\w+)");
+
+        private final String source;
+
+        SourceFile(String source) {
+            super(URI.create("string:///" + typeName(source).replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+
+        private static String typeName(String source) {
+            Matcher packageMatcher = PACKAGE.matcher(source);
+            Matcher typeMatcher = PUBLIC_TYPE.matcher(source);
+            assertTrue(packageMatcher.find() && typeMatcher.find());
+            return packageMatcher.group(1) + "." + typeMatcher.group(1);
+        }
+    }
+}
@@ -16,35 +16,50 @@
 
 package com.hazelcast.sql.impl.exec.scan;
 
+import com.hazelcast.internal.json.JsonValue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.sql.impl.extract.QueryExtractor;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.extract.QueryTarget;
 import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
 import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeMismatchException;
 
 import java.util.List;
 
 /**
  * Key-value row that is used for iteration over maps. The row is mutable and is not used by parent operators.
+ * <p>
+ * If the row is set from an entry returned by a covering index, values of fields stored in the entry by the index
+ * are taken from the entry instead of being extracted from the key or the value.
  */
 public final class MapScanRow implements Row {
 
     private final QueryTarget keyTarget;
     private final QueryTarget valueTarget;
     private final QueryExtractor[] fieldExtractors;
+    private final String[] fieldAttributes;
+    private final QueryDataType[] fieldTypes;
+
+    private QueryableEntry<?, ?> entry;
 
     private MapScanRow(
         QueryTarget keyTarget,
         QueryTarget valueTarget,
-        QueryExtractor[] fieldExtractors
+        QueryExtractor[] fieldExtractors,
+        String[] fieldAttributes,
+        QueryDataType[] fieldTypes
     ) {
         this.keyTarget = keyTarget;
         this.valueTarget = valueTarget;
         this.fieldExtractors = fieldExtractors;
+        this.fieldAttributes = fieldAttributes;
+        this.fieldTypes = fieldTypes;
     }
 
     public static MapScanRow create(
@@ -59,15 +74,21 @@ public final class MapScanRow implements Row {
         QueryTarget valueTarget = valueDescriptor.create(serializationService, extractors, false);
 
         QueryExtractor[] fieldExtractors = new QueryExtractor[fieldPaths.size()];
+        String[] fieldAttributes = new String[fieldPaths.size()];
 
         for (int i = 0; i < fieldPaths.size(); i++) {
             QueryPath fieldPath = fieldPaths.get(i);
             QueryDataType fieldType = fieldTypes.get(i);
 
             fieldExtractors[i] = createExtractor(keyTarget, valueTarget, fieldPath, fieldType);
+
+            if (fieldPath.getPath() != null) {
+                fieldAttributes[i] = fieldPath.isKey() ? QueryPath.KEY_PREFIX + fieldPath.getPath() : fieldPath.getPath();
+            }
         }
 
-        return new MapScanRow(keyTarget, valueTarget, fieldExtractors);
+        return new MapScanRow(keyTarget, valueTarget, fieldExtractors, fieldAttributes,
+            fieldTypes.toArray(new QueryDataType[0]));
     }
 
     /**
@@ -81,18 +102,55 @@ public final class MapScanRow implements Row {
     public void setKeyValue(Object rawKey, Data rawKeyData, Object rawValue, Data rawValueData) {
         keyTarget.setTarget(rawKey, rawKeyData);
         valueTarget.setTarget(rawValue, rawValueData);
+        entry = null;
+    }
+
+    /**
+     * Set current key and value from the given entry, which may have field values stored by a covering index.
+     *
+     * @param entry the entry
+     */
+    public void setEntry(QueryableEntry<?, ?> entry) {
+        setKeyValue(entry.getKeyIfPresent(), entry.getKeyDataIfPresent(),
+            entry.getValueIfPresent(), entry.getValueDataIfPresent());
+        this.entry = entry;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(int idx) {
-        return (T) fieldExtractors[idx].get();
+        Object coveredValue = getCoveredValue(idx);
+        return (T) (coveredValue != QueryableEntry.NOT_COVERED ? coveredValue : fieldExtractors[idx].get());
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(int idx, boolean useLazyDeserialization) {
-        return (T) fieldExtractors[idx].get(useLazyDeserialization);
+        Object coveredValue = getCoveredValue(idx);
+        return (T) (coveredValue != QueryableEntry.NOT_COVERED
+            ? coveredValue : fieldExtractors[idx].get(useLazyDeserialization));
+    }
+
+    private Object getCoveredValue(int idx) {
+        String attribute = fieldAttributes[idx];
+
+        if (entry == null || attribute == null) {
+            return QueryableEntry.NOT_COVERED;
+        }
+
+        Object value = entry.getCoveredAttributeValue(attribute);
+
+        if (value == QueryableEntry.NOT_COVERED || value instanceof MultiResult || value instanceof JsonValue) {
+            // collection and JSON values are extracted differently by SQL
+            return QueryableEntry.NOT_COVERED;
+        }
+
+        try {
+            return fieldTypes[idx].normalize(value);
+        } catch (QueryDataTypeMismatchException e) {
+            // let the extractor report the mismatch
+            return QueryableEntry.NOT_COVERED;
+        }
     }
 
     @Override
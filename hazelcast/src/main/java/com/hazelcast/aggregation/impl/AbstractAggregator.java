@@ -80,6 +80,40 @@ public abstract class AbstractAggregator<I, E, R> implements Aggregator<I, R> {
         }
     }
 
+    /**
+     * Takes back a previously accumulated entry, so that the aggregator can
+     * be kept up to date while entries are removed or updated.
+     *
+     * @param entry the entry to take back, as it was accumulated
+     * @return {@code true} if the entry was taken back, {@code false} if the
+     * aggregator can't take entries back and has to be rebuilt instead; in the
+     * latter case the state of the aggregator is undefined
+     */
+    public final boolean deaccumulate(I entry) {
+        E extractedValue = extract(entry);
+        if (extractedValue instanceof MultiResult) {
+            boolean nullEmptyTargetSkipped = false;
+            @SuppressWarnings("unchecked")
+            MultiResult<E> multiResult = (MultiResult<E>) extractedValue;
+            List<E> results = multiResult.getResults();
+            for (int i = 0; i < results.size(); i++) {
+                E result = results.get(i);
+                if (result == null && multiResult.isNullEmptyTarget() && !nullEmptyTargetSkipped) {
+                    // skipped by accumulate, see there
+                    nullEmptyTargetSkipped = true;
+                    continue;
+                }
+                if (!deaccumulateExtracted(entry, result)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (extractedValue != NonTerminalJsonValue.INSTANCE) {
+            return deaccumulateExtracted(entry, extractedValue);
+        }
+        return true;
+    }
+
     /**
      * Extract the value of the given attributePath from the given entry.
      */
@@ -105,6 +139,18 @@ public abstract class AbstractAggregator<I, E, R> implements Aggregator<I, R> {
      */
     protected abstract void accumulateExtracted(I entry, E value);
 
+    /**
+     * Takes back a single extracted value previously passed to
+     * {@link #accumulateExtracted}. Not supported by default.
+     *
+     * @param entry The entry containing the value.
+     * @param value The value extracted the same way as for {@link #accumulateExtracted}.
+     * @return {@code true} if the value was taken back, {@code false} if not supported
+     */
+    protected boolean deaccumulateExtracted(I entry, E value) {
+        return false;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
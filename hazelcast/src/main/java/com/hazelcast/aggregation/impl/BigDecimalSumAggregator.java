@@ -43,6 +43,12 @@ public final class BigDecimalSumAggregator<I> extends AbstractAggregator<I, BigD
         sum = sum.add(value);
     }
 
+    @Override
+    protected boolean deaccumulateExtracted(I entry, BigDecimal value) {
+        sum = sum.subtract(value);
+        return true;
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         BigDecimalSumAggregator longSumAggregator = (BigDecimalSumAggregator) aggregator;
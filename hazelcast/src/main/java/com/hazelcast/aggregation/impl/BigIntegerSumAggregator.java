@@ -42,6 +42,12 @@ public final class BigIntegerSumAggregator<I> extends AbstractAggregator<I, BigI
         sum = sum.add(value);
     }
 
+    @Override
+    protected boolean deaccumulateExtracted(I entry, BigInteger value) {
+        sum = sum.subtract(value);
+        return true;
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         BigIntegerSumAggregator longSumAggregator = (BigIntegerSumAggregator) aggregator;
@@ -46,6 +46,13 @@ public final class IntegerAverageAggregator<I> extends AbstractAggregator<I, Num
         sum += Numbers.asIntExactly(value);
     }
 
+    @Override
+    protected boolean deaccumulateExtracted(I entry, Number value) {
+        count--;
+        sum -= Numbers.asIntExactly(value);
+        return true;
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         IntegerAverageAggregator integerAverageAggregator = (IntegerAverageAggregator) aggregator;
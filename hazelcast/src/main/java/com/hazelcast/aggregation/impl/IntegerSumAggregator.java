@@ -43,6 +43,12 @@ public final class IntegerSumAggregator<I> extends AbstractAggregator<I, Number,
         sum += Numbers.asIntExactly(value);
     }
 
+    @Override
+    protected boolean deaccumulateExtracted(I entry, Number value) {
+        sum -= Numbers.asIntExactly(value);
+        return true;
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         IntegerSumAggregator integerSumAggregator = (IntegerSumAggregator) aggregator;
@@ -45,6 +45,13 @@ public final class LongAverageAggregator<I> extends AbstractAggregator<I, Number
         sum += Numbers.asLongExactly(value);
     }
 
+    @Override
+    protected boolean deaccumulateExtracted(I entry, Number value) {
+        count--;
+        sum -= Numbers.asLongExactly(value);
+        return true;
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         LongAverageAggregator longAverageAggregator = (LongAverageAggregator) aggregator;
@@ -42,6 +42,12 @@ public final class LongSumAggregator<I> extends AbstractAggregator<I, Number, Lo
         sum += Numbers.asLongExactly(value);
     }
 
+    @Override
+    protected boolean deaccumulateExtracted(I entry, Number value) {
+        sum -= Numbers.asLongExactly(value);
+        return true;
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         LongSumAggregator longSumAggregator = (LongSumAggregator) aggregator;
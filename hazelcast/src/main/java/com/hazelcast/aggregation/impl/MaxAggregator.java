@@ -45,6 +45,19 @@ public final class MaxAggregator<I, R extends Comparable> extends AbstractAggreg
         }
     }
 
+    /**
+     * Values below the current maximum can be taken back as they don't affect
+     * it, taking back the maximum itself requires a rebuild.
+     */
+    @Override
+    protected boolean deaccumulateExtracted(I entry, R value) {
+        return value == null || isBelowMax(value);
+    }
+
+    private boolean isBelowMax(R otherValue) {
+        return max != null && Comparables.compare(max, otherValue) > 0;
+    }
+
     private boolean isCurrentlyLessThan(R otherValue) {
         if (otherValue == null) {
             return false;
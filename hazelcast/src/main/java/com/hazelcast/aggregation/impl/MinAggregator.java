@@ -45,6 +45,19 @@ public final class MinAggregator<I, R extends Comparable> extends AbstractAggreg
         }
     }
 
+    /**
+     * Values above the current minimum can be taken back as they don't affect
+     * it, taking back the minimum itself requires a rebuild.
+     */
+    @Override
+    protected boolean deaccumulateExtracted(I entry, R value) {
+        return value == null || isAboveMin(value);
+    }
+
+    private boolean isAboveMin(R otherValue) {
+        return min != null && Comparables.compare(min, otherValue) < 0;
+    }
+
     private boolean isCurrentlyGreaterThan(R otherValue) {
         if (otherValue == null) {
             return false;
@@ -65,6 +65,7 @@ import com.hazelcast.config.DynamicConfigurationConfig;
 import com.hazelcast.config.ExecutorConfig;
 import com.hazelcast.config.FlakeIdGeneratorConfig;
 import com.hazelcast.config.HotRestartPersistenceConfig;
+import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.InstanceTrackingConfig;
 import com.hazelcast.config.IntegrityCheckerConfig;
 import com.hazelcast.config.ListConfig;
@@ -105,6 +106,7 @@ import com.hazelcast.internal.config.ServicesConfig;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.jet.config.JetConfig;
+import com.hazelcast.query.impl.IndexUtils;
 
 import javax.annotation.Nonnull;
 import java.io.File;
@@ -140,6 +142,8 @@ public class ClientDynamicClusterConfig extends Config {
 
     @Override
     public Config addMapConfig(MapConfig mapConfig) {
+        checkNoMemberOnlyIndexOptions(mapConfig);
+        checkNoStorageOptions(mapConfig);
         List<ListenerConfigHolder> listenerConfigs = adaptListenerConfigs(mapConfig.getEntryListenerConfigs());
         List<ListenerConfigHolder> partitionLostListenerConfigs =
                 adaptListenerConfigs(mapConfig.getPartitionLostListenerConfigs());
@@ -1260,6 +1264,37 @@ public class ClientDynamicClusterConfig extends Config {
         }
     }
 
+    private static void checkNoMemberOnlyIndexOptions(MapConfig mapConfig) {
+        for (IndexConfig indexConfig : mapConfig.getIndexConfigs()) {
+            checkNoMemberOnlyIndexOptions(indexConfig);
+        }
+        for (QueryCacheConfig queryCacheConfig : mapConfig.getQueryCacheConfigs()) {
+            for (IndexConfig indexConfig : queryCacheConfig.getIndexConfigs()) {
+                checkNoMemberOnlyIndexOptions(indexConfig);
+            }
+        }
+    }
+
+    private static void checkNoMemberOnlyIndexOptions(IndexConfig indexConfig) {
+        IndexUtils.checkNoIncludedAttributes(indexConfig, "client dynamic config");
+        IndexUtils.checkDefaultStoreType(indexConfig, "client dynamic config");
+    }
+
+    private static void checkNoStorageOptions(MapConfig mapConfig) {
+        if (mapConfig.isOffHeapStorageEnabled()) {
+            throw new IllegalArgumentException("Off-heap storage is not supported by client dynamic config yet, "
+                    + "configure the map with the member-side config: " + mapConfig.getName());
+        }
+        if (mapConfig.isPackedRecordsEnabled()) {
+            throw new IllegalArgumentException("Packed records are not supported by client dynamic config yet, "
+                    + "configure the map with the member-side config: " + mapConfig.getName());
+        }
+        if (mapConfig.isValueCompressionEnabled()) {
+            throw new IllegalArgumentException("Value compression is not supported by client dynamic config yet, "
+                    + "configure the map with the member-side config: " + mapConfig.getName());
+        }
+    }
+
     private List<ListenerConfigHolder> adaptListenerConfigs(List<? extends ListenerConfig> listenerConfigs) {
         List<ListenerConfigHolder> listenerConfigHolders = null;
         if (listenerConfigs != null && !listenerConfigs.isEmpty()) {
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.clientside;
+
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCacheConfigAccessor;
+import com.hazelcast.internal.nearcache.NearCache;
+import com.hazelcast.internal.nearcache.impl.DefaultNearCache;
+import com.hazelcast.internal.nearcache.impl.DefaultNearCacheManager;
+import com.hazelcast.internal.nearcache.impl.store.NearCacheOffHeapRecordStore;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+/**
+ * Near Cache manager of the client, which creates the Near Caches with
+ * {@link NearCacheConfig#isOffHeapStorageEnabled() off-heap storage enabled}
+ * with a {@link NearCacheOffHeapRecordStore}.
+ */
+public class ClientNearCacheManager extends DefaultNearCacheManager {
+
+    public ClientNearCacheManager(SerializationService ss, TaskScheduler es, ClassLoader classLoader,
+                                  HazelcastProperties properties) {
+        super(ss, es, classLoader, properties);
+    }
+
+    @Override
+    protected <K, V> NearCache<K, V> createNearCache(String name, NearCacheConfig nearCacheConfig) {
+        if (!nearCacheConfig.isOffHeapStorageEnabled()) {
+            return super.createNearCache(name, nearCacheConfig);
+        }
+        NearCacheConfig copy = NearCacheConfigAccessor.copyWithInitializedDefaultMaxSizeForOnHeapMaps(nearCacheConfig);
+        return new DefaultNearCache<>(name, copy,
+                new NearCacheOffHeapRecordStore<>(name, copy, serializationService, classLoader),
+                serializationService, scheduler, classLoader, properties);
+    }
+}
@@ -49,7 +49,6 @@ import com.hazelcast.instance.BuildInfoProvider;
 import com.hazelcast.internal.memory.DefaultMemoryStats;
 import com.hazelcast.internal.memory.MemoryStats;
 import com.hazelcast.internal.nearcache.NearCacheManager;
-import com.hazelcast.internal.nearcache.impl.DefaultNearCacheManager;
 import com.hazelcast.internal.networking.ChannelInitializer;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -204,7 +203,9 @@ public class DefaultClientExtension implements ClientExtension {
 
         HazelcastProperties properties = client.getProperties();
         boolean directBuffer = properties.getBoolean(SOCKET_CLIENT_BUFFER_DIRECT);
-        return new ClientPlainChannelInitializer(socketOptions, directBuffer);
+        return new ClientPlainChannelInitializer(socketOptions, directBuffer,
+                properties.getBoolean(ClientProperty.IO_COMPRESSION_ENABLED),
+                properties.getInteger(ClientProperty.IO_COMPRESSION_THRESHOLD));
     }
 
     @Override
@@ -240,7 +241,7 @@ public class DefaultClientExtension implements ClientExtension {
         ClassLoader classLoader = client.getClientConfig().getClassLoader();
         HazelcastProperties properties = client.getProperties();
 
-        return new DefaultNearCacheManager(ss, taskScheduler, classLoader, properties);
+        return new ClientNearCacheManager(ss, taskScheduler, classLoader, properties);
     }
 
     @Override
@@ -21,6 +21,7 @@ import com.hazelcast.client.impl.protocol.util.ClientMessageDecoder;
 import com.hazelcast.client.impl.protocol.util.ClientMessageEncoder;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelInitializer;
+import com.hazelcast.internal.networking.compression.WireCompression;
 
 import static com.hazelcast.client.config.SocketOptions.KILO_BYTE;
 import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
@@ -38,15 +39,31 @@ import static com.hazelcast.internal.networking.ChannelOption.TCP_NODELAY;
  * case is a real client using client protocol etc.
  *
  * It will automatically send the Client Protocol to the server and configure the
- * correct buffers/handlers.
+ * correct buffers/handlers. If wire compression is enabled, the Client Protocol
+ * requests it and the answer of the server is awaited before anything else is
+ * sent.
  */
 public class ClientPlainChannelInitializer implements ChannelInitializer {
     private final boolean directBuffer;
     private final SocketOptions socketOptions;
+    private final boolean compression;
+    private final int compressionThreshold;
 
     public ClientPlainChannelInitializer(SocketOptions socketOptions, boolean directBuffer) {
+        this(socketOptions, directBuffer, false, 0);
+    }
+
+    /**
+     * @param compression          whether to request wire compression
+     * @param compressionThreshold the minimum number of bytes pending at once
+     *                             to compress them
+     */
+    public ClientPlainChannelInitializer(SocketOptions socketOptions, boolean directBuffer,
+                                         boolean compression, int compressionThreshold) {
         this.socketOptions = socketOptions;
         this.directBuffer = directBuffer;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
     }
 
     @Override
@@ -64,11 +81,18 @@ public class ClientPlainChannelInitializer implements ChannelInitializer {
         final TcpClientConnection connection = (TcpClientConnection) channel.attributeMap().get(TcpClientConnection.class);
 
         ClientMessageDecoder decoder = new ClientMessageDecoder(connection, connection::handleClientMessage, null);
-        channel.inboundPipeline().addLast(decoder);
+        ClientProtocolEncoder protocolEncoder = new ClientProtocolEncoder();
+        if (compression) {
+            WireCompression.enable(channel, compressionThreshold);
+            // the server answers the request for compression
+            channel.inboundPipeline().addLast(new ClientProtocolDecoder(decoder, protocolEncoder));
+        } else {
+            channel.inboundPipeline().addLast(decoder);
+        }
 
         channel.outboundPipeline().addLast(new ClientMessageEncoder());
         // before a client sends any data, it first needs to send the protocol.
         // so the protocol encoder is actually the last handler in the outbound pipeline.
-        channel.outboundPipeline().addLast(new ClientProtocolEncoder());
+        channel.outboundPipeline().addLast(protocolEncoder);
     }
 }
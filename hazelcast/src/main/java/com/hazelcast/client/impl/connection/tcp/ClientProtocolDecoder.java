@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.compression.WireCompression;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
+
+/**
+ * A {@link InboundHandler} that reads the answer of the server to a client
+ * protocol requesting wire compression. Once it is known if the server
+ * agreed, it replaces itself with the next handler, preceded by the
+ * compression decoder if needed, and lets the {@link ClientProtocolEncoder}
+ * continue.
+ */
+public class ClientProtocolDecoder extends InboundHandler<ByteBuffer, Void> {
+
+    private final InboundHandler next;
+    private final ClientProtocolEncoder protocolEncoder;
+
+    public ClientProtocolDecoder(InboundHandler next, ClientProtocolEncoder protocolEncoder) {
+        this.next = next;
+        this.protocolEncoder = protocolEncoder;
+    }
+
+    @Override
+    public void handlerAdded() {
+        initSrcBuffer(PROTOCOL_LENGTH);
+    }
+
+    @Override
+    public HandlerStatus onRead() {
+        src.flip();
+        try {
+            if (src.remaining() < PROTOCOL_LENGTH) {
+                // The protocol has not yet been fully received.
+                return CLEAN;
+            }
+
+            byte[] protocolBytes = new byte[PROTOCOL_LENGTH];
+            src.get(protocolBytes);
+            String protocol = new String(protocolBytes, StandardCharsets.UTF_8);
+            if (!CLIENT_BINARY.equals(WireCompression.negotiate(channel, protocol))) {
+                throw new IllegalStateException("Unexpected protocol received from the server: " + protocol);
+            }
+
+            channel.inboundPipeline().replace(this, WireCompression.withDecoder(channel, next));
+            protocolEncoder.signalProtocolReceived();
+            return CLEAN;
+        } finally {
+            compactOrClear(src);
+        }
+    }
+}
@@ -14,13 +14,16 @@
  * limitations under the License.
  */
 
+
 package com.hazelcast.client.impl.connection.tcp;
 
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.compression.WireCompression;
 
 import java.nio.ByteBuffer;
 
+import static com.hazelcast.internal.networking.HandlerStatus.BLOCKED;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
@@ -35,21 +38,48 @@ import static com.hazelcast.internal.util.StringUtil.stringToBytes;
  *
  * Even though the ClientProtocolEncoder has a ByteBuffer as src, it will
  * never consume bytes from this source.
+ *
+ * If the client protocol requests wire compression, it waits for the answer
+ * of the server, see {@link ClientProtocolDecoder}, and replaces itself with
+ * the compression encoder if the server agreed.
  */
 public class ClientProtocolEncoder extends OutboundHandler<ByteBuffer, ByteBuffer> {
 
+    private volatile boolean protocolReceived;
+
     @Override
     public void handlerAdded() {
-        initDstBuffer(PROTOCOL_LENGTH, stringToBytes(CLIENT_BINARY));
+        initDstBuffer(PROTOCOL_LENGTH, stringToBytes(WireCompression.announcedProtocol(channel, CLIENT_BINARY)));
     }
 
     @Override
     public HandlerStatus onWrite() {
-        if (dst.remaining() == 0) {
+        if (dst.remaining() != 0) {
+            return DIRTY;
+        }
+
+        if (WireCompression.of(channel) == null) {
             channel.outboundPipeline().remove(this);
-            return CLEAN;
+        } else if (protocolReceived) {
+            OutboundHandler[] handlers = WireCompression.withEncoder(channel);
+            if (handlers.length == 0) {
+                channel.outboundPipeline().remove(this);
+            } else {
+                channel.outboundPipeline().replace(this, handlers);
+            }
         } else {
-            return DIRTY;
+            // nothing is sent before it is known if it needs to be compressed
+            return BLOCKED;
         }
+        return CLEAN;
+    }
+
+    /**
+     * Signals that the answer of the server to the protocol was received.
+     * This call will be made by the {@link ClientProtocolDecoder}.
+     */
+    void signalProtocolReceived() {
+        protocolReceived = true;
+        channel.outboundPipeline().wakeup();
     }
 }
@@ -122,6 +122,8 @@ import static com.hazelcast.client.properties.ClientProperty.HEARTBEAT_TIMEOUT;
 import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
 import static com.hazelcast.client.properties.ClientProperty.IO_OUTPUT_THREAD_COUNT;
+import static com.hazelcast.client.properties.ClientProperty.IO_WRITE_COALESCING_BYTES;
+import static com.hazelcast.client.properties.ClientProperty.IO_WRITE_COALESCING_LATENCY_MICROS;
 import static com.hazelcast.client.properties.ClientProperty.IO_WRITE_THROUGH_ENABLED;
 import static com.hazelcast.client.properties.ClientProperty.SHUFFLE_MEMBER_LIST;
 import static com.hazelcast.core.LifecycleEvent.LifecycleState.CLIENT_CHANGED_CLUSTER;
@@ -333,6 +335,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
                         .outputThreadAffinity(newSystemThreadAffinity("hazelcast.client.io.output.thread.affinity"))
                         .balancerIntervalSeconds(properties.getInteger(IO_BALANCER_INTERVAL_SECONDS))
                         .writeThroughEnabled(properties.getBoolean(IO_WRITE_THROUGH_ENABLED))
+                        .writeCoalescing(properties.getNanos(IO_WRITE_COALESCING_LATENCY_MICROS),
+                                properties.getInteger(IO_WRITE_COALESCING_BYTES))
                         .concurrencyDetection(client.getConcurrencyDetection())
         );
     }
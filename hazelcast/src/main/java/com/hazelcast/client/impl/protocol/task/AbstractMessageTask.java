@@ -44,6 +44,7 @@ import com.hazelcast.security.Credentials;
 import com.hazelcast.security.SecurityContext;
 import com.hazelcast.spi.exception.RetryableHazelcastException;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationexecutor.impl.PartitionOperationThread;
 import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
 
 import java.lang.reflect.Field;
@@ -306,7 +307,10 @@ public abstract class AbstractMessageTask<P> implements MessageTask, SecureReque
         resultClientMessage.setCorrelationId(clientMessage.getCorrelationId());
 
         if (asyncSocket == null) {
-            connection.write(resultClientMessage);
+            // a draining partition thread writes the responses of the drain together
+            if (!PartitionOperationThread.deferWrite(connection, resultClientMessage)) {
+                connection.write(resultClientMessage);
+            }
         } else {
             if (!asyncSocket.writeAndFlush(resultClientMessage)) {
                 // Unlike the 'classic' networking, the asyncSocket has a bound on the
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.util;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
+import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
+import com.hazelcast.client.impl.protocol.codec.MapRemoveCodec;
+import com.hazelcast.client.impl.protocol.codec.MapSetCodec;
+import com.hazelcast.internal.serialization.Data;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.hazelcast.client.impl.protocol.ClientMessage.PARTITION_ID_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.TYPE_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.UNFRAGMENTED_MESSAGE;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.INT_SIZE_IN_BYTES;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.encodeInt;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.encodeLong;
+
+/**
+ * Encodes the requests of the hot map operations: {@link MapGetCodec},
+ * {@link MapPutCodec}, {@link MapSetCodec} and {@link MapRemoveCodec}.
+ * <p>
+ * The messages are identical to the ones created by the generated codecs,
+ * but the name frame shares the UTF-8 bytes of the map name encoded once by
+ * {@link #encodeName(String)}, instead of encoding the name on every request.
+ * The key and value frames share the payload of the {@link Data}, so the only
+ * byte array allocated per request is the one of the initial frame, which
+ * can't be shared because the correlation and partition ids are written to it.
+ * The content of all frames is copied by the {@link ClientMessageEncoder}
+ * straight into the send buffer of the connection.
+ * <p>
+ * The frame contents are shared with retries of the request, see
+ * {@link ClientMessage#copyMessageWithSharedNonInitialFrames()}, and a message
+ * can still be queued for writing after its invocation completed, so the
+ * frames are not pooled.
+ */
+public final class MapRequestEncoder {
+
+    private static final int REQUEST_THREAD_ID_FIELD_OFFSET = PARTITION_ID_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int REQUEST_TTL_FIELD_OFFSET = REQUEST_THREAD_ID_FIELD_OFFSET + LONG_SIZE_IN_BYTES;
+    private static final int REQUEST_INITIAL_FRAME_SIZE = REQUEST_THREAD_ID_FIELD_OFFSET + LONG_SIZE_IN_BYTES;
+    private static final int REQUEST_WITH_TTL_INITIAL_FRAME_SIZE = REQUEST_TTL_FIELD_OFFSET + LONG_SIZE_IN_BYTES;
+
+    private MapRequestEncoder() {
+    }
+
+    /**
+     * Encodes the name of a map once, so it can be passed to the encode
+     * methods of this class. The returned bytes must not be modified.
+     */
+    public static byte[] encodeName(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static ClientMessage encodeGetRequest(byte[] encodedName, Data key, long threadId) {
+        ClientMessage clientMessage = createRequest(MapGetCodec.REQUEST_MESSAGE_TYPE, "Map.Get", true,
+                REQUEST_INITIAL_FRAME_SIZE, threadId);
+        addFrames(clientMessage, encodedName, key);
+        return clientMessage;
+    }
+
+    public static ClientMessage encodeRemoveRequest(byte[] encodedName, Data key, long threadId) {
+        ClientMessage clientMessage = createRequest(MapRemoveCodec.REQUEST_MESSAGE_TYPE, "Map.Remove", false,
+                REQUEST_INITIAL_FRAME_SIZE, threadId);
+        addFrames(clientMessage, encodedName, key);
+        return clientMessage;
+    }
+
+    public static ClientMessage encodePutRequest(byte[] encodedName, Data key, Data value, long threadId, long ttl) {
+        ClientMessage clientMessage = createRequest(MapPutCodec.REQUEST_MESSAGE_TYPE, "Map.Put", false,
+                REQUEST_WITH_TTL_INITIAL_FRAME_SIZE, threadId);
+        encodeLong(clientMessage.getStartFrame().content, REQUEST_TTL_FIELD_OFFSET, ttl);
+        addFrames(clientMessage, encodedName, key);
+        clientMessage.add(new ClientMessage.Frame(value.toByteArray()));
+        return clientMessage;
+    }
+
+    public static ClientMessage encodeSetRequest(byte[] encodedName, Data key, Data value, long threadId, long ttl) {
+        ClientMessage clientMessage = createRequest(MapSetCodec.REQUEST_MESSAGE_TYPE, "Map.Set", false,
+                REQUEST_WITH_TTL_INITIAL_FRAME_SIZE, threadId);
+        encodeLong(clientMessage.getStartFrame().content, REQUEST_TTL_FIELD_OFFSET, ttl);
+        addFrames(clientMessage, encodedName, key);
+        clientMessage.add(new ClientMessage.Frame(value.toByteArray()));
+        return clientMessage;
+    }
+
+    private static ClientMessage createRequest(int messageType, String operationName, boolean retryable,
+                                               int initialFrameSize, long threadId) {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        clientMessage.setContainsSerializedDataInRequest(true);
+        clientMessage.setRetryable(retryable);
+        clientMessage.setOperationName(operationName);
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[initialFrameSize], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, messageType);
+        encodeInt(initialFrame.content, PARTITION_ID_FIELD_OFFSET, -1);
+        encodeLong(initialFrame.content, REQUEST_THREAD_ID_FIELD_OFFSET, threadId);
+        clientMessage.add(initialFrame);
+        return clientMessage;
+    }
+
+    private static void addFrames(ClientMessage clientMessage, byte[] encodedName, Data key) {
+        clientMessage.add(new ClientMessage.Frame(encodedName));
+        clientMessage.add(new ClientMessage.Frame(key.toByteArray()));
+    }
+}
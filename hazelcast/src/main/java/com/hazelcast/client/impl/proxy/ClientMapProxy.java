@@ -77,7 +77,6 @@ import com.hazelcast.client.impl.protocol.codec.MapRemovePartitionLostListenerCo
 import com.hazelcast.client.impl.protocol.codec.MapReplaceAllCodec;
 import com.hazelcast.client.impl.protocol.codec.MapReplaceCodec;
 import com.hazelcast.client.impl.protocol.codec.MapReplaceIfSameCodec;
-import com.hazelcast.client.impl.protocol.codec.MapSetCodec;
 import com.hazelcast.client.impl.protocol.codec.MapSetTtlCodec;
 import com.hazelcast.client.impl.protocol.codec.MapSetWithMaxIdleCodec;
 import com.hazelcast.client.impl.protocol.codec.MapSizeCodec;
@@ -90,6 +89,7 @@ import com.hazelcast.client.impl.protocol.codec.MapValuesCodec;
 import com.hazelcast.client.impl.protocol.codec.MapValuesWithPagingPredicateCodec;
 import com.hazelcast.client.impl.protocol.codec.MapValuesWithPredicateCodec;
 import com.hazelcast.client.impl.protocol.codec.holder.PagingPredicateHolder;
+import com.hazelcast.client.impl.protocol.util.MapRequestEncoder;
 import com.hazelcast.client.impl.spi.ClientContext;
 import com.hazelcast.client.impl.spi.ClientPartitionService;
 import com.hazelcast.client.impl.spi.ClientProxy;
@@ -105,6 +105,7 @@ import com.hazelcast.client.map.impl.iterator.ClientMapQueryIterable;
 import com.hazelcast.client.map.impl.iterator.ClientMapQueryPartitionIterable;
 import com.hazelcast.client.map.impl.iterator.ClientMapQueryPartitionIterator;
 import com.hazelcast.client.map.impl.querycache.ClientQueryCacheContext;
+import com.hazelcast.client.properties.ClientProperty;
 import com.hazelcast.cluster.Member;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.core.EntryEvent;
@@ -121,6 +122,7 @@ import com.hazelcast.internal.serialization.impl.SerializationUtil;
 import com.hazelcast.internal.util.CollectionUtil;
 import com.hazelcast.internal.util.ConcurrencyUtil;
 import com.hazelcast.internal.util.IterationType;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.EventJournalMapEvent;
 import com.hazelcast.map.IMap;
@@ -133,12 +135,14 @@ import com.hazelcast.map.QueryCache;
 import com.hazelcast.map.impl.DataAwareEntryEvent;
 import com.hazelcast.map.impl.ListenerAdapter;
 import com.hazelcast.map.impl.SimpleEntryView;
+import com.hazelcast.map.impl.iterator.AbstractMapQueryIterator;
 import com.hazelcast.map.impl.querycache.subscriber.QueryCacheEndToEndProvider;
 import com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest;
 import com.hazelcast.map.impl.querycache.subscriber.SubscriberContext;
 import com.hazelcast.map.listener.MapListener;
 import com.hazelcast.map.listener.MapPartitionLostListener;
 import com.hazelcast.projection.Projection;
+import com.hazelcast.projection.Projections;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.PartitionPredicate;
 import com.hazelcast.query.Predicate;
@@ -149,6 +153,7 @@ import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
 import com.hazelcast.spi.impl.UnmodifiableLazySet;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -170,6 +175,8 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.client.properties.ClientProperty.MAP_BULK_CHUNK_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.MAP_BULK_MAX_IN_FLIGHT;
 import static com.hazelcast.internal.util.CollectionUtil.objectToDataCollection;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -182,6 +189,8 @@ import static com.hazelcast.map.impl.ListenerAdapters.createListenerAdapter;
 import static com.hazelcast.map.impl.MapListenerFlagOperator.setAndGetListenerFlags;
 import static com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest.newQueryCacheRequest;
 import static com.hazelcast.map.impl.record.Record.UNSET;
+import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
+import static com.hazelcast.query.QueryConstants.THIS_ATTRIBUTE_NAME;
 import static com.hazelcast.query.impl.predicates.PredicateUtils.checkDoesNotContainPagingPredicate;
 import static com.hazelcast.query.impl.predicates.PredicateUtils.containsPagingPredicate;
 import static com.hazelcast.query.impl.predicates.PredicateUtils.unwrapPagingPredicate;
@@ -216,9 +225,14 @@ public class ClientMapProxy<K, V> extends ClientProxy
     private ClientLockReferenceIdGenerator lockReferenceIdGenerator;
     private ClientQueryCacheContext queryCacheContext;
     private boolean useDefaultReplaceAllOperation;
+    // the name frame content shared by the get, put, set and remove requests
+    private final byte[] encodedName;
+    private int bulkChunkSize;
+    private int bulkMaxInFlight;
 
     public ClientMapProxy(String serviceName, String name, ClientContext context) {
         super(serviceName, name, context);
+        this.encodedName = MapRequestEncoder.encodeName(name);
     }
 
     @Override
@@ -227,6 +241,9 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
         lockReferenceIdGenerator = getClient().getLockReferenceIdGenerator();
         queryCacheContext = getContext().getQueryCacheContext();
+        HazelcastProperties properties = getClient().getProperties();
+        bulkChunkSize = checkPositive(MAP_BULK_CHUNK_SIZE.getName(), properties.getInteger(MAP_BULK_CHUNK_SIZE));
+        bulkMaxInFlight = checkPositive(MAP_BULK_MAX_IN_FLIGHT.getName(), properties.getInteger(MAP_BULK_MAX_IN_FLIGHT));
     }
 
     @Override
@@ -262,7 +279,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
     protected Object getInternal(Object key) {
         Data keyData = toData(key);
-        ClientMessage request = MapGetCodec.encodeRequest(name, keyData, getThreadId());
+        ClientMessage request = MapRequestEncoder.encodeGetRequest(encodedName, keyData, getThreadId());
         ClientMessage response = invoke(request, keyData);
         return MapGetCodec.decodeResponse(response);
     }
@@ -296,7 +313,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
     protected Data removeInternal(Object key) {
         Data keyData = toData(key);
-        ClientMessage request = MapRemoveCodec.encodeRequest(name, keyData, getThreadId());
+        ClientMessage request = MapRequestEncoder.encodeRemoveRequest(encodedName, keyData, getThreadId());
         ClientMessage response = invoke(request, keyData);
         return MapRemoveCodec.decodeResponse(response);
     }
@@ -360,7 +377,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     protected ClientInvocationFuture getAsyncInternal(Object key) {
         try {
             Data keyData = toData(key);
-            ClientMessage request = MapGetCodec.encodeRequest(name, keyData, getThreadId());
+            ClientMessage request = MapRequestEncoder.encodeGetRequest(encodedName, keyData, getThreadId());
             return invokeOnKeyOwner(request, keyData);
         } catch (Exception e) {
             throw rethrow(e);
@@ -413,7 +430,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
                 request = MapPutWithMaxIdleCodec.encodeRequest(name, keyData, valueData, getThreadId(),
                         ttlMillis, timeInMsOrOneIfResultIsZero(maxIdle, maxIdleUnit));
             } else {
-                request = MapPutCodec.encodeRequest(name, keyData, valueData, getThreadId(), ttlMillis);
+                request = MapRequestEncoder.encodePutRequest(encodedName, keyData, valueData, getThreadId(), ttlMillis);
             }
             ClientInvocationFuture future = invokeOnKeyOwner(request, keyData);
             SerializationService ss = getSerializationService();
@@ -460,7 +477,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
                 request = MapSetWithMaxIdleCodec.encodeRequest(name, keyData, valueData, getThreadId(),
                         ttlMillis, timeInMsOrOneIfResultIsZero(maxIdle, maxIdleUnit));
             } else {
-                request = MapSetCodec.encodeRequest(name, keyData, valueData, getThreadId(), ttlMillis);
+                request = MapRequestEncoder.encodeSetRequest(encodedName, keyData, valueData, getThreadId(), ttlMillis);
             }
 
             ClientInvocationFuture future = invokeOnKeyOwner(request, keyData);
@@ -479,7 +496,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     protected InternalCompletableFuture<V> removeAsyncInternal(Object key) {
         try {
             Data keyData = toData(key);
-            ClientMessage request = MapRemoveCodec.encodeRequest(name, keyData, getThreadId());
+            ClientMessage request = MapRequestEncoder.encodeRemoveRequest(encodedName, keyData, getThreadId());
             ClientInvocationFuture future = invokeOnKeyOwner(request, keyData);
             SerializationService ss = getSerializationService();
             return new ClientDelegatingFuture<>(future, ss, MapRemoveCodec::decodeResponse);
@@ -557,7 +574,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
             request = MapPutWithMaxIdleCodec.encodeRequest(name, keyData, valueData,
                     getThreadId(), ttlMillis, timeInMsOrOneIfResultIsZero(maxIdle, maxIdleUnit));
         } else {
-            request = MapPutCodec.encodeRequest(name, keyData, valueData, getThreadId(), ttlMillis);
+            request = MapRequestEncoder.encodePutRequest(encodedName, keyData, valueData, getThreadId(), ttlMillis);
         }
         ClientMessage response = invoke(request, keyData);
         return toObject(MapPutCodec.decodeResponse(response));
@@ -710,7 +727,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
             request = MapSetWithMaxIdleCodec.encodeRequest(name, keyData, valueData, getThreadId(),
                     ttlMillis, timeInMsOrOneIfResultIsZero(maxIdle, maxIdleUnit));
         } else {
-            request = MapSetCodec.encodeRequest(name, keyData, valueData, getThreadId(), ttlMillis);
+            request = MapRequestEncoder.encodeSetRequest(encodedName, keyData, valueData, getThreadId(), ttlMillis);
         }
         invoke(request, keyData);
     }
@@ -1165,6 +1182,41 @@ public class ClientMapProxy<K, V> extends ClientProxy
         return Collections.unmodifiableMap(result);
     }
 
+    /**
+     * Reads the entries of the given keys like {@link #getAll(Set)}, but
+     * hands them to the consumer as the responses arrive instead of
+     * collecting them into a single map.
+     * <p>
+     * The keys of each partition are read in chunks of at most
+     * {@link ClientProperty#MAP_BULK_CHUNK_SIZE} keys, with at most
+     * {@link ClientProperty#MAP_BULK_MAX_IN_FLIGHT} requests in flight at any
+     * time, so the memory used by the read is bounded regardless of the
+     * number of keys. Keys that are not found are skipped. The Near Cache, if
+     * any, is neither used nor populated.
+     * <p>
+     * The consumer is called by a single thread at a time and not on the
+     * calling thread. If the consumer throws, or a chunk can't be read, the
+     * returned future completes exceptionally and no more chunks are
+     * requested; the entries handed to the consumer until then are not
+     * rolled back.
+     *
+     * @param keys     the keys to read
+     * @param consumer the consumer of the entries found
+     * @return the future completed after all entries are handed to the consumer
+     */
+    @Override
+    public InternalCompletableFuture<Void> getAllStreaming(@Nonnull Set<K> keys,
+                                                           @Nonnull BiConsumer<? super K, ? super V> consumer) {
+        checkNotNull(keys, "Null keys are not allowed");
+        checkNotNull(consumer, "Null consumer is not allowed");
+
+        Map<Integer, List<Data>> partitionToKeyData = new HashMap<>();
+        fillPartitionToKeyData(keys, partitionToKeyData, null, null);
+        return new ClientMapStreamingGetAll<K, V>(getClient(), getContext().getPartitionService(), name,
+                getSerializationService(), consumer, ConcurrencyUtil.getDefaultAsyncExecutor(), bulkMaxInFlight)
+                .start(partitionToKeyData, bulkChunkSize);
+    }
+
     protected void getAllInternal(Set<K> keys, Map<Integer, List<Data>> partitionToKeyData, List<Object> resultingKeyValuePairs) {
         if (partitionToKeyData.isEmpty()) {
             fillPartitionToKeyData(keys, partitionToKeyData, null, null);
@@ -1321,6 +1373,50 @@ public class ClientMapProxy<K, V> extends ClientProxy
         return (Collection<V>) new UnmodifiableLazyList(dataList, getSerializationService());
     }
 
+    @Nonnull
+    @Override
+    public Iterable<K> keySetIterable(@Nonnull Predicate<K, V> predicate, int fetchSize) {
+        return queryResultIterable(predicate, fetchSize,
+                Projections.<Map.Entry<K, V>, K>singleAttribute(KEY_ATTRIBUTE_NAME.value()), "keySetIterable");
+    }
+
+    @Nonnull
+    @Override
+    public Iterable<Entry<K, V>> entrySetIterable(@Nonnull Predicate<K, V> predicate, int fetchSize) {
+        return queryResultIterable(predicate, fetchSize, Projections.<Map.Entry<K, V>>identity(), "entrySetIterable");
+    }
+
+    @Nonnull
+    @Override
+    public Iterable<V> valuesIterable(@Nonnull Predicate<K, V> predicate, int fetchSize) {
+        return queryResultIterable(predicate, fetchSize,
+                Projections.<Map.Entry<K, V>, V>singleAttribute(THIS_ATTRIBUTE_NAME.value()), "valuesIterable");
+    }
+
+    private <R> Iterable<R> queryResultIterable(Predicate<K, V> predicate, int fetchSize,
+                                                Projection<? super Map.Entry<K, V>, R> projection, String methodName) {
+        checkNotNull(predicate, NULL_PREDICATE_IS_NOT_ALLOWED);
+        checkPositive("fetchSize", fetchSize);
+        checkDoesNotContainPagingPredicate(predicate, methodName);
+
+        ClientPartitionService partitionService = getContext().getPartitionService();
+        PartitionIdSet partitionIds = new PartitionIdSet(partitionService.getPartitionCount());
+        Predicate<K, V> target;
+        if (predicate instanceof PartitionPredicate<K, V> partitionPredicate) {
+            for (Object partitionKey : partitionPredicate.getPartitionKeys()) {
+                partitionIds.add(partitionService.getPartitionId(partitionKey));
+            }
+            target = partitionPredicate.getTarget();
+        } else {
+            partitionIds.complement();
+            target = predicate;
+        }
+        return () -> new AbstractMapQueryIterator<>(
+                partitionId -> new ClientMapQueryPartitionIterator<>(this, getContext(), fetchSize, partitionId,
+                        target, projection),
+                partitionIds);
+    }
+
     private ClientMessage invokeWithPredicate(ClientMessage request, Predicate predicate) {
         ClientMessage response;
         if (predicate instanceof PartitionPredicate partitionPredicate) {
@@ -1363,6 +1459,8 @@ public class ClientMapProxy<K, V> extends ClientProxy
     @Override
     public void addIndex(IndexConfig indexConfig) {
         checkNotNull(indexConfig, "Index config cannot be null.");
+        IndexUtils.checkNoIncludedAttributes(indexConfig, "clients");
+        IndexUtils.checkDefaultStoreType(indexConfig, "clients");
 
         IndexConfig indexConfig0 = IndexUtils.validateAndNormalize(name, indexConfig);
 
@@ -1664,7 +1762,11 @@ public class ClientMapProxy<K, V> extends ClientProxy
             partition.add(new AbstractMap.SimpleEntry<>(keyData, toData(entry.getValue())));
         }
         assert entryMap.size() > 0;
-        AtomicInteger counter = new AtomicInteger(entryMap.size());
+        int requestCount = 0;
+        for (List<Map.Entry<Data, Data>> entries : entryMap.values()) {
+            requestCount += (entries.size() + bulkChunkSize - 1) / bulkChunkSize;
+        }
+        AtomicInteger counter = new AtomicInteger(requestCount);
         InternalCompletableFuture<Void> resultFuture =
                 future != null ? future : new InternalCompletableFuture<>();
         BiConsumer<ClientMessage, Throwable> callback = (response, t) -> {
@@ -1680,12 +1782,17 @@ public class ClientMapProxy<K, V> extends ClientProxy
         };
         for (Entry<Integer, List<Map.Entry<Data, Data>>> entry : entryMap.entrySet()) {
             Integer partitionId = entry.getKey();
-            // if there is only one entry, consider how we can use MapPutRequest
-            // without having to get back the return value
-            ClientMessage request = MapPutAllCodec.encodeRequest(name, entry.getValue(), triggerMapLoader);
-            new ClientInvocation(getClient(), request, getName(), partitionId)
-                    .invoke()
-                    .whenCompleteAsync(callback, ConcurrencyUtil.getDefaultAsyncExecutor());
+            List<Map.Entry<Data, Data>> entries = entry.getValue();
+            // split large partitions, so a single message doesn't grow unbounded
+            for (int from = 0; from < entries.size(); from += bulkChunkSize) {
+                List<Map.Entry<Data, Data>> chunk = entries.subList(from, Math.min(entries.size(), from + bulkChunkSize));
+                // if there is only one entry, consider how we can use MapPutRequest
+                // without having to get back the return value
+                ClientMessage request = MapPutAllCodec.encodeRequest(name, chunk, triggerMapLoader);
+                new ClientInvocation(getClient(), request, getName(), partitionId)
+                        .invoke()
+                        .whenCompleteAsync(callback, ConcurrencyUtil.getDefaultAsyncExecutor());
+            }
         }
         // if executing in sync mode, block for the responses
         if (future == null) {
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
+import com.hazelcast.client.impl.spi.ClientPartitionService;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads the entries of a large set of keys in bounded chunks and hands them
+ * to a consumer as the responses arrive.
+ * <p>
+ * The keys are grouped by partition and every group is split into chunks of
+ * at most {@code chunkSize} keys. Each chunk is read with its own
+ * {@link MapGetAllCodec} request. The chunks are ordered round-robin over the
+ * partition owners, so the requests in flight are spread over the members,
+ * and at most {@code maxInFlight} requests are in flight at any time. This
+ * bounds both the size of a single response and the number of responses
+ * held by the client.
+ * <p>
+ * The consumer is called on the given executor, never concurrently.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class ClientMapStreamingGetAll<K, V> {
+
+    private final HazelcastClientInstanceImpl client;
+    private final ClientPartitionService partitionService;
+    private final String name;
+    private final SerializationService serializationService;
+    private final BiConsumer<? super K, ? super V> consumer;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final Queue<Chunk> chunks = new ArrayDeque<>();
+    private final InternalCompletableFuture<Void> future = new InternalCompletableFuture<>();
+
+    // guarded by this
+    private int inFlight;
+
+    ClientMapStreamingGetAll(HazelcastClientInstanceImpl client, ClientPartitionService partitionService, String name,
+                             SerializationService serializationService, BiConsumer<? super K, ? super V> consumer,
+                             Executor executor, int maxInFlight) {
+        this.client = client;
+        this.partitionService = partitionService;
+        this.name = name;
+        this.serializationService = serializationService;
+        this.consumer = consumer;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Splits the keys into chunks and sends the first requests.
+     *
+     * @param partitionToKeyData the keys grouped by partition
+     * @param chunkSize          the maximum number of keys read with a single request
+     * @return the future completed when all the entries are handed to the consumer
+     */
+    InternalCompletableFuture<Void> start(Map<Integer, List<Data>> partitionToKeyData, int chunkSize) {
+        Map<UUID, Queue<Chunk>> chunksPerOwner = new LinkedHashMap<>();
+        for (Entry<Integer, List<Data>> entry : partitionToKeyData.entrySet()) {
+            int partitionId = entry.getKey();
+            List<Data> keys = entry.getValue();
+            Queue<Chunk> ownerChunks = chunksPerOwner.computeIfAbsent(partitionService.getPartitionOwner(partitionId),
+                    owner -> new ArrayDeque<>());
+            for (int from = 0; from < keys.size(); from += chunkSize) {
+                ownerChunks.add(new Chunk(partitionId, keys.subList(from, Math.min(keys.size(), from + chunkSize))));
+            }
+        }
+
+        // interleave the owners, so the requests in flight go to all members
+        while (!chunksPerOwner.isEmpty()) {
+            Iterator<Queue<Chunk>> it = chunksPerOwner.values().iterator();
+            while (it.hasNext()) {
+                Queue<Chunk> ownerChunks = it.next();
+                chunks.add(ownerChunks.poll());
+                if (ownerChunks.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+
+        if (chunks.isEmpty()) {
+            future.complete(null);
+        } else {
+            for (int k = 0; k < maxInFlight; k++) {
+                sendNext();
+            }
+        }
+        return future;
+    }
+
+    private void sendNext() {
+        Chunk chunk;
+        synchronized (this) {
+            if (future.isDone()) {
+                return;
+            }
+            chunk = chunks.poll();
+            if (chunk == null) {
+                if (inFlight == 0) {
+                    future.complete(null);
+                }
+                return;
+            }
+            inFlight++;
+        }
+
+        try {
+            ClientMessage request = MapGetAllCodec.encodeRequest(name, chunk.keys);
+            new ClientInvocation(client, request, name, chunk.partitionId)
+                    .invoke()
+                    .whenCompleteAsync(this::onResponse, executor);
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+    private void onResponse(ClientMessage response, Throwable t) {
+        synchronized (this) {
+            inFlight--;
+            if (future.isDone()) {
+                return;
+            }
+            if (t != null) {
+                future.completeExceptionally(t);
+                return;
+            }
+            try {
+                for (Entry<Data, Data> entry : MapGetAllCodec.decodeResponse(response)) {
+                    K key = serializationService.toObject(entry.getKey());
+                    V value = serializationService.toObject(entry.getValue());
+                    consumer.accept(key, value);
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+                return;
+            }
+        }
+        sendNext();
+    }
+
+    private static final class Chunk {
+        private final int partitionId;
+        private final List<Data> keys;
+
+        private Chunk(int partitionId, List<Data> keys) {
+            this.partitionId = partitionId;
+            this.keys = keys;
+        }
+    }
+}
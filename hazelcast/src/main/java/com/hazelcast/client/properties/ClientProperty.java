@@ -23,6 +23,7 @@ import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.client.util.ClientConnectivityLogger;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -162,6 +163,52 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.client.io.write.through", true);
 
+    /**
+     * The maximum time in microseconds a write to a member may be held back
+     * to coalesce it with the invocations that are about to be sent over the
+     * same connection, so they go out with a single socket write.
+     * <p>
+     * A write is only held back if the connection wrote within that time
+     * before and new invocations keep arriving, so a single invocation on an
+     * idle connection doesn't get additional latency. The number of
+     * invocations per socket write is exposed as a histogram in the
+     * {@code writeBatchSize} metrics of each connection.
+     * <p>
+     * The value 0 disables coalescing; this is the default.
+     *
+     * @see #IO_WRITE_COALESCING_BYTES
+     */
+    public static final HazelcastProperty IO_WRITE_COALESCING_LATENCY_MICROS
+            = new HazelcastProperty("hazelcast.client.io.write.coalescing.latency.micros", 0, MICROSECONDS);
+
+    /**
+     * The number of pending bytes from which a coalesced write to a member is
+     * flushed without waiting any longer.
+     *
+     * @see #IO_WRITE_COALESCING_LATENCY_MICROS
+     */
+    public static final HazelcastProperty IO_WRITE_COALESCING_BYTES
+            = new HazelcastProperty("hazelcast.client.io.write.coalescing.bytes", 32 * 1024);
+
+    /**
+     * Enables LZ4 compression of the bytes sent over the connections to the
+     * members. Compression is negotiated when the connection is established,
+     * so it is only used with members that have
+     * {@code hazelcast.io.compression.enabled} set. Members without support
+     * for compression reject connections that request it.
+     * <p>
+     * It is disabled by default.
+     */
+    public static final HazelcastProperty IO_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.client.io.compression.enabled", false);
+
+    /**
+     * The minimum number of bytes pending at once on a connection to compress
+     * them; smaller writes are sent uncompressed.
+     */
+    public static final HazelcastProperty IO_COMPRESSION_THRESHOLD
+            = new HazelcastProperty("hazelcast.client.io.compression.threshold", 1024);
+
     /**
      * Property needed for concurrency detection so that write through and dynamic response handling
      * can be done correctly. This property sets the window the concurrency detection will signalling
@@ -343,6 +390,27 @@ public final class ClientProperty {
     public static final HazelcastProperty PARTITIONING_STRATEGY_CLASS
             = new HazelcastProperty("hazelcast.partitioning.strategy.class", "");
 
+    /**
+     * The maximum number of entries sent with a single request by the bulk
+     * map operations {@code IMap.putAll}, {@code IMap.setAll} and
+     * {@code IMap.getAllStreaming} on the client. The entries of a
+     * partition are split into as many requests as needed, which bounds the
+     * size of the messages on both the client and the members.
+     */
+    public static final HazelcastProperty MAP_BULK_CHUNK_SIZE
+            = new HazelcastProperty("hazelcast.client.map.bulk.chunk.size", 1000);
+
+    /**
+     * The maximum number of requests of an {@code IMap.getAllStreaming} on
+     * the client in flight at the same time. The next chunk of keys is
+     * only requested after the entries of a previous one are handed to the
+     * caller, so this bounds the number of responses held by the client.
+     *
+     * @see #MAP_BULK_CHUNK_SIZE
+     */
+    public static final HazelcastProperty MAP_BULK_MAX_IN_FLIGHT
+            = new HazelcastProperty("hazelcast.client.map.bulk.max.in.flight", 16);
+
     /**
      * Sets the client connectivity logging delay in seconds.
      * This value dictates the delay between a connectivity
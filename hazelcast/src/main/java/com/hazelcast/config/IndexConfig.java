@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.readNullableList;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.writeNullableList;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
@@ -42,6 +43,12 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
  * for low cardinality attributes at the cost of reduced query performance.
  * <p>
  * Index could be created on one or more attributes.
+ * <p>
+ * Index could also include values of other attributes, which are stored in
+ * the index along with the entries. Queries, aggregations and SQL index scans
+ * reading only indexed and included attributes of entries found by the index
+ * get the attribute values from the index instead of extracting them from
+ * entry values.
  *
  * @see com.hazelcast.config.IndexType
  * @see com.hazelcast.config.MapConfig#setIndexConfigs(List)
@@ -59,6 +66,12 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     /** Indexed attributes. */
     private List<String> attributes;
 
+    /** Attributes which values are stored in the index without being indexed. */
+    private List<String> includedAttributes;
+
+    /** Data structure the index keeps its entries in. */
+    private IndexStoreType storeType = IndexStoreType.DEFAULT;
+
     private BitmapIndexOptions bitmapIndexOptions;
 
     private BTreeIndexConfig bTreeIndexConfig = new BTreeIndexConfig();
@@ -95,12 +108,17 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     public IndexConfig(IndexConfig other) {
         this.name = other.name;
         this.type = other.type;
+        this.storeType = other.storeType;
         this.bitmapIndexOptions = other.bitmapIndexOptions == null ? null : new BitmapIndexOptions(other.bitmapIndexOptions);
         this.bTreeIndexConfig = other.bTreeIndexConfig == null ? null : new BTreeIndexConfig(other.bTreeIndexConfig);
 
         for (String attribute : other.getAttributes()) {
             addAttributeInternal(attribute);
         }
+
+        if (other.includedAttributes != null) {
+            this.includedAttributes = new ArrayList<>(other.includedAttributes);
+        }
     }
 
     /**
@@ -202,6 +220,86 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         return this;
     }
 
+    /**
+     * Gets attributes which values are stored in the index along with the
+     * entries without being indexed.
+     *
+     * @return Included attributes.
+     */
+    public List<String> getIncludedAttributes() {
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        return includedAttributes;
+    }
+
+    /**
+     * Adds an attribute which values should be stored in the index along with
+     * the entries without being indexed.
+     *
+     * @param includedAttribute Attribute name.
+     * @return This instance for chaining.
+     */
+    public IndexConfig addIncludedAttribute(String includedAttribute) {
+        IndexUtils.validateAttribute(includedAttribute);
+
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        includedAttributes.add(includedAttribute);
+
+        return this;
+    }
+
+    /**
+     * Sets attributes which values should be stored in the index along with
+     * the entries without being indexed.
+     *
+     * @param includedAttributes Included attributes.
+     * @return This instance for chaining.
+     */
+    public IndexConfig setIncludedAttributes(List<String> includedAttributes) {
+        checkNotNull(includedAttributes, "Index included attributes cannot be null.");
+
+        this.includedAttributes = new ArrayList<>(includedAttributes.size());
+
+        for (String includedAttribute : includedAttributes) {
+            addIncludedAttribute(includedAttribute);
+        }
+
+        return this;
+    }
+
+    /**
+     * Gets the data structure the index keeps its entries in.
+     *
+     * @return Store type of the index.
+     * @since 6.0
+     */
+    public IndexStoreType getStoreType() {
+        return storeType;
+    }
+
+    /**
+     * Sets the data structure the index keeps its entries in. Store types
+     * other than {@link IndexStoreType#DEFAULT} apply to on-heap indexes and
+     * are supported by the index types their documentation names only.
+     * <p>
+     * The store type cannot be configured declaratively or through the client
+     * yet.
+     *
+     * @param storeType Store type of the index.
+     * @return This instance for chaining.
+     * @since 6.0
+     */
+    public IndexConfig setStoreType(IndexStoreType storeType) {
+        this.storeType = checkNotNull(storeType, "Index store type cannot be null.");
+
+        return this;
+    }
+
     /**
      * Provides access to index options specific to bitmap indexes.
      *
@@ -260,6 +358,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         writeNullableList(attributes, out);
         out.writeObject(bitmapIndexOptions);
         out.writeObject(bTreeIndexConfig);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            writeNullableList(includedAttributes, out);
+            out.writeInt(storeType.getId());
+        }
     }
 
     @Override
@@ -269,6 +371,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         attributes = readNullableList(in);
         bitmapIndexOptions = in.readObject();
         bTreeIndexConfig = in.readObject();
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            includedAttributes = readNullableList(in);
+            storeType = IndexStoreType.getById(in.readInt());
+        }
     }
 
     @Override
@@ -291,6 +397,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
             return false;
         }
 
+        if (storeType != that.storeType) {
+            return false;
+        }
+
         if (!getBitmapIndexOptions().equals(that.getBitmapIndexOptions())) {
             return false;
         }
@@ -299,6 +409,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
             return false;
         }
 
+        if (!getIncludedAttributes().equals(that.getIncludedAttributes())) {
+            return false;
+        }
+
         return getAttributes().equals(that.getAttributes());
     }
 
@@ -307,7 +421,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         int result = (name != null ? name.hashCode() : 0);
 
         result = 31 * result + (type != null ? type.hashCode() : 0);
+        result = 31 * result + storeType.hashCode();
         result = 31 * result + getAttributes().hashCode();
+        result = 31 * result + getIncludedAttributes().hashCode();
         result = 31 * result + getBitmapIndexOptions().hashCode();
         result = 31 * result + getBTreeIndexConfig().hashCode();
 
@@ -317,6 +433,12 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     @Override
     public String toString() {
         String string = "IndexConfig{name=" + name + ", type=" + type + ", attributes=" + getAttributes();
+        if (includedAttributes != null && !includedAttributes.isEmpty()) {
+            string += ", includedAttributes=" + includedAttributes;
+        }
+        if (storeType != IndexStoreType.DEFAULT) {
+            string += ", storeType=" + storeType;
+        }
         if (bitmapIndexOptions != null && !bitmapIndexOptions.areDefault()) {
             string += ", bitmapIndexOptions=" + bitmapIndexOptions;
         }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.config;
+
+/**
+ * Data structure an on-heap index keeps its entries in.
+ *
+ * @see IndexConfig#setStoreType(IndexStoreType)
+ * @since 6.0
+ */
+public enum IndexStoreType {
+    /**
+     * Default store of the index type: a skip list of maps for sorted indexes,
+     * a hash map for hash indexes and sparse bit sets for bitmap indexes.
+     */
+    DEFAULT(0),
+
+    /**
+     * B+tree keeping the entries in the arrays of linked leaves. Supported by
+     * sorted indexes only. It needs less memory per entry than the default
+     * store and range scans walk consecutive arrays.
+     */
+    BTREE(1),
+
+    /**
+     * Primitive open-addressing tables for integral and {@link java.util.UUID}
+     * values, with the entries of a value kept in a compact array while there
+     * are only a few of them. Values of other types are kept in a regular
+     * map. Supported by hash indexes only. It suits indexes on foreign keys
+     * and other attributes with many distinct values.
+     */
+    PRIMITIVE_HASH(2),
+
+    /**
+     * Roaring bit sets keeping each 64K member chunk of the entries of a value
+     * in an array, bitmap or run container. Supported by bitmap indexes only.
+     * {@code AND}, {@code OR} and {@code NOT} predicates are evaluated by
+     * combining whole chunks at once, which suits predicates over many values
+     * or dense values.
+     */
+    ROARING_BITMAP(3);
+
+    private final int id;
+
+    IndexStoreType(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the ID for the given {@link IndexStoreType}.
+     *
+     * @return the ID
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the IndexStoreType as an enum.
+     *
+     * @return the IndexStoreType as an enum
+     */
+    public static IndexStoreType getById(final int id) {
+        for (IndexStoreType type : values()) {
+            if (type.id == id) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -118,6 +118,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
     private boolean readBackupData;
     private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
     private boolean perEntryStatsEnabled = DEFAULT_ENTRY_STATS_ENABLED;
+    private boolean offHeapStorageEnabled;
+    private boolean packedRecordsEnabled;
+    private boolean valueCompressionEnabled;
     private int backupCount = DEFAULT_BACKUP_COUNT;
     private int asyncBackupCount = MIN_BACKUP_COUNT;
     private int timeToLiveSeconds = DEFAULT_TTL_SECONDS;
@@ -173,6 +176,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         this.cacheDeserializedValues = config.cacheDeserializedValues;
         this.statisticsEnabled = config.statisticsEnabled;
         this.perEntryStatsEnabled = config.perEntryStatsEnabled;
+        this.offHeapStorageEnabled = config.offHeapStorageEnabled;
+        this.packedRecordsEnabled = config.packedRecordsEnabled;
+        this.valueCompressionEnabled = config.valueCompressionEnabled;
         this.mergePolicyConfig = new MergePolicyConfig(config.mergePolicyConfig);
         this.wanReplicationRef = config.wanReplicationRef != null ? new WanReplicationRef(config.wanReplicationRef) : null;
         this.entryListenerConfigs = new ArrayList<>(config.getEntryListenerConfigs());
@@ -491,6 +497,115 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         return this;
     }
 
+    /**
+     * Checks if the record stores of this map keep their entries outside
+     * the Java heap.
+     *
+     * @return {@code true} if off-heap storage is enabled, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isOffHeapStorageEnabled() {
+        return offHeapStorageEnabled;
+    }
+
+    /**
+     * Set to enable/disable off-heap storage. Its default value is
+     * {@code false}.
+     * <p>
+     * When enabled, the record stores of this map keep keys, values and
+     * record metadata outside the Java heap. Operations on such a map,
+     * including predicate queries which cannot be answered from a global
+     * index, run on partition threads. A partition of the map may reserve up
+     * to {@link com.hazelcast.spi.properties.ClusterProperty#MAP_OFF_HEAP_STORAGE_PARTITION_MAX_SIZE_MB}
+     * megabytes.
+     * <p>
+     * Off-heap storage requires the {@link InMemoryFormat#BINARY} in-memory
+     * format.
+     *
+     * @param offHeapStorageEnabled {@code true} to enable off-heap storage,
+     *                              {@code false} to disable
+     * @return the current map config instance
+     * @since 6.0
+     */
+    public MapConfig setOffHeapStorageEnabled(boolean offHeapStorageEnabled) {
+        this.offHeapStorageEnabled = offHeapStorageEnabled;
+        return this;
+    }
+
+    /**
+     * Checks if the records of this map pack their value and metadata into
+     * a single byte array.
+     *
+     * @return {@code true} if packed records are enabled, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isPackedRecordsEnabled() {
+        return packedRecordsEnabled;
+    }
+
+    /**
+     * Set to enable/disable packed records. Its default value is
+     * {@code false}.
+     * <p>
+     * When enabled, the records of this map keep the value bytes and only
+     * the metadata required by this map config in a single byte array. This
+     * lowers the heap cost of maps with many small values at the price of a
+     * copy of the value bytes on every read. Deserialized values are never
+     * cached by such records. The saved heap is reported by
+     * {@link com.hazelcast.map.LocalMapStats#getPackedRecordHeapSavings()}.
+     * <p>
+     * Packed records require the {@link InMemoryFormat#BINARY} in-memory
+     * format.
+     *
+     * @param packedRecordsEnabled {@code true} to enable packed records,
+     *                             {@code false} to disable
+     * @return the current map config instance
+     * @since 6.0
+     */
+    public MapConfig setPackedRecordsEnabled(boolean packedRecordsEnabled) {
+        this.packedRecordsEnabled = packedRecordsEnabled;
+        return this;
+    }
+
+    /**
+     * Checks if the values of this map are kept compressed.
+     *
+     * @return {@code true} if value compression is enabled, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isValueCompressionEnabled() {
+        return valueCompressionEnabled;
+    }
+
+    /**
+     * Set to enable/disable value compression. Its default value is
+     * {@code false}.
+     * <p>
+     * When enabled, Compact and Portable values are compressed with a
+     * dictionary trained per schema on the first values of the schema stored
+     * on the member, values of other types are kept as they are. Values are
+     * decompressed whenever they are read. The records of such a map are
+     * packed like the ones of maps with {@link #setPackedRecordsEnabled(boolean)
+     * packed records} and keep per-entry stats.
+     * <p>
+     * This lowers the heap cost of maps whose values repeat the same strings
+     * and small arrays, at the CPU cost reported by
+     * {@link com.hazelcast.map.LocalMapStats#getValueCompressionNanos()} and
+     * {@link com.hazelcast.map.LocalMapStats#getValueDecompressionNanos()}.
+     * <p>
+     * Value compression requires the {@link InMemoryFormat#BINARY} in-memory
+     * format.
+     *
+     * @param valueCompressionEnabled {@code true} to enable value compression,
+     *                                {@code false} to disable
+     * @return the current map config instance
+     * @since 6.0
+     */
+    public MapConfig setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        this.valueCompressionEnabled = valueCompressionEnabled;
+        return this;
+    }
+
     /**
      * Checks if read-backup-data (reading local backup entries) is enabled for this map.
      *
@@ -899,6 +1014,15 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (perEntryStatsEnabled != that.perEntryStatsEnabled) {
             return false;
         }
+        if (offHeapStorageEnabled != that.offHeapStorageEnabled) {
+            return false;
+        }
+        if (packedRecordsEnabled != that.packedRecordsEnabled) {
+            return false;
+        }
+        if (valueCompressionEnabled != that.valueCompressionEnabled) {
+            return false;
+        }
         if (!name.equals(that.name)) {
             return false;
         }
@@ -993,6 +1117,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         result = 31 * result + getPartitionLostListenerConfigs().hashCode();
         result = 31 * result + (statisticsEnabled ? 1 : 0);
         result = 31 * result + (perEntryStatsEnabled ? 1 : 0);
+        result = 31 * result + (offHeapStorageEnabled ? 1 : 0);
+        result = 31 * result + (packedRecordsEnabled ? 1 : 0);
+        result = 31 * result + (valueCompressionEnabled ? 1 : 0);
         result = 31 * result + (partitioningStrategyConfig != null ? partitioningStrategyConfig.hashCode() : 0);
         result = 31 * result + (splitBrainProtectionName != null ? splitBrainProtectionName.hashCode() : 0);
         result = 31 * result + merkleTreeConfig.hashCode();
@@ -1033,6 +1160,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
                 + ", cacheDeserializedValues=" + cacheDeserializedValues
                 + ", statisticsEnabled=" + statisticsEnabled
                 + ", entryStatsEnabled=" + perEntryStatsEnabled
+                + ", offHeapStorageEnabled=" + offHeapStorageEnabled
+                + ", packedRecordsEnabled=" + packedRecordsEnabled
+                + ", valueCompressionEnabled=" + valueCompressionEnabled
                 + ", tieredStoreConfig=" + tieredStoreConfig
                 + ", partitioningAttributeConfigs=" + partitioningAttributeConfigs
                 + ", userCodeNamespace=" + userCodeNamespace
@@ -1087,6 +1217,12 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (out.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             out.writeString(userCodeNamespace);
         }
+
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeBoolean(offHeapStorageEnabled);
+            out.writeBoolean(packedRecordsEnabled);
+            out.writeBoolean(valueCompressionEnabled);
+        }
     }
 
     @Override
@@ -1127,5 +1263,11 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (in.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             userCodeNamespace = in.readString();
         }
+
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            offHeapStorageEnabled = in.readBoolean();
+            packedRecordsEnabled = in.readBoolean();
+            valueCompressionEnabled = in.readBoolean();
+        }
     }
 }
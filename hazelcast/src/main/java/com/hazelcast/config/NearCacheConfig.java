@@ -89,6 +89,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
 
     private boolean cacheLocalEntries;
     private boolean serializeKeys = DEFAULT_SERIALIZE_KEYS;
+    private boolean offHeapStorageEnabled;
     private boolean invalidateOnChange = DEFAULT_INVALIDATE_ON_CHANGE;
     private int timeToLiveSeconds = DEFAULT_TTL_SECONDS;
     private int maxIdleSeconds = DEFAULT_MAX_IDLE_SECONDS;
@@ -109,6 +110,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         this.name = config.name;
         this.inMemoryFormat = config.inMemoryFormat;
         this.serializeKeys = config.serializeKeys;
+        this.offHeapStorageEnabled = config.offHeapStorageEnabled;
         this.invalidateOnChange = config.invalidateOnChange;
         this.timeToLiveSeconds = config.timeToLiveSeconds;
         this.maxIdleSeconds = config.maxIdleSeconds;
@@ -210,6 +212,37 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         return this;
     }
 
+    /**
+     * Checks if the keys, values and metadata of the Near Cache entries are
+     * stored outside the Java heap.
+     *
+     * @return {@code true} if the Near Cache entries are stored off-heap, {@code false} otherwise
+     * @see #setOffHeapStorageEnabled(boolean)
+     * @since 6.0
+     */
+    public boolean isOffHeapStorageEnabled() {
+        return offHeapStorageEnabled;
+    }
+
+    /**
+     * Sets if the keys, values and metadata of the Near Cache entries are
+     * stored outside the Java heap, which reduces the garbage collection
+     * pressure of clients with large Near Caches.
+     * <p>
+     * <b>NOTE:</b> This option is supported by clients only and requires the
+     * {@link InMemoryFormat#BINARY} in-memory format and the
+     * {@link MaxSizePolicy#ENTRY_COUNT} maximum size policy. The owned entry
+     * memory cost of such Near Caches is the off-heap memory they use.
+     *
+     * @param offHeapStorageEnabled {@code true} to store the Near Cache entries off-heap, {@code false} otherwise
+     * @return this Near Cache config instance
+     * @since 6.0
+     */
+    public NearCacheConfig setOffHeapStorageEnabled(boolean offHeapStorageEnabled) {
+        this.offHeapStorageEnabled = offHeapStorageEnabled;
+        return this;
+    }
+
     /**
      * Checks if Near Cache entries are invalidated when the entries in the backing data structure are changed
      * (updated or removed).
@@ -425,6 +458,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         return "NearCacheConfig{"
                 + "name=" + name
                 + ", inMemoryFormat=" + inMemoryFormat
+                + ", offHeapStorageEnabled=" + offHeapStorageEnabled
                 + ", invalidateOnChange=" + invalidateOnChange
                 + ", timeToLiveSeconds=" + timeToLiveSeconds
                 + ", maxIdleSeconds=" + maxIdleSeconds
@@ -450,6 +484,9 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         if (serializeKeys != that.serializeKeys) {
             return false;
         }
+        if (offHeapStorageEnabled != that.offHeapStorageEnabled) {
+            return false;
+        }
         if (invalidateOnChange != that.invalidateOnChange) {
             return false;
         }
@@ -483,6 +520,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         int result = name.hashCode();
         result = 31 * result + inMemoryFormat.hashCode();
         result = 31 * result + (serializeKeys ? 1 : 0);
+        result = 31 * result + (offHeapStorageEnabled ? 1 : 0);
         result = 31 * result + (invalidateOnChange ? 1 : 0);
         result = 31 * result + timeToLiveSeconds;
         result = 31 * result + maxIdleSeconds;
@@ -46,6 +46,8 @@ import static com.hazelcast.internal.util.ThreadAffinity.newSystemThreadAffinity
 import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_INPUT_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_OUTPUT_THREAD_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_COALESCING_BYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_COALESCING_LATENCY_MICROS;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_THROUGH_ENABLED;
 
 public class DefaultNodeContext implements NodeContext {
@@ -175,6 +177,8 @@ public class DefaultNodeContext implements NodeContext {
                         .outputThreadAffinity(newSystemThreadAffinity("hazelcast.io.output.thread.affinity"))
                         .balancerIntervalSeconds(props.getInteger(IO_BALANCER_INTERVAL_SECONDS))
                         .writeThroughEnabled(props.getBoolean(IO_WRITE_THROUGH_ENABLED))
+                        .writeCoalescing(props.getNanos(IO_WRITE_COALESCING_LATENCY_MICROS),
+                                props.getInteger(IO_WRITE_COALESCING_BYTES))
                         .concurrencyDetection(node.nodeEngine.getConcurrencyDetection())
         );
     }
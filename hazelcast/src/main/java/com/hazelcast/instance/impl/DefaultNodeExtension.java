@@ -93,6 +93,7 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationServiceBuilder;
 import com.hazelcast.internal.serialization.impl.CodebaseClusterVersionAware;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.bufferpool.SizeClassBufferPoolFactory;
 import com.hazelcast.internal.serialization.impl.compact.schema.MemberSchemaService;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerContext;
@@ -378,6 +379,10 @@ public class DefaultNodeExtension implements NodeExtension {
             PartitioningStrategy<?> partitioningStrategy = getPartitioningStrategy(configClassLoader);
 
             SerializationServiceBuilder builder = new DefaultSerializationServiceBuilder();
+            if (node.getProperties().getBoolean(ClusterProperty.SERIALIZATION_BUFFER_POOL_SIZE_CLASSES_ENABLED)) {
+                builder.setBufferPoolFactory(new SizeClassBufferPoolFactory(SizeClassBufferPoolFactory.DEFAULT_MIN_BUFFER_SIZE,
+                        node.getProperties().getLong(ClusterProperty.SERIALIZATION_BUFFER_POOL_SHARED_BYTES)));
+            }
             SerializationConfig serializationConfig = config.getSerializationConfig() != null
                     ? config.getSerializationConfig() : new SerializationConfig();
 
@@ -474,7 +479,8 @@ public class DefaultNodeExtension implements NodeExtension {
     @Override
     public OutboundHandler[] createOutboundHandlers(EndpointQualifier qualifier,
                                                     ServerConnection connection, ServerContext serverContext) {
-        return new OutboundHandler[]{new PacketEncoder()};
+        int gatheringWriteThreshold = node.getProperties().getInteger(ClusterProperty.IO_GATHERING_WRITE_THRESHOLD);
+        return new OutboundHandler[]{new PacketEncoder(gatheringWriteThreshold)};
     }
 
     @Override
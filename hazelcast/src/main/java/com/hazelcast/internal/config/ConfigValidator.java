@@ -71,6 +71,7 @@ import static com.hazelcast.config.EvictionPolicy.LFU;
 import static com.hazelcast.config.EvictionPolicy.LRU;
 import static com.hazelcast.config.EvictionPolicy.NONE;
 import static com.hazelcast.config.EvictionPolicy.RANDOM;
+import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.config.MaxSizePolicy.ENTRY_COUNT;
 import static com.hazelcast.config.MaxSizePolicy.FREE_HEAP_PERCENTAGE;
@@ -137,6 +138,7 @@ public final class ConfigValidator {
 
         checkNotNativeWhenOpenSource(mapConfig.getInMemoryFormat());
         checkNotBitmapIndexWhenNativeMemory(mapConfig.getInMemoryFormat(), mapConfig.getIndexConfigs());
+        checkMapStorageOptions(mapConfig);
         checkTSEnabledOnEnterpriseJar(mapConfig.getTieredStoreConfig());
 
         if (getBuildInfo().isEnterprise()) {
@@ -389,9 +391,35 @@ public final class ConfigValidator {
             throw new InvalidConfigurationException("The Near Cache option `cache-local-entries` is not supported in "
                     + "client configurations.");
         }
+        checkOffHeapNearCacheStorage(nearCacheConfig, isClient);
         checkPreloaderConfig(nearCacheConfig, isClient);
     }
 
+    /**
+     * Checks preconditions to store the Near Cache entries off-heap.
+     *
+     * @param nearCacheConfig the {@link NearCacheConfig} to check
+     * @param isClient        {@code true} if the config is for a Hazelcast client, {@code false} otherwise
+     */
+    private static void checkOffHeapNearCacheStorage(NearCacheConfig nearCacheConfig, boolean isClient) {
+        if (!nearCacheConfig.isOffHeapStorageEnabled()) {
+            return;
+        }
+        if (!isClient) {
+            throw new InvalidConfigurationException("The Near Cache option `off-heap-storage-enabled` is only supported in "
+                    + "client configurations.");
+        }
+        if (nearCacheConfig.getInMemoryFormat() != BINARY) {
+            throw new InvalidConfigurationException(format("The Near Cache option `off-heap-storage-enabled` requires %s "
+                    + "in-memory format but found %s", BINARY, nearCacheConfig.getInMemoryFormat()));
+        }
+        MaxSizePolicy maxSizePolicy = nearCacheConfig.getEvictionConfig().getMaxSizePolicy();
+        if (maxSizePolicy != ENTRY_COUNT) {
+            throw new InvalidConfigurationException(format("Near Cache maximum size policy %s cannot be used with off-heap "
+                    + "storage. Supported maximum size policy is: %s", maxSizePolicy, ENTRY_COUNT));
+        }
+    }
+
     /**
      * Checks IMap's supported Near Cache local update policy configuration.
      *
@@ -768,6 +796,30 @@ public final class ConfigValidator {
         }
     }
 
+    /**
+     * Throws {@link InvalidConfigurationException} if the given {@link MapConfig}
+     * enables a storage option which isn't supported by its {@link InMemoryFormat}.
+     *
+     * @param mapConfig supplied mapConfig
+     */
+    private static void checkMapStorageOptions(MapConfig mapConfig) {
+        if (mapConfig.isOffHeapStorageEnabled() && mapConfig.getInMemoryFormat() != BINARY) {
+            throw new InvalidConfigurationException(format("Map '%s' is configured for off-heap storage, which "
+                    + "requires BINARY in-memory format, but its in-memory format is %s", mapConfig.getName(),
+                    mapConfig.getInMemoryFormat()));
+        }
+        if (mapConfig.isPackedRecordsEnabled() && mapConfig.getInMemoryFormat() != BINARY) {
+            throw new InvalidConfigurationException(format("Map '%s' is configured for packed records, which "
+                    + "requires BINARY in-memory format, but its in-memory format is %s", mapConfig.getName(),
+                    mapConfig.getInMemoryFormat()));
+        }
+        if (mapConfig.isValueCompressionEnabled() && mapConfig.getInMemoryFormat() != BINARY) {
+            throw new InvalidConfigurationException(format("Map '%s' is configured for value compression, which "
+                    + "requires BINARY in-memory format, but its in-memory format is %s", mapConfig.getName(),
+                    mapConfig.getInMemoryFormat()));
+        }
+    }
+
     /**
      * Throws {@link InvalidConfigurationException} if the given {@link NearCacheConfig}
      * has an invalid {@link NearCachePreloaderConfig}.
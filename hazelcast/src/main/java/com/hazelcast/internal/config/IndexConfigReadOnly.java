@@ -18,6 +18,7 @@ package com.hazelcast.internal.config;
 
 import com.hazelcast.config.BTreeIndexConfig;
 import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
 import com.hazelcast.config.IndexType;
 
 import java.util.ArrayList;
@@ -61,6 +62,26 @@ public class IndexConfigReadOnly extends IndexConfig {
         throw new UnsupportedOperationException("This config is read-only");
     }
 
+    @Override
+    public List<String> getIncludedAttributes() {
+        return Collections.unmodifiableList(new ArrayList<>(super.getIncludedAttributes()));
+    }
+
+    @Override
+    public IndexConfig addIncludedAttribute(String includedAttribute) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
+
+    @Override
+    public IndexConfig setIncludedAttributes(List<String> includedAttributes) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
+
+    @Override
+    public IndexConfig setStoreType(IndexStoreType storeType) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
+
     @Override
     public BTreeIndexConfig getBTreeIndexConfig() {
         return new BTreeIndexConfigReadOnly(super.getBTreeIndexConfig());
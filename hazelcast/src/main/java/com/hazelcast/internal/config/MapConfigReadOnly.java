@@ -334,6 +334,21 @@ public class MapConfigReadOnly extends MapConfig {
         throw throwReadOnly();
     }
 
+    @Override
+    public MapConfig setOffHeapStorageEnabled(boolean offHeapStorageEnabled) {
+        throw throwReadOnly();
+    }
+
+    @Override
+    public MapConfig setPackedRecordsEnabled(boolean packedRecordsEnabled) {
+        throw throwReadOnly();
+    }
+
+    @Override
+    public MapConfig setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        throw throwReadOnly();
+    }
+
     @Override
     public MapConfig setReadBackupData(boolean readBackupData) {
         throw throwReadOnly();
@@ -2004,6 +2004,12 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
                 mapConfig.setStatisticsEnabled(getBooleanValue(getTextContent(node)));
             } else if (matches("per-entry-stats-enabled", nodeName)) {
                 mapConfig.setPerEntryStatsEnabled(getBooleanValue(getTextContent(node)));
+            } else if (matches("off-heap-storage-enabled", nodeName)) {
+                mapConfig.setOffHeapStorageEnabled(getBooleanValue(getTextContent(node)));
+            } else if (matches("packed-records-enabled", nodeName)) {
+                mapConfig.setPackedRecordsEnabled(getBooleanValue(getTextContent(node)));
+            } else if (matches("value-compression-enabled", nodeName)) {
+                mapConfig.setValueCompressionEnabled(getBooleanValue(getTextContent(node)));
             } else if (matches("cache-deserialized-values", nodeName)) {
                 CacheDeserializedValues cacheDeserializedValues = CacheDeserializedValues
                         .parseString(getTextContent(node));
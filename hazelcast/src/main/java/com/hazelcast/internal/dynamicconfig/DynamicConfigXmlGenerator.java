@@ -106,6 +106,9 @@ public final class DynamicConfigXmlGenerator {
                     .node("in-memory-format", m.getInMemoryFormat())
                     .node("statistics-enabled", m.isStatisticsEnabled())
                     .node("per-entry-stats-enabled", m.isPerEntryStatsEnabled())
+                    .node("off-heap-storage-enabled", m.isOffHeapStorageEnabled())
+                    .node("packed-records-enabled", m.isPackedRecordsEnabled())
+                    .node("value-compression-enabled", m.isValueCompressionEnabled())
                     .node("cache-deserialized-values", cacheDeserializedVal)
                     .node("backup-count", m.getBackupCount())
                     .node("async-backup-count", m.getAsyncBackupCount())
@@ -213,6 +213,12 @@ public class DynamicConfigYamlGenerator {
                     subConfigAsObject.isStatisticsEnabled());
             addNonNullToMap(subConfigAsMap, "per-entry-stats-enabled",
                     subConfigAsObject.isPerEntryStatsEnabled());
+            addNonNullToMap(subConfigAsMap, "off-heap-storage-enabled",
+                    subConfigAsObject.isOffHeapStorageEnabled());
+            addNonNullToMap(subConfigAsMap, "packed-records-enabled",
+                    subConfigAsObject.isPackedRecordsEnabled());
+            addNonNullToMap(subConfigAsMap, "value-compression-enabled",
+                    subConfigAsObject.isValueCompressionEnabled());
             addNonNullToMap(subConfigAsMap, "cache-deserialized-values",
                     cacheDeserializedValues);
             addNonNullToMap(subConfigAsMap, "backup-count",
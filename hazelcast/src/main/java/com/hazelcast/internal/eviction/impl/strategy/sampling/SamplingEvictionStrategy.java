@@ -60,6 +60,21 @@ public final class SamplingEvictionStrategy<A, E extends Evictable, S extends Sa
         }
     }
 
+    /**
+     * Samples entries of the store and selects the one to be evicted next,
+     * without evicting it.
+     *
+     * @param sampleableEvictableStore  {@link SampleableEvictableStore} that holds {@link Evictable} entries
+     * @param evictionPolicyEvaluator   {@link EvictionPolicyEvaluator} to evaluate
+     *
+     * @return the selected {@link EvictionCandidate}, or {@code null} if there is none
+     */
+    public EvictionCandidate<A, E> selectEvictionCandidate(S sampleableEvictableStore,
+            EvictionPolicyEvaluator<A, E> evictionPolicyEvaluator) {
+        final Iterable<EvictionCandidate<A, E>> samples = sampleableEvictableStore.sample(SAMPLE_COUNT);
+        return evictionPolicyEvaluator.evaluate(samples);
+    }
+
     /**
      * Processes sampling based eviction logic on {@link SampleableEvictableStore}.
      *
@@ -72,8 +87,8 @@ public final class SamplingEvictionStrategy<A, E extends Evictable, S extends Sa
     private boolean evictInternal(S sampleableEvictableStore,
             EvictionPolicyEvaluator<A, E> evictionPolicyEvaluator,
             EvictionListener<A, E> evictionListener) {
-        final Iterable<EvictionCandidate<A, E>> samples = sampleableEvictableStore.sample(SAMPLE_COUNT);
-        final EvictionCandidate<A, E> evictionCandidate = evictionPolicyEvaluator.evaluate(samples);
+        final EvictionCandidate<A, E> evictionCandidate
+                = selectEvictionCandidate(sampleableEvictableStore, evictionPolicyEvaluator);
         return sampleableEvictableStore.tryEvict(evictionCandidate, evictionListener);
     }
 
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.QuickMath.isPowerOfTwo;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * {@link MemoryManager} which carves blocks out of direct {@link ByteBuffer}
+ * slabs. Only a handful of slab objects live on the Java heap no matter how
+ * many blocks are allocated, so the memory it manages is invisible to the
+ * garbage collector while every access stays bounds-checked.
+ * <p>
+ * Slabs start small and double in size up to the configured maximum so that
+ * managers backing small data sets do not reserve much memory. Freed blocks
+ * are kept in per-size-class free lists threaded through the blocks
+ * themselves; blocks larger than a quarter of the maximum slab size get a
+ * dedicated slab which is released as soon as the block is freed.
+ * <p>
+ * An address encodes the slab index in its upper and the offset inside
+ * the slab in its lower 32 bits. {@link MemoryAllocator#NULL_ADDRESS} is
+ * never handed out.
+ * <p>
+ * This class is not thread-safe, it is meant to be confined to the thread
+ * owning the data structure it backs (e.g. a partition thread).
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class DirectBufferMemoryManager implements MemoryManager {
+
+    /**
+     * Default size of the first slab.
+     */
+    public static final int DEFAULT_MIN_SLAB_SIZE = 1 << 16;
+
+    /**
+     * Default size limit of the slabs a manager grows into.
+     */
+    public static final int DEFAULT_MAX_SLAB_SIZE = 1 << 22;
+
+    static final int MIN_BLOCK_SIZE = 16;
+
+    private static final int SLAB_SHIFT = 32;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+    private static final int ALIGNMENT_MASK = 7;
+    private static final int SMALL_CLASS_LIMIT = 128;
+    private static final int SMALL_CLASS_SHIFT = 3;
+    private static final int SMALL_CLASS_COUNT = (SMALL_CLASS_LIMIT >> SMALL_CLASS_SHIFT) - 1;
+    private static final int SUB_CLASSES_PER_POWER_BITS = 2;
+    private static final int SUB_CLASSES_PER_POWER = 1 << SUB_CLASSES_PER_POWER_BITS;
+    private static final int FIRST_LARGE_POWER = Integer.numberOfTrailingZeros(SMALL_CLASS_LIMIT);
+    private static final int INITIAL_SLAB_ARRAY_LENGTH = 8;
+    private static final long BYTE_MASK = 0xFFL;
+    private static final long BYTE_BROADCAST = 0x0101010101010101L;
+
+    private final Allocator malloc = new Allocator();
+    private final Accessor mem = new Accessor();
+    private final int maxSlabSize;
+    private final int hugeBlockThreshold;
+    private final long capacity;
+    private final long[] freeListHeads;
+
+    private ByteBuffer[] slabs = new ByteBuffer[INITIAL_SLAB_ARRAY_LENGTH];
+    private int[] freeSlabIndexes = new int[INITIAL_SLAB_ARRAY_LENGTH];
+    private int freeSlabIndexCount;
+    private int slabCount;
+    private int nextSlabSize;
+    private int currentSlabIndex = -1;
+    private int currentSlabOffset;
+
+    private long usedMemory;
+    private long committedMemory;
+
+    public DirectBufferMemoryManager() {
+        this(DEFAULT_MIN_SLAB_SIZE, DEFAULT_MAX_SLAB_SIZE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param minSlabSize size of the first slab, must be a power of two
+     * @param maxSlabSize size limit of the slabs, must be a power of two
+     * @param capacity    maximum number of bytes this manager may commit
+     */
+    public DirectBufferMemoryManager(int minSlabSize, int maxSlabSize, long capacity) {
+        checkPositive("capacity", capacity);
+        if (!isPowerOfTwo(minSlabSize) || !isPowerOfTwo(maxSlabSize)
+                || minSlabSize < MIN_BLOCK_SIZE || minSlabSize > maxSlabSize) {
+            throw new IllegalArgumentException("Slab sizes must be powers of two with "
+                    + MIN_BLOCK_SIZE + " <= minSlabSize <= maxSlabSize, but got minSlabSize="
+                    + minSlabSize + ", maxSlabSize=" + maxSlabSize);
+        }
+        this.nextSlabSize = minSlabSize;
+        this.maxSlabSize = maxSlabSize;
+        this.hugeBlockThreshold = Math.max(MIN_BLOCK_SIZE, maxSlabSize >> 2);
+        this.capacity = capacity;
+        this.freeListHeads = new long[sizeClassOf(hugeBlockThreshold) + 1];
+    }
+
+    @Override
+    public MemoryAllocator getAllocator() {
+        return malloc;
+    }
+
+    @Override
+    public MemoryAccessor getAccessor() {
+        return mem;
+    }
+
+    @Override
+    public void dispose() {
+        malloc.dispose();
+    }
+
+    /**
+     * @return number of bytes in blocks handed out and not freed yet,
+     * rounded up to their size classes.
+     */
+    public long getUsedMemory() {
+        return usedMemory;
+    }
+
+    /**
+     * @return number of bytes reserved by the slabs.
+     */
+    public long getCommittedMemory() {
+        return committedMemory;
+    }
+
+    /**
+     * @return the number of bytes which is actually reserved for a block of the given size.
+     */
+    public int blockSizeOf(long size) {
+        int alignedSize = alignedSizeOf(size);
+        if (alignedSize > hugeBlockThreshold) {
+            return alignedSize;
+        }
+        if (alignedSize <= SMALL_CLASS_LIMIT) {
+            return alignedSize;
+        }
+        int power = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(alignedSize - 1);
+        int step = 1 << (power - SUB_CLASSES_PER_POWER_BITS);
+        return (alignedSize + step - 1) & -step;
+    }
+
+    static int sizeClassOf(int alignedSize) {
+        if (alignedSize <= SMALL_CLASS_LIMIT) {
+            return (alignedSize >> SMALL_CLASS_SHIFT) - 2;
+        }
+        int power = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(alignedSize - 1);
+        int step = 1 << (power - SUB_CLASSES_PER_POWER_BITS);
+        int rounded = (alignedSize + step - 1) & -step;
+        int subClass = (rounded >> (power - SUB_CLASSES_PER_POWER_BITS)) - SUB_CLASSES_PER_POWER - 1;
+        return SMALL_CLASS_COUNT + (power - FIRST_LARGE_POWER) * SUB_CLASSES_PER_POWER + subClass;
+    }
+
+    private static int alignedSizeOf(long size) {
+        if (size <= 0 || size > Integer.MAX_VALUE - ALIGNMENT_MASK) {
+            throw new IllegalArgumentException("Invalid block size: " + size);
+        }
+        return Math.max(MIN_BLOCK_SIZE, (int) ((size + ALIGNMENT_MASK) & ~ALIGNMENT_MASK));
+    }
+
+    private static long toAddress(int slabIndex, int offset) {
+        return ((long) (slabIndex + 1) << SLAB_SHIFT) | offset;
+    }
+
+    private static int slabIndexOf(long address) {
+        return (int) (address >>> SLAB_SHIFT) - 1;
+    }
+
+    private static int offsetOf(long address) {
+        return (int) (address & OFFSET_MASK);
+    }
+
+    private ByteBuffer slabOf(long address) {
+        ByteBuffer slab = slabs[slabIndexOf(address)];
+        assert slab != null : "Attempt to access address " + address + " of a released slab";
+        return slab;
+    }
+
+    private final class Allocator implements MemoryAllocator {
+
+        @Override
+        public long allocate(long size) {
+            int blockSize = blockSizeOf(size);
+            if (blockSize > hugeBlockThreshold) {
+                int slabIndex = newSlab(blockSize);
+                usedMemory += blockSize;
+                return toAddress(slabIndex, 0);
+            }
+
+            int sizeClass = sizeClassOf(blockSize);
+            long address = freeListHeads[sizeClass];
+            if (address != NULL_ADDRESS) {
+                freeListHeads[sizeClass] = mem.getLong(address);
+                mem.setMemory(address, blockSize, (byte) 0);
+            } else {
+                address = bumpAllocate(blockSize);
+            }
+            usedMemory += blockSize;
+            return address;
+        }
+
+        @Override
+        public long reallocate(long address, long currentSize, long newSize) {
+            int currentBlockSize = blockSizeOf(currentSize);
+            int newBlockSize = blockSizeOf(newSize);
+            if (currentBlockSize == newBlockSize) {
+                if (newSize > currentSize) {
+                    mem.setMemory(address + currentSize, newSize - currentSize, (byte) 0);
+                }
+                return address;
+            }
+            long newAddress = allocate(newSize);
+            mem.copyMemory(address, newAddress, Math.min(currentSize, newSize));
+            free(address, currentSize);
+            return newAddress;
+        }
+
+        @Override
+        public void free(long address, long size) {
+            assert address != NULL_ADDRESS : "Attempt to free NULL_ADDRESS";
+            int blockSize = blockSizeOf(size);
+            usedMemory -= blockSize;
+            if (blockSize > hugeBlockThreshold) {
+                releaseSlab(slabIndexOf(address));
+                return;
+            }
+            int sizeClass = sizeClassOf(blockSize);
+            mem.putLong(address, freeListHeads[sizeClass]);
+            freeListHeads[sizeClass] = address;
+        }
+
+        @Override
+        public void dispose() {
+            Arrays.fill(slabs, null);
+            Arrays.fill(freeListHeads, NULL_ADDRESS);
+            slabCount = 0;
+            freeSlabIndexCount = 0;
+            currentSlabIndex = -1;
+            currentSlabOffset = 0;
+            usedMemory = 0;
+            committedMemory = 0;
+        }
+
+        private long bumpAllocate(int blockSize) {
+            if (currentSlabIndex < 0 || slabs[currentSlabIndex].capacity() - currentSlabOffset < blockSize) {
+                int slabSize = nextSlabSize;
+                if (slabSize < blockSize) {
+                    slabSize = nextPowerOfTwo(blockSize);
+                }
+                currentSlabIndex = newSlab(slabSize);
+                currentSlabOffset = 0;
+                nextSlabSize = Math.min(maxSlabSize, Math.max(nextSlabSize, slabSize) << 1);
+            }
+            long address = toAddress(currentSlabIndex, currentSlabOffset);
+            currentSlabOffset += blockSize;
+            return address;
+        }
+
+        private int newSlab(int slabSize) {
+            if (committedMemory + slabSize > capacity) {
+                throw new NativeOutOfMemoryError("Cannot allocate " + slabSize + " bytes, "
+                        + committedMemory + " of " + capacity + " bytes are already committed");
+            }
+            ByteBuffer slab;
+            try {
+                slab = ByteBuffer.allocateDirect(slabSize).order(ByteOrder.nativeOrder());
+            } catch (OutOfMemoryError e) {
+                throw new NativeOutOfMemoryError("Cannot allocate a direct buffer of " + slabSize + " bytes", e);
+            }
+            int slabIndex;
+            if (freeSlabIndexCount > 0) {
+                slabIndex = freeSlabIndexes[--freeSlabIndexCount];
+            } else {
+                if (slabCount == slabs.length) {
+                    slabs = Arrays.copyOf(slabs, slabs.length << 1);
+                }
+                slabIndex = slabCount++;
+            }
+            slabs[slabIndex] = slab;
+            committedMemory += slabSize;
+            return slabIndex;
+        }
+
+        private void releaseSlab(int slabIndex) {
+            committedMemory -= slabs[slabIndex].capacity();
+            slabs[slabIndex] = null;
+            if (freeSlabIndexCount == freeSlabIndexes.length) {
+                freeSlabIndexes = Arrays.copyOf(freeSlabIndexes, freeSlabIndexes.length << 1);
+            }
+            freeSlabIndexes[freeSlabIndexCount++] = slabIndex;
+        }
+    }
+
+    private final class Accessor implements MemoryAccessor {
+
+        @Override
+        public boolean isBigEndian() {
+            return ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+        }
+
+        @Override
+        public boolean getBoolean(long address) {
+            return getByte(address) != 0;
+        }
+
+        @Override
+        public void putBoolean(long address, boolean x) {
+            putByte(address, (byte) (x ? 1 : 0));
+        }
+
+        @Override
+        public byte getByte(long address) {
+            return slabOf(address).get(offsetOf(address));
+        }
+
+        @Override
+        public void putByte(long address, byte x) {
+            slabOf(address).put(offsetOf(address), x);
+        }
+
+        @Override
+        public char getChar(long address) {
+            return slabOf(address).getChar(offsetOf(address));
+        }
+
+        @Override
+        public void putChar(long address, char x) {
+            slabOf(address).putChar(offsetOf(address), x);
+        }
+
+        @Override
+        public short getShort(long address) {
+            return slabOf(address).getShort(offsetOf(address));
+        }
+
+        @Override
+        public void putShort(long address, short x) {
+            slabOf(address).putShort(offsetOf(address), x);
+        }
+
+        @Override
+        public int getInt(long address) {
+            return slabOf(address).getInt(offsetOf(address));
+        }
+
+        @Override
+        public void putInt(long address, int x) {
+            slabOf(address).putInt(offsetOf(address), x);
+        }
+
+        @Override
+        public float getFloat(long address) {
+            return slabOf(address).getFloat(offsetOf(address));
+        }
+
+        @Override
+        public void putFloat(long address, float x) {
+            slabOf(address).putFloat(offsetOf(address), x);
+        }
+
+        @Override
+        public long getLong(long address) {
+            return slabOf(address).getLong(offsetOf(address));
+        }
+
+        @Override
+        public void putLong(long address, long x) {
+            slabOf(address).putLong(offsetOf(address), x);
+        }
+
+        @Override
+        public double getDouble(long address) {
+            return slabOf(address).getDouble(offsetOf(address));
+        }
+
+        @Override
+        public void putDouble(long address, double x) {
+            slabOf(address).putDouble(offsetOf(address), x);
+        }
+
+        @Override
+        public void copyMemory(long srcAddress, long destAddress, long lengthBytes) {
+            slabOf(destAddress).put(offsetOf(destAddress), slabOf(srcAddress), offsetOf(srcAddress),
+                    Math.toIntExact(lengthBytes));
+        }
+
+        @Override
+        public void copyFromByteArray(byte[] source, int offset, long destAddress, int length) {
+            slabOf(destAddress).put(offsetOf(destAddress), source, offset, length);
+        }
+
+        @Override
+        public void copyToByteArray(long srcAddress, byte[] destination, int offset, int length) {
+            slabOf(srcAddress).get(offsetOf(srcAddress), destination, offset, length);
+        }
+
+        @Override
+        public void setMemory(long address, long lengthBytes, byte value) {
+            ByteBuffer slab = slabOf(address);
+            int offset = offsetOf(address);
+            int end = offset + Math.toIntExact(lengthBytes);
+            long pattern = (value & BYTE_MASK) * BYTE_BROADCAST;
+            for (; offset + Long.BYTES <= end; offset += Long.BYTES) {
+                slab.putLong(offset, pattern);
+            }
+            for (; offset < end; offset++) {
+                slab.put(offset, value);
+            }
+        }
+    }
+}
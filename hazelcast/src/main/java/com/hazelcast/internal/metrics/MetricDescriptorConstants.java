@@ -223,6 +223,7 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_BACKUP_ENTRY_MEMORY_COST = "backupEntryMemoryCost";
     public static final String MAP_METRIC_HEAP_COST = "heapCost";
     public static final String MAP_METRIC_MERKLE_TREES_COST = "merkleTreesCost";
+    public static final String MAP_METRIC_PACKED_RECORD_HEAP_SAVINGS = "packedRecordHeapSavings";
     public static final String MAP_METRIC_LOCKED_ENTRY_COUNT = "lockedEntryCount";
     public static final String MAP_METRIC_DIRTY_ENTRY_COUNT = "dirtyEntryCount";
     public static final String MAP_METRIC_BACKUP_COUNT = "backupCount";
@@ -230,6 +231,11 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_INDEXED_QUERY_COUNT = "indexedQueryCount";
     public static final String MAP_METRIC_INDEXES_SKIPPED_QUERY_COUNT = "indexesSkippedQueryCount";
     public static final String MAP_METRIC_NO_MATCHING_INDEX_QUERY_COUNT = "noMatchingIndexQueryCount";
+    public static final String MAP_METRIC_QUERY_PLAN_CACHE_HITS = "queryPlanCacheHits";
+    public static final String MAP_METRIC_QUERY_PLAN_CACHE_MISSES = "queryPlanCacheMisses";
+    public static final String MAP_METRIC_VALUE_COMPRESSION_RATIO = "valueCompressionRatio";
+    public static final String MAP_METRIC_VALUE_COMPRESSION_NANOS = "valueCompressionNanos";
+    public static final String MAP_METRIC_VALUE_DECOMPRESSION_NANOS = "valueDecompressionNanos";
     public static final String MAP_METRIC_TOTAL_PUT_LATENCY = "totalPutLatency";
     public static final String MAP_METRIC_TOTAL_SET_LATENCY = "totalSetLatency";
     public static final String MAP_METRIC_TOTAL_GET_LATENCY = "totalGetLatency";
@@ -254,6 +260,9 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_INDEX_PARTITION_UPDATES_STARTED = "partitionUpdatesStarted";
     public static final String MAP_METRIC_INDEX_PARTITION_UPDATES_FINISHED = "partitionUpdatesFinished";
     public static final String MAP_METRIC_INDEX_NOT_READY_QUERY_COUNT = "notReadyQueryCount";
+    public static final String MAP_METRIC_INDEX_BULK_INSERT_COUNT = "bulkInsertCount";
+    public static final String MAP_METRIC_INDEX_BULK_INSERTED_ENTRY_COUNT = "bulkInsertedEntryCount";
+    public static final String MAP_METRIC_INDEX_TOTAL_BULK_INSERT_LATENCY = "totalBulkInsertLatency";
     public static final String MAP_METRIC_FULL_PARTITION_REPLICATION_COUNT = "fullPartitionReplicationCount";
     public static final String MAP_METRIC_DIFF_PARTITION_REPLICATION_COUNT = "differentialPartitionReplicationCount";
     public static final String MAP_METRIC_FULL_PARTITION_REPLICATION_RECORDS_COUNT
@@ -314,6 +323,8 @@ public final class MetricDescriptorConstants {
     public static final String NEARCACHE_METRIC_OWNED_ENTRY_MEMORY_COST = "ownedEntryMemoryCost";
     public static final String NEARCACHE_METRIC_HITS = "hits";
     public static final String NEARCACHE_METRIC_MISSES = "misses";
+    public static final String NEARCACHE_METRIC_HIT_RATE = "hitRate";
+    public static final String NEARCACHE_METRIC_ADMISSION_REJECTIONS = "admissionRejections";
     public static final String NEARCACHE_METRIC_EVICTIONS = "evictions";
     public static final String NEARCACHE_METRIC_EXPIRATIONS = "expirations";
     public static final String NEARCACHE_METRIC_INVALIDATIONS = "invalidations";
@@ -344,7 +355,19 @@ public final class MetricDescriptorConstants {
             "priorityWriteQueuePendingBytes";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED = "scheduled";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_GATHERING_WRITES = "gatheringWrites";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SOCKET_WRITES = "socketWrites";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_WRITE = "framesPerWrite";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FLUSH_LATENCY = "flushLatency";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_BATCH_SIZE = "writeBatchSize";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT = "processCount";
+    public static final String NETWORKING_METRIC_COMPRESSION_RAW_BYTES_WRITTEN = "rawBytesWritten";
+    public static final String NETWORKING_METRIC_COMPRESSION_WIRE_BYTES_WRITTEN = "wireBytesWritten";
+    public static final String NETWORKING_METRIC_COMPRESSION_RAW_BYTES_READ = "rawBytesRead";
+    public static final String NETWORKING_METRIC_COMPRESSION_WIRE_BYTES_READ = "wireBytesRead";
+    public static final String NETWORKING_METRIC_COMPRESSION_RATIO = "compressionRatio";
+    public static final String NETWORKING_METRIC_COMPRESSION_TIME = "compressionTime";
+    public static final String NETWORKING_METRIC_DECOMPRESSION_TIME = "decompressionTime";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID = "ownerId";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS = "startedMigrations";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_COMPLETED_MIGRATIONS = "completedMigrations";
@@ -396,6 +419,10 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_THREAD_COMPLETED_OPERATION_BATCH_COUNT = "completedOperationBatchCount";
     public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_NORMAL_PENDING_COUNT = "normalPendingCount";
     public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_PRIORITY_PENDING_COUNT = "priorityPendingCount";
+    public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAIN_COUNT = "drainCount";
+    public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_TASKS_PER_DRAIN = "tasksPerDrain";
+    public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAINED_TASK_LATENCY = "drainedTaskLatency";
+    public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAINED_TASK_LATENCY_AVG = "drainedTaskLatencyAvg";
     public static final String OPERATION_METRIC_PARKER_PARK_QUEUE_COUNT = "parkQueueCount";
     public static final String OPERATION_METRIC_PARKER_TOTAL_PARKED_OPERATION_COUNT = "totalParkedOperationCount";
     public static final String OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSE_QUEUE_SIZE = "responseQueueSize";
@@ -534,6 +561,15 @@ public final class MetricDescriptorConstants {
     public static final String RUNTIME_FULL_METRIC_UPTIME = "runtime.uptime";
     // ===[/RUNTIME]====================================================
 
+    // ===[SERIALIZATION]===============================================
+    public static final String SERIALIZATION_BUFFER_POOL_PREFIX = "serialization.bufferPool";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_LOCAL_HITS = "localHits";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_SHARED_HITS = "sharedHits";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_MISSES = "misses";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_TRIMS = "trims";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_SHARED_POOLED = "sharedPooled";
+    // ===[/SERIALIZATION]==============================================
+
     // ===[SET]=======================================================
     public static final String SET_PREFIX = "set";
     public static final String SET_METRIC_LAST_ACCESS_TIME = "lastAccessTime";
@@ -547,6 +583,7 @@ public final class MetricDescriptorConstants {
     public static final String TCP_PREFIX_BALANCER = "tcp.balancer";
     public static final String TCP_PREFIX_CONNECTION = "tcp.connection";
     public static final String TCP_PREFIX_CONNECTION_IN = "tcp.connection.in";
+    public static final String TCP_PREFIX_CONNECTION_COMPRESSION = "tcp.connection.compression";
     public static final String TCP_PREFIX_CONNECTION_OUT = "tcp.connection.out";
     public static final String TCP_PREFIX_INPUTTHREAD = "tcp.inputThread";
     public static final String TCP_PREFIX_OUTPUTTHREAD = "tcp.outputThread";
@@ -555,6 +592,7 @@ public final class MetricDescriptorConstants {
     public static final String TCP_DISCRIMINATOR_PIPELINEID = "pipelineId";
     public static final String TCP_DISCRIMINATOR_THREAD = "thread";
     public static final String TCP_TAG_ENDPOINT = "endpoint";
+    public static final String TCP_TAG_FRAMES = "frames";
     public static final String TCP_METRIC_ACCEPTOR_EVENT_COUNT = "eventCount";
     public static final String TCP_METRIC_ACCEPTOR_EXCEPTION_COUNT = "exceptionCount";
     public static final String TCP_METRIC_ACCEPTOR_SELECTOR_RECREATE_COUNT = "selectorRecreateCount";
@@ -180,6 +180,11 @@ public class EmptyLocalReplicatedMapStats implements LocalReplicatedMapStats {
         return 0;
     }
 
+    @Override
+    public long getPackedRecordHeapSavings() {
+        return 0;
+    }
+
     @Override
     public NearCacheStats getNearCacheStats() {
         throw new UnsupportedOperationException("Replicated map has no Near Cache!");
@@ -79,6 +79,12 @@ public class GlobalPerIndexStats implements PerIndexStats {
             GlobalPerIndexStats.class, "partitionUpdatesStarted");
     private static final AtomicLongFieldUpdater<GlobalPerIndexStats> PARTITION_UPDATES_FINISHED = newUpdater(
             GlobalPerIndexStats.class, "partitionUpdatesFinished");
+    private static final AtomicLongFieldUpdater<GlobalPerIndexStats> BULK_INSERT_COUNT = newUpdater(
+            GlobalPerIndexStats.class, "bulkInsertCount");
+    private static final AtomicLongFieldUpdater<GlobalPerIndexStats> BULK_INSERTED_ENTRY_COUNT = newUpdater(
+            GlobalPerIndexStats.class, "bulkInsertedEntryCount");
+    private static final AtomicLongFieldUpdater<GlobalPerIndexStats> TOTAL_BULK_INSERT_LATENCY = newUpdater(
+            GlobalPerIndexStats.class, "totalBulkInsertLatency");
     private static final AtomicLongFieldUpdater<GlobalPerIndexStats> INDEX_NOT_READY_QUERY_COUNT = newUpdater(
             GlobalPerIndexStats.class, "indexNotReadyQueryCount");
 
@@ -101,6 +107,9 @@ public class GlobalPerIndexStats implements PerIndexStats {
     private volatile long partitionsIndexed;
     private volatile long partitionUpdatesStarted;
     private volatile long partitionUpdatesFinished;
+    private volatile long bulkInsertCount;
+    private volatile long bulkInsertedEntryCount;
+    private volatile long totalBulkInsertLatency;
     private volatile long indexNotReadyQueryCount;
 
     /**
@@ -215,6 +224,15 @@ public class GlobalPerIndexStats implements PerIndexStats {
         VALUES_MEMORY_COST.addAndGet(this, operationStats.getMemoryCostDelta());
     }
 
+    @Override
+    public void onBulkInsert(long timestampNanos, long insertedEntryCount, IndexOperationStats operationStats) {
+        TOTAL_BULK_INSERT_LATENCY.addAndGet(this, Timer.nanosElapsed(timestampNanos));
+        BULK_INSERT_COUNT.incrementAndGet(this);
+        BULK_INSERTED_ENTRY_COUNT.addAndGet(this, insertedEntryCount);
+        ENTRY_COUNT.addAndGet(this, insertedEntryCount);
+        VALUES_MEMORY_COST.addAndGet(this, operationStats.getMemoryCostDelta());
+    }
+
     @Override
     public void onUpdate(long timestampNanos, IndexOperationStats operationStats, Index.OperationSource operationSource) {
         if (operationSource == Index.OperationSource.USER) {
@@ -310,6 +328,21 @@ public class GlobalPerIndexStats implements PerIndexStats {
         return partitionUpdatesFinished;
     }
 
+    @Override
+    public long getBulkInsertCount() {
+        return bulkInsertCount;
+    }
+
+    @Override
+    public long getBulkInsertedEntryCount() {
+        return bulkInsertedEntryCount;
+    }
+
+    @Override
+    public long getTotalBulkInsertLatency() {
+        return totalBulkInsertLatency;
+    }
+
     @Override
     public void onPartitionChange(PartitionIndexChangeEvent changeEvent) {
         @SuppressWarnings("unused") long change = switch (changeEvent) {
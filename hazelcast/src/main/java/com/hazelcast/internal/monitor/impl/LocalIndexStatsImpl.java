@@ -21,6 +21,8 @@ import com.hazelcast.query.LocalIndexStats;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_AVERAGE_HIT_LATENCY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_AVERAGE_HIT_SELECTIVITY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_BULK_INSERTED_ENTRY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_BULK_INSERT_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_HIT_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_INSERT_COUNT;
@@ -31,6 +33,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_PARTITION_UPDATES_STARTED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_QUERY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_REMOVE_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_TOTAL_BULK_INSERT_LATENCY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_TOTAL_INSERT_LATENCY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_TOTAL_REMOVE_LATENCY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_TOTAL_UPDATE_LATENCY;
@@ -95,6 +98,15 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
     @Probe(name = MAP_METRIC_INDEX_NOT_READY_QUERY_COUNT)
     private volatile long indexNotReadyQueryCount;
 
+    @Probe(name = MAP_METRIC_INDEX_BULK_INSERT_COUNT)
+    private volatile long bulkInsertCount;
+
+    @Probe(name = MAP_METRIC_INDEX_BULK_INSERTED_ENTRY_COUNT)
+    private volatile long bulkInsertedEntryCount;
+
+    @Probe(name = MAP_METRIC_INDEX_TOTAL_BULK_INSERT_LATENCY, unit = NS)
+    private volatile long totalBulkInsertLatency;
+
     @Override
     public long getCreationTime() {
         return creationTime;
@@ -284,6 +296,18 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
         return partitionUpdatesFinished;
     }
 
+    public long getBulkInsertCount() {
+        return bulkInsertCount;
+    }
+
+    public long getBulkInsertedEntryCount() {
+        return bulkInsertedEntryCount;
+    }
+
+    public long getTotalBulkInsertLatency() {
+        return totalBulkInsertLatency;
+    }
+
     /**
      * Sets all the values in this stats to the corresponding values in the
      * given on-demand stats.
@@ -307,6 +331,9 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
         this.partitionUpdatesStarted = onDemandStats.getPartitionUpdatesStarted();
         this.partitionUpdatesFinished = onDemandStats.getPartitionUpdatesFinished();
         this.indexNotReadyQueryCount = onDemandStats.getIndexNotReadyQueryCount();
+        this.bulkInsertCount = onDemandStats.getBulkInsertCount();
+        this.bulkInsertedEntryCount = onDemandStats.getBulkInsertedEntryCount();
+        this.totalBulkInsertLatency = onDemandStats.getTotalBulkInsertLatency();
     }
 
     @Override
@@ -328,6 +355,9 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
                 + ", indexNotReadyQueryCount=" + indexNotReadyQueryCount
                 + ", partitionUpdatesStarted=" + partitionUpdatesStarted
                 + ", partitionUpdatesFinished=" + partitionUpdatesFinished
+                + ", bulkInsertCount=" + bulkInsertCount
+                + ", bulkInsertedEntryCount=" + bulkInsertedEntryCount
+                + ", totalBulkInsertLatency=" + totalBulkInsertLatency
                 + '}';
     }
 
@@ -50,9 +50,15 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_NUMBER_OF_OTHER_OPERATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_OWNED_ENTRY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_OWNED_ENTRY_MEMORY_COST;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_PACKED_RECORD_HEAP_SAVINGS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_PUT_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_QUERY_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_QUERY_LIMITER_HIT_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_QUERY_PLAN_CACHE_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_QUERY_PLAN_CACHE_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_VALUE_COMPRESSION_NANOS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_VALUE_COMPRESSION_RATIO;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_VALUE_DECOMPRESSION_NANOS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_REMOVE_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_SET_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_TOTAL_GET_LATENCY;
@@ -66,6 +72,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_VALUES_COUNT;
 import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.util.ConcurrencyUtil.setMax;
 import static com.hazelcast.internal.util.TimeUtil.convertNanosToMillis;
 import static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater;
@@ -180,6 +187,11 @@ public class LocalMapStatsImpl implements LocalMapStats {
      */
     @Probe(name = MAP_METRIC_MERKLE_TREES_COST)
     private volatile long merkleTreesCost;
+    /**
+     * Holds the heap cost saved by packed records of owned and backup entries.
+     */
+    @Probe(name = MAP_METRIC_PACKED_RECORD_HEAP_SAVINGS, unit = BYTES)
+    private volatile long packedRecordHeapSavings;
     @Probe(name = MAP_METRIC_LOCKED_ENTRY_COUNT)
     private volatile long lockedEntryCount;
     @Probe(name = MAP_METRIC_DIRTY_ENTRY_COUNT)
@@ -195,6 +207,16 @@ public class LocalMapStatsImpl implements LocalMapStats {
     private volatile long indexesSkippedQueryCount;
     @Probe(name = MAP_METRIC_NO_MATCHING_INDEX_QUERY_COUNT)
     private volatile long noMatchingIndexQueryCount;
+    @Probe(name = MAP_METRIC_QUERY_PLAN_CACHE_HITS)
+    private volatile long queryPlanCacheHits;
+    @Probe(name = MAP_METRIC_QUERY_PLAN_CACHE_MISSES)
+    private volatile long queryPlanCacheMisses;
+    @Probe(name = MAP_METRIC_VALUE_COMPRESSION_RATIO)
+    private volatile double valueCompressionRatio = 1;
+    @Probe(name = MAP_METRIC_VALUE_COMPRESSION_NANOS, unit = NS)
+    private volatile long valueCompressionNanos;
+    @Probe(name = MAP_METRIC_VALUE_DECOMPRESSION_NANOS, unit = NS)
+    private volatile long valueDecompressionNanos;
 
     private final boolean ignoreMemoryCosts;
 
@@ -439,6 +461,15 @@ public class LocalMapStatsImpl implements LocalMapStats {
         this.merkleTreesCost = merkleTreeCost;
     }
 
+    @Override
+    public long getPackedRecordHeapSavings() {
+        return packedRecordHeapSavings;
+    }
+
+    public void setPackedRecordHeapSavings(long packedRecordHeapSavings) {
+        this.packedRecordHeapSavings = packedRecordHeapSavings;
+    }
+
     @Override
     public NearCacheStats getNearCacheStats() {
         return nearCacheStats;
@@ -483,6 +514,51 @@ public class LocalMapStatsImpl implements LocalMapStats {
         this.noMatchingIndexQueryCount = noMatchingIndexQueryCount;
     }
 
+    @Override
+    public long getQueryPlanCacheHits() {
+        return queryPlanCacheHits;
+    }
+
+    public void setQueryPlanCacheHits(long queryPlanCacheHits) {
+        this.queryPlanCacheHits = queryPlanCacheHits;
+    }
+
+    @Override
+    public long getQueryPlanCacheMisses() {
+        return queryPlanCacheMisses;
+    }
+
+    public void setQueryPlanCacheMisses(long queryPlanCacheMisses) {
+        this.queryPlanCacheMisses = queryPlanCacheMisses;
+    }
+
+    @Override
+    public double getValueCompressionRatio() {
+        return valueCompressionRatio;
+    }
+
+    public void setValueCompressionRatio(double valueCompressionRatio) {
+        this.valueCompressionRatio = valueCompressionRatio;
+    }
+
+    @Override
+    public long getValueCompressionNanos() {
+        return valueCompressionNanos;
+    }
+
+    public void setValueCompressionNanos(long valueCompressionNanos) {
+        this.valueCompressionNanos = valueCompressionNanos;
+    }
+
+    @Override
+    public long getValueDecompressionNanos() {
+        return valueDecompressionNanos;
+    }
+
+    public void setValueDecompressionNanos(long valueDecompressionNanos) {
+        this.valueDecompressionNanos = valueDecompressionNanos;
+    }
+
     /**
      * Sets the indexed query count of this stats to the given indexed query
      * count value.
@@ -628,6 +704,7 @@ public class LocalMapStatsImpl implements LocalMapStats {
                 + ", dirtyEntryCount=" + dirtyEntryCount
                 + ", heapCost=" + heapCost
                 + ", merkleTreesCost=" + merkleTreesCost
+                + ", packedRecordHeapSavings=" + packedRecordHeapSavings
                 + ", nearCacheStats=" + (nearCacheStats != null ? nearCacheStats : "")
                 + ", queryCount=" + queryCount
                 + ", indexedQueryCount=" + indexedQueryCount
@@ -635,6 +712,11 @@ public class LocalMapStatsImpl implements LocalMapStats {
                 + ", replicationStats=" + replicationStats
                 + ", indexesSkippedQueryCount=" + indexesSkippedQueryCount
                 + ", noMatchingIndexQueryCount=" + noMatchingIndexQueryCount
+                + ", queryPlanCacheHits=" + queryPlanCacheHits
+                + ", queryPlanCacheMisses=" + queryPlanCacheMisses
+                + ", valueCompressionRatio=" + valueCompressionRatio
+                + ", valueCompressionNanos=" + valueCompressionNanos
+                + ", valueDecompressionNanos=" + valueDecompressionNanos
                 + '}';
     }
 }
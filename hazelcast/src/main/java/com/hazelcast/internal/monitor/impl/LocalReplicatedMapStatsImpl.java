@@ -358,6 +358,11 @@ public class LocalReplicatedMapStatsImpl implements LocalReplicatedMapStats {
         return 0;
     }
 
+    @Override
+    public long getPackedRecordHeapSavings() {
+        return 0;
+    }
+
     // TODO: unused
     public void setMerkleTreesCost(long merkleTreesCost) {
     }
@@ -22,10 +22,12 @@ import com.hazelcast.nearcache.NearCacheStats;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.LongAccumulator;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_ADMISSION_REJECTIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EVICTIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EXPIRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_HIT_RATE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_INVALIDATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_INVALIDATION_REQUESTS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_LAST_PERSISTENCE_DURATION;
@@ -38,6 +40,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_PERSISTENCE_COUNT;
 import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
 import static java.lang.String.format;
 import static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater;
 
@@ -54,6 +57,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
             newUpdater(NearCacheStatsImpl.class, "evictions");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> EXPIRATIONS =
             newUpdater(NearCacheStatsImpl.class, "expirations");
+    private static final AtomicLongFieldUpdater<NearCacheStatsImpl> ADMISSION_REJECTIONS =
+            newUpdater(NearCacheStatsImpl.class, "admissionRejections");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> INVALIDATIONS =
             newUpdater(NearCacheStatsImpl.class, "invalidations");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> INVALIDATION_REQUESTS =
@@ -75,6 +80,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
     private volatile long evictions;
     @Probe(name = NEARCACHE_METRIC_EXPIRATIONS)
     private volatile long expirations;
+    @Probe(name = NEARCACHE_METRIC_ADMISSION_REJECTIONS)
+    private volatile long admissionRejections;
 
     @Probe(name = NEARCACHE_METRIC_INVALIDATIONS)
     private volatile long invalidations;
@@ -105,6 +112,7 @@ public class NearCacheStatsImpl implements NearCacheStats {
         setMisses(stats.getMisses());
         evictions = stats.getEvictions();
         expirations = stats.getExpirations();
+        admissionRejections = stats.getAdmissionRejections();
         invalidations = stats.getInvalidations();
         invalidationRequests = stats.getInvalidationRequests();
 
@@ -207,6 +215,21 @@ public class NearCacheStatsImpl implements NearCacheStats {
         EVICTIONS.incrementAndGet(this);
     }
 
+    @Probe(name = NEARCACHE_METRIC_HIT_RATE, unit = PERCENT)
+    private double hitRatePercent() {
+        double hitRate = getHitRate();
+        return Double.isNaN(hitRate) ? 0 : hitRate * PERCENTAGE;
+    }
+
+    @Override
+    public long getAdmissionRejections() {
+        return admissionRejections;
+    }
+
+    public void incrementAdmissionRejections() {
+        ADMISSION_REJECTIONS.incrementAndGet(this);
+    }
+
     @Override
     public long getExpirations() {
         return expirations;
@@ -303,7 +326,9 @@ public class NearCacheStatsImpl implements NearCacheStats {
                 + ", hits=" + hits
                 + ", misses=" + misses
                 + ", ratio=" + format("%.1f%%", getRatio())
+                + ", hitRate=" + format("%.1f%%", getHitRate() * PERCENTAGE)
                 + ", evictions=" + evictions
+                + ", admissionRejections=" + admissionRejections
                 + ", expirations=" + expirations
                 + ", invalidations=" + invalidations
                 + ", invalidationRequests=" + invalidationRequests
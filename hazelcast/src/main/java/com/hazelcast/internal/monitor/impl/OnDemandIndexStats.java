@@ -55,6 +55,12 @@ public class OnDemandIndexStats {
 
     private long partitionUpdatesFinished;
 
+    private long bulkInsertCount;
+
+    private long bulkInsertedEntryCount;
+
+    private long totalBulkInsertLatency;
+
     private long indexNotReadyQueryCount;
 
     /**
@@ -297,6 +303,30 @@ public class OnDemandIndexStats {
         this.partitionUpdatesFinished = partitionUpdatesFinished;
     }
 
+    public long getBulkInsertCount() {
+        return bulkInsertCount;
+    }
+
+    public void setBulkInsertCount(long bulkInsertCount) {
+        this.bulkInsertCount = bulkInsertCount;
+    }
+
+    public long getBulkInsertedEntryCount() {
+        return bulkInsertedEntryCount;
+    }
+
+    public void setBulkInsertedEntryCount(long bulkInsertedEntryCount) {
+        this.bulkInsertedEntryCount = bulkInsertedEntryCount;
+    }
+
+    public long getTotalBulkInsertLatency() {
+        return totalBulkInsertLatency;
+    }
+
+    public void setTotalBulkInsertLatency(long totalBulkInsertLatency) {
+        this.totalBulkInsertLatency = totalBulkInsertLatency;
+    }
+
     @Override
     public String toString() {
         return "LocalIndexStatsImpl{" + "creationTime=" + creationTime + ", hitCount=" + hitCount
@@ -305,7 +335,8 @@ public class OnDemandIndexStats {
                 + ", updateCount=" + updateCount + ", totalUpdateLatency=" + totalUpdateLatency + ", removeCount=" + removeCount
                 + ", totalRemoveLatency=" + totalRemoveLatency + ", memoryCost=" + memoryCost + ", totalHitCount=" + totalHitCount
                 + ", partitionsIndexed=" + partitionsIndexed + ", partitionUpdatesStarted=" + partitionUpdatesStarted
-                + ", partitionUpdatesFinished=" + partitionUpdatesFinished
+                + ", partitionUpdatesFinished=" + partitionUpdatesFinished + ", bulkInsertCount=" + bulkInsertCount
+                + ", bulkInsertedEntryCount=" + bulkInsertedEntryCount + ", totalBulkInsertLatency=" + totalBulkInsertLatency
                 + ", indexNotReadyQueryCount=" + indexNotReadyQueryCount + "}";
     }
 
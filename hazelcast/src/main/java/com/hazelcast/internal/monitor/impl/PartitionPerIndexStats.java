@@ -48,6 +48,11 @@ public class PartitionPerIndexStats implements PerIndexStats {
     private static final VarHandle REMOVE_COUNT = ReflectionUtil.findVarHandle("removeCount", long.class);
     private static final VarHandle TOTAL_REMOVE_LATENCY = ReflectionUtil.findVarHandle("totalRemoveLatency", long.class);
     private static final VarHandle MEMORY_COST = ReflectionUtil.findVarHandle("memoryCost", long.class);
+    private static final VarHandle BULK_INSERT_COUNT = ReflectionUtil.findVarHandle("bulkInsertCount", long.class);
+    private static final VarHandle BULK_INSERTED_ENTRY_COUNT =
+            ReflectionUtil.findVarHandle("bulkInsertedEntryCount", long.class);
+    private static final VarHandle TOTAL_BULK_INSERT_LATENCY =
+            ReflectionUtil.findVarHandle("totalBulkInsertLatency", long.class);
     private static final AtomicLongFieldUpdater<PartitionPerIndexStats> INDEX_NOT_READY_QUERY_COUNT =
             newUpdater(PartitionPerIndexStats.class, "indexNotReadyQueryCount");
 
@@ -71,6 +76,9 @@ public class PartitionPerIndexStats implements PerIndexStats {
     private volatile long totalRemoveLatency;
     private volatile long memoryCost;
     private volatile long partitionsIndexed;
+    private volatile long bulkInsertCount;
+    private volatile long bulkInsertedEntryCount;
+    private volatile long totalBulkInsertLatency;
     private volatile long indexNotReadyQueryCount;
 
     private boolean hasQueries;
@@ -175,6 +183,14 @@ public class PartitionPerIndexStats implements PerIndexStats {
         ENTRY_COUNT.setOpaque(this, entryCount + 1);
     }
 
+    @Override
+    public void onBulkInsert(long startNanos, long insertedEntryCount, IndexOperationStats operationStats) {
+        TOTAL_BULK_INSERT_LATENCY.setOpaque(this, totalBulkInsertLatency + Timer.nanosElapsed(startNanos));
+        BULK_INSERT_COUNT.setOpaque(this, bulkInsertCount + 1);
+        BULK_INSERTED_ENTRY_COUNT.setOpaque(this, bulkInsertedEntryCount + insertedEntryCount);
+        ENTRY_COUNT.setOpaque(this, entryCount + insertedEntryCount);
+    }
+
     @Override
     public void onUpdate(long startNanos, IndexOperationStats operationStats, Index.OperationSource operationSource) {
         if (operationSource == Index.OperationSource.USER) {
@@ -268,6 +284,21 @@ public class PartitionPerIndexStats implements PerIndexStats {
         return 0;
     }
 
+    @Override
+    public long getBulkInsertCount() {
+        return bulkInsertCount;
+    }
+
+    @Override
+    public long getBulkInsertedEntryCount() {
+        return bulkInsertedEntryCount;
+    }
+
+    @Override
+    public long getTotalBulkInsertLatency() {
+        return totalBulkInsertLatency;
+    }
+
     @Override
     public void onPartitionChange(PartitionIndexChangeEvent changeEvent) {
         @SuppressWarnings("unused") long indexed = switch (changeEvent) {
@@ -117,6 +117,21 @@ public interface PerIndexStats {
             return 0;
         }
 
+        @Override
+        public long getBulkInsertCount() {
+            return 0;
+        }
+
+        @Override
+        public long getBulkInsertedEntryCount() {
+            return 0;
+        }
+
+        @Override
+        public long getTotalBulkInsertLatency() {
+            return 0;
+        }
+
         @Override
         public void updateMemoryCost(long delta) {
             // do nothing
@@ -132,6 +147,11 @@ public interface PerIndexStats {
             // do nothing
         }
 
+        @Override
+        public void onBulkInsert(long timestamp, long insertedEntryCount, IndexOperationStats operationStats) {
+            // do nothing
+        }
+
         @Override
         public void onUpdate(long timestamp, IndexOperationStats operationStats, Index.OperationSource operationSource) {
             // do nothing
@@ -306,6 +326,22 @@ public interface PerIndexStats {
      */
     long getPartitionUpdatesFinished();
 
+    /**
+     * Returns the number of bulk insert operations performed by the index
+     * while building it for whole partitions.
+     */
+    long getBulkInsertCount();
+
+    /**
+     * Returns the number of entries inserted by bulk insert operations.
+     */
+    long getBulkInsertedEntryCount();
+
+    /**
+     * Returns the total latency (in nanoseconds) of bulk insert operations.
+     */
+    long getTotalBulkInsertLatency();
+
     /**
      * Invoked on index dispose.
      */
@@ -322,6 +358,17 @@ public interface PerIndexStats {
      */
     void onInsert(long timestamp, IndexOperationStats operationStats, Index.OperationSource operationSource);
 
+    /**
+     * Invoked by the associated index after every bulk insert operation.
+     *
+     * @param timestamp          the time at which the bulk insert operation was started.
+     * @param insertedEntryCount the number of inserted entries.
+     * @param operationStats     the operation stats to track the stats.
+     * @see #makeTimestamp
+     * @see com.hazelcast.query.impl.InternalIndex#putEntries
+     */
+    void onBulkInsert(long timestamp, long insertedEntryCount, IndexOperationStats operationStats);
+
     /**
      * Invoked by the associated index after every update operation.
      *
@@ -58,6 +58,16 @@ public interface NearCache<K, V> extends InitializingObject {
             = new HazelcastProperty(PROP_EXPIRATION_TASK_PERIOD_SECONDS,
             DEFAULT_EXPIRATION_TASK_PERIOD_SECONDS);
 
+    String PROP_ADMISSION_FILTER_ENABLED
+            = "hazelcast.internal.nearcache.admission.filter.enabled";
+
+    /**
+     * Enables the frequency based admission of new keys into Near Caches
+     * with eviction, see {@link com.hazelcast.internal.nearcache.impl.NearCacheAdmissionFilter}.
+     */
+    HazelcastProperty ADMISSION_FILTER_ENABLED
+            = new HazelcastProperty(PROP_ADMISSION_FILTER_ENABLED, false);
+
     /**
      * Indicates how a near cache is updated.
      */
@@ -17,6 +17,7 @@
 package com.hazelcast.internal.nearcache;
 
 import com.hazelcast.internal.adapter.DataStructureAdapter;
+import com.hazelcast.internal.nearcache.impl.NearCacheAdmissionFilter;
 import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.nearcache.NearCacheStats;
@@ -128,4 +129,19 @@ public interface NearCacheRecordStore<K, V> extends InitializingObject {
      * @see StaleReadDetector
      */
     void setStaleReadDetector(StaleReadDetector detector);
+
+    /**
+     * Sets the filter which decides whether a new key may replace an
+     * eviction victim when this record store is full.
+     *
+     * @param admissionFilter the admission filter, or {@code null} to
+     *                        admit every new key
+     * @return {@code true} if this record store applies the admission
+     * filter and evicts on its own when a new key was admitted, {@code false}
+     * if admission filters are not supported
+     * @see NearCacheAdmissionFilter
+     */
+    default boolean setAdmissionFilter(NearCacheAdmissionFilter admissionFilter) {
+        return false;
+    }
 }
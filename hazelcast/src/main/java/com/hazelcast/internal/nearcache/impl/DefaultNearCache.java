@@ -16,6 +16,8 @@
 
 package com.hazelcast.internal.nearcache.impl;
 
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.internal.adapter.DataStructureAdapter;
@@ -52,6 +54,7 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
     private final HazelcastProperties properties;
 
     private volatile boolean preloadDone;
+    private volatile boolean admissionFilterEnabled;
 
     public DefaultNearCache(String name, NearCacheConfig nearCacheConfig,
                             SerializationService serializationService, TaskScheduler scheduler,
@@ -80,6 +83,7 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
             nearCacheRecordStore = createNearCacheRecordStore(name, nearCacheConfig);
         }
         nearCacheRecordStore.initialize();
+        initializeAdmissionFilter();
 
         expirationTaskFuture = createAndScheduleExpirationTask();
     }
@@ -99,6 +103,16 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         }
     }
 
+    private void initializeAdmissionFilter() {
+        EvictionConfig evictionConfig = nearCacheConfig.getEvictionConfig();
+        if (!properties.getBoolean(ADMISSION_FILTER_ENABLED)
+                || evictionConfig.getEvictionPolicy() == EvictionPolicy.NONE) {
+            return;
+        }
+        NearCacheAdmissionFilter admissionFilter = new NearCacheAdmissionFilter(evictionConfig.getSize());
+        admissionFilterEnabled = nearCacheRecordStore.setAdmissionFilter(admissionFilter);
+    }
+
     private ScheduledFuture createAndScheduleExpirationTask() {
         if (nearCacheConfig.getMaxIdleSeconds() > 0L
                 || nearCacheConfig.getTimeToLiveSeconds() > 0L) {
@@ -130,7 +144,7 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
     public void put(K key, Data keyData, V value, Data valueData) {
         checkKeyFormat(key);
 
-        nearCacheRecordStore.doEviction(false);
+        doEvictionIfRequired();
 
         nearCacheRecordStore.put(key, keyData, value, valueData);
     }
@@ -200,7 +214,7 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
 
     @Override
     public long tryReserveForUpdate(K key, Data keyData, UpdateSemantic updateSemantic) {
-        nearCacheRecordStore.doEviction(false);
+        doEvictionIfRequired();
 
         return nearCacheRecordStore.tryReserveForUpdate(key, keyData, updateSemantic);
     }
@@ -214,6 +228,14 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         return nearCacheRecordStore;
     }
 
+    private void doEvictionIfRequired() {
+        // with an admission filter the record store evicts on its own, after
+        // the new key was admitted
+        if (!admissionFilterEnabled) {
+            nearCacheRecordStore.doEviction(false);
+        }
+    }
+
     private void checkKeyFormat(K key) {
         if (serializeKeys) {
             checkInstanceOf(Data.class, key, "key must be of type Data!");
@@ -0,0 +1,155 @@
+/*
+ * Original work Copyright 2015 Ben Manes. All Rights Reserved.
+ * Modified work Copyright (c) 2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl;
+
+import static com.hazelcast.internal.util.HashUtil.MurmurHash3_fmix;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * Frequency based admission policy of a Near Cache (TinyLFU).
+ * <p>
+ * The access frequency of the keys is estimated by a count-min sketch of
+ * four rows of 4-bit counters, which are packed into a single {@code long[]}
+ * table. The counters of a key are all in the same {@code long}, chosen
+ * independently per row. The table is sized after the maximum size of the
+ * Near Cache and all counters are halved each time the number of recorded
+ * accesses reaches ten times the table length, so the sketch forgets old
+ * accesses and follows a changing working set.
+ * <p>
+ * When the Near Cache is full, a new key is only admitted if it was
+ * accessed more often than the eviction victim it would replace. This keeps
+ * the frequently read entries in the Near Cache when many keys are read only
+ * once, e.g. by a scan over a map.
+ * <p>
+ * The filter is not thread-safe on purpose. Concurrent updates of the table
+ * may get lost, which only makes the estimation a bit less accurate.
+ * <p>
+ * Adapted from the {@code FrequencySketch} of the Caffeine project
+ * (https://github.com/ben-manes/caffeine).
+ */
+public class NearCacheAdmissionFilter {
+
+    private static final int MIN_TABLE_LENGTH = 16;
+    private static final int MAX_TABLE_LENGTH = 1 << 20;
+    private static final int SAMPLE_SIZE_FACTOR = 10;
+    private static final int ROWS = 4;
+    private static final long MAX_COUNTER = 0xfL;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L,
+    };
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+
+    private int size;
+
+    /**
+     * @param maximumSize the maximum number of entries of the Near Cache
+     */
+    public NearCacheAdmissionFilter(int maximumSize) {
+        int tableLength = nextPowerOfTwo(Math.min(Math.max(maximumSize, MIN_TABLE_LENGTH), MAX_TABLE_LENGTH));
+        this.table = new long[tableLength];
+        this.tableMask = tableLength - 1;
+        this.sampleSize = (int) Math.min((long) tableLength * SAMPLE_SIZE_FACTOR, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Records an access of a key, regardless of whether it was a hit or a
+     * miss.
+     *
+     * @param keyHash the hash code of the key
+     */
+    public void recordAccess(int keyHash) {
+        int hash = MurmurHash3_fmix(keyHash);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < ROWS; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * @param keyHash the hash code of the key
+     * @return the estimated number of recent accesses of the key, between
+     * {@code 0} and {@code 15}
+     */
+    public int frequency(int keyHash) {
+        int hash = MurmurHash3_fmix(keyHash);
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < ROWS; i++) {
+            int offset = (start + i) << 2;
+            int count = (int) ((table[indexOf(hash, i)] >>> offset) & MAX_COUNTER);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Decides whether a new key may replace an eviction victim.
+     *
+     * @param candidateHash the hash code of the key to be added
+     * @param victimHash    the hash code of the key to be evicted
+     * @return {@code true} if the candidate was accessed more often than
+     * the victim, {@code false} otherwise
+     */
+    public boolean admit(int candidateHash, int victimHash) {
+        return frequency(candidateHash) > frequency(victimHash);
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = MAX_COUNTER << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halves all counters, the accesses dropped by the rounding are
+     * subtracted from the size as well.
+     */
+    private void reset() {
+        int oddCounters = 0;
+        for (int i = 0; i < table.length; i++) {
+            oddCounters += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (oddCounters >>> 2)) >>> 1;
+    }
+
+    // only used for testing purposes
+    int getSize() {
+        return size;
+    }
+}
@@ -20,6 +20,7 @@ import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.eviction.EvictionCandidate;
 import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.eviction.EvictionListener;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
@@ -28,6 +29,7 @@ import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
 import com.hazelcast.internal.nearcache.NearCache;
 import com.hazelcast.internal.nearcache.NearCacheRecord;
 import com.hazelcast.internal.nearcache.NearCacheRecordStore;
+import com.hazelcast.internal.nearcache.impl.NearCacheAdmissionFilter;
 import com.hazelcast.internal.nearcache.impl.SampleableNearCacheRecordMap;
 import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
 import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
@@ -82,6 +84,7 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
 
     protected volatile long reservationId;
     protected volatile StaleReadDetector staleReadDetector = ALWAYS_FRESH;
+    protected volatile NearCacheAdmissionFilter admissionFilter;
 
     public AbstractNearCacheRecordStore(NearCacheConfig nearCacheConfig,
                                         SerializationService serializationService,
@@ -118,6 +121,12 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         this.staleReadDetector = staleReadDetector;
     }
 
+    @Override
+    public boolean setAdmissionFilter(NearCacheAdmissionFilter admissionFilter) {
+        this.admissionFilter = admissionFilter;
+        return true;
+    }
+
     @Override
     public abstract R getRecord(K key);
 
@@ -231,6 +240,7 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         R record = null;
         V value = null;
         try {
+            recordAccess(key);
             record = getRecord(key);
 
             if (record == null) {
@@ -272,6 +282,25 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         }
     }
 
+    private void recordAccess(K key) {
+        NearCacheAdmissionFilter admissionFilter = this.admissionFilter;
+        if (admissionFilter != null) {
+            admissionFilter.recordAccess(admissionHashOf(key));
+        }
+    }
+
+    /**
+     * Returns the hash of a key as seen by the {@link NearCacheAdmissionFilter}.
+     * It has to be the same for a key given to {@link #get(Object)} and for
+     * the key of its record in the record map.
+     *
+     * @param key the key given to the record store or the key of a record
+     * @return the hash of the key
+     */
+    protected int admissionHashOf(Object key) {
+        return key.hashCode();
+    }
+
     protected V recordToValue(R record) {
         return record.getValue() == null
                 ? (V) CACHED_AS_NULL : toValue(record.getValue());
@@ -347,6 +376,12 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         if (evictionDisabled && evictionChecker.isEvictionRequired() && !containsRecordKey(key)) {
             return NOT_RESERVED;
         }
+        // with an admission filter, a new key has to win against the eviction victim
+        // to be added to a full Near Cache, otherwise the victim stays
+        if (!admit(key)) {
+            nearCacheStats.incrementAdmissionRejections();
+            return NOT_RESERVED;
+        }
 
         long reservationId = nextReservationId();
 
@@ -361,6 +396,24 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         return reservationId;
     }
 
+    private boolean admit(K key) {
+        NearCacheAdmissionFilter admissionFilter = this.admissionFilter;
+        if (admissionFilter == null || evictionDisabled
+                || !evictionChecker.isEvictionRequired() || containsRecordKey(key)) {
+            return true;
+        }
+
+        EvictionCandidate<KS, R> victim = evictionStrategy.selectEvictionCandidate(records, evictionPolicyEvaluator);
+        if (victim == null) {
+            return true;
+        }
+        if (!admissionFilter.admit(admissionHashOf(key), admissionHashOf(victim.getAccessor()))) {
+            return false;
+        }
+        records.tryEvict(victim, this);
+        return true;
+    }
+
     protected R publishReservedRecord(K key, V value, R reservedRecord, long reservationId) {
         if (reservedRecord.getReservationId() != reservationId) {
             return reservedRecord;
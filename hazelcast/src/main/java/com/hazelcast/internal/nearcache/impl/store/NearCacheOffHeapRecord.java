@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.internal.nearcache.impl.record.AbstractNearCacheRecord;
+import com.hazelcast.internal.serialization.Data;
+
+import java.util.UUID;
+
+/**
+ * Record of {@link NearCacheOffHeapRecordStore}.
+ * <p>
+ * A record is a heap copy of the metadata of an entry of an {@link
+ * OffHeapNearCacheRecordMap}, taken under the lock of the segment holding the
+ * entry. Such an attached record writes every change through to the entry,
+ * as long as the entry is still stored; changes to a record whose entry was
+ * removed in the meantime are only visible on the record itself. The value
+ * of an attached record is copied to the heap when it is first read.
+ * <p>
+ * A record created by the record store is detached, it is copied into a new
+ * entry and attached to it when it is stored.
+ */
+public class NearCacheOffHeapRecord extends AbstractNearCacheRecord<Data> {
+
+    private OffHeapNearCacheRecordMap.Segment segment;
+    private long address;
+    private long stamp;
+    private int hash;
+    private volatile boolean valueLoaded;
+    private int keyLength;
+    private int valueLength;
+
+    NearCacheOffHeapRecord(Data value, long creationTime, long expirationTime) {
+        super(value, creationTime, expirationTime);
+        this.valueLoaded = true;
+        this.valueLength = value == null ? 0 : value.totalSize();
+    }
+
+    /**
+     * Creates a record attached to an entry. The metadata is set by the
+     * segment right after the creation.
+     */
+    NearCacheOffHeapRecord(OffHeapNearCacheRecordMap.Segment segment, long address, long stamp, int hash) {
+        super(null, TIME_NOT_SET, TIME_NOT_SET);
+        attach(segment, address, stamp, hash);
+    }
+
+    @Override
+    public Data getValue() {
+        if (!valueLoaded) {
+            OffHeapNearCacheRecordMap.Segment segment = this.segment;
+            if (segment != null) {
+                segment.loadValue(this);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void setValue(Data value) {
+        super.setValue(value);
+        valueLoaded = true;
+        valueLength = value == null ? 0 : value.totalSize();
+        OffHeapNearCacheRecordMap.Segment segment = this.segment;
+        if (segment != null) {
+            segment.writeValue(this, value);
+        }
+    }
+
+    @Override
+    public void setCachedAsNull(boolean valueCachedAsNull) {
+        super.setCachedAsNull(valueCachedAsNull);
+        writeFlags();
+    }
+
+    @Override
+    public void setExpirationTime(long expirationTime) {
+        super.setExpirationTime(expirationTime);
+        writeInt(OffHeapNearCacheRecordMap.EXPIRATION_TIME_OFFSET, this.expirationTime);
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        super.setCreationTime(creationTime);
+        writeInt(OffHeapNearCacheRecordMap.CREATION_TIME_OFFSET, this.creationTime);
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        super.setLastAccessTime(lastAccessTime);
+        writeInt(OffHeapNearCacheRecordMap.LAST_ACCESS_TIME_OFFSET, this.lastAccessTime);
+    }
+
+    @Override
+    public void setHits(int hits) {
+        super.setHits(hits);
+        writeInt(OffHeapNearCacheRecordMap.HITS_OFFSET, hits);
+    }
+
+    @Override
+    public void incrementHits() {
+        super.incrementHits();
+        OffHeapNearCacheRecordMap.Segment segment = this.segment;
+        if (segment != null) {
+            segment.incrementHits(this);
+        }
+    }
+
+    @Override
+    public void setReservationId(long reservationId) {
+        super.setReservationId(reservationId);
+        writeLong(OffHeapNearCacheRecordMap.RESERVATION_ID_OFFSET, reservationId);
+    }
+
+    @Override
+    public void setPartitionId(int partitionId) {
+        super.setPartitionId(partitionId);
+        writeInt(OffHeapNearCacheRecordMap.PARTITION_ID_OFFSET, partitionId);
+    }
+
+    @Override
+    public void setInvalidationSequence(long sequence) {
+        super.setInvalidationSequence(sequence);
+        writeLong(OffHeapNearCacheRecordMap.INVALIDATION_SEQUENCE_OFFSET, sequence);
+    }
+
+    @Override
+    public void setUuid(UUID uuid) {
+        super.setUuid(uuid);
+        OffHeapNearCacheRecordMap.Segment segment = this.segment;
+        if (segment != null) {
+            segment.writeUuid(this, uuid);
+        }
+    }
+
+    /**
+     * @return the number of bytes of the serialized key, as stored by the entry
+     */
+    int getKeyLength() {
+        return keyLength;
+    }
+
+    /**
+     * @return the number of bytes of the serialized value, {@code 0} if there is none
+     */
+    int getValueLength() {
+        return valueLength;
+    }
+
+    boolean isAttached() {
+        return segment != null;
+    }
+
+    long getAddress() {
+        return address;
+    }
+
+    long getStamp() {
+        return stamp;
+    }
+
+    int getHash() {
+        return hash;
+    }
+
+    UUID getUuid() {
+        return uuid;
+    }
+
+    int getRawCreationTime() {
+        return creationTime;
+    }
+
+    int getRawExpirationTime() {
+        return expirationTime;
+    }
+
+    int getRawLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    void attach(OffHeapNearCacheRecordMap.Segment segment, long address, long stamp, int hash) {
+        this.segment = segment;
+        this.address = address;
+        this.stamp = stamp;
+        this.hash = hash;
+    }
+
+    void detach() {
+        segment = null;
+    }
+
+    /**
+     * Sets the metadata read from an entry, without writing it back. A
+     * negative value length means that the entry has no value.
+     */
+    void load(int keyLength, int valueLength, long reservationId, long invalidationSequence, UUID uuid,
+              int creationTime, int expirationTime, int lastAccessTime, int hits, int partitionId,
+              boolean cachedAsNull) {
+        this.keyLength = keyLength;
+        this.valueLength = Math.max(valueLength, 0);
+        this.reservationId = reservationId;
+        this.invalidationSequence = invalidationSequence;
+        this.uuid = uuid;
+        this.creationTime = creationTime;
+        this.expirationTime = expirationTime;
+        this.lastAccessTime = lastAccessTime;
+        this.hits = hits;
+        this.partitionId = partitionId;
+        this.cachedAsNull = cachedAsNull;
+        this.valueLoaded = valueLength < 0;
+    }
+
+    void loadValue(Data value) {
+        this.value = value;
+        this.valueLoaded = true;
+    }
+
+    void loadHits(int hits) {
+        this.hits = hits;
+    }
+
+    void setKeyLength(int keyLength) {
+        this.keyLength = keyLength;
+    }
+
+    private void writeFlags() {
+        OffHeapNearCacheRecordMap.Segment segment = this.segment;
+        if (segment != null) {
+            segment.writeFlags(this);
+        }
+    }
+
+    private void writeInt(int offset, int value) {
+        OffHeapNearCacheRecordMap.Segment segment = this.segment;
+        if (segment != null) {
+            segment.writeInt(this, offset, value);
+        }
+    }
+
+    private void writeLong(int offset, long value) {
+        OffHeapNearCacheRecordMap.Segment segment = this.segment;
+        if (segment != null) {
+            segment.writeLong(this, offset, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheOffHeapRecord{"
+                + "attached=" + isAttached()
+                + ", address=" + address
+                + ", keyLength=" + keyLength
+                + ", valueLength=" + valueLength
+                + ", " + super.toString()
+                + '}';
+    }
+}
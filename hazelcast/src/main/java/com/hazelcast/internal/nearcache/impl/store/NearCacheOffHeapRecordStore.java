@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCachePreloaderConfig;
+import com.hazelcast.internal.adapter.DataStructureAdapter;
+import com.hazelcast.internal.eviction.EvictionChecker;
+import com.hazelcast.internal.nearcache.impl.maxsize.EntryCountNearCacheEvictionChecker;
+import com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static com.hazelcast.internal.nearcache.NearCacheRecord.TIME_NOT_SET;
+import static com.hazelcast.internal.util.Clock.currentTimeMillis;
+import static java.lang.String.format;
+
+/**
+ * {@link com.hazelcast.internal.nearcache.NearCacheRecordStore} implementation
+ * for Near Caches with {@link com.hazelcast.config.InMemoryFormat#BINARY}
+ * in-memory-format, which keeps keys, values and record metadata outside the
+ * Java heap, in an {@link OffHeapNearCacheRecordMap}.
+ * <p>
+ * Keys are always stored in serialized form. Eviction, expiration, the
+ * reservation of records and the invalidation metadata checked by the {@link
+ * com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector} work
+ * the same way as for {@link NearCacheDataRecordStore}, on records copied
+ * from the off-heap entries. The owned entry memory cost reports the bytes
+ * used by the entries outside the heap.
+ *
+ * @param <K> the type of the key stored in Near Cache
+ * @param <V> the type of the value stored in Near Cache
+ */
+public class NearCacheOffHeapRecordStore<K, V>
+        extends AbstractNearCacheRecordStore<K, V, Data, NearCacheOffHeapRecord, OffHeapNearCacheRecordMap> {
+
+    private final NearCachePreloader<K> nearCachePreloader;
+    private final BiFunction<Data, NearCacheOffHeapRecord, NearCacheOffHeapRecord> invalidatorFunction
+            = createInvalidatorFunction();
+
+    public NearCacheOffHeapRecordStore(String name, NearCacheConfig nearCacheConfig,
+                                       SerializationService serializationService, ClassLoader classLoader) {
+        super(nearCacheConfig, serializationService, classLoader);
+
+        NearCachePreloaderConfig preloaderConfig = nearCacheConfig.getPreloaderConfig();
+        this.nearCachePreloader = preloaderConfig.isEnabled()
+                ? new NearCachePreloader<>(name, preloaderConfig, nearCacheStats, serializationService) : null;
+    }
+
+    @Override
+    protected EvictionChecker createNearCacheEvictionChecker(EvictionConfig evictionConfig,
+                                                             NearCacheConfig nearCacheConfig) {
+        MaxSizePolicy maxSizePolicy = evictionConfig.getMaxSizePolicy();
+        if (maxSizePolicy == MaxSizePolicy.ENTRY_COUNT) {
+            return new EntryCountNearCacheEvictionChecker(evictionConfig.getSize(), records);
+        }
+
+        throw new IllegalArgumentException(format("Invalid max-size policy (%s) for %s! Only %s is supported.",
+                maxSizePolicy, getClass().getName(), MaxSizePolicy.ENTRY_COUNT));
+    }
+
+    @Override
+    protected OffHeapNearCacheRecordMap createNearCacheRecordMap(NearCacheConfig nearCacheConfig) {
+        return new OffHeapNearCacheRecordMap(serializationService);
+    }
+
+    @Override
+    protected long getKeyStorageMemoryCost(K key) {
+        // the key is stored in the entry block, see getRecordStorageMemoryCost
+        return 0L;
+    }
+
+    @Override
+    protected long getRecordStorageMemoryCost(NearCacheOffHeapRecord record) {
+        if (record == null) {
+            return 0L;
+        }
+        return OffHeapNearCacheRecordMap.SLOT_SIZE
+                + OffHeapNearCacheRecordMap.HEADER_SIZE
+                + record.getKeyLength()
+                + record.getValueLength();
+    }
+
+    @Override
+    protected NearCacheOffHeapRecord createRecord(V value) {
+        Data dataValue = toData(value);
+        long creationTime = currentTimeMillis();
+        if (timeToLiveMillis > 0) {
+            return new NearCacheOffHeapRecord(dataValue, creationTime, creationTime + timeToLiveMillis);
+        } else {
+            return new NearCacheOffHeapRecord(dataValue, creationTime, TIME_NOT_SET);
+        }
+    }
+
+    @Override
+    protected void updateRecordValue(NearCacheOffHeapRecord record, V value) {
+        record.setValue(toData(value));
+    }
+
+    @Override
+    public NearCacheOffHeapRecord getRecord(K key) {
+        return records.get(toData(key));
+    }
+
+    @Override
+    protected NearCacheOffHeapRecord putRecord(K key, NearCacheOffHeapRecord record) {
+        Data keyData = toData(key);
+        NearCacheOffHeapRecord oldRecord = records.put(keyData, record);
+        nearCacheStats.incrementOwnedEntryMemoryCost(getTotalStorageMemoryCost(key, record));
+        if (oldRecord != null) {
+            nearCacheStats.decrementOwnedEntryMemoryCost(getTotalStorageMemoryCost(key, oldRecord));
+        }
+        return oldRecord;
+    }
+
+    // the keys of the record map are Data, so the admission filter has to see the hash of the serialized key
+    @Override
+    protected int admissionHashOf(Object key) {
+        return key instanceof Data ? key.hashCode() : toData(key).hashCode();
+    }
+
+    @Override
+    protected boolean containsRecordKey(K key) {
+        return records.containsKey(toData(key));
+    }
+
+    @Override
+    public void onEvict(Data key, NearCacheOffHeapRecord record, boolean wasExpired) {
+        if (!canUpdateStats(record)) {
+            return;
+        }
+        super.onEvict(key, record, wasExpired);
+        nearCacheStats.decrementOwnedEntryMemoryCost(getRecordStorageMemoryCost(record));
+    }
+
+    // the keys of the record map are Data, which stay as they are when they are serialized as K
+    @Override
+    @SuppressWarnings("unchecked")
+    public void doExpiration() {
+        for (Map.Entry<Data, NearCacheOffHeapRecord> entry : records.entrySet()) {
+            K key = (K) entry.getKey();
+            NearCacheOffHeapRecord record = entry.getValue();
+            if (isRecordExpired(record)) {
+                invalidate(key);
+                onExpire(key, record);
+            }
+        }
+    }
+
+    @Override
+    public void loadKeys(DataStructureAdapter<Object, ?> adapter) {
+        if (nearCachePreloader != null) {
+            nearCachePreloader.loadKeys(adapter);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void storeKeys() {
+        if (nearCachePreloader != null) {
+            nearCachePreloader.storeKeys((Iterator<K>) (Iterator<?>) records.keySet().iterator());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        if (nearCachePreloader != null) {
+            nearCachePreloader.destroy();
+        }
+    }
+
+    @Nullable
+    @Override
+    public V tryPublishReserved(K key, V value, long reservationId, boolean deserialize) {
+        NearCacheOffHeapRecord existingRecord = records.applyIfPresent(toData(key),
+                (keyData, reservedRecord) -> publishReservedRecord(key, value, reservedRecord, reservationId));
+
+        if (existingRecord == null || !deserialize) {
+            return null;
+        }
+        return toValue(existingRecord.getValue());
+    }
+
+    @Override
+    protected NearCacheOffHeapRecord reserveForReadUpdate(K key, Data keyData, long reservationId) {
+        Data dataKey = keyData == null ? toData(key) : keyData;
+        return records.applyIfAbsent(dataKey, k -> newReservationRecord(key, dataKey, reservationId));
+    }
+
+    @Override
+    protected NearCacheOffHeapRecord reserveForWriteUpdate(K key, Data keyData, long reservationId) {
+        Data dataKey = keyData == null ? toData(key) : keyData;
+        return records.apply(dataKey,
+                (k, existingRecord) -> reserveForWriteUpdate(key, dataKey, existingRecord, reservationId));
+    }
+
+    @Override
+    public void invalidate(K key) {
+        records.applyIfPresent(toData(key), invalidatorFunction);
+
+        nearCacheStats.incrementInvalidationRequests();
+    }
+
+    private BiFunction<Data, NearCacheOffHeapRecord, NearCacheOffHeapRecord> createInvalidatorFunction() {
+        return (key, record) -> {
+            if (canUpdateStats(record)) {
+                nearCacheStats.decrementOwnedEntryCount();
+                nearCacheStats.decrementOwnedEntryMemoryCost(getRecordStorageMemoryCost(record));
+                nearCacheStats.incrementInvalidations();
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,921 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.internal.eviction.EvictionCandidate;
+import com.hazelcast.internal.eviction.EvictionListener;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.impl.DirectBufferMemoryManager;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.nearcache.impl.SampleableNearCacheRecordMap;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+
+/**
+ * {@link SampleableNearCacheRecordMap} implementation which keeps keys,
+ * values and record metadata outside the Java heap, in memory managed by
+ * {@link DirectBufferMemoryManager}s.
+ * <p>
+ * The map is split into a fixed number of segments selected by the upper
+ * bits of the key hash. Every segment is guarded by its own monitor and owns
+ * a memory manager and an open-addressing hash table with linear probing,
+ * laid out like the one of {@link com.hazelcast.map.impl.recordstore.OffHeapStorage}.
+ * A slot holds the address of the entry block and the hash of the key. The
+ * entry block holds the record metadata followed by the key; the value is
+ * kept in a block of its own, so updating the value never moves the entry.
+ * <p>
+ * Records handed out by this map are {@link NearCacheOffHeapRecord}s attached
+ * to their entries. The functions passed to {@link #apply}, {@link
+ * #applyIfAbsent} and {@link #applyIfPresent} are called under the lock of the
+ * segment and follow the semantics of {@link
+ * com.hazelcast.internal.util.ConcurrentReferenceHashMap}: returning
+ * {@code null} removes the entry, returning the given record keeps the entry
+ * and returning another record replaces it.
+ * <p>
+ * Iterators are weakly consistent: they copy the entries of a segment in
+ * chunks and may miss or repeat entries which are moved by a concurrent rehash.
+ */
+@SuppressWarnings({"checkstyle:methodcount", "checkstyle:classfanoutcomplexity"})
+public class OffHeapNearCacheRecordMap extends AbstractMap<Data, NearCacheOffHeapRecord>
+        implements SampleableNearCacheRecordMap<Data, NearCacheOffHeapRecord> {
+
+    // entry block layout, the first long is overwritten by the allocator when the block is freed
+    static final int STAMP_OFFSET = 8;
+    static final int RESERVATION_ID_OFFSET = 16;
+    static final int INVALIDATION_SEQUENCE_OFFSET = 24;
+    static final int UUID_MSB_OFFSET = 32;
+    static final int UUID_LSB_OFFSET = 40;
+    static final int VALUE_ADDRESS_OFFSET = 48;
+    static final int VALUE_LENGTH_OFFSET = 56;
+    static final int CREATION_TIME_OFFSET = 60;
+    static final int EXPIRATION_TIME_OFFSET = 64;
+    static final int LAST_ACCESS_TIME_OFFSET = 68;
+    static final int HITS_OFFSET = 72;
+    static final int PARTITION_ID_OFFSET = 76;
+    static final int KEY_LENGTH_OFFSET = 80;
+    static final int FLAGS_OFFSET = 84;
+    static final int HEADER_SIZE = 88;
+
+    static final int SLOT_SIZE = 16;
+    static final int SEGMENT_COUNT = 16;
+
+    private static final int SEGMENT_SHIFT = Integer.SIZE - 4;
+    private static final int SLOT_HASH_OFFSET = 8;
+    private static final int NULL_VALUE_LENGTH = -1;
+    private static final int CACHED_AS_NULL_FLAG = 1;
+    private static final int HAS_UUID_FLAG = 2;
+    private static final long TOMBSTONE = -1L;
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MIN_SLAB_SIZE = 1 << 13;
+    private static final int INITIAL_KEY_BUFFER_SIZE = 64;
+    private static final int ITERATION_CHUNK_SIZE = 256;
+
+    private final SerializationService serializationService;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    OffHeapNearCacheRecordMap(SerializationService serializationService) {
+        this.serializationService = serializationService;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * @return number of bytes used by the entries and hash tables of this map
+     */
+    public long getUsedMemory() {
+        long usedMemory = 0;
+        for (Segment segment : segments) {
+            usedMemory += segment.getUsedMemory();
+        }
+        return usedMemory;
+    }
+
+    /**
+     * @return number of bytes reserved by this map outside the Java heap
+     */
+    public long getCommittedMemory() {
+        long committedMemory = 0;
+        for (Segment segment : segments) {
+            committedMemory += segment.getCommittedMemory();
+        }
+        return committedMemory;
+    }
+
+    @Override
+    public NearCacheOffHeapRecord get(Object key) {
+        Data dataKey = (Data) key;
+        int hash = dataKey.hashCode();
+        return segmentFor(hash).get(dataKey, hash);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Data dataKey = (Data) key;
+        int hash = dataKey.hashCode();
+        return segmentFor(hash).containsKey(dataKey, hash);
+    }
+
+    @Override
+    public NearCacheOffHeapRecord put(Data key, NearCacheOffHeapRecord record) {
+        int hash = key.hashCode();
+        return segmentFor(hash).put(key, hash, record, false);
+    }
+
+    @Override
+    public NearCacheOffHeapRecord putIfAbsent(@Nonnull Data key, NearCacheOffHeapRecord record) {
+        int hash = key.hashCode();
+        return segmentFor(hash).put(key, hash, record, true);
+    }
+
+    @Override
+    public NearCacheOffHeapRecord remove(Object key) {
+        Data dataKey = (Data) key;
+        int hash = dataKey.hashCode();
+        return segmentFor(hash).remove(dataKey, hash, null);
+    }
+
+    @Override
+    public boolean remove(@Nonnull Object key, Object record) {
+        if (record == null) {
+            return false;
+        }
+        Data dataKey = (Data) key;
+        int hash = dataKey.hashCode();
+        return segmentFor(hash).remove(dataKey, hash, (NearCacheOffHeapRecord) record) != null;
+    }
+
+    @Override
+    public boolean replace(@Nonnull Data key, @Nonnull NearCacheOffHeapRecord oldRecord,
+                           @Nonnull NearCacheOffHeapRecord newRecord) {
+        int hash = key.hashCode();
+        boolean[] replaced = new boolean[1];
+        segmentFor(hash).applyIfPresent(key, hash, (k, existing) -> {
+            if (isSameEntry(existing, oldRecord)) {
+                replaced[0] = true;
+                return newRecord;
+            }
+            return existing;
+        });
+        return replaced[0];
+    }
+
+    @Override
+    public NearCacheOffHeapRecord replace(@Nonnull Data key, @Nonnull NearCacheOffHeapRecord record) {
+        int hash = key.hashCode();
+        NearCacheOffHeapRecord[] oldRecord = new NearCacheOffHeapRecord[1];
+        segmentFor(hash).applyIfPresent(key, hash, (k, existing) -> {
+            existing.getValue();
+            oldRecord[0] = existing;
+            return record;
+        });
+        return oldRecord[0];
+    }
+
+    /**
+     * Applies the function to the key and its record, or {@code null} if
+     * there is none, under the lock of the segment of the key.
+     *
+     * @return the record stored for the key after the function is applied
+     */
+    public NearCacheOffHeapRecord apply(Data key,
+                                        BiFunction<? super Data, ? super NearCacheOffHeapRecord,
+                                                ? extends NearCacheOffHeapRecord> function) {
+        int hash = key.hashCode();
+        return segmentFor(hash).apply(key, hash, function);
+    }
+
+    /**
+     * Stores the record created by the function if there is no record for
+     * the key, under the lock of the segment of the key.
+     *
+     * @return the existing or the created record
+     */
+    public NearCacheOffHeapRecord applyIfAbsent(Data key,
+                                                Function<? super Data, ? extends NearCacheOffHeapRecord> function) {
+        int hash = key.hashCode();
+        return segmentFor(hash).applyIfAbsent(key, hash, function);
+    }
+
+    /**
+     * Applies the function to the key and its record if there is one, under
+     * the lock of the segment of the key.
+     *
+     * @return the record stored for the key after the function is applied
+     */
+    public NearCacheOffHeapRecord applyIfPresent(Data key,
+                                                 BiFunction<? super Data, ? super NearCacheOffHeapRecord,
+                                                         ? extends NearCacheOffHeapRecord> function) {
+        int hash = key.hashCode();
+        return segmentFor(hash).applyIfPresent(key, hash, function);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.size > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all entries and releases the memory of this map. The map can
+     * be used again afterwards.
+     */
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    @Nonnull
+    public Set<Entry<Data, NearCacheOffHeapRecord>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            @Nonnull
+            public Iterator<Entry<Data, NearCacheOffHeapRecord>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return OffHeapNearCacheRecordMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Iterable<OffHeapEvictionCandidate> sample(int sampleCount) {
+        if (sampleCount < 0) {
+            throw new IllegalArgumentException("Sample count cannot be a negative value.");
+        }
+        List<OffHeapEvictionCandidate> samples = new ArrayList<>(sampleCount);
+        if (sampleCount == 0) {
+            return samples;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int start = random.nextInt(SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT && samples.size() < sampleCount; i++) {
+            segments[(start + i) % SEGMENT_COUNT].sample(random, sampleCount, samples);
+        }
+        return samples;
+    }
+
+    @Override
+    public <C extends EvictionCandidate<Data, NearCacheOffHeapRecord>> boolean tryEvict(
+            C evictionCandidate, EvictionListener<Data, NearCacheOffHeapRecord> evictionListener) {
+        if (evictionCandidate == null) {
+            return false;
+        }
+        Data key = evictionCandidate.getAccessor();
+        int hash = key.hashCode();
+        NearCacheOffHeapRecord removedRecord = segmentFor(hash).applyIfPresent(key, hash, null);
+        if (removedRecord == null || removedRecord.getReservationId() != NearCacheRecord.READ_PERMITTED) {
+            // no record was removed or the record was a placeholder marked for update
+            return false;
+        }
+        if (evictionListener != null) {
+            evictionListener.onEvict(key, removedRecord, false);
+        }
+        return true;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> SEGMENT_SHIFT];
+    }
+
+    private static boolean isSameEntry(NearCacheOffHeapRecord record, NearCacheOffHeapRecord other) {
+        return record == other || other.isAttached() && record.getAddress() == other.getAddress()
+                && record.getStamp() == other.getStamp();
+    }
+
+    private static boolean isLive(long entry) {
+        return entry != NULL_ADDRESS && entry != TOMBSTONE;
+    }
+
+    /**
+     * A part of the map guarded by its own monitor, see the class
+     * documentation for the table and entry layout.
+     */
+    final class Segment {
+
+        private final DirectBufferMemoryManager memoryManager = new DirectBufferMemoryManager(MIN_SLAB_SIZE,
+                DirectBufferMemoryManager.DEFAULT_MAX_SLAB_SIZE, Long.MAX_VALUE);
+        private final MemoryAllocator malloc = memoryManager.getAllocator();
+        private final MemoryAccessor mem = memoryManager.getAccessor();
+
+        private long table = NULL_ADDRESS;
+        private int capacity;
+        private int usedSlots;
+        private int resizeThreshold;
+        // stamps are never reused, not even after a clear
+        private long lastStamp;
+        private volatile int size;
+        private byte[] keyBuffer = new byte[INITIAL_KEY_BUFFER_SIZE];
+
+        synchronized long getUsedMemory() {
+            return memoryManager.getUsedMemory();
+        }
+
+        synchronized long getCommittedMemory() {
+            return memoryManager.getCommittedMemory();
+        }
+
+        synchronized NearCacheOffHeapRecord get(Data key, int hash) {
+            int index = indexOf(key, hash);
+            if (index < 0) {
+                return null;
+            }
+            long entry = entryAt(index);
+            NearCacheOffHeapRecord record = readRecord(entry, hash);
+            record.loadValue(readValue(entry));
+            return record;
+        }
+
+        synchronized boolean containsKey(Data key, int hash) {
+            return indexOf(key, hash) >= 0;
+        }
+
+        synchronized NearCacheOffHeapRecord put(Data key, int hash, NearCacheOffHeapRecord record, boolean ifAbsent) {
+            int index = indexOf(key, hash);
+            if (index < 0) {
+                insert(key, hash, record);
+                return null;
+            }
+            long entry = entryAt(index);
+            NearCacheOffHeapRecord existing = readRecord(entry, hash);
+            existing.loadValue(readValue(entry));
+            if (!ifAbsent) {
+                replace(index, key, hash, existing, record);
+            }
+            return existing;
+        }
+
+        synchronized NearCacheOffHeapRecord remove(Data key, int hash, NearCacheOffHeapRecord expected) {
+            int index = indexOf(key, hash);
+            if (index < 0) {
+                return null;
+            }
+            long entry = entryAt(index);
+            NearCacheOffHeapRecord existing = readRecord(entry, hash);
+            if (expected != null && !isSameEntry(existing, expected)) {
+                return null;
+            }
+            existing.loadValue(readValue(entry));
+            removeAt(index, existing);
+            return existing;
+        }
+
+        synchronized NearCacheOffHeapRecord apply(Data key, int hash,
+                                                  BiFunction<? super Data, ? super NearCacheOffHeapRecord,
+                                                          ? extends NearCacheOffHeapRecord> function) {
+            int index = indexOf(key, hash);
+            NearCacheOffHeapRecord existing = index < 0 ? null : readRecord(entryAt(index), hash);
+            return store(key, hash, existing, function.apply(key, existing));
+        }
+
+        synchronized NearCacheOffHeapRecord applyIfAbsent(Data key, int hash,
+                                                          Function<? super Data,
+                                                                  ? extends NearCacheOffHeapRecord> function) {
+            int index = indexOf(key, hash);
+            if (index >= 0) {
+                return readRecord(entryAt(index), hash);
+            }
+            NearCacheOffHeapRecord record = function.apply(key);
+            if (record != null) {
+                insert(key, hash, record);
+            }
+            return record;
+        }
+
+        /**
+         * A {@code null} function removes the entry and returns the removed record.
+         */
+        synchronized NearCacheOffHeapRecord applyIfPresent(Data key, int hash,
+                                                           BiFunction<? super Data, ? super NearCacheOffHeapRecord,
+                                                                   ? extends NearCacheOffHeapRecord> function) {
+            int index = indexOf(key, hash);
+            if (index < 0) {
+                return null;
+            }
+            NearCacheOffHeapRecord existing = readRecord(entryAt(index), hash);
+            if (function == null) {
+                removeAt(index, existing);
+                return existing;
+            }
+            return store(key, hash, existing, function.apply(key, existing));
+        }
+
+        synchronized void sample(ThreadLocalRandom random, int sampleCount, List<OffHeapEvictionCandidate> samples) {
+            if (size == 0) {
+                return;
+            }
+            int mask = capacity - 1;
+            int start = random.nextInt(capacity);
+            for (int i = 0; i < capacity && samples.size() < sampleCount; i++) {
+                long entry = entryAt((start + i) & mask);
+                if (isLive(entry)) {
+                    long slot = slotAddress((start + i) & mask);
+                    samples.add(new OffHeapEvictionCandidate(readKey(entry),
+                            readRecord(entry, mem.getInt(slot + SLOT_HASH_OFFSET))));
+                }
+            }
+        }
+
+        /**
+         * Copies up to {@link #ITERATION_CHUNK_SIZE} entries, starting at the
+         * given slot index, into the given list.
+         *
+         * @return the slot index to continue with, {@code -1} if the end of the table is reached
+         */
+        synchronized int fetchEntries(int fromIndex, List<Entry<Data, NearCacheOffHeapRecord>> entries) {
+            int index = fromIndex;
+            while (index < capacity && entries.size() < ITERATION_CHUNK_SIZE) {
+                long slot = slotAddress(index++);
+                long entry = mem.getLong(slot);
+                if (isLive(entry)) {
+                    entries.add(new SimpleImmutableEntry<>(readKey(entry),
+                            readRecord(entry, mem.getInt(slot + SLOT_HASH_OFFSET))));
+                }
+            }
+            return index < capacity ? index : -1;
+        }
+
+        synchronized void clear() {
+            memoryManager.dispose();
+            table = NULL_ADDRESS;
+            capacity = 0;
+            usedSlots = 0;
+            resizeThreshold = 0;
+            size = 0;
+        }
+
+        synchronized void loadValue(NearCacheOffHeapRecord record) {
+            long entry = entryOf(record);
+            record.loadValue(entry == NULL_ADDRESS ? null : readValue(entry));
+        }
+
+        synchronized void writeValue(NearCacheOffHeapRecord record, Data value) {
+            long entry = entryOf(record);
+            if (entry != NULL_ADDRESS) {
+                freeValue(entry);
+                storeValue(entry, value);
+            }
+        }
+
+        synchronized void writeFlags(NearCacheOffHeapRecord record) {
+            long entry = entryOf(record);
+            if (entry != NULL_ADDRESS) {
+                mem.putInt(entry + FLAGS_OFFSET, flagsOf(record));
+            }
+        }
+
+        synchronized void writeUuid(NearCacheOffHeapRecord record, UUID uuid) {
+            long entry = entryOf(record);
+            if (entry != NULL_ADDRESS) {
+                storeUuid(entry, uuid);
+                mem.putInt(entry + FLAGS_OFFSET, flagsOf(record));
+            }
+        }
+
+        synchronized void writeInt(NearCacheOffHeapRecord record, int offset, int value) {
+            long entry = entryOf(record);
+            if (entry != NULL_ADDRESS) {
+                mem.putInt(entry + offset, value);
+            }
+        }
+
+        synchronized void writeLong(NearCacheOffHeapRecord record, int offset, long value) {
+            long entry = entryOf(record);
+            if (entry != NULL_ADDRESS) {
+                mem.putLong(entry + offset, value);
+            }
+        }
+
+        synchronized void incrementHits(NearCacheOffHeapRecord record) {
+            long entry = entryOf(record);
+            if (entry != NULL_ADDRESS) {
+                int hits = mem.getInt(entry + HITS_OFFSET) + 1;
+                mem.putInt(entry + HITS_OFFSET, hits);
+                record.loadHits(hits);
+            }
+        }
+
+        /**
+         * @return the address of the entry the record is attached to, or
+         * {@link MemoryAllocator#NULL_ADDRESS} if the entry is not stored anymore
+         */
+        private long entryOf(NearCacheOffHeapRecord record) {
+            if (size == 0) {
+                return NULL_ADDRESS;
+            }
+            long entry = record.getAddress();
+            int mask = capacity - 1;
+            // the slot is found without reading the entry, which may have been freed
+            for (int index = record.getHash() & mask; ; index = (index + 1) & mask) {
+                long current = entryAt(index);
+                if (current == NULL_ADDRESS) {
+                    return NULL_ADDRESS;
+                }
+                if (current == entry) {
+                    return mem.getLong(entry + STAMP_OFFSET) == record.getStamp() ? entry : NULL_ADDRESS;
+                }
+            }
+        }
+
+        private NearCacheOffHeapRecord store(Data key, int hash, NearCacheOffHeapRecord existing,
+                                             NearCacheOffHeapRecord result) {
+            if (result == existing) {
+                return result;
+            }
+            if (existing == null) {
+                insert(key, hash, result);
+                return result;
+            }
+            int index = indexOfEntry(existing);
+            if (result == null) {
+                removeAt(index, existing);
+            } else {
+                replace(index, key, hash, existing, result);
+            }
+            return result;
+        }
+
+        private int indexOfEntry(NearCacheOffHeapRecord record) {
+            int mask = capacity - 1;
+            for (int index = record.getHash() & mask; ; index = (index + 1) & mask) {
+                if (entryAt(index) == record.getAddress()) {
+                    return index;
+                }
+            }
+        }
+
+        @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
+                justification = "The size is only updated under the lock of the segment.")
+        private void insert(Data key, int hash, NearCacheOffHeapRecord record) {
+            if (table == NULL_ADDRESS) {
+                allocateTable(INITIAL_CAPACITY);
+            }
+            insertEntry(newEntry(key, hash, record), hash);
+            size++;
+            if (usedSlots > resizeThreshold) {
+                rehash(size >= resizeThreshold >> 1 ? capacity << 1 : capacity);
+            }
+        }
+
+        private void replace(int index, Data key, int hash, NearCacheOffHeapRecord existing,
+                             NearCacheOffHeapRecord record) {
+            long entry = entryAt(index);
+            mem.putLong(slotAddress(index), newEntry(key, hash, record));
+            freeEntry(entry);
+            existing.detach();
+        }
+
+        @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
+                justification = "The size is only updated under the lock of the segment.")
+        private void removeAt(int index, NearCacheOffHeapRecord existing) {
+            long slot = slotAddress(index);
+            freeEntry(mem.getLong(slot));
+            existing.detach();
+            size--;
+
+            int mask = capacity - 1;
+            if (entryAt((index + 1) & mask) != NULL_ADDRESS) {
+                mem.putLong(slot, TOMBSTONE);
+                return;
+            }
+            // no probe sequence goes through this slot, so it and
+            // the tombstones right before it can be emptied
+            mem.putLong(slot, NULL_ADDRESS);
+            usedSlots--;
+            for (int i = (index - 1) & mask; entryAt(i) == TOMBSTONE; i = (i - 1) & mask) {
+                mem.putLong(slotAddress(i), NULL_ADDRESS);
+                usedSlots--;
+            }
+        }
+
+        private void allocateTable(int newCapacity) {
+            table = malloc.allocate((long) newCapacity * SLOT_SIZE);
+            capacity = newCapacity;
+            usedSlots = 0;
+            resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+        }
+
+        private void rehash(int newCapacity) {
+            long oldTable = table;
+            int oldCapacity = capacity;
+            allocateTable(newCapacity);
+            for (int i = 0; i < oldCapacity; i++) {
+                long oldSlot = oldTable + (long) i * SLOT_SIZE;
+                long entry = mem.getLong(oldSlot);
+                if (isLive(entry)) {
+                    insertEntry(entry, mem.getInt(oldSlot + SLOT_HASH_OFFSET));
+                }
+            }
+            malloc.free(oldTable, (long) oldCapacity * SLOT_SIZE);
+        }
+
+        private void insertEntry(long entry, int hash) {
+            int mask = capacity - 1;
+            for (int index = hash & mask; ; index = (index + 1) & mask) {
+                long slot = slotAddress(index);
+                long current = mem.getLong(slot);
+                if (!isLive(current)) {
+                    if (current == NULL_ADDRESS) {
+                        usedSlots++;
+                    }
+                    mem.putLong(slot, entry);
+                    mem.putInt(slot + SLOT_HASH_OFFSET, hash);
+                    return;
+                }
+            }
+        }
+
+        private long slotAddress(int index) {
+            return table + (long) index * SLOT_SIZE;
+        }
+
+        private long entryAt(int index) {
+            return mem.getLong(slotAddress(index));
+        }
+
+        private int indexOf(Data key, int hash) {
+            if (size == 0) {
+                return -1;
+            }
+            int mask = capacity - 1;
+            for (int index = hash & mask; ; index = (index + 1) & mask) {
+                long slot = slotAddress(index);
+                long entry = mem.getLong(slot);
+                if (entry == NULL_ADDRESS) {
+                    return -1;
+                }
+                if (entry != TOMBSTONE && mem.getInt(slot + SLOT_HASH_OFFSET) == hash && keyEquals(entry, key)) {
+                    return index;
+                }
+            }
+        }
+
+        private boolean keyEquals(long entry, Data key) {
+            int keyLength = mem.getInt(entry + KEY_LENGTH_OFFSET);
+            if (keyLength != key.totalSize()) {
+                return false;
+            }
+            if (keyBuffer.length < keyLength) {
+                keyBuffer = new byte[keyLength];
+            }
+            mem.copyToByteArray(entry + HEADER_SIZE, keyBuffer, 0, keyLength);
+            return Arrays.equals(keyBuffer, 0, keyLength, key.toByteArray(), 0, keyLength);
+        }
+
+        /**
+         * Copies key, value and metadata of the given record into a new
+         * entry block and attaches the record to it.
+         */
+        private long newEntry(Data key, int hash, NearCacheOffHeapRecord record) {
+            Data value = record.getValue();
+            int keyLength = key.totalSize();
+            long entry = malloc.allocate((long) HEADER_SIZE + keyLength);
+            long stamp = ++lastStamp;
+
+            mem.putLong(entry + STAMP_OFFSET, stamp);
+            mem.putLong(entry + RESERVATION_ID_OFFSET, record.getReservationId());
+            mem.putLong(entry + INVALIDATION_SEQUENCE_OFFSET, record.getInvalidationSequence());
+            storeUuid(entry, record.getUuid());
+            mem.putInt(entry + CREATION_TIME_OFFSET, record.getRawCreationTime());
+            mem.putInt(entry + EXPIRATION_TIME_OFFSET, record.getRawExpirationTime());
+            mem.putInt(entry + LAST_ACCESS_TIME_OFFSET, record.getRawLastAccessTime());
+            mem.putInt(entry + HITS_OFFSET, (int) record.getHits());
+            mem.putInt(entry + PARTITION_ID_OFFSET, record.getPartitionId());
+            mem.putInt(entry + KEY_LENGTH_OFFSET, keyLength);
+            mem.putInt(entry + FLAGS_OFFSET, flagsOf(record));
+            mem.copyFromByteArray(key.toByteArray(), 0, entry + HEADER_SIZE, keyLength);
+            storeValue(entry, value);
+
+            record.setKeyLength(keyLength);
+            record.attach(this, entry, stamp, hash);
+            return entry;
+        }
+
+        private NearCacheOffHeapRecord readRecord(long entry, int hash) {
+            NearCacheOffHeapRecord record = new NearCacheOffHeapRecord(this, entry,
+                    mem.getLong(entry + STAMP_OFFSET), hash);
+            int flags = mem.getInt(entry + FLAGS_OFFSET);
+            UUID uuid = (flags & HAS_UUID_FLAG) == 0 ? null
+                    : new UUID(mem.getLong(entry + UUID_MSB_OFFSET), mem.getLong(entry + UUID_LSB_OFFSET));
+            record.load(mem.getInt(entry + KEY_LENGTH_OFFSET),
+                    mem.getInt(entry + VALUE_LENGTH_OFFSET),
+                    mem.getLong(entry + RESERVATION_ID_OFFSET),
+                    mem.getLong(entry + INVALIDATION_SEQUENCE_OFFSET),
+                    uuid,
+                    mem.getInt(entry + CREATION_TIME_OFFSET),
+                    mem.getInt(entry + EXPIRATION_TIME_OFFSET),
+                    mem.getInt(entry + LAST_ACCESS_TIME_OFFSET),
+                    mem.getInt(entry + HITS_OFFSET),
+                    mem.getInt(entry + PARTITION_ID_OFFSET),
+                    (flags & CACHED_AS_NULL_FLAG) != 0);
+            return record;
+        }
+
+        private Data readKey(long entry) {
+            int keyLength = mem.getInt(entry + KEY_LENGTH_OFFSET);
+            byte[] bytes = new byte[keyLength];
+            mem.copyToByteArray(entry + HEADER_SIZE, bytes, 0, keyLength);
+            return new HeapData(bytes);
+        }
+
+        private Data readValue(long entry) {
+            int valueLength = mem.getInt(entry + VALUE_LENGTH_OFFSET);
+            if (valueLength == NULL_VALUE_LENGTH) {
+                return null;
+            }
+            byte[] bytes = new byte[valueLength];
+            if (valueLength > 0) {
+                mem.copyToByteArray(mem.getLong(entry + VALUE_ADDRESS_OFFSET), bytes, 0, valueLength);
+            }
+            return new HeapData(bytes);
+        }
+
+        private void storeValue(long entry, Data value) {
+            if (value == null) {
+                mem.putLong(entry + VALUE_ADDRESS_OFFSET, NULL_ADDRESS);
+                mem.putInt(entry + VALUE_LENGTH_OFFSET, NULL_VALUE_LENGTH);
+                return;
+            }
+            int valueLength = value.totalSize();
+            long valueAddress = NULL_ADDRESS;
+            if (valueLength > 0) {
+                valueAddress = malloc.allocate(valueLength);
+                mem.copyFromByteArray(value.toByteArray(), 0, valueAddress, valueLength);
+            }
+            mem.putLong(entry + VALUE_ADDRESS_OFFSET, valueAddress);
+            mem.putInt(entry + VALUE_LENGTH_OFFSET, valueLength);
+        }
+
+        private void storeUuid(long entry, UUID uuid) {
+            mem.putLong(entry + UUID_MSB_OFFSET, uuid == null ? 0 : uuid.getMostSignificantBits());
+            mem.putLong(entry + UUID_LSB_OFFSET, uuid == null ? 0 : uuid.getLeastSignificantBits());
+        }
+
+        private void freeValue(long entry) {
+            long valueAddress = mem.getLong(entry + VALUE_ADDRESS_OFFSET);
+            if (valueAddress != NULL_ADDRESS) {
+                malloc.free(valueAddress, mem.getInt(entry + VALUE_LENGTH_OFFSET));
+            }
+        }
+
+        private void freeEntry(long entry) {
+            freeValue(entry);
+            mem.putLong(entry + STAMP_OFFSET, 0);
+            malloc.free(entry, (long) HEADER_SIZE + mem.getInt(entry + KEY_LENGTH_OFFSET));
+        }
+
+        private int flagsOf(NearCacheOffHeapRecord record) {
+            return (record.isCachedAsNull() ? CACHED_AS_NULL_FLAG : 0)
+                    | (record.getUuid() != null ? HAS_UUID_FLAG : 0);
+        }
+    }
+
+    /**
+     * Walks the segments one after the other, copying their entries in chunks.
+     */
+    private final class EntryIterator implements Iterator<Entry<Data, NearCacheOffHeapRecord>> {
+
+        private final List<Entry<Data, NearCacheOffHeapRecord>> chunk = new ArrayList<>();
+        private int segmentIndex;
+        private int nextIndex;
+        private int chunkIndex;
+        private Entry<Data, NearCacheOffHeapRecord> lastReturned;
+
+        @Override
+        public boolean hasNext() {
+            while (chunkIndex == chunk.size()) {
+                if (segmentIndex == SEGMENT_COUNT) {
+                    return false;
+                }
+                chunk.clear();
+                chunkIndex = 0;
+                nextIndex = segments[segmentIndex].fetchEntries(nextIndex, chunk);
+                if (nextIndex < 0) {
+                    segmentIndex++;
+                    nextIndex = 0;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<Data, NearCacheOffHeapRecord> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = chunk.get(chunkIndex++);
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            OffHeapNearCacheRecordMap.this.remove(lastReturned.getKey(), lastReturned.getValue());
+            lastReturned = null;
+        }
+    }
+
+    /**
+     * {@link EvictionCandidate} of a sampled entry, its key is a heap copy of the stored key.
+     */
+    public final class OffHeapEvictionCandidate implements EvictionCandidate<Data, NearCacheOffHeapRecord> {
+
+        private final Data key;
+        private final NearCacheOffHeapRecord record;
+
+        OffHeapEvictionCandidate(Data key, NearCacheOffHeapRecord record) {
+            this.key = key;
+            this.record = record;
+        }
+
+        @Override
+        public Data getAccessor() {
+            return key;
+        }
+
+        @Override
+        public NearCacheOffHeapRecord getEvictable() {
+            return record;
+        }
+
+        @Override
+        public Object getKey() {
+            return serializationService.toObject(key);
+        }
+
+        @Override
+        public Object getValue() {
+            return serializationService.toObject(record.getValue());
+        }
+
+        @Override
+        public long getCreationTime() {
+            return record.getCreationTime();
+        }
+
+        @Override
+        public long getLastAccessTime() {
+            return record.getLastAccessTime();
+        }
+
+        @Override
+        public long getHits() {
+            return record.getHits();
+        }
+    }
+}
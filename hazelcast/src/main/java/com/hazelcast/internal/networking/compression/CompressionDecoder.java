@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.InboundHandler;
+
+import java.nio.ByteBuffer;
+
+import static com.hazelcast.internal.networking.ChannelOption.SO_RCVBUF;
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.LZ4_BLOCK;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.LZ4_HEADER_LENGTH;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.MAX_BLOCK_LENGTH;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.RAW_BLOCK;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.RAW_HEADER_LENGTH;
+import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * The {@link InboundHandler} that decompresses the blocks written by a
+ * {@link CompressionEncoder}. It is the first handler of the inbound
+ * pipeline.
+ *
+ * @see CompressionEncoder
+ */
+public final class CompressionDecoder extends InboundHandler<ByteBuffer, ByteBuffer> {
+
+    private static final int MAX_COMPRESSED_LENGTH = Lz4Codec.maxCompressedLength(MAX_BLOCK_LENGTH);
+
+    private final WireCompression compression;
+    private final ByteBuffer block = ByteBuffer.allocate(MAX_BLOCK_LENGTH);
+    private byte[] input;
+
+    CompressionDecoder(WireCompression compression) {
+        this.compression = compression;
+        block.flip();
+    }
+
+    @Override
+    public void handlerAdded() {
+        // a complete block needs to fit
+        initSrcBuffer(max(channel.options().getOption(SO_RCVBUF), LZ4_HEADER_LENGTH + MAX_COMPRESSED_LENGTH));
+    }
+
+    @Override
+    public HandlerStatus onRead() {
+        src.flip();
+        try {
+            for (; ; ) {
+                if (block.hasRemaining()) {
+                    drainBlock();
+                    if (block.hasRemaining()) {
+                        // the dst is full; the next handler needs to process it first
+                        return DIRTY;
+                    }
+                }
+
+                if (!decodeBlock()) {
+                    return CLEAN;
+                }
+            }
+        } finally {
+            compactOrClear(src);
+        }
+    }
+
+    private void drainBlock() {
+        int length = min(block.remaining(), dst.remaining());
+        dst.put(block.array(), block.position(), length);
+        block.position(block.position() + length);
+    }
+
+    /**
+     * Decodes the next block from the src if it has been received completely.
+     *
+     * @return {@code true} if a block was decoded.
+     */
+    private boolean decodeBlock() {
+        if (!src.hasRemaining()) {
+            return false;
+        }
+
+        int position = src.position();
+        byte type = src.get(position);
+        int headerLength = headerLength(type);
+        if (src.remaining() < headerLength) {
+            return false;
+        }
+
+        int wireLength = src.getInt(position + BYTE_SIZE_IN_BYTES);
+        int maxWireLength = type == RAW_BLOCK ? MAX_BLOCK_LENGTH : MAX_COMPRESSED_LENGTH;
+        if (wireLength < 0 || wireLength > maxWireLength) {
+            throw new IllegalStateException("Malformed compressed block of " + wireLength + " bytes");
+        }
+        if (src.remaining() < headerLength + wireLength) {
+            return false;
+        }
+
+        src.position(position + headerLength);
+        block.clear();
+        if (type == RAW_BLOCK) {
+            src.get(block.array(), 0, wireLength);
+            block.limit(wireLength);
+        } else {
+            int rawLength = src.getInt(position + RAW_HEADER_LENGTH);
+            if (rawLength < 0 || rawLength > MAX_BLOCK_LENGTH) {
+                throw new IllegalStateException("Malformed compressed block of " + rawLength + " bytes");
+            }
+            decompress(wireLength, rawLength);
+            block.limit(rawLength);
+        }
+
+        compression.wireBytesRead.inc(headerLength + wireLength);
+        compression.rawBytesRead.inc(block.remaining());
+        return true;
+    }
+
+    private void decompress(int compressedLength, int rawLength) {
+        byte[] bytes;
+        int offset;
+        if (src.hasArray()) {
+            bytes = src.array();
+            offset = src.arrayOffset() + src.position();
+            src.position(src.position() + compressedLength);
+        } else {
+            if (input == null) {
+                input = new byte[MAX_COMPRESSED_LENGTH];
+            }
+            bytes = input;
+            offset = 0;
+            src.get(input, 0, compressedLength);
+        }
+
+        long startNanos = System.nanoTime();
+        Lz4Codec.decompress(bytes, offset, compressedLength, block.array(), 0, rawLength);
+        compression.decompressionNanos.inc(System.nanoTime() - startNanos);
+    }
+
+    private static int headerLength(byte type) {
+        if (type == RAW_BLOCK) {
+            return RAW_HEADER_LENGTH;
+        } else if (type == LZ4_BLOCK) {
+            return LZ4_HEADER_LENGTH;
+        }
+        throw new IllegalStateException("Unknown compressed block type " + type);
+    }
+}
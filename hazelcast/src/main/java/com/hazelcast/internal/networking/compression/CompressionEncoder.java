@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.OutboundHandler;
+
+import java.nio.ByteBuffer;
+
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static java.lang.Math.min;
+
+/**
+ * The {@link OutboundHandler} that compresses the bytes written to a channel
+ * once {@link WireCompression} got negotiated. It is the last handler of
+ * the outbound pipeline.
+ * <p>
+ * The bytes are written as a sequence of blocks of at most
+ * {@link #MAX_BLOCK_LENGTH} uncompressed bytes:
+ * <pre>
+ *     RAW: [byte 0][int length][length bytes]
+ *     LZ4: [byte 1][int compressed length][int length][compressed length bytes]
+ * </pre>
+ * The bytes pending at once are only compressed if there are at least as
+ * many as the threshold of the {@link WireCompression}, and they are sent
+ * uncompressed if compressing them doesn't make them smaller.
+ *
+ * @see CompressionDecoder
+ */
+public final class CompressionEncoder extends OutboundHandler<ByteBuffer, ByteBuffer> {
+
+    static final byte RAW_BLOCK = 0;
+    static final byte LZ4_BLOCK = 1;
+    static final int RAW_HEADER_LENGTH = BYTE_SIZE_IN_BYTES + INT_SIZE_IN_BYTES;
+    static final int LZ4_HEADER_LENGTH = BYTE_SIZE_IN_BYTES + 2 * INT_SIZE_IN_BYTES;
+    static final int MAX_BLOCK_LENGTH = 1 << 16;
+
+    private final WireCompression compression;
+    private final Lz4Codec codec = new Lz4Codec();
+    private final ByteBuffer block
+            = ByteBuffer.allocate(LZ4_HEADER_LENGTH + Lz4Codec.maxCompressedLength(MAX_BLOCK_LENGTH));
+    private byte[] input;
+
+    CompressionEncoder(WireCompression compression) {
+        this.compression = compression;
+        block.flip();
+    }
+
+    @Override
+    public void handlerAdded() {
+        initDstBuffer();
+    }
+
+    @Override
+    public HandlerStatus onWrite() {
+        compactOrClear(dst);
+        try {
+            for (; ; ) {
+                if (block.hasRemaining()) {
+                    drainBlock();
+                    if (block.hasRemaining()) {
+                        // the dst is full
+                        return DIRTY;
+                    }
+                }
+
+                if (!src.hasRemaining()) {
+                    return CLEAN;
+                }
+
+                encodeBlock();
+            }
+        } finally {
+            dst.flip();
+        }
+    }
+
+    private void drainBlock() {
+        if (block.remaining() <= dst.remaining()) {
+            dst.put(block);
+        } else {
+            int limit = block.limit();
+            block.limit(block.position() + dst.remaining());
+            dst.put(block);
+            block.limit(limit);
+        }
+    }
+
+    private void encodeBlock() {
+        int length = min(src.remaining(), MAX_BLOCK_LENGTH);
+        byte[] bytes;
+        int offset;
+        if (src.hasArray()) {
+            bytes = src.array();
+            offset = src.arrayOffset() + src.position();
+            src.position(src.position() + length);
+        } else {
+            if (input == null) {
+                input = new byte[MAX_BLOCK_LENGTH];
+            }
+            bytes = input;
+            offset = 0;
+            src.get(input, 0, length);
+        }
+
+        block.clear();
+        int compressedLength = length >= compression.getThreshold() ? compress(bytes, offset, length) : length;
+        if (compressedLength < length) {
+            block.put(LZ4_BLOCK).putInt(compressedLength).putInt(length);
+            block.position(LZ4_HEADER_LENGTH + compressedLength);
+        } else {
+            block.put(RAW_BLOCK).putInt(length).put(bytes, offset, length);
+        }
+        block.flip();
+
+        compression.rawBytesWritten.inc(length);
+        compression.wireBytesWritten.inc(block.remaining());
+    }
+
+    private int compress(byte[] bytes, int offset, int length) {
+        long startNanos = System.nanoTime();
+        int compressedLength = codec.compress(bytes, offset, length, block.array(), LZ4_HEADER_LENGTH);
+        compression.compressionNanos.inc(System.nanoTime() - startNanos);
+        return compressedLength;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.compression;
+
+import java.util.Arrays;
+
+/**
+ * A compressor and decompressor for the LZ4 block format.
+ * <p>
+ * The compressor uses a single hash table probe per position, like the
+ * fast mode of the reference implementation; it trades compression ratio
+ * for speed. A compressor instance isn't thread-safe, since it reuses its
+ * hash table.
+ */
+final class Lz4Codec {
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int MAX_DISTANCE = (1 << 16) - 1;
+    private static final int HASH_LOG = 12;
+    private static final int HASH_MULTIPLIER = -1640531535;
+    private static final int SKIP_TRIGGER = 6;
+    private static final int RUN_MASK = 15;
+    private static final int ML_BITS = 4;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MAX_RUN_BYTE = 255;
+    private static final int MAX_OVERHEAD = 16;
+
+    private final int[] hashTable = new int[1 << HASH_LOG];
+
+    /**
+     * Returns the maximum length of the compressed form of {@code length} bytes.
+     */
+    static int maxCompressedLength(int length) {
+        return length + length / MAX_RUN_BYTE + MAX_OVERHEAD;
+    }
+
+    /**
+     * Compresses {@code length} bytes of {@code src} into {@code dst}, which
+     * must have room for {@link #maxCompressedLength(int)} bytes.
+     *
+     * @return the compressed length
+     */
+    @SuppressWarnings("checkstyle:innerassignment")
+    int compress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        int srcEnd = srcOffset + length;
+        int anchor = srcOffset;
+        int op = dstOffset;
+
+        if (length >= MATCH_FIND_LIMIT + 1) {
+            Arrays.fill(hashTable, -1);
+            int matchLimit = srcEnd - LAST_LITERALS;
+            int findLimit = srcEnd - MATCH_FIND_LIMIT;
+            int ip = srcOffset;
+            int searchCount = 1 << SKIP_TRIGGER;
+            while (ip < findLimit) {
+                int sequence = readInt(src, ip);
+                int hash = hash(sequence);
+                int ref = hashTable[hash];
+                hashTable[hash] = ip;
+                if (ref < 0 || ip - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+                    // accelerate over incompressible data
+                    ip += searchCount++ >>> SKIP_TRIGGER;
+                    continue;
+                }
+                searchCount = 1 << SKIP_TRIGGER;
+
+                while (ip > anchor && ref > srcOffset && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+                int matchLength = MIN_MATCH;
+                while (ip + matchLength < matchLimit && src[ip + matchLength] == src[ref + matchLength]) {
+                    matchLength++;
+                }
+
+                int tokenOffset = op;
+                op = writeLiterals(src, anchor, ip - anchor, dst, op);
+                dst[op++] = (byte) (ip - ref);
+                dst[op++] = (byte) ((ip - ref) >>> Byte.SIZE);
+                op = writeMatchLength(dst, tokenOffset, op, matchLength - MIN_MATCH);
+
+                ip += matchLength;
+                anchor = ip;
+            }
+        }
+
+        op = writeLiterals(src, anchor, srcEnd - anchor, dst, op);
+        return op - dstOffset;
+    }
+
+    /**
+     * Decompresses {@code length} bytes of {@code src} into exactly
+     * {@code rawLength} bytes of {@code dst}.
+     *
+     * @throws IllegalStateException if the compressed data is malformed
+     */
+    @SuppressWarnings({"checkstyle:innerassignment", "checkstyle:npathcomplexity", "checkstyle:cyclomaticcomplexity"})
+    static void decompress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, int rawLength) {
+        int ip = srcOffset;
+        int srcEnd = srcOffset + length;
+        int op = dstOffset;
+        int dstEnd = dstOffset + rawLength;
+
+        while (ip < srcEnd) {
+            int token = src[ip++] & BYTE_MASK;
+
+            int literalLength = token >>> ML_BITS;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    checkBounds(ip < srcEnd);
+                    b = src[ip++] & BYTE_MASK;
+                    literalLength += b;
+                } while (b == MAX_RUN_BYTE);
+            }
+            checkBounds(literalLength <= srcEnd - ip && literalLength <= dstEnd - op);
+            System.arraycopy(src, ip, dst, op, literalLength);
+            ip += literalLength;
+            op += literalLength;
+            if (ip == srcEnd) {
+                // the last sequence only has literals
+                break;
+            }
+
+            checkBounds(ip + 1 < srcEnd);
+            int offset = (src[ip] & BYTE_MASK) | (src[ip + 1] & BYTE_MASK) << Byte.SIZE;
+            ip += 2;
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int b;
+                do {
+                    checkBounds(ip < srcEnd);
+                    b = src[ip++] & BYTE_MASK;
+                    matchLength += b;
+                } while (b == MAX_RUN_BYTE);
+            }
+            matchLength += MIN_MATCH;
+
+            int ref = op - offset;
+            checkBounds(offset > 0 && ref >= dstOffset && matchLength <= dstEnd - op);
+            if (offset >= matchLength) {
+                System.arraycopy(dst, ref, dst, op, matchLength);
+                op += matchLength;
+            } else {
+                // overlapping copy repeats the last offset bytes
+                for (int i = 0; i < matchLength; i++) {
+                    dst[op++] = dst[ref++];
+                }
+            }
+        }
+        checkBounds(op == dstEnd);
+    }
+
+    @SuppressWarnings("checkstyle:innerassignment")
+    /**
+     * Writes the token with the literal length, followed by the literals.
+     */
+    private static int writeLiterals(byte[] src, int literalOffset, int literalLength, byte[] dst, int op) {
+        int tokenOffset = op++;
+        if (literalLength >= RUN_MASK) {
+            dst[tokenOffset] = (byte) (RUN_MASK << ML_BITS);
+            op = writeRunLength(dst, op, literalLength - RUN_MASK);
+        } else {
+            dst[tokenOffset] = (byte) (literalLength << ML_BITS);
+        }
+        System.arraycopy(src, literalOffset, dst, op, literalLength);
+        return op + literalLength;
+    }
+
+    /**
+     * Adds the match length to the token of the sequence and writes the
+     * remainder of a long match length after the offset.
+     */
+    private static int writeMatchLength(byte[] dst, int tokenOffset, int op, int matchLength) {
+        if (matchLength >= RUN_MASK) {
+            dst[tokenOffset] |= (byte) RUN_MASK;
+            return writeRunLength(dst, op, matchLength - RUN_MASK);
+        }
+        dst[tokenOffset] |= (byte) matchLength;
+        return op;
+    }
+
+    @SuppressWarnings("checkstyle:innerassignment")
+    private static int writeRunLength(byte[] dst, int op, int length) {
+        while (length >= MAX_RUN_BYTE) {
+            dst[op++] = (byte) MAX_RUN_BYTE;
+            length -= MAX_RUN_BYTE;
+        }
+        dst[op++] = (byte) length;
+        return op;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * HASH_MULTIPLIER) >>> (Integer.SIZE - HASH_LOG);
+    }
+
+    @SuppressWarnings({"checkstyle:magicnumber", "checkstyle:booleanexpressioncomplexity"})
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & BYTE_MASK)
+                | (bytes[offset + 1] & BYTE_MASK) << 8
+                | (bytes[offset + 2] & BYTE_MASK) << 16
+                | (bytes[offset + 3] & BYTE_MASK) << 24;
+    }
+
+    private static void checkBounds(boolean condition) {
+        if (!condition) {
+            throw new IllegalStateException("Malformed LZ4 block");
+        }
+    }
+}
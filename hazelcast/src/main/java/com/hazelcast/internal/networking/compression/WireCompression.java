@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_RATIO;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_RAW_BYTES_READ;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_RAW_BYTES_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_WIRE_BYTES_READ;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_WIRE_BYTES_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_DECOMPRESSION_TIME;
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY_COMPRESSED;
+import static com.hazelcast.internal.nio.Protocols.CLUSTER;
+import static com.hazelcast.internal.nio.Protocols.CLUSTER_COMPRESSED;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * The wire compression state of a {@link Channel}, stored in its
+ * {@link Channel#attributeMap()}.
+ * <p>
+ * The channel initializer of a side that has wire compression enabled
+ * {@link #enable(Channel, int) enables} it on the channel. Compression is
+ * negotiated during the protocol handshake: the connecting side announces
+ * the compressed variant of its protocol, e.g. {@link
+ * com.hazelcast.internal.nio.Protocols#CLUSTER_COMPRESSED}, and the
+ * accepting side confirms it by replying with the compressed variant as
+ * well, or declines it by replying with the plain protocol. Once
+ * negotiated, the protocol handlers install a {@link CompressionEncoder}
+ * as the last outbound handler and a {@link CompressionDecoder} as the
+ * first inbound handler, so everything after the protocol bytes is
+ * compressed in both directions.
+ * <p>
+ * It also keeps the compression statistics of the channel. Each counter is
+ * only updated by the IO thread of one direction.
+ */
+public final class WireCompression {
+
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_RAW_BYTES_WRITTEN, unit = BYTES, level = INFO)
+    final SwCounter rawBytesWritten = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_WIRE_BYTES_WRITTEN, unit = BYTES, level = INFO)
+    final SwCounter wireBytesWritten = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_TIME, unit = NS, level = INFO)
+    final SwCounter compressionNanos = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_RAW_BYTES_READ, unit = BYTES, level = INFO)
+    final SwCounter rawBytesRead = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_WIRE_BYTES_READ, unit = BYTES, level = INFO)
+    final SwCounter wireBytesRead = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_DECOMPRESSION_TIME, unit = NS, level = INFO)
+    final SwCounter decompressionNanos = newSwCounter();
+
+    private final int threshold;
+    private volatile boolean negotiated;
+
+    WireCompression(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Enables wire compression on the given channel; it is used if the other
+     * side agrees during the protocol handshake.
+     *
+     * @param threshold the minimum number of bytes pending at once to
+     *                  compress them; smaller chunks are sent uncompressed.
+     */
+    public static void enable(Channel channel, int threshold) {
+        channel.attributeMap().put(WireCompression.class, new WireCompression(threshold));
+    }
+
+    /**
+     * Returns the wire compression state of the channel, or {@code null} if
+     * wire compression isn't enabled on it.
+     */
+    public static WireCompression of(Channel channel) {
+        return (WireCompression) channel.attributeMap().get(WireCompression.class);
+    }
+
+    /**
+     * Returns the protocol this side sends during the handshake for the given
+     * plain protocol: the connecting side requests compression if it is
+     * enabled, the accepting side confirms it if it was negotiated.
+     */
+    public static String announcedProtocol(Channel channel, String protocol) {
+        WireCompression compression = of(channel);
+        if (compression == null || !(channel.isClientMode() || compression.negotiated)) {
+            return protocol;
+        }
+        return compressedProtocol(protocol);
+    }
+
+    /**
+     * Processes a protocol received during the handshake. Compression is
+     * negotiated if the received protocol is a compressed variant and
+     * compression is enabled on this side.
+     *
+     * @return the plain protocol.
+     */
+    public static String negotiate(Channel channel, String receivedProtocol) {
+        String plainProtocol = plainProtocol(receivedProtocol);
+        WireCompression compression = of(channel);
+        if (compression != null && !plainProtocol.equals(receivedProtocol)) {
+            compression.negotiated = true;
+        }
+        return plainProtocol;
+    }
+
+    /**
+     * Checks if the given protocol is the compressed variant of a protocol.
+     */
+    public static boolean isCompressedProtocol(String protocol) {
+        return CLUSTER_COMPRESSED.equals(protocol) || CLIENT_BINARY_COMPRESSED.equals(protocol);
+    }
+
+    /**
+     * Returns the given final outbound handlers of a channel, followed by a
+     * {@link CompressionEncoder} if compression was negotiated.
+     */
+    public static OutboundHandler[] withEncoder(Channel channel, OutboundHandler... handlers) {
+        WireCompression compression = of(channel);
+        if (compression == null || !compression.negotiated) {
+            return handlers;
+        }
+        OutboundHandler[] result = new OutboundHandler[handlers.length + 1];
+        System.arraycopy(handlers, 0, result, 0, handlers.length);
+        result[handlers.length] = new CompressionEncoder(compression);
+        return result;
+    }
+
+    /**
+     * Returns the given final inbound handlers of a channel, preceded by a
+     * {@link CompressionDecoder} if compression was negotiated.
+     */
+    public static InboundHandler[] withDecoder(Channel channel, InboundHandler... handlers) {
+        WireCompression compression = of(channel);
+        if (compression == null || !compression.negotiated) {
+            return handlers;
+        }
+        InboundHandler[] result = new InboundHandler[handlers.length + 1];
+        result[0] = new CompressionDecoder(compression);
+        System.arraycopy(handlers, 0, result, 1, handlers.length);
+        return result;
+    }
+
+    public boolean isNegotiated() {
+        return negotiated;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public long getRawBytesWritten() {
+        return rawBytesWritten.get();
+    }
+
+    public long getWireBytesWritten() {
+        return wireBytesWritten.get();
+    }
+
+    public long getRawBytesRead() {
+        return rawBytesRead.get();
+    }
+
+    public long getWireBytesRead() {
+        return wireBytesRead.get();
+    }
+
+    public long getCompressionNanos() {
+        return compressionNanos.get();
+    }
+
+    public long getDecompressionNanos() {
+        return decompressionNanos.get();
+    }
+
+    /**
+     * Returns the ratio of the written bytes before and after compression,
+     * or 1 if nothing was written yet.
+     */
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_RATIO, level = INFO)
+    public double getCompressionRatio() {
+        long wireBytes = wireBytesWritten.get();
+        return wireBytes == 0 ? 1 : (double) rawBytesWritten.get() / wireBytes;
+    }
+
+    private static String compressedProtocol(String protocol) {
+        if (CLUSTER.equals(protocol)) {
+            return CLUSTER_COMPRESSED;
+        } else if (CLIENT_BINARY.equals(protocol)) {
+            return CLIENT_BINARY_COMPRESSED;
+        }
+        return protocol;
+    }
+
+    private static String plainProtocol(String protocol) {
+        if (CLUSTER_COMPRESSED.equals(protocol)) {
+            return CLUSTER;
+        } else if (CLIENT_BINARY_COMPRESSED.equals(protocol)) {
+            return CLIENT_BINARY;
+        }
+        return protocol;
+    }
+
+    @Override
+    public String toString() {
+        return "WireCompression{"
+                + "negotiated=" + negotiated
+                + ", compressionRatio=" + getCompressionRatio()
+                + ", compressionNanos=" + compressionNanos.get()
+                + ", decompressionNanos=" + decompressionNanos.get()
+                + '}';
+    }
+}
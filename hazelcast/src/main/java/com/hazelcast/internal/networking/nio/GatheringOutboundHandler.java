@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.internal.networking.OutboundHandler;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implemented by an {@link OutboundHandler} that can hand a payload to the
+ * socket without copying it into its destination buffer first.
+ * <p>
+ * If it is the last handler of the {@link NioOutboundPipeline}, the pipeline
+ * writes the destination buffer followed by the {@link #payload()} using a
+ * single {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}.
+ * <p>
+ * While a payload is pending, the handler must not put new bytes in its
+ * destination buffer, since they would overtake the payload, and it should
+ * return {@link com.hazelcast.internal.networking.HandlerStatus#DIRTY} from
+ * {@link OutboundHandler#onWrite()}.
+ * <p>
+ * If another handler follows it, the pipeline disables gathering writes
+ * with {@link #setGatheringWritesEnabled(boolean)} and the handler must
+ * copy the payload into its destination buffer, as the following handler
+ * only sees that buffer.
+ */
+public interface GatheringOutboundHandler {
+
+    /**
+     * Returns the payload to write directly after the destination buffer.
+     * <p>
+     * The returned buffer is in reading mode and its limit may be smaller
+     * than the end of the payload to bound the size of a single write;
+     * the method is called again before the next write.
+     *
+     * @return the pending payload or {@code null} if there is none.
+     */
+    ByteBuffer payload();
+
+    /**
+     * Called by the pipeline whenever its handlers change, with {@code true}
+     * if this handler is the last one, so that its {@link #payload()} is
+     * written to the socket, and with {@code false} otherwise.
+     * <p>
+     * A handler starts with gathering writes disabled.
+     *
+     * @param enabled whether a payload may be set aside for a gathering write
+     */
+    void setGatheringWritesEnabled(boolean enabled);
+}
@@ -29,6 +29,7 @@ import com.hazelcast.internal.networking.ChannelInitializer;
 import com.hazelcast.internal.networking.InboundHandler;
 import com.hazelcast.internal.networking.Networking;
 import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.networking.nio.iobalancer.IOBalancer;
 import com.hazelcast.internal.util.ConcurrencyDetection;
 import com.hazelcast.internal.util.ThreadAffinity;
@@ -55,6 +56,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_DISCR
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_DISCRIMINATOR_THREAD;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_BALANCER;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_CONNECTION_COMPRESSION;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_CONNECTION_IN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_CONNECTION_OUT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_INPUTTHREAD;
@@ -121,6 +123,8 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     private volatile ExecutorService closeListenerExecutor;
     private final ConcurrencyDetection concurrencyDetection;
     private final boolean writeThroughEnabled;
+    private final long writeCoalescingLatencyNanos;
+    private final int writeCoalescingBytes;
     private final ThreadAffinity inputThreadAffinity;
     private volatile IOBalancer ioBalancer;
     private volatile NioThread[] inputThreads;
@@ -159,6 +163,8 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         // disabled with SELECT_WITH_FIX.
         this.writeThroughEnabled = ctx.writeThroughEnabled && selectorMode != SELECT_WITH_FIX;
         this.selectionKeyWakeupEnabled = ctx.selectionKeyWakeupEnabled && selectorMode != SELECT_WITH_FIX;
+        this.writeCoalescingLatencyNanos = ctx.writeCoalescingLatencyNanos;
+        this.writeCoalescingBytes = ctx.writeCoalescingBytes;
         if (selectorMode == SELECT_WITH_FIX
                 && (ctx.writeThroughEnabled || ctx.selectionKeyWakeupEnabled)) {
             logger.warning("Selector mode SELECT_WITH_FIX is incompatible with write-through and selection key wakeup "
@@ -334,7 +340,9 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
                 ioBalancer,
                 concurrencyDetection,
                 writeThroughEnabled,
-                selectionKeyWakeupEnabled);
+                selectionKeyWakeupEnabled,
+                writeCoalescingLatencyNanos,
+                writeCoalescingBytes);
     }
 
     private NioInboundPipeline newInboundPipeline(NioChannel channel) {
@@ -369,6 +377,18 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
                     .withPrefix(TCP_PREFIX_CONNECTION_OUT)
                     .withDiscriminator(TCP_DISCRIMINATOR_PIPELINEID, pipelineId);
             context.collect(descriptorOut, channel.outboundPipeline());
+            if (writeCoalescingLatencyNanos > 0) {
+                channel.outboundPipeline().writeBatchSizes().provideMetrics(descriptorOut, context);
+            }
+
+            WireCompression compression = WireCompression.of(channel);
+            if (compression != null && compression.isNegotiated()) {
+                MetricDescriptor descriptorCompression = descriptor
+                        .copy()
+                        .withPrefix(TCP_PREFIX_CONNECTION_COMPRESSION)
+                        .withDiscriminator(TCP_DISCRIMINATOR_PIPELINEID, pipelineId);
+                context.collect(descriptorCompression, compression);
+            }
         }
 
         NioThread[] inputThreads = this.inputThreads;
@@ -504,6 +524,10 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         // this is an optimization that can speed up low threaded setups
         private boolean writeThroughEnabled;
 
+        // how long and up to how many bytes small writes may be held back to coalesce them; 0 disables it
+        private long writeCoalescingLatencyNanos;
+        private int writeCoalescingBytes;
+
         public Context() {
             String selectorModeString = SelectorMode.getConfiguredString();
             if (selectorModeString.startsWith(SELECT_NOW_STRING + ",")) {
@@ -521,6 +545,12 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
             return this;
         }
 
+        public Context writeCoalescing(long latencyNanos, int bytes) {
+            this.writeCoalescingLatencyNanos = latencyNanos;
+            this.writeCoalescingBytes = bytes;
+            return this;
+        }
+
         public Context concurrencyDetection(ConcurrencyDetection concurrencyDetection) {
             this.concurrencyDetection = concurrencyDetection;
             return this;
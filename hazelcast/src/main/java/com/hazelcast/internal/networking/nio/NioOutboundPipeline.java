@@ -33,24 +33,30 @@ import java.nio.ByteBuffer;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FLUSH_LATENCY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_WRITE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_GATHERING_WRITES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_NORMAL_FRAMES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_WRITE_QUEUE_PENDING_BYTES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_WRITE_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SOCKET_WRITES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_QUEUE_PENDING_BYTES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
 import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
@@ -60,6 +66,7 @@ import static com.hazelcast.internal.util.collection.ArrayUtils.replaceFirst;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.Math.max;
 import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
 import static java.lang.Thread.currentThread;
 import static java.nio.channels.SelectionKey.OP_WRITE;
 
@@ -116,6 +123,8 @@ public final class NioOutboundPipeline
 
     private OutboundHandler[] handlers = new OutboundHandler[0];
     private ByteBuffer sendBuffer;
+    private GatheringOutboundHandler gatheringHandler;
+    private final ByteBuffer[] gatheringBuffers = new ByteBuffer[2];
 
     private final AtomicReference<State> scheduled = new AtomicReference<>(State.SCHEDULED);
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN, unit = BYTES, level = DEBUG)
@@ -124,6 +133,14 @@ public final class NioOutboundPipeline
     private final SwCounter normalFramesWritten = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN, level = DEBUG)
     private final SwCounter priorityFramesWritten = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_GATHERING_WRITES, level = DEBUG)
+    private final SwCounter gatheringWrites = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SOCKET_WRITES, level = DEBUG)
+    private final SwCounter socketWrites = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FLUSH_LATENCY, unit = NS, level = DEBUG)
+    private final SwCounter flushLatencyNanos = newSwCounter();
+    // only recorded when coalescing is enabled
+    private final WriteBatchHistogram writeBatchSizes = new WriteBatchHistogram();
 
     private volatile long lastWriteTime;
 
@@ -134,7 +151,14 @@ public final class NioOutboundPipeline
     private final ConcurrencyDetection concurrencyDetection;
     private final boolean writeThroughEnabled;
     private final boolean selectionKeyWakeupEnabled;
-
+    private final long coalescingLatencyNanos;
+    private final int coalescingBytes;
+    private long lastFlushNanos;
+    private long flushDeferredSinceNanos;
+    private long framesWrittenAtDeferral;
+    private long framesWrittenAtLastWrite;
+
+    @SuppressWarnings("checkstyle:parameternumber")
     NioOutboundPipeline(NioChannel channel,
                         NioThread owner,
                         ChannelErrorHandler errorHandler,
@@ -142,11 +166,15 @@ public final class NioOutboundPipeline
                         IOBalancer balancer,
                         ConcurrencyDetection concurrencyDetection,
                         boolean writeThroughEnabled,
-                        boolean selectionKeyWakeupEnabled) {
+                        boolean selectionKeyWakeupEnabled,
+                        long coalescingLatencyNanos,
+                        int coalescingBytes) {
         super(channel, owner, errorHandler, OP_WRITE, logger, balancer);
         this.concurrencyDetection = concurrencyDetection;
         this.writeThroughEnabled = writeThroughEnabled;
         this.selectionKeyWakeupEnabled = selectionKeyWakeupEnabled;
+        this.coalescingLatencyNanos = coalescingLatencyNanos;
+        this.coalescingBytes = coalescingBytes;
     }
 
     @Override
@@ -199,14 +227,46 @@ public final class NioOutboundPipeline
         return scheduled.get().ordinal();
     }
 
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_WRITE, level = DEBUG)
+    double framesPerWrite() {
+        long writes = socketWrites.get();
+        return writes == 0 ? 0 : (double) framesWritten() / writes;
+    }
+
+    WriteBatchHistogram writeBatchSizes() {
+        return writeBatchSizes;
+    }
+
+    private long framesWritten() {
+        return normalFramesWritten.get() + priorityFramesWritten.get();
+    }
+
     public void write(OutboundFrame frame) {
+        offer(frame);
+        schedule();
+    }
+
+    /**
+     * Queues all frames before scheduling the pipeline once, so the frames
+     * are picked up together.
+     */
+    public void writeAll(Collection<? extends OutboundFrame> frames) {
+        for (OutboundFrame frame : frames) {
+            offer(frame);
+        }
+        schedule();
+    }
+
+    private void offer(OutboundFrame frame) {
         if (frame.isUrgent()) {
             priorityWriteQueue.offer(frame);
         } else {
             writeQueue.offer(frame);
         }
+    }
 
-        // take care of the scheduling.
+    // takes care of the scheduling.
+    private void schedule() {
         for (; ; ) {
             State state = scheduled.get();
             if (state == State.UNSCHEDULED) {
@@ -322,6 +382,10 @@ public final class NioOutboundPipeline
             }
         }
 
+        if (pipelineStatus == CLEAN && deferFlush()) {
+            return;
+        }
+
         flushToSocket();
 
         if (migrationRequested()) {
@@ -435,10 +499,78 @@ public final class NioOutboundPipeline
         }
     }
 
+    /**
+     * Holds back the flush of the send buffer to coalesce it with frames that
+     * are about to be written, by handing the pipeline back to its owner.
+     * <p>
+     * A flush is only deferred if frames were flushed within the latency
+     * budget before, so an idle channel doesn't add any latency. It stays
+     * deferred while new frames keep arriving, the send buffer holds less
+     * than the byte budget and the latency budget isn't exhausted.
+     *
+     * @return {@code true} if the flush got deferred.
+     */
+    private boolean deferFlush() {
+        if (migrationRequested() || !shouldDeferFlush()) {
+            return false;
+        }
+
+        // the pipeline remains scheduled and gets processed again by the owner
+        if (currentThread() == owner) {
+            owner.addTask(this);
+        } else {
+            ownerAddTaskAndWakeup(this);
+        }
+        return true;
+    }
+
+    private boolean shouldDeferFlush() {
+        int pending = sendBuffer.remaining();
+        if (coalescingLatencyNanos == 0 || pending == 0 || pending >= coalescingBytes
+                || gatheringHandler != null && gatheringHandler.payload() != null) {
+            return false;
+        }
+
+        long now = nanoTime();
+        long framesWritten = framesWritten();
+        if (flushDeferredSinceNanos == 0) {
+            if (now - lastFlushNanos > coalescingLatencyNanos) {
+                return false;
+            }
+            flushDeferredSinceNanos = now;
+        } else if (framesWritten == framesWrittenAtDeferral || now - flushDeferredSinceNanos >= coalescingLatencyNanos) {
+            return false;
+        }
+        framesWrittenAtDeferral = framesWritten;
+        return true;
+    }
+
     private void flushToSocket() throws IOException {
         lastWriteTime = currentTimeMillis();
-        int written = socketChannel.write(sendBuffer);
+        if (coalescingLatencyNanos > 0) {
+            lastFlushNanos = nanoTime();
+            if (flushDeferredSinceNanos != 0) {
+                flushLatencyNanos.inc(lastFlushNanos - flushDeferredSinceNanos);
+                flushDeferredSinceNanos = 0;
+            }
+            long framesWritten = framesWritten();
+            writeBatchSizes.record(framesWritten - framesWrittenAtLastWrite);
+            framesWrittenAtLastWrite = framesWritten;
+        }
+        ByteBuffer payload = gatheringHandler == null ? null : gatheringHandler.payload();
+        long written;
+        if (payload == null) {
+            written = socketChannel.write(sendBuffer);
+        } else {
+            // the send buffer contains everything that precedes the payload, e.g. the packet header
+            gatheringBuffers[0] = sendBuffer;
+            gatheringBuffers[1] = payload;
+            written = socketChannel.write(gatheringBuffers);
+            gatheringBuffers[1] = null;
+            gatheringWrites.inc();
+        }
         bytesWritten.inc(written);
+        socketWrites.inc();
         //System.out.println(channel + " bytes written:" + written);
     }
 
@@ -451,6 +583,10 @@ public final class NioOutboundPipeline
         return bytesWritten.get();
     }
 
+    long gatheringWrites() {
+        return gatheringWrites.get();
+    }
+
     @Override
     protected void publishMetrics() {
         if (currentThread() != owner) {
@@ -513,10 +649,16 @@ public final class NioOutboundPipeline
 
     private void updatePipeline(OutboundHandler[] newHandlers) {
         this.handlers = newHandlers;
-        this.sendBuffer = newHandlers.length == 0 ? null : (ByteBuffer) newHandlers[newHandlers.length - 1].dst();
+        OutboundHandler lastHandler = newHandlers.length == 0 ? null : newHandlers[newHandlers.length - 1];
+        this.sendBuffer = lastHandler == null ? null : (ByteBuffer) lastHandler.dst();
+        this.gatheringHandler = lastHandler instanceof GatheringOutboundHandler handler ? handler : null;
 
         OutboundHandler prev = null;
         for (OutboundHandler handler : handlers) {
+            if (handler instanceof GatheringOutboundHandler gathering) {
+                // the payload of a handler that isn't last would bypass the handlers following it
+                gathering.setGatheringWritesEnabled(handler == lastHandler);
+            }
             if (prev == null) {
                 handler.src(this);
             } else {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_BATCH_SIZE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_TAG_FRAMES;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * A histogram of the number of frames an {@link NioOutboundPipeline} writes
+ * with a single socket write.
+ * <p>
+ * Each bucket counts the socket writes with a number of frames in a power of
+ * 2 range: 1, 2..3, 4..7 and so on. The last bucket counts all larger writes.
+ * <p>
+ * Only the owning pipeline records values, so this class is not thread-safe
+ * for writing; the buckets can be read by any thread.
+ */
+final class WriteBatchHistogram {
+
+    static final int BUCKET_COUNT = 8;
+
+    private static final String[] BUCKET_KEYS;
+
+    static {
+        BUCKET_KEYS = new String[BUCKET_COUNT];
+        for (int k = 0; k < BUCKET_COUNT - 1; k++) {
+            int min = 1 << k;
+            int max = (1 << (k + 1)) - 1;
+            BUCKET_KEYS[k] = min == max ? String.valueOf(min) : min + ".." + max;
+        }
+        BUCKET_KEYS[BUCKET_COUNT - 1] = (1 << (BUCKET_COUNT - 1)) + "+";
+    }
+
+    private final SwCounter[] buckets = new SwCounter[BUCKET_COUNT];
+
+    WriteBatchHistogram() {
+        for (int k = 0; k < BUCKET_COUNT; k++) {
+            buckets[k] = newSwCounter();
+        }
+    }
+
+    /**
+     * Records a socket write. Writes without any new frames, e.g. the write
+     * of the remainder of a partially written send buffer, are ignored.
+     *
+     * @param frames the number of frames written since the previous write.
+     */
+    void record(long frames) {
+        if (frames > 0) {
+            buckets[bucketIndex(frames)].inc();
+        }
+    }
+
+    long bucket(int bucket) {
+        return buckets[bucket].get();
+    }
+
+    static int bucketIndex(long frames) {
+        return Math.min(BUCKET_COUNT - 1, Long.SIZE - 1 - Long.numberOfLeadingZeros(frames));
+    }
+
+    void provideMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (int k = 0; k < BUCKET_COUNT; k++) {
+            MetricDescriptor bucketDescriptor = descriptor
+                    .copy()
+                    .withTag(TCP_TAG_FRAMES, BUCKET_KEYS[k]);
+            context.collect(bucketDescriptor, NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_BATCH_SIZE, DEBUG, COUNT,
+                    buckets[k].get());
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.hazelcast.internal.networking.OutboundFrame;
 import javax.annotation.Nullable;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.Collection;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 
@@ -146,6 +147,23 @@ public interface Connection {
      */
     boolean write(OutboundFrame frame);
 
+    /**
+     * Writes the frames in the given order, like calling {@link #write(OutboundFrame)}
+     * for each of them. Implementations can queue the frames in one go, so they are
+     * picked up by the same socket write.
+     *
+     * @param frames the frames to write.
+     * @return false if the frames were not accepted to be written, e.g. because the Connection was not alive.
+     */
+    default boolean writeAll(Collection<? extends OutboundFrame> frames) {
+        for (OutboundFrame frame : frames) {
+            if (!write(frame)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Writes an outbound frame, so it can be received by the other side of the connection. Frame delivery is ordered
      * with respect to other calls to this method on the same connection instance. No guarantees are made that the frame
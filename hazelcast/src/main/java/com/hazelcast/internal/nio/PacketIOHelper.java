@@ -54,15 +54,11 @@ public class PacketIOHelper {
      */
     public boolean writeTo(Packet packet, ByteBuffer dst) {
         if (!headerComplete) {
-            if (dst.remaining() < HEADER_SIZE) {
+            if (!writeHeaderTo(packet, dst)) {
                 return false;
             }
 
-            dst.put(VERSION);
-            dst.putChar(packet.getFlags());
-            dst.putInt(packet.getPartitionId());
             size = packet.totalSize();
-            dst.putInt(size);
             headerComplete = true;
         }
 
@@ -74,6 +70,26 @@ public class PacketIOHelper {
         }
     }
 
+    /**
+     * Writes only the packet header to the supplied {@code ByteBuffer}. The caller is responsible for writing
+     * the {@link Packet#totalSize()} payload bytes directly after it. This method doesn't change the state of
+     * this helper.
+     *
+     * @param dst the destination byte buffer
+     * @return {@code true} if the header got written; {@code false} if there wasn't enough space.
+     */
+    public boolean writeHeaderTo(Packet packet, ByteBuffer dst) {
+        if (dst.remaining() < HEADER_SIZE) {
+            return false;
+        }
+
+        dst.put(VERSION);
+        dst.putChar(packet.getFlags());
+        dst.putInt(packet.getPartitionId());
+        dst.putInt(packet.totalSize());
+        return true;
+    }
+
     private boolean writeValue(Packet packet, ByteBuffer dst) {
         if (size > 0) {
             // the number of bytes that can be written to the bb.
@@ -36,6 +36,16 @@ public final class Protocols {
      */
     public static final String CLIENT_BINARY = "CP2";
 
+    /**
+     * Protocol that is used among nodes, requesting or confirming wire compression
+     */
+    public static final String CLUSTER_COMPRESSED = "HZZ";
+
+    /**
+     * Client protocol requesting or confirming wire compression
+     */
+    public static final String CLIENT_BINARY_COMPRESSED = "CPZ";
+
     /**
      * Protocol that is used by REST
      */
@@ -55,11 +65,11 @@ public final class Protocols {
     }
 
     public static String toUserFriendlyString(String protocol) {
-        if (CLUSTER.equals(protocol)) {
+        if (CLUSTER.equals(protocol) || CLUSTER_COMPRESSED.equals(protocol)) {
             return "Cluster Protocol";
         }
 
-        if (CLIENT_BINARY.equals(protocol)) {
+        if (CLIENT_BINARY.equals(protocol) || CLIENT_BINARY_COMPRESSED.equals(protocol)) {
             return "Client Open Binary Protocol";
         }
 
@@ -20,6 +20,7 @@ import com.hazelcast.config.SerializationConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.internal.serialization.impl.ClusterVersionAware;
+import com.hazelcast.internal.serialization.impl.bufferpool.BufferPoolFactory;
 import com.hazelcast.internal.serialization.impl.compact.SchemaService;
 import com.hazelcast.partition.PartitioningStrategy;
 import com.hazelcast.nio.serialization.ClassDefinition;
@@ -67,6 +68,12 @@ public interface SerializationServiceBuilder {
 
     SerializationServiceBuilder setInitialOutputBufferSize(int initialOutputBufferSize);
 
+    /**
+     * Sets the factory of the per-thread buffer pools. The factory must not be
+     * shared between serialization services.
+     */
+    SerializationServiceBuilder setBufferPoolFactory(BufferPoolFactory bufferPoolFactory);
+
     SerializationServiceBuilder setSchemaService(SchemaService schemaService);
 
     SerializationServiceBuilder isCompatibility(boolean isCompatibility);
@@ -19,6 +19,8 @@ package com.hazelcast.internal.serialization.impl;
 import com.hazelcast.config.CompactSerializationConfig;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.internal.compatibility.serialization.impl.CompatibilitySerializationConstants;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
@@ -70,7 +72,7 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static java.nio.ByteOrder.BIG_ENDIAN;
 
 @SuppressWarnings({"MethodCount", "unchecked", "rawtypes"})
-public abstract class AbstractSerializationService implements InternalSerializationService {
+public abstract class AbstractSerializationService implements InternalSerializationService, StaticMetricsProvider {
 
     protected final ManagedContext managedContext;
     protected final InputOutputFactory inputOutputFactory;
@@ -93,6 +95,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
             new ConcurrentReferenceHashMap<>(ReferenceType.WEAK, ReferenceType.STRONG);
     private final ConcurrentMap<Integer, SerializerAdapter> idMap = new ConcurrentHashMap<>();
     private final AtomicReference<SerializerAdapter> global = new AtomicReference<>();
+    private final BufferPoolFactory bufferPoolFactory;
 
     //Global serializer may override Java Serialization or not
     private boolean overrideJavaSerialization;
@@ -113,7 +116,8 @@ public abstract class AbstractSerializationService implements InternalSerializat
         this.globalPartitioningStrategy = builder.globalPartitionStrategy;
         this.outputBufferSize = builder.initialOutputBufferSize;
         this.notActiveExceptionSupplier = builder.notActiveExceptionSupplier;
-        this.bufferPoolThreadLocal = new BufferPoolThreadLocal(this, builder.bufferPoolFactory,
+        this.bufferPoolFactory = builder.bufferPoolFactory;
+        this.bufferPoolThreadLocal = new BufferPoolThreadLocal(this, bufferPoolFactory,
                 builder.notActiveExceptionSupplier);
         this.nullSerializerAdapter = createSerializerAdapter(new ConstantSerializers.NullSerializer());
         this.constantTypesMap = new IdentityHashMap<>(builder.isCompatibility
@@ -141,7 +145,8 @@ public abstract class AbstractSerializationService implements InternalSerializat
         this.globalPartitioningStrategy = prototype.globalPartitioningStrategy;
         this.outputBufferSize = prototype.outputBufferSize;
         this.notActiveExceptionSupplier = prototype.notActiveExceptionSupplier;
-        this.bufferPoolThreadLocal = new BufferPoolThreadLocal(this, new BufferPoolFactoryImpl(),
+        this.bufferPoolFactory = new BufferPoolFactoryImpl();
+        this.bufferPoolThreadLocal = new BufferPoolThreadLocal(this, bufferPoolFactory,
                 prototype.notActiveExceptionSupplier);
         this.nullSerializerAdapter = prototype.nullSerializerAdapter;
         this.constantTypesMap = new IdentityHashMap<>(prototype.constantTypesMap.size());
@@ -437,6 +442,13 @@ public abstract class AbstractSerializationService implements InternalSerializat
         return version;
     }
 
+    @Override
+    public void provideStaticMetrics(MetricsRegistry registry) {
+        if (bufferPoolFactory instanceof StaticMetricsProvider metricsProvider) {
+            metricsProvider.provideStaticMetrics(registry);
+        }
+    }
+
     @Override
     public void dispose() {
         active = false;
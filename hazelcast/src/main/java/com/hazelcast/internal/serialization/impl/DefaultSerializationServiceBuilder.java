@@ -30,6 +30,7 @@ import com.hazelcast.internal.serialization.InputOutputFactory;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationClassNameFilter;
 import com.hazelcast.internal.serialization.SerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.bufferpool.BufferPoolFactory;
 import com.hazelcast.internal.serialization.impl.bufferpool.BufferPoolFactoryImpl;
 import com.hazelcast.internal.serialization.impl.compact.SchemaService;
 import com.hazelcast.internal.util.StringUtil;
@@ -76,6 +77,7 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
     protected boolean allowUnsafe;
     protected boolean allowOverrideDefaultSerializers;
     protected int initialOutputBufferSize = DEFAULT_OUT_BUFFER_SIZE;
+    protected BufferPoolFactory bufferPoolFactory;
     protected PartitioningStrategy partitioningStrategy;
     protected HazelcastInstance hazelcastInstance;
     protected CompactSerializationConfig compactSerializationConfig;
@@ -219,6 +221,12 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
         return this;
     }
 
+    @Override
+    public SerializationServiceBuilder setBufferPoolFactory(BufferPoolFactory bufferPoolFactory) {
+        this.bufferPoolFactory = bufferPoolFactory;
+        return this;
+    }
+
     @Override
     public SerializationServiceBuilder setSchemaService(SchemaService schemaService) {
         this.schemaService = schemaService;
@@ -311,7 +319,7 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
                     .withManagedContext(managedContext)
                     .withGlobalPartitionStrategy(partitioningStrategy)
                     .withInitialOutputBufferSize(initialOutputBufferSize)
-                    .withBufferPoolFactory(new BufferPoolFactoryImpl())
+                    .withBufferPoolFactory(bufferPoolFactory != null ? bufferPoolFactory : new BufferPoolFactoryImpl())
                     .withEnableCompression(enableCompression)
                     .withEnableSharedObject(enableSharedObject)
                     .withNotActiveExceptionSupplier(notActiveExceptionSupplier)
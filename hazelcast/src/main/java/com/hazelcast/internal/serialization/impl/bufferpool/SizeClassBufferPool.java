@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.bufferpool;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.ByteArrayObjectDataOutput;
+
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassBufferPoolFactory.LOCAL_BUFFERS_PER_CLASS;
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassBufferPoolFactory.LOCAL_SIZE_CLASS_COUNT;
+
+/**
+ * A {@link BufferPool} keeping its output buffers by size class, see
+ * {@link SizeClassBufferPoolFactory}.
+ * <p>
+ * An output buffer is taken from the size class predicted from the recently
+ * written payloads or from a larger class, first from the thread's own
+ * buffers, then from the shared pools of the factory. Only buffers of the
+ * smallest class are kept per thread. If there is none, a new
+ * buffer of the predicted class is created rather than growing a smaller one,
+ * which would be shrunk again when it is returned. The prediction follows a larger payload
+ * immediately and smaller payloads only after {@value #SHRINK_AFTER}
+ * consecutive ones, so a mix of small and large payloads keeps reusing the
+ * large buffers instead of reallocating them.
+ * <p>
+ * Input buffers don't own their byte arrays and are pooled like in
+ * {@link BufferPoolImpl}.
+ */
+class SizeClassBufferPool extends BufferPoolImpl {
+
+    static final int SHRINK_AFTER = 16;
+
+    // accessible for testing.
+    final BufferObjectDataOutput[][] localBuffers =
+            new BufferObjectDataOutput[LOCAL_SIZE_CLASS_COUNT][LOCAL_BUFFERS_PER_CLASS];
+    final int[] localCounts = new int[LOCAL_SIZE_CLASS_COUNT];
+    int predictedClass;
+
+    private final SizeClassBufferPoolFactory factory;
+    private int smallerPayloads;
+
+    SizeClassBufferPool(InternalSerializationService serializationService, SizeClassBufferPoolFactory factory) {
+        super(serializationService);
+        this.factory = factory;
+    }
+
+    @Override
+    public BufferObjectDataOutput takeOutputBuffer() {
+        BufferObjectDataOutput out = pollLocal(predictedClass);
+        if (out != null) {
+            factory.localHits.increment();
+            return out;
+        }
+        out = factory.pollShared(predictedClass);
+        if (out != null) {
+            factory.sharedHits.increment();
+            return out;
+        }
+        factory.misses.increment();
+        return serializationService.createObjectDataOutput(factory.classSize(predictedClass));
+    }
+
+    @Override
+    public void returnOutputBuffer(BufferObjectDataOutput out) {
+        if (out == null) {
+            return;
+        }
+
+        predict(factory.sizeClassOf(out.position()));
+
+        int capacity = capacityOf(out);
+        out.clear();
+        int retainedCapacity = capacityOf(out);
+        if (retainedCapacity < capacity) {
+            factory.trims.increment();
+        }
+
+        int sizeClass = factory.sizeClassOfCapacity(retainedCapacity);
+        if (sizeClass < LOCAL_SIZE_CLASS_COUNT && localCounts[sizeClass] < LOCAL_BUFFERS_PER_CLASS) {
+            localBuffers[sizeClass][localCounts[sizeClass]++] = out;
+        } else if (!factory.offerShared(sizeClass, out)) {
+            factory.trims.increment();
+        }
+    }
+
+    private BufferObjectDataOutput pollLocal(int minSizeClass) {
+        for (int sizeClass = minSizeClass; sizeClass < LOCAL_SIZE_CLASS_COUNT; sizeClass++) {
+            if (localCounts[sizeClass] > 0) {
+                int index = --localCounts[sizeClass];
+                BufferObjectDataOutput out = localBuffers[sizeClass][index];
+                localBuffers[sizeClass][index] = null;
+                return out;
+            }
+        }
+        return null;
+    }
+
+    private void predict(int payloadClass) {
+        if (payloadClass >= predictedClass) {
+            predictedClass = payloadClass;
+            smallerPayloads = 0;
+        } else if (++smallerPayloads == SHRINK_AFTER) {
+            predictedClass--;
+            smallerPayloads = 0;
+        }
+    }
+
+    private static int capacityOf(BufferObjectDataOutput out) {
+        return out instanceof ByteArrayObjectDataOutput byteArrayOut
+                ? byteArrayOut.position() + byteArrayOut.available()
+                : 0;
+    }
+}
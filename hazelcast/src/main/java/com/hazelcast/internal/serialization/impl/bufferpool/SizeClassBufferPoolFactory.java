@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.bufferpool;
+
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.StaticMetricsProvider;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_LOCAL_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_SHARED_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_SHARED_POOLED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_TRIMS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_PREFIX;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+
+/**
+ * A {@link BufferPoolFactory} creating {@link SizeClassBufferPool}s, which
+ * keep a few output buffers of the smallest size class per thread, backed by
+ * bounded pools of all size classes shared by all threads.
+ * <p>
+ * The buffers of the larger size classes, which may have grown to hundreds
+ * of kilobytes or many megabytes, are kept in the shared pools only.
+ * Otherwise the retained memory would grow with the number of threads
+ * instead of being bounded by the shared pools.
+ * <p>
+ * Size class {@code i} contains buffers created with an initial size of
+ * {@code minBufferSize * 8^i}. Since {@link BufferObjectDataOutput#clear()}
+ * keeps up to 8 times the initial size of a buffer, a buffer keeps the
+ * capacity it needs for any payload of its class and can be promoted to the
+ * next class once it has grown.
+ * <p>
+ * The pooled buffers reference the serialization service they were created
+ * by, so a factory must not be shared between serialization services.
+ */
+public class SizeClassBufferPoolFactory implements BufferPoolFactory, StaticMetricsProvider {
+
+    /**
+     * The default initial size of the buffers of the smallest size class, the
+     * same as the default initial size of serialization buffers.
+     */
+    public static final int DEFAULT_MIN_BUFFER_SIZE = 4 * 1024;
+
+    static final int SIZE_CLASS_COUNT = 4;
+    static final int SIZE_CLASS_SHIFT = 3;
+    static final int LOCAL_SIZE_CLASS_COUNT = 1;
+    static final int LOCAL_BUFFERS_PER_CLASS = 2;
+    static final int MAX_SHARED_BUFFERS_PER_CLASS = 256;
+
+    @Probe(name = SERIALIZATION_BUFFER_POOL_METRIC_LOCAL_HITS)
+    final LongAdder localHits = new LongAdder();
+    @Probe(name = SERIALIZATION_BUFFER_POOL_METRIC_SHARED_HITS)
+    final LongAdder sharedHits = new LongAdder();
+    @Probe(name = SERIALIZATION_BUFFER_POOL_METRIC_MISSES)
+    final LongAdder misses = new LongAdder();
+    @Probe(name = SERIALIZATION_BUFFER_POOL_METRIC_TRIMS)
+    final LongAdder trims = new LongAdder();
+
+    private final int minBufferSize;
+    private final ArrayBlockingQueue<BufferObjectDataOutput>[] sharedPools;
+
+    /**
+     * @param minBufferSize  the initial size of the buffers of the smallest size class
+     * @param maxSharedBytes the number of bytes the shared pool of each size class may
+     *                       hold at most, each class keeps at least one buffer
+     */
+    @SuppressWarnings("unchecked")
+    public SizeClassBufferPoolFactory(int minBufferSize, long maxSharedBytes) {
+        checkPositive("minBufferSize", minBufferSize);
+        checkPositive("maxSharedBytes", maxSharedBytes);
+        checkTrue(maxRetainedSize(minBufferSize, SIZE_CLASS_COUNT - 1) <= Integer.MAX_VALUE,
+                "minBufferSize is too large: " + minBufferSize);
+        this.minBufferSize = minBufferSize;
+        this.sharedPools = new ArrayBlockingQueue[SIZE_CLASS_COUNT];
+        for (int sizeClass = 0; sizeClass < SIZE_CLASS_COUNT; sizeClass++) {
+            long capacity = maxSharedBytes / maxRetainedSize(minBufferSize, sizeClass);
+            sharedPools[sizeClass] = new ArrayBlockingQueue<>((int) Math.max(1, Math.min(capacity,
+                    MAX_SHARED_BUFFERS_PER_CLASS)));
+        }
+    }
+
+    @Override
+    public BufferPool create(InternalSerializationService serializationService) {
+        return new SizeClassBufferPool(serializationService, this);
+    }
+
+    @Override
+    public void provideStaticMetrics(MetricsRegistry registry) {
+        registry.registerStaticMetrics(this, SERIALIZATION_BUFFER_POOL_PREFIX);
+    }
+
+    @Probe(name = SERIALIZATION_BUFFER_POOL_METRIC_SHARED_POOLED)
+    long sharedPooled() {
+        long pooled = 0;
+        for (ArrayBlockingQueue<BufferObjectDataOutput> sharedPool : sharedPools) {
+            pooled += sharedPool.size();
+        }
+        return pooled;
+    }
+
+    /**
+     * Returns the initial size of the buffers of the given size class.
+     */
+    int classSize(int sizeClass) {
+        return minBufferSize << (SIZE_CLASS_SHIFT * sizeClass);
+    }
+
+    /**
+     * Returns the smallest size class whose buffers fit the given number of
+     * bytes without growing, or the largest class if there is no such class.
+     */
+    int sizeClassOf(int size) {
+        for (int sizeClass = 0; sizeClass < SIZE_CLASS_COUNT - 1; sizeClass++) {
+            if (size <= classSize(sizeClass)) {
+                return sizeClass;
+            }
+        }
+        return SIZE_CLASS_COUNT - 1;
+    }
+
+    /**
+     * Returns the largest size class whose payloads fit a buffer of the given
+     * capacity without growing, or the smallest class if there is no such class.
+     */
+    int sizeClassOfCapacity(int capacity) {
+        for (int sizeClass = SIZE_CLASS_COUNT - 1; sizeClass > 0; sizeClass--) {
+            if (capacity >= classSize(sizeClass)) {
+                return sizeClass;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Takes a buffer of the given size class or a larger one from the shared
+     * pools, returns {@code null} if they are empty.
+     */
+    BufferObjectDataOutput pollShared(int minSizeClass) {
+        for (int sizeClass = minSizeClass; sizeClass < SIZE_CLASS_COUNT; sizeClass++) {
+            BufferObjectDataOutput out = sharedPools[sizeClass].poll();
+            if (out != null) {
+                return out;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Offers a cleared buffer to the shared pool of its size class, returns
+     * {@code false} if the pool is full.
+     */
+    boolean offerShared(int sizeClass, BufferObjectDataOutput out) {
+        return sharedPools[sizeClass].offer(out);
+    }
+
+    private static long maxRetainedSize(int minBufferSize, int sizeClass) {
+        return (long) minBufferSize << (SIZE_CLASS_SHIFT * (sizeClass + 1));
+    }
+}
@@ -219,10 +219,21 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
     }
 
     private CompactSerializableRegistration getOrCreateRegistration(Class clazz) {
-        return classToRegistrationMap.computeIfAbsent(clazz, aClass -> {
-            CompactSerializer serializer = javaRecordSerializer.isRecord(aClass) ? javaRecordSerializer : reflectiveSerializer;
-            return new CompactSerializableRegistration(aClass, aClass.getName(), serializer);
-        });
+        return classToRegistrationMap.computeIfAbsent(clazz, aClass ->
+                new CompactSerializableRegistration(aClass, aClass.getName(), defaultSerializer(aClass)));
+    }
+
+    /**
+     * Returns the serializer to use for a class registered without an explicit
+     * serializer: the one generated at compile time if it exists, otherwise
+     * the record or the reflective serializer.
+     */
+    private CompactSerializer defaultSerializer(Class clazz) {
+        CompactSerializer serializer = CompactUtil.createGeneratedSerializerOrNull(clazz);
+        if (serializer != null) {
+            return serializer;
+        }
+        return javaRecordSerializer.isRecord(clazz) ? javaRecordSerializer : reflectiveSerializer;
     }
 
     private CompactSerializableRegistration getOrCreateRegistration(String typeName) {
@@ -293,11 +304,7 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
             String typeName = registration.element2;
             CompactSerializer serializer = registration.element3;
             if (serializer == null) {
-                if (javaRecordSerializer.isRecord(clazz)) {
-                    serializer = javaRecordSerializer;
-                } else {
-                    serializer = reflectiveSerializer;
-                }
+                serializer = defaultSerializer(clazz);
             }
             CompactSerializableRegistration serializableRegistration
                     = new CompactSerializableRegistration(clazz, typeName, serializer);
@@ -360,17 +367,10 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
                         + "serializable class '" + className + "'.");
             }
 
-            CompactSerializer serializer;
-            if (javaRecordSerializer.isRecord(clazz)) {
-                serializer = javaRecordSerializer;
-            } else {
-                serializer = reflectiveSerializer;
-            }
-
             CompactSerializableRegistration registration = new CompactSerializableRegistration(
                     clazz,
                     className,
-                    serializer
+                    defaultSerializer(clazz)
             );
 
             saveRegistration(registration);
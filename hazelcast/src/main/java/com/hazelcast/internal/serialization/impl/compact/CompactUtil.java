@@ -15,10 +15,14 @@
  */
 package com.hazelcast.internal.serialization.impl.compact;
 
+import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.nio.serialization.FieldKind;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.GenerateCompactSerializer;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.reflect.Array;
 
 /**
@@ -34,6 +38,8 @@ public final class CompactUtil {
             new UnsupportedPackagePrefix("jdk")
     };
 
+    private static final String GENERATED_SERIALIZER_SUFFIX = "CompactSerializer";
+
     private CompactUtil() {
 
     }
@@ -174,6 +180,33 @@ public final class CompactUtil {
         return shortArray;
     }
 
+    /**
+     * Returns a new instance of the serializer generated at compile time for
+     * the given class, if the class is annotated with
+     * {@link GenerateCompactSerializer} and the generated serializer is found
+     * next to it. Returns {@code null} otherwise.
+     */
+    @Nullable
+    public static CompactSerializer<?> createGeneratedSerializerOrNull(Class<?> clazz) {
+        if (!clazz.isAnnotationPresent(GenerateCompactSerializer.class)) {
+            return null;
+        }
+
+        String className = clazz.getName();
+        int simpleNameStart = className.lastIndexOf('.') + 1;
+        String serializerClassName = className.substring(0, simpleNameStart)
+                + className.substring(simpleNameStart).replace('$', '_') + GENERATED_SERIALIZER_SUFFIX;
+        try {
+            return ClassLoaderUtil.newInstance(clazz.getClassLoader(), serializerClassName);
+        } catch (ClassNotFoundException e) {
+            // The annotation processor was not run for the class
+            return null;
+        } catch (Exception e) {
+            throw new HazelcastSerializationException("Could not create the generated Compact serializer "
+                    + serializerClassName + " for " + clazz, e);
+        }
+    }
+
     public static void verifyClassIsCompactSerializable(Class<?> clazz) {
         if (canBeSerializedAsCompact(clazz)) {
             return;
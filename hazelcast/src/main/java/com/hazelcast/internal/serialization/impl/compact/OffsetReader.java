@@ -78,6 +78,32 @@ public interface OffsetReader {
         }
     }
 
+    /**
+     * Returns the offset of the var-sized field at the given index, reading
+     * it directly from the serialized bytes of an object with the given data
+     * length, in the same way as the offset reader returned by
+     * {@link #readerFor(int)} does.
+     *
+     * @param bytes                 Serialized bytes of the object.
+     * @param varSizedOffsetsOffset Start of the var-sized field offsets
+     *                              section in the bytes.
+     * @param index                 Index of the field.
+     * @param dataLength            Data length of the object.
+     * @param bigEndian             Byte order of the bytes.
+     * @return The offset.
+     */
+    static int readOffset(byte[] bytes, int varSizedOffsetsOffset, int index, int dataLength, boolean bigEndian) {
+        if (dataLength < BYTE_OFFSET_READER_RANGE) {
+            byte offset = bytes[varSizedOffsetsOffset + index];
+            return offset == NULL_OFFSET ? offset : Byte.toUnsignedInt(offset);
+        } else if (dataLength < SHORT_OFFSET_READER_RANGE) {
+            short offset = Bits.readShort(bytes, varSizedOffsetsOffset + index * Bits.SHORT_SIZE_IN_BYTES, bigEndian);
+            return offset == NULL_OFFSET ? offset : Short.toUnsignedInt(offset);
+        } else {
+            return Bits.readInt(bytes, varSizedOffsetsOffset + index * Bits.INT_SIZE_IN_BYTES, bigEndian);
+        }
+    }
+
     /**
      * Returns the offset of the var-sized field at the given index.
      *
@@ -41,4 +41,34 @@ public interface NetworkStats {
      */
     long getBytesSent();
 
+    /**
+     * Returns the ratio of the bytes sent before and after wire compression
+     * over all compressed connections (active and closed) managed by the
+     * EndpointManager, or 1 if no bytes were compressed.
+     *
+     * @return the compression ratio of the sent bytes
+     */
+    default double getCompressionRatio() {
+        return 1;
+    }
+
+    /**
+     * Returns the time spent on compressing the sent bytes over all
+     * connections (active and closed) managed by the EndpointManager.
+     *
+     * @return the compression time in nanoseconds
+     */
+    default long getCompressionTimeNanos() {
+        return 0;
+    }
+
+    /**
+     * Returns the time spent on decompressing the received bytes over all
+     * connections (active and closed) managed by the EndpointManager.
+     *
+     * @return the decompression time in nanoseconds
+     */
+    default long getDecompressionTimeNanos() {
+        return 0;
+    }
 }
@@ -17,8 +17,14 @@
 package com.hazelcast.internal.server.tcp;
 
 import com.hazelcast.config.EndpointConfig;
+import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelInitializer;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.server.ServerContext;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_THRESHOLD;
 
 /**
  * A {@link ChannelInitializer} that runs on a member and used for unencrypted
@@ -32,4 +38,15 @@ public abstract class AbstractChannelInitializer implements ChannelInitializer {
     protected AbstractChannelInitializer(ServerContext serverContext, EndpointConfig config) {
         this.serverContext = serverContext;
     }
+
+    /**
+     * Enables {@link WireCompression} on the channel if it is configured; it
+     * is negotiated by the protocol handlers.
+     */
+    protected void enableCompression(Channel channel) {
+        HazelcastProperties props = serverContext.properties();
+        if (props.getBoolean(IO_COMPRESSION_ENABLED)) {
+            WireCompression.enable(channel, props.getInteger(IO_COMPRESSION_THRESHOLD));
+        }
+    }
 }
@@ -35,6 +35,7 @@ public class ClientChannelInitializer
     @Override
     public void initChannel(Channel channel) {
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
+        enableCompression(channel);
         SingleProtocolEncoder protocolEncoder = new SingleProtocolEncoder(new ClientMessageEncoder());
         SingleProtocolDecoder protocolDecoder = new SingleProtocolDecoder(
                 CLIENT,
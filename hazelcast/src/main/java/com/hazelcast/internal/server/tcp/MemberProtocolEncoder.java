@@ -18,6 +18,7 @@ package com.hazelcast.internal.server.tcp;
 
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.server.ServerConnection;
 
@@ -33,7 +34,8 @@ import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.util.StringUtil.stringToBytes;
 
 /**
- * Writes the member protocol header bytes (HZC) to dst buffer and replaces itself by the next {@link OutboundHandler
+ * Writes the member protocol header bytes (HZC, or HZZ to request or confirm
+ * wire compression) to dst buffer and replaces itself by the next {@link OutboundHandler
  * OutboundHandlers}.
  */
 public class MemberProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
@@ -51,7 +53,7 @@ public class MemberProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
 
     @Override
     public void handlerAdded() {
-        initDstBuffer(PROTOCOL_LENGTH, stringToBytes(CLUSTER));
+        initDstBuffer(PROTOCOL_LENGTH, stringToBytes(WireCompression.announcedProtocol(channel, CLUSTER)));
     }
 
     @Override
@@ -63,7 +65,12 @@ public class MemberProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
                 // replace!
                 ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
                 connection.setConnectionType(ConnectionType.MEMBER);
-                channel.outboundPipeline().replace(this, outboundHandlers);
+                if (outboundHandlers[0] instanceof SingleProtocolEncoder) {
+                    // the answer of the other member is awaited; it sets up the compression
+                    channel.outboundPipeline().replace(this, outboundHandlers);
+                } else {
+                    channel.outboundPipeline().replace(this, WireCompression.withEncoder(channel, outboundHandlers));
+                }
                 return CLEAN;
             }
 
@@ -18,6 +18,7 @@ package com.hazelcast.internal.server.tcp;
 
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.nio.GatheringOutboundHandler;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.nio.PacketIOHelper;
 
@@ -27,6 +28,7 @@ import java.util.function.Supplier;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static java.lang.Math.min;
 
 /**
  * A {@link OutboundHandler} that for member to member communication.
@@ -36,14 +38,39 @@ import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
  * It makes use of a flyweight to allow the sharing of a packet-instance over
  * multiple connections. The flyweight contains the actual 'position' state of
  * what has been written.
+ * <p>
+ * If a gathering write threshold is configured and the encoder is the last
+ * handler of the pipeline, only the header of a packet with at least that
+ * many payload bytes is written to the {@link ByteBuffer}; the payload byte
+ * array is exposed through {@link #payload()} and written to the socket
+ * without being copied. If another handler follows the encoder, e.g. for TLS,
+ * packets are always copied.
  *
  * @see PacketDecoder
  */
-public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> {
+public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
+        implements GatheringOutboundHandler {
 
     private final PacketIOHelper packetWriter = new PacketIOHelper();
+    private final int gatheringWriteThreshold;
 
+    private boolean gatheringWritesEnabled;
     private Packet packet;
+    private ByteBuffer payload;
+    private int payloadSize;
+
+    public PacketEncoder() {
+        this(0);
+    }
+
+    /**
+     * @param gatheringWriteThreshold the minimum payload size of a packet
+     *                                to use a gathering write for, or 0 to
+     *                                always copy the payload.
+     */
+    public PacketEncoder(int gatheringWriteThreshold) {
+        this.gatheringWriteThreshold = gatheringWriteThreshold;
+    }
 
     @Override
     public void handlerAdded() {
@@ -55,6 +82,18 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
         compactOrClear(dst);
         try {
             for (; ; ) {
+                if (payload != null) {
+                    if (!gatheringWritesEnabled && !copyPayload()) {
+                        // a handler got added after the encoder while a payload was pending
+                        return DIRTY;
+                    }
+                    if (payload.position() < payloadSize) {
+                        // the pipeline is still writing the payload; nothing may overtake it
+                        return DIRTY;
+                    }
+                    payload = null;
+                }
+
                 if (packet == null) {
                     packet = src.get();
 
@@ -64,7 +103,15 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
                     }
                 }
 
-                if (packetWriter.writeTo(packet, dst)) {
+                if (gatheringWritesEnabled && gatheringWriteThreshold > 0
+                        && packet.totalSize() >= gatheringWriteThreshold) {
+                    if (!packetWriter.writeHeaderTo(packet, dst)) {
+                        return DIRTY;
+                    }
+                    payloadSize = packet.totalSize();
+                    payload = ByteBuffer.wrap(packet.toByteArray(), 0, 0);
+                    packet = null;
+                } else if (packetWriter.writeTo(packet, dst)) {
                     // packet got written, lets see if another packet can be written
                     packet = null;
                 } else {
@@ -76,4 +123,33 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
             dst.flip();
         }
     }
+
+    /**
+     * Copies as much of the pending payload as fits into the destination
+     * buffer.
+     *
+     * @return {@code true} if the payload is copied completely.
+     */
+    private boolean copyPayload() {
+        int position = payload.position();
+        int length = min(dst.remaining(), payloadSize - position);
+        dst.put(payload.array(), position, length);
+        payload.limit(payloadSize).position(position + length);
+        return payload.position() == payloadSize;
+    }
+
+    @Override
+    public void setGatheringWritesEnabled(boolean enabled) {
+        this.gatheringWritesEnabled = enabled;
+    }
+
+    @Override
+    public ByteBuffer payload() {
+        if (!gatheringWritesEnabled || payload == null || payload.position() == payloadSize) {
+            return null;
+        }
+        // bounds the temporary direct buffer the JDK uses for writing a heap buffer
+        payload.limit(min(payloadSize, payload.position() + dst.capacity()));
+        return payload;
+    }
 }
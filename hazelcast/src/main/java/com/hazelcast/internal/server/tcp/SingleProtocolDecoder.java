@@ -19,6 +19,7 @@ package com.hazelcast.internal.server.tcp;
 import com.hazelcast.instance.ProtocolType;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.server.ServerConnection;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -28,6 +29,7 @@ import java.nio.charset.StandardCharsets;
 
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
 import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.nio.Protocols.UNEXPECTED_PROTOCOL;
 
@@ -96,7 +98,9 @@ public class SingleProtocolDecoder
                 return CLEAN;
             }
             boolean verifyProtocolPreviouslyCalled = verifyProtocolCalled;
-            if (verifyProtocolPreviouslyCalled || !verifyProtocol(loadProtocol())) {
+            String receivedProtocol = verifyProtocolPreviouslyCalled ? null : loadProtocol();
+            if (verifyProtocolPreviouslyCalled
+                    || !verifyProtocol(WireCompression.negotiate(channel, receivedProtocol))) {
                 // The exception that will close the Connection eventually thrown
                 // in SingleProtocolEncoder, since we send wrong protocol signal
                 // for this in verifyProtocol.
@@ -110,7 +114,7 @@ public class SingleProtocolDecoder
                 }
                 return CLEAN;
             }
-            encoder.signalProtocolVerified();
+            encoder.signalProtocolVerified(replyProtocol(receivedProtocol));
 
             // Initialize the connection
             initConnection();
@@ -124,7 +128,20 @@ public class SingleProtocolDecoder
 
     protected void setupNextDecoder() {
         // Replace this handler with the next one
-        channel.inboundPipeline().replace(this, inboundHandlers);
+        channel.inboundPipeline().replace(this, WireCompression.withDecoder(channel, inboundHandlers));
+    }
+
+    /**
+     * Returns the protocol the {@link SingleProtocolEncoder} replies with, or
+     * {@code null} if it doesn't reply. A client requesting wire compression
+     * gets the client protocol as the answer; the member protocol is sent by
+     * the {@link MemberProtocolEncoder} anyway.
+     */
+    private String replyProtocol(String receivedProtocol) {
+        if (supportedProtocol == ProtocolType.CLIENT && WireCompression.isCompressedProtocol(receivedProtocol)) {
+            return WireCompression.announcedProtocol(channel, CLIENT_BINARY);
+        }
+        return null;
     }
 
     // Verify that received protocol is expected one.
@@ -18,6 +18,7 @@ package com.hazelcast.internal.server.tcp;
 
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.nio.Protocols;
 
 import java.nio.ByteBuffer;
@@ -40,8 +41,9 @@ import static com.hazelcast.internal.util.StringUtil.stringToBytes;
 public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
     private final OutboundHandler[] outboundHandlers;
 
-    private boolean clusterProtocolBuffered;
+    private boolean protocolBuffered;
 
+    private volatile String replyProtocol;
     private volatile boolean isDecoderVerifiedProtocol;
     private volatile boolean isDecoderReceivedProtocol;
     private volatile String exceptionMessage;
@@ -66,6 +68,10 @@ public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
                 return BLOCKED;
             }
             if (isDecoderVerifiedProtocol) {
+                // A client requesting wire compression gets its answer first
+                if (replyProtocol != null && !sendProtocol(replyProtocol)) {
+                    return DIRTY;
+                }
                 // Set up the next encoder in the pipeline once the protocol is verified
                 setupNextEncoder();
                 return CLEAN;
@@ -74,7 +80,7 @@ public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
             // Decoder received protocol bytes, but verification failed. If we are server/acceptor, then respond with the
             // UNEXPECTED_PROTOCOL response bytes.
             if (!channel.isClientMode()) {
-                if (!sendProtocol()) {
+                if (!sendProtocol(UNEXPECTED_PROTOCOL)) {
                     return DIRTY;
                 }
             }
@@ -86,11 +92,11 @@ public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
         }
     }
 
-    // Method used for sending HZX
-    private boolean sendProtocol() {
-        if (!clusterProtocolBuffered) {
-            clusterProtocolBuffered = true;
-            dst.put(stringToBytes(UNEXPECTED_PROTOCOL));
+    // Method used for sending HZX or the answer to a client requesting wire compression
+    private boolean sendProtocol(String protocol) {
+        if (!protocolBuffered) {
+            protocolBuffered = true;
+            dst.put(stringToBytes(protocol));
             return false;
         }
 
@@ -99,7 +105,12 @@ public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
 
     // Swap this encoder with the next one
     private void setupNextEncoder() {
-        channel.outboundPipeline().replace(this, outboundHandlers);
+        if (outboundHandlers[0] instanceof MemberProtocolEncoder) {
+            // the member protocol is sent first; it sets up the compression
+            channel.outboundPipeline().replace(this, outboundHandlers);
+        } else {
+            channel.outboundPipeline().replace(this, WireCompression.withEncoder(channel, outboundHandlers));
+        }
     }
 
     @Override
@@ -120,7 +131,14 @@ public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
     // Used by SingleProtocolDecoder in order to swap
     // SingleProtocolEncoder with the next encoder in the pipeline
     public void signalProtocolVerified() {
+        signalProtocolVerified(null);
+    }
+
+    // Used by SingleProtocolDecoder in order to send the given protocol
+    // and then swap SingleProtocolEncoder with the next encoder
+    void signalProtocolVerified(String replyProtocol) {
         // this update order below must stay in reverse order with access order in SingleProtocolEncode#onWrite
+        this.replyProtocol = replyProtocol;
         isDecoderVerifiedProtocol = true;
         isDecoderReceivedProtocol = true;
         // This channel can become null when SingleProtocolEncoder is not active handler of the outbound
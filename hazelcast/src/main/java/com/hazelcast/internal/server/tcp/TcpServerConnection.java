@@ -36,6 +36,7 @@ import java.io.EOFException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.channels.CancelledKeyException;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
@@ -249,6 +250,18 @@ public class TcpServerConnection implements ServerConnection {
         return false;
     }
 
+    @Override
+    public boolean writeAll(Collection<? extends OutboundFrame> frames) {
+        if (channel.writeAll(frames)) {
+            return true;
+        }
+
+        if (logger.isFinestEnabled()) {
+            logger.finest("Connection is closed, won't write %s packets", frames.size());
+        }
+        return false;
+    }
+
     @Override
     public int hashCode() {
         int result = acceptorSide ? 1231 : 1237;
@@ -20,6 +20,7 @@ import com.hazelcast.config.EndpointConfig;
 import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.nio.ConnectionLifecycleListener;
 import com.hazelcast.internal.nio.ConnectionListener;
@@ -381,6 +382,8 @@ abstract class TcpServerConnectionManagerBase implements ServerConnectionManager
         private final MwCounter bytesReceivedOnClosed = newMwCounter();
         private final AtomicLong bytesSentLastCalc = new AtomicLong();
         private final MwCounter bytesSentOnClosed = newMwCounter();
+        private final CompressionStats compressionLastCalc = new CompressionStats();
+        private final CompressionStats compressionOnClosed = new CompressionStats();
 
         @Override
         public long getBytesReceived() {
@@ -392,21 +395,77 @@ abstract class TcpServerConnectionManagerBase implements ServerConnectionManager
             return bytesSentLastCalc.get();
         }
 
+        @Override
+        public double getCompressionRatio() {
+            long wireBytes = compressionLastCalc.wireBytesWritten.get();
+            return wireBytes == 0 ? 1 : (double) compressionLastCalc.rawBytesWritten.get() / wireBytes;
+        }
+
+        @Override
+        public long getCompressionTimeNanos() {
+            return compressionLastCalc.compressionNanos.get();
+        }
+
+        @Override
+        public long getDecompressionTimeNanos() {
+            return compressionLastCalc.decompressionNanos.get();
+        }
+
         void refresh() {
             MutableLong totalReceived = MutableLong.valueOf(bytesReceivedOnClosed.get());
             MutableLong totalSent = MutableLong.valueOf(bytesSentOnClosed.get());
+            CompressionStats totalCompression = new CompressionStats();
+            totalCompression.add(compressionOnClosed);
             connections.forEach(conn -> {
                 totalReceived.value += conn.getChannel().bytesRead();
                 totalSent.value += conn.getChannel().bytesWritten();
+                totalCompression.add(WireCompression.of(conn.getChannel()));
             });
             // counters must be monotonically increasing
             bytesReceivedLastCalc.updateAndGet((v) -> Math.max(v, totalReceived.value));
             bytesSentLastCalc.updateAndGet((v) -> Math.max(v, totalSent.value));
+            compressionLastCalc.max(totalCompression);
         }
 
         void onConnectionClose(TcpServerConnection connection) {
             bytesReceivedOnClosed.inc(connection.getChannel().bytesRead());
             bytesSentOnClosed.inc(connection.getChannel().bytesWritten());
+            compressionOnClosed.add(WireCompression.of(connection.getChannel()));
+        }
+    }
+
+    /**
+     * Wire compression totals of a set of connections.
+     */
+    private static class CompressionStats {
+        private final AtomicLong rawBytesWritten = new AtomicLong();
+        private final AtomicLong wireBytesWritten = new AtomicLong();
+        private final AtomicLong compressionNanos = new AtomicLong();
+        private final AtomicLong decompressionNanos = new AtomicLong();
+
+        void add(WireCompression compression) {
+            if (compression == null) {
+                return;
+            }
+            rawBytesWritten.addAndGet(compression.getRawBytesWritten());
+            wireBytesWritten.addAndGet(compression.getWireBytesWritten());
+            compressionNanos.addAndGet(compression.getCompressionNanos());
+            decompressionNanos.addAndGet(compression.getDecompressionNanos());
+        }
+
+        void add(CompressionStats stats) {
+            rawBytesWritten.addAndGet(stats.rawBytesWritten.get());
+            wireBytesWritten.addAndGet(stats.wireBytesWritten.get());
+            compressionNanos.addAndGet(stats.compressionNanos.get());
+            decompressionNanos.addAndGet(stats.decompressionNanos.get());
+        }
+
+        void max(CompressionStats stats) {
+            // counters must be monotonically increasing
+            rawBytesWritten.accumulateAndGet(stats.rawBytesWritten.get(), Math::max);
+            wireBytesWritten.accumulateAndGet(stats.wireBytesWritten.get(), Math::max);
+            compressionNanos.accumulateAndGet(stats.compressionNanos.get(), Math::max);
+            decompressionNanos.accumulateAndGet(stats.decompressionNanos.get(), Math::max);
         }
     }
 
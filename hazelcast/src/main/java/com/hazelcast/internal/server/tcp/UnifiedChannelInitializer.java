@@ -19,6 +19,7 @@ package com.hazelcast.internal.server.tcp;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelInitializer;
 import com.hazelcast.internal.networking.ChannelOptions;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
@@ -32,6 +33,8 @@ import static com.hazelcast.internal.networking.ChannelOption.TCP_KEEPIDLE;
 import static com.hazelcast.internal.networking.ChannelOption.TCP_KEEPINTERVAL;
 import static com.hazelcast.internal.networking.ChannelOption.TCP_NODELAY;
 import static com.hazelcast.internal.server.ServerContext.KILO_BYTE;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_THRESHOLD;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_BUFFER_DIRECT;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_KEEP_ALIVE;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_KEEP_COUNT;
@@ -71,6 +74,10 @@ public class UnifiedChannelInitializer
                 .setOption(TCP_KEEPCOUNT, props.getInteger(SOCKET_KEEP_COUNT))
                 .setOption(TCP_KEEPINTERVAL, props.getInteger(SOCKET_KEEP_INTERVAL));
 
+        if (props.getBoolean(IO_COMPRESSION_ENABLED)) {
+            WireCompression.enable(channel, props.getInteger(IO_COMPRESSION_THRESHOLD));
+        }
+
         UnifiedProtocolEncoder encoder = new UnifiedProtocolEncoder(serverContext);
         UnifiedProtocolDecoder decoder = new UnifiedProtocolDecoder(serverContext, encoder);
 
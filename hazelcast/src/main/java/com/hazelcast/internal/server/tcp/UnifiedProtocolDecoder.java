@@ -25,6 +25,7 @@ import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.networking.ChannelOptions;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.nio.Protocols;
 import com.hazelcast.internal.nio.ascii.MemcacheTextDecoder;
@@ -90,13 +91,14 @@ public class UnifiedProtocolDecoder
                 return CLEAN;
             }
 
-            String protocol = loadProtocol();
+            String receivedProtocol = loadProtocol();
+            String protocol = WireCompression.negotiate(channel, receivedProtocol);
 
             serverContext.getAuditLogService()
                     .eventBuilder(AuditlogTypeIds.NETWORK_SELECT_PROTOCOL)
                     .message("Protocol bytes received for a connection")
                     .level(Level.DEBUG)
-                    .addParameter("protocol", protocol)
+                    .addParameter("protocol", receivedProtocol)
                     .log();
             if (CLUSTER.equals(protocol)) {
                 initChannelForCluster();
@@ -132,7 +134,7 @@ public class UnifiedProtocolDecoder
             }
 
             if (!channel.isClientMode()) {
-                protocolEncoder.signalProtocolEstablished(protocol);
+                protocolEncoder.signalProtocolEstablished(receivedProtocol);
             }
 
             return CLEAN;
@@ -158,7 +160,8 @@ public class UnifiedProtocolDecoder
 
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
         connection.setConnectionType(ConnectionType.MEMBER);
-        channel.inboundPipeline().replace(this, serverContext.createInboundHandlers(EndpointQualifier.MEMBER, connection));
+        InboundHandler[] handlers = serverContext.createInboundHandlers(EndpointQualifier.MEMBER, connection);
+        channel.inboundPipeline().replace(this, WireCompression.withDecoder(channel, handlers));
     }
 
     private void initChannelForClient() {
@@ -169,7 +172,8 @@ public class UnifiedProtocolDecoder
                 .setOption(DIRECT_BUF, false);
 
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
-        channel.inboundPipeline().replace(this, new ClientMessageDecoder(connection, serverContext.getClientEngine(), props));
+        ClientMessageDecoder decoder = new ClientMessageDecoder(connection, serverContext.getClientEngine(), props);
+        channel.inboundPipeline().replace(this, WireCompression.withDecoder(channel, decoder));
     }
 
     private void initChannelForText(String protocol, boolean restApi) {
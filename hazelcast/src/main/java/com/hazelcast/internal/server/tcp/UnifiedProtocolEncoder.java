@@ -20,6 +20,7 @@ import com.hazelcast.client.impl.protocol.util.ClientMessageEncoder;
 import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.WireCompression;
 import com.hazelcast.internal.nio.ascii.TextEncoder;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.ServerConnection;
@@ -32,7 +33,9 @@ import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
 import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.CLUSTER;
+import static com.hazelcast.internal.nio.Protocols.CLUSTER_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.nio.ascii.TextEncoder.TEXT_ENCODER;
 import static com.hazelcast.internal.server.ServerContext.KILO_BYTE;
@@ -47,7 +50,8 @@ import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_SEND_BUFFER_SI
  * The ProtocolEncoder and the 'client' side of a member connection, will always
  * write the cluster protocol immediately. The ProtocolEncoder on the 'server' side
  * of the connection will wait till it has received the protocol and then will only
- * send the protocol if the client side was a member.
+ * send the protocol if the client side was a member, or a client requesting
+ * {@link WireCompression wire compression}.
  */
 public class UnifiedProtocolEncoder
         extends OutboundHandler<Void, ByteBuffer> {
@@ -55,7 +59,7 @@ public class UnifiedProtocolEncoder
     private final ServerContext serverContext;
     private final HazelcastProperties props;
     private volatile String inboundProtocol;
-    private boolean clusterProtocolBuffered;
+    private boolean protocolBuffered;
     private volatile boolean encoderCanReplace;
 
     public UnifiedProtocolEncoder(ServerContext serverContext) {
@@ -93,12 +97,14 @@ public class UnifiedProtocolEncoder
                 return CLEAN;
             }
 
-            if (CLUSTER.equals(inboundProtocol)) {
+            String replyProtocol = replyProtocol();
+            if (replyProtocol != null) {
                 // in case of a member, the cluster protocol needs to be sent first before initializing the channel.
+                // A client requesting wire compression gets the client protocol as the answer.
 
-                if (!clusterProtocolBuffered) {
-                    clusterProtocolBuffered = true;
-                    dst.put(stringToBytes(CLUSTER));
+                if (!protocolBuffered) {
+                    protocolBuffered = true;
+                    dst.put(stringToBytes(WireCompression.announcedProtocol(channel, replyProtocol)));
                     // Return false because ProtocolEncoder is not ready yet; but first we need to flush protocol
                     return DIRTY;
                 }
@@ -107,18 +113,16 @@ public class UnifiedProtocolEncoder
                     // Return false because ProtocolEncoder is not ready yet; but first we need to flush protocol
                     return DIRTY;
                 }
+            }
 
-                if (encoderCanReplace) {
+            if (encoderCanReplace) {
+                if (CLUSTER.equals(replyProtocol)) {
                     initChannelForCluster();
-                }
-            } else if (CLIENT_BINARY.equals(inboundProtocol)) {
-                // in case of a client, the member will not send the member protocol
-                if (encoderCanReplace) {
+                } else if (CLIENT_BINARY.equals(replyProtocol) || CLIENT_BINARY.equals(inboundProtocol)) {
+                    // in case of a client, the member will not send the member protocol unless asked for compression
                     initChannelForClient();
-                }
-            } else {
-                // in case of a text-client, the member will not send the member protocol
-                if (encoderCanReplace) {
+                } else {
+                    // in case of a text-client, the member will not send the member protocol
                     initChannelForText();
                 }
             }
@@ -129,6 +133,19 @@ public class UnifiedProtocolEncoder
         }
     }
 
+    /**
+     * Returns the plain protocol to send in reply to the inbound protocol, or
+     * {@code null} if nothing is sent.
+     */
+    private String replyProtocol() {
+        if (CLUSTER.equals(inboundProtocol) || CLUSTER_COMPRESSED.equals(inboundProtocol)) {
+            return CLUSTER;
+        } else if (CLIENT_BINARY_COMPRESSED.equals(inboundProtocol)) {
+            return CLIENT_BINARY;
+        }
+        return null;
+    }
+
     /**
      * Checks if the protocol bytes have been drained.
      * <p>
@@ -147,14 +164,14 @@ public class UnifiedProtocolEncoder
 
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
         OutboundHandler[] handlers = serverContext.createOutboundHandlers(EndpointQualifier.MEMBER, connection);
-        channel.outboundPipeline().replace(this, handlers);
+        channel.outboundPipeline().replace(this, WireCompression.withEncoder(channel, handlers));
     }
 
     private void initChannelForClient() {
         channel.options()
                 .setOption(SO_SNDBUF, clientSndBuf());
 
-        channel.outboundPipeline().replace(this, new ClientMessageEncoder());
+        channel.outboundPipeline().replace(this, WireCompression.withEncoder(channel, new ClientMessageEncoder()));
     }
 
     private void initChannelForText() {
@@ -26,6 +26,7 @@ import com.hazelcast.core.ReadOnly;
 import com.hazelcast.map.listener.MapListener;
 import com.hazelcast.map.listener.MapPartitionLostListener;
 import com.hazelcast.projection.Projection;
+import com.hazelcast.query.PartitionPredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.spi.properties.ClusterProperty;
@@ -550,6 +551,40 @@ public interface IMap<K, V> extends ConcurrentMap<K, V>, BaseMap<K, V>, Iterable
      */
     Map<K, V> getAll(@Nullable Set<K> keys);
 
+    /**
+     * Reads the entries of the given keys like {@link #getAll(Set)}, but
+     * hands them to the consumer as they are read instead of collecting them
+     * into a single map.
+     * <p>
+     * The keys are read in chunks, so the memory used by the read is bounded
+     * regardless of the number of keys. Keys that are not found are skipped.
+     * The Near Cache, if any, is neither used nor populated.
+     * <p>
+     * The consumer is called by a single thread at a time and not on the
+     * calling thread. If the consumer throws, or a chunk can't be read, the
+     * returned stage completes exceptionally and no more chunks are read;
+     * the entries handed to the consumer until then are not rolled back.
+     * <p>
+     * On the members, the keys are read in chunks of at most
+     * {@link ClusterProperty#MAP_GET_ALL_STREAMING_CHUNK_SIZE} keys, one chunk
+     * at a time. On the client, the chunk size and the number of chunks read
+     * at the same time are configured by the client properties
+     * {@code hazelcast.client.map.bulk.chunk.size} and
+     * {@code hazelcast.client.map.bulk.max.in.flight}.
+     *
+     * <p><b>Interactions with the map store</b>
+     * <p>
+     * If any keys are not found in memory, {@link MapLoader#loadAll}
+     * is called with the missing keys of each chunk.
+     *
+     * @param keys     the keys to read (keys inside the collection cannot be null)
+     * @param consumer the consumer of the entries found
+     * @return the stage completed after all entries are handed to the consumer
+     * @throws NullPointerException if the keys or the consumer are {@code null}
+     * @since 6.0
+     */
+    CompletionStage<Void> getAllStreaming(@Nonnull Set<K> keys, @Nonnull BiConsumer<? super K, ? super V> consumer);
+
     /**
      * Loads all keys into the store. This is a batch load operation so
      * that an implementation can optimize multiple loads.
@@ -2569,6 +2604,90 @@ public interface IMap<K, V> extends ConcurrentMap<K, V>, BaseMap<K, V>, Iterable
     @Override
     Collection<V> values(@Nonnull Predicate<K, V> predicate);
 
+    /**
+     * Queries the map based on the specified predicate and returns an
+     * iterable over the keys of matching entries, which fetches the keys
+     * lazily while it is iterated.
+     * <p>
+     * Unlike {@link #keySet(Predicate)}, the result is not materialized.
+     * The partitions are queried one after another, and a partition is asked
+     * for the next batch of at most {@code fetchSize} keys only when the
+     * previous batch has been consumed, so only one batch is held in memory
+     * at a time, regardless of the size of the result. If the predicate is a
+     * {@link PartitionPredicate}, only the partitions of its partition keys
+     * are queried with its target predicate.
+     * <p>
+     * Each partition is scanned without using indexes, and the matching
+     * entries are deserialized on the members to extract their keys.
+     * <p>
+     * <b>Warning:</b>
+     * <p>
+     * The iteration may be done when the map is being mutated or when there
+     * are membership changes. The iterators do not reflect the state of the
+     * map when they have been created - they may return some keys added after
+     * the iteration has started and may not return some keys removed after
+     * the iteration has started. They will not, however, skip a key if its
+     * entry has not been changed and will not return a key twice. The
+     * {@link Iterator#remove()} method is not supported.
+     *
+     * @param predicate specified query criteria
+     * @param fetchSize the maximum number of keys fetched from a partition at once
+     * @return lazily fetched keys of the matching entries
+     * @throws NullPointerException     if the predicate is {@code null}
+     * @throws IllegalArgumentException if the fetch size is not positive or the predicate is a
+     *                                  {@link com.hazelcast.query.PagingPredicate} or is a
+     *                                  {@link PartitionPredicate} that includes a
+     *                                  {@link com.hazelcast.query.PagingPredicate}
+     * @since 6.0
+     */
+    @Nonnull
+    Iterable<K> keySetIterable(@Nonnull Predicate<K, V> predicate, int fetchSize);
+
+    /**
+     * Queries the map based on the specified predicate and returns an
+     * iterable over the matching entries, which fetches the entries lazily
+     * while it is iterated.
+     * <p>
+     * This is the lazily fetched counterpart of {@link #entrySet(Predicate)},
+     * see {@link #keySetIterable(Predicate, int)} for how the entries are
+     * fetched and which guarantees the iteration provides. The returned
+     * entries are not backed by the map.
+     *
+     * @param predicate specified query criteria
+     * @param fetchSize the maximum number of entries fetched from a partition at once
+     * @return lazily fetched matching entries
+     * @throws NullPointerException     if the predicate is {@code null}
+     * @throws IllegalArgumentException if the fetch size is not positive or the predicate is a
+     *                                  {@link com.hazelcast.query.PagingPredicate} or is a
+     *                                  {@link PartitionPredicate} that includes a
+     *                                  {@link com.hazelcast.query.PagingPredicate}
+     * @since 6.0
+     */
+    @Nonnull
+    Iterable<Map.Entry<K, V>> entrySetIterable(@Nonnull Predicate<K, V> predicate, int fetchSize);
+
+    /**
+     * Queries the map based on the specified predicate and returns an
+     * iterable over the values of matching entries, which fetches the values
+     * lazily while it is iterated.
+     * <p>
+     * This is the lazily fetched counterpart of {@link #values(Predicate)},
+     * see {@link #keySetIterable(Predicate, int)} for how the values are
+     * fetched and which guarantees the iteration provides.
+     *
+     * @param predicate specified query criteria
+     * @param fetchSize the maximum number of values fetched from a partition at once
+     * @return lazily fetched values of the matching entries
+     * @throws NullPointerException     if the predicate is {@code null}
+     * @throws IllegalArgumentException if the fetch size is not positive or the predicate is a
+     *                                  {@link com.hazelcast.query.PagingPredicate} or is a
+     *                                  {@link PartitionPredicate} that includes a
+     *                                  {@link com.hazelcast.query.PagingPredicate}
+     * @since 6.0
+     */
+    @Nonnull
+    Iterable<V> valuesIterable(@Nonnull Predicate<K, V> predicate, int fetchSize);
+
     /**
      * Returns an immutable collection locally owned values contained in this map.
      * <p>
@@ -271,6 +271,19 @@ public interface LocalMapStats extends LocalInstanceStats {
      */
     long getMerkleTreesCost();
 
+    /**
+     * Returns the number of heap bytes saved by keeping the owned and backup
+     * entries of this map in packed records, compared to the records the map
+     * would use otherwise.
+     * <p>
+     * Returns {@code 0} unless the map config enables
+     * {@link com.hazelcast.config.MapConfig#setPackedRecordsEnabled(boolean) packed records}.
+     *
+     * @return the heap bytes saved by packed records
+     * @since 6.0
+     */
+    long getPackedRecordHeapSavings();
+
     /**
      * Returns statistics related to the Near Cache.
      *
@@ -316,6 +329,62 @@ public interface LocalMapStats extends LocalInstanceStats {
         return 0L;
     }
 
+    /**
+     * Returns the number of queries which reused a cached optimized plan of
+     * their predicate on this member.
+     *
+     * @see com.hazelcast.spi.properties.ClusterProperty#QUERY_PLAN_CACHE_SIZE
+     * @since 6.0
+     */
+    default long getQueryPlanCacheHits() {
+        return 0L;
+    }
+
+    /**
+     * Returns the number of queries with a cacheable predicate which had to
+     * optimize it on this member since no cached plan was found.
+     *
+     * @see com.hazelcast.spi.properties.ClusterProperty#QUERY_PLAN_CACHE_SIZE
+     * @since 6.0
+     */
+    default long getQueryPlanCacheMisses() {
+        return 0L;
+    }
+
+    /**
+     * Returns the number of value bytes compressed by this member divided by
+     * the number of bytes they are stored in, {@code 1} if values of this map
+     * are not compressed.
+     *
+     * @see com.hazelcast.config.MapConfig#setValueCompressionEnabled(boolean)
+     * @since 6.0
+     */
+    default double getValueCompressionRatio() {
+        return 1;
+    }
+
+    /**
+     * Returns the total time in nanoseconds this member spent compressing
+     * values of this map.
+     *
+     * @see com.hazelcast.config.MapConfig#setValueCompressionEnabled(boolean)
+     * @since 6.0
+     */
+    default long getValueCompressionNanos() {
+        return 0L;
+    }
+
+    /**
+     * Returns the total time in nanoseconds this member spent decompressing
+     * values of this map.
+     *
+     * @see com.hazelcast.config.MapConfig#setValueCompressionEnabled(boolean)
+     * @since 6.0
+     */
+    default long getValueDecompressionNanos() {
+        return 0L;
+    }
+
     /**
      * Returns the per-index statistics map keyed by the index name.
      */
@@ -37,10 +37,13 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.LocalMapStats;
 import com.hazelcast.map.impl.nearcache.MapNearCacheManager;
 import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.map.impl.record.PackedDataRecord;
+import com.hazelcast.map.impl.record.ValueCompressor;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.predicates.QueryPlanCache;
 import com.hazelcast.spi.impl.NodeEngine;
 
 import java.util.Collection;
@@ -120,6 +123,7 @@ public class LocalMapStatsProvider {
         LocalMapOnDemandCalculatedStats onDemandStats = new LocalMapOnDemandCalculatedStats();
         addNearCacheStats(mapName, stats, onDemandStats);
         addIndexStats(mapName, stats);
+        addValueCompressionStats(mapName, stats);
         updateMapOnDemandStats(mapName, onDemandStats);
 
         return onDemandStats.updateAndGet(stats);
@@ -153,6 +157,7 @@ public class LocalMapStatsProvider {
             LocalMapOnDemandCalculatedStats onDemand = ((LocalMapOnDemandCalculatedStats) entry.getValue());
             addNearCacheStats(mapName, existingStats, onDemand);
             addIndexStats(mapName, existingStats);
+            addValueCompressionStats(mapName, existingStats);
             addStructureStats(mapName, onDemand);
 
             LocalMapStatsImpl updatedStats = onDemand.updateAndGet(existingStats);
@@ -240,10 +245,11 @@ public class LocalMapStatsProvider {
         onDemandStats.incrementExpirationCount(stats.getExpirationCount());
         onDemandStats.incrementDirtyEntryCount(recordStore.getMapDataStore().notFinishedOperationsCount());
         onDemandStats.incrementOwnedEntryMemoryCost(recordStore.getOwnedEntryCost());
-        if (NATIVE != recordStore.getMapContainer().getMapConfig().getInMemoryFormat()) {
+        if (isOnHeap(recordStore)) {
             onDemandStats.incrementHeapCost(recordStore.getOwnedEntryCost());
         }
         onDemandStats.incrementOwnedEntryCount(recordStore.size());
+        onDemandStats.incrementPackedRecordHeapSavings(packedRecordHeapSavings(recordStore, recordStore.size()));
         onDemandStats.setLastAccessTime(stats.getLastAccessTime());
         onDemandStats.setLastUpdateTime(stats.getLastUpdateTime());
         onDemandStats.setBackupCount(recordStore.getMapContainer().getMapConfig().getTotalBackupCount());
@@ -271,14 +277,28 @@ public class LocalMapStatsProvider {
             }
         }
 
-        if (NATIVE != recordStore.getMapContainer().getMapConfig().getInMemoryFormat()) {
+        if (isOnHeap(recordStore)) {
             onDemandStats.incrementHeapCost(backupEntryMemoryCost);
         }
         onDemandStats.incrementBackupEntryMemoryCost(backupEntryMemoryCost);
         onDemandStats.incrementBackupEntryCount(backupEntryCount);
+        onDemandStats.incrementPackedRecordHeapSavings(packedRecordHeapSavings(recordStore, backupEntryCount));
         onDemandStats.setBackupCount(recordStore.getMapContainer().getMapConfig().getTotalBackupCount());
     }
 
+    private static boolean isOnHeap(RecordStore recordStore) {
+        MapContainer mapContainer = recordStore.getMapContainer();
+        return NATIVE != mapContainer.getMapConfig().getInMemoryFormat() && !mapContainer.isOffHeapStorage();
+    }
+
+    private static long packedRecordHeapSavings(RecordStore recordStore, long entryCount) {
+        MapContainer mapContainer = recordStore.getMapContainer();
+        if (!mapContainer.isPackedRecords() || mapContainer.isOffHeapStorage()) {
+            return 0;
+        }
+        return entryCount * PackedDataRecord.heapCostSavingPerEntry(mapContainer.getMapConfig());
+    }
+
     private boolean isReplicaAvailable(Address replicaAddress, int backupCount) {
         return !(replicaAddress == null && partitionService.getMaxAllowedBackupCount() >= backupCount);
     }
@@ -344,6 +364,17 @@ public class LocalMapStatsProvider {
         onDemandStats.incrementHeapCost(nearCacheStats.getOwnedEntryMemoryCost());
     }
 
+    private void addValueCompressionStats(String mapName, LocalMapStatsImpl localMapStats) {
+        MapContainer mapContainer = mapServiceContext.getExistingMapContainer(mapName);
+        ValueCompressor valueCompressor = mapContainer == null ? null : mapContainer.getValueCompressor();
+        if (valueCompressor == null) {
+            return;
+        }
+        localMapStats.setValueCompressionRatio(valueCompressor.getCompressionRatio());
+        localMapStats.setValueCompressionNanos(valueCompressor.getCompressionNanos());
+        localMapStats.setValueDecompressionNanos(valueCompressor.getDecompressionNanos());
+    }
+
     private void addIndexStats(String mapName, LocalMapStatsImpl localMapStats) {
         MapContainer mapContainer = mapServiceContext.getExistingMapContainer(mapName);
         if (mapContainer == null) {
@@ -358,6 +389,11 @@ public class LocalMapStatsProvider {
             localMapStats.setIndexedQueryCount(indexesStats.getIndexedQueryCount());
             localMapStats.setIndexesSkippedQueryCount(indexesStats.getIndexesSkippedQueryCount());
             localMapStats.setNoMatchingIndexQueryCount(indexesStats.getNoMatchingIndexQueryCount());
+            QueryPlanCache queryPlanCache = globalIndexRegistry.getQueryPlanCache();
+            if (queryPlanCache != null) {
+                localMapStats.setQueryPlanCacheHits(queryPlanCache.getHitCount());
+                localMapStats.setQueryPlanCacheMisses(queryPlanCache.getMissCount());
+            }
             freshStats = aggregateFreshIndexStats(globalIndexRegistry.getIndexes(), null);
             finalizeFreshIndexStats(freshStats);
         } else {
@@ -441,6 +477,11 @@ public class LocalMapStatsProvider {
             freshIndexStats.setPartitionsIndexed(indexStats.getPartitionsIndexed());
             freshIndexStats.setPartitionUpdatesStarted(indexStats.getPartitionUpdatesStarted());
             freshIndexStats.setPartitionUpdatesFinished(indexStats.getPartitionUpdatesFinished());
+            freshIndexStats.setBulkInsertCount(freshIndexStats.getBulkInsertCount() + indexStats.getBulkInsertCount());
+            freshIndexStats.setBulkInsertedEntryCount(
+                    freshIndexStats.getBulkInsertedEntryCount() + indexStats.getBulkInsertedEntryCount());
+            freshIndexStats.setTotalBulkInsertLatency(
+                    freshIndexStats.getTotalBulkInsertLatency() + indexStats.getTotalBulkInsertLatency());
             freshIndexStats.setIndexNotReadyQueryCount(indexStats.getIndexNotReadyQueryCount());
         }
 
@@ -484,6 +525,7 @@ public class LocalMapStatsProvider {
         // Holds total heap cost of map & Near Cache & backups & merkle trees.
         private long heapCost;
         private long merkleTreesCost;
+        private long packedRecordHeapSavings;
         private long lockedEntryCount;
         private long dirtyEntryCount;
         private long lastAccessTime;
@@ -537,6 +579,10 @@ public class LocalMapStatsProvider {
             this.merkleTreesCost += merkleTreeCost;
         }
 
+        public void incrementPackedRecordHeapSavings(long packedRecordHeapSavings) {
+            this.packedRecordHeapSavings += packedRecordHeapSavings;
+        }
+
         public LocalMapStatsImpl updateAndGet(LocalMapStatsImpl stats) {
             stats.setBackupCount(backupCount);
             stats.setHits(hits);
@@ -548,6 +594,7 @@ public class LocalMapStatsProvider {
             stats.setBackupEntryMemoryCost(backupEntryMemoryCost);
             stats.setHeapCost(heapCost);
             stats.setMerkleTreesCost(merkleTreesCost);
+            stats.setPackedRecordHeapSavings(packedRecordHeapSavings);
             stats.setLockedEntryCount(lockedEntryCount);
             stats.setDirtyEntryCount(dirtyEntryCount);
             stats.setLastAccessTime(lastAccessTime);
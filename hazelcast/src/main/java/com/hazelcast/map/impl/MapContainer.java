@@ -23,6 +23,7 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.map.impl.eviction.Evictor;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
+import com.hazelcast.map.impl.record.ValueCompressor;
 import com.hazelcast.map.impl.wan.MapWanContext;
 import com.hazelcast.partition.PartitioningStrategy;
 import com.hazelcast.query.impl.IndexRegistry;
@@ -36,6 +37,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
+@SuppressWarnings("checkstyle:methodcount")
 public interface MapContainer {
     void init();
 
@@ -54,6 +56,27 @@ public interface MapContainer {
 
     boolean shouldUseGlobalIndex();
 
+    /**
+     * @return {@code true} if the record stores of this map keep their
+     * entries outside the Java heap, see
+     * {@link com.hazelcast.config.MapConfig#setOffHeapStorageEnabled(boolean)}
+     */
+    boolean isOffHeapStorage();
+
+    /**
+     * @return {@code true} if the records of this map pack their value
+     * and metadata into a single byte array, see
+     * {@link com.hazelcast.config.MapConfig#setPackedRecordsEnabled(boolean)}
+     */
+    boolean isPackedRecords();
+
+    /**
+     * @return the compressor of the values of this map, {@code null} unless
+     * values are compressed, see
+     * {@link com.hazelcast.config.MapConfig#setValueCompressionEnabled(boolean)}
+     */
+    ValueCompressor getValueCompressor();
+
     /**
      * Used to get index registry of one
      * of global or partitioned indexes.
@@ -123,6 +146,8 @@ public interface MapContainer {
 
     InterceptorRegistry getInterceptorRegistry();
 
+    MaterializedAggregationRegistry getMaterializedAggregationRegistry();
+
     /**
      * Callback invoked before record store and indexes are destroyed. Ensures that if map iterator observes a non-destroyed
      * state, then associated data structures are still valid.
@@ -41,6 +41,7 @@ import com.hazelcast.map.impl.eviction.EvictorImpl;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.nearcache.invalidation.InvalidationListener;
 import com.hazelcast.map.impl.query.QueryEntryFactory;
+import com.hazelcast.map.impl.record.ValueCompressor;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.map.impl.wan.MapWanContext;
 import com.hazelcast.partition.PartitioningStrategy;
@@ -63,6 +64,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.getEvictionPolicyComparator;
@@ -70,6 +72,7 @@ import static com.hazelcast.map.impl.eviction.Evictor.NULL_EVICTOR;
 import static com.hazelcast.map.impl.mapstore.MapStoreContextFactory.createMapStoreContext;
 import static com.hazelcast.query.impl.InternalIndex.GLOBAL_INDEX_NOOP_PARTITION_ID;
 import static com.hazelcast.spi.properties.ClusterProperty.MAP_EVICTION_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_PLAN_CACHE_SIZE;
 import static java.lang.System.getProperty;
 
 /**
@@ -95,6 +98,7 @@ public class MapContainerImpl implements MapContainer {
     protected final InternalSerializationService serializationService;
     protected final Function<Object, Data> toDataFunction = new ObjectToData();
     protected final InterceptorRegistry interceptorRegistry = new InterceptorRegistry();
+    protected final MaterializedAggregationRegistry materializedAggregationRegistry = new MaterializedAggregationRegistry();
     protected final ConcurrentMap<Integer, IndexRegistry> partitionedIndexRegistry = new ConcurrentHashMap<>();
 
     /**
@@ -108,6 +112,9 @@ public class MapContainerImpl implements MapContainer {
     private volatile Evictor evictor;
 
     private final MapWanContext wanContext;
+    private final boolean offHeapStorage;
+    private final boolean packedRecords;
+    private final ValueCompressor valueCompressor;
 
     private volatile boolean destroyed;
 
@@ -133,6 +140,12 @@ public class MapContainerImpl implements MapContainer {
                 .build();
         this.queryEntryFactory = new QueryEntryFactory(mapConfig.getCacheDeserializedValues(),
                 serializationService, extractors);
+        this.offHeapStorage = mapConfig.getInMemoryFormat() == BINARY && mapConfig.isOffHeapStorageEnabled();
+        this.valueCompressor = mapConfig.getInMemoryFormat() == BINARY && mapConfig.isValueCompressionEnabled()
+                ? new ValueCompressor() : null;
+        // compressed records are packed records of their own
+        this.packedRecords = valueCompressor == null
+                && mapConfig.getInMemoryFormat() == BINARY && mapConfig.isPackedRecordsEnabled();
         this.globalIndexRegistry = shouldUseGlobalIndex()
                 ? createIndexRegistry(true, GLOBAL_INDEX_NOOP_PARTITION_ID) : null;
         this.mapStoreContext = createMapStoreContext(this);
@@ -158,6 +171,7 @@ public class MapContainerImpl implements MapContainer {
         int partitionCount = mapServiceContext.getNodeEngine().getPartitionService().getPartitionCount();
 
         Node node = mapServiceContext.getNodeEngine().getNode();
+        int queryPlanCacheSize = mapServiceContext.getNodeEngine().getProperties().getInteger(QUERY_PLAN_CACHE_SIZE);
         return IndexRegistry.newBuilder(node, getName(),
                         serializationService, mapServiceContext.getIndexCopyBehavior(),
                         mapConfig.getInMemoryFormat())
@@ -169,6 +183,7 @@ public class MapContainerImpl implements MapContainer {
                 .partitionCount(partitionCount)
                 .partitionId(partitionId)
                 .resultFilterFactory(new IndexResultFilterFactory())
+                .queryPlanCacheSize(queryPlanCacheSize)
                 .build();
     }
 
@@ -243,6 +258,21 @@ public class MapContainerImpl implements MapContainer {
         return new EvictorImpl(evictionPolicyComparator, evictionChecker, evictionBatchSize, partitionService);
     }
 
+    @Override
+    public boolean isOffHeapStorage() {
+        return offHeapStorage;
+    }
+
+    @Override
+    public boolean isPackedRecords() {
+        return packedRecords;
+    }
+
+    @Override
+    public ValueCompressor getValueCompressor() {
+        return valueCompressor;
+    }
+
     @Override
     public boolean shouldUseGlobalIndex() {
         return mapConfig.getInMemoryFormat() != NATIVE
@@ -434,6 +464,11 @@ public class MapContainerImpl implements MapContainer {
         return interceptorRegistry;
     }
 
+    @Override
+    public MaterializedAggregationRegistry getMaterializedAggregationRegistry() {
+        return materializedAggregationRegistry;
+    }
+
     /**
      * Callback invoked before record store and indexes are destroyed. Ensures that if map iterator observes a non-destroyed
      * state, then associated data structures are still valid.
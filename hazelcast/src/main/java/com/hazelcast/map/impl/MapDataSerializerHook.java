@@ -37,6 +37,7 @@ import com.hazelcast.map.impl.operation.AddIndexBackupOperation;
 import com.hazelcast.map.impl.operation.AddIndexOperation;
 import com.hazelcast.map.impl.operation.AddIndexOperationFactory;
 import com.hazelcast.map.impl.operation.AddInterceptorOperation;
+import com.hazelcast.map.impl.operation.AddMaterializedAggregationOperation;
 import com.hazelcast.map.impl.operation.AwaitMapFlushOperation;
 import com.hazelcast.map.impl.operation.ClearBackupOperation;
 import com.hazelcast.map.impl.operation.ClearOperation;
@@ -56,6 +57,8 @@ import com.hazelcast.map.impl.operation.EvictBatchBackupOperation;
 import com.hazelcast.map.impl.operation.EvictOperation;
 import com.hazelcast.map.impl.operation.GetAllOperation;
 import com.hazelcast.map.impl.operation.GetEntryViewOperation;
+import com.hazelcast.map.impl.operation.GetMaterializedAggregationOperation;
+import com.hazelcast.map.impl.operation.GetMaterializedAggregationOperationFactory;
 import com.hazelcast.map.impl.operation.GetOperation;
 import com.hazelcast.map.impl.operation.IsEmptyOperationFactory;
 import com.hazelcast.map.impl.operation.IsKeyLoadFinishedOperation;
@@ -116,6 +119,7 @@ import com.hazelcast.map.impl.operation.RemoveBackupOperation;
 import com.hazelcast.map.impl.operation.RemoveFromLoadAllOperation;
 import com.hazelcast.map.impl.operation.RemoveIfSameOperation;
 import com.hazelcast.map.impl.operation.RemoveInterceptorOperation;
+import com.hazelcast.map.impl.operation.RemoveMaterializedAggregationOperation;
 import com.hazelcast.map.impl.operation.RemoveOperation;
 import com.hazelcast.map.impl.operation.ReplaceIfSameOperation;
 import com.hazelcast.map.impl.operation.ReplaceOperation;
@@ -129,6 +133,7 @@ import com.hazelcast.map.impl.operation.TryPutOperation;
 import com.hazelcast.map.impl.operation.TryRemoveOperation;
 import com.hazelcast.map.impl.operation.WriteBehindStateHolder;
 import com.hazelcast.map.impl.query.AggregationResult;
+import com.hazelcast.map.impl.query.MaterializedAggregation;
 import com.hazelcast.map.impl.query.Query;
 import com.hazelcast.map.impl.query.QueryEventFilter;
 import com.hazelcast.map.impl.query.QueryOperation;
@@ -328,8 +333,13 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int INDEX_ITERATION_POINTER = 156;
     public static final int MAP_FETCH_INDEX_OPERATION_RESULT = 157;
     public static final int MAP_CHUNK = 158;
+    public static final int MATERIALIZED_AGGREGATION = 159;
+    public static final int ADD_MATERIALIZED_AGGREGATION = 160;
+    public static final int REMOVE_MATERIALIZED_AGGREGATION = 161;
+    public static final int GET_MATERIALIZED_AGGREGATION = 162;
+    public static final int GET_MATERIALIZED_AGGREGATION_FACTORY = 163;
 
-    private static final int LEN = MAP_CHUNK + 1;
+    private static final int LEN = GET_MATERIALIZED_AGGREGATION_FACTORY + 1;
 
     @Override
     public int getFactoryId() {
@@ -497,6 +507,11 @@ public final class MapDataSerializerHook implements DataSerializerHook {
         constructors[INDEX_ITERATION_POINTER] = IndexIterationPointer::new;
         constructors[MAP_FETCH_INDEX_OPERATION_RESULT] = MapFetchIndexOperationResult::new;
         constructors[MAP_CHUNK] = MapChunk::new;
+        constructors[MATERIALIZED_AGGREGATION] = MaterializedAggregation::new;
+        constructors[ADD_MATERIALIZED_AGGREGATION] = AddMaterializedAggregationOperation::new;
+        constructors[REMOVE_MATERIALIZED_AGGREGATION] = RemoveMaterializedAggregationOperation::new;
+        constructors[GET_MATERIALIZED_AGGREGATION] = GetMaterializedAggregationOperation::new;
+        constructors[GET_MATERIALIZED_AGGREGATION_FACTORY] = GetMaterializedAggregationOperationFactory::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
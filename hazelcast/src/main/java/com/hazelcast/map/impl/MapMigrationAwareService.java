@@ -16,7 +16,6 @@
 
 package com.hazelcast.map.impl;
 
-import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataGenerator;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkSuppliers;
@@ -38,6 +37,7 @@ import com.hazelcast.map.impl.record.Records;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.IndexBulkInserter;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntry;
@@ -48,7 +48,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
-import static com.hazelcast.config.CacheDeserializedValues.NEVER;
 import static com.hazelcast.internal.partition.MigrationEndpoint.DESTINATION;
 import static com.hazelcast.internal.partition.MigrationEndpoint.SOURCE;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.flushAccumulator;
@@ -335,9 +334,8 @@ class MapMigrationAwareService
 
             IndexRegistry.beginPartitionUpdate(indexesSnapshot);
 
-            CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
-            CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER ? new CachedQueryEntry<>(serializationService,
-                    mapContainer.getExtractors()) : null;
+            IndexBulkInserter inserter = new IndexBulkInserter(indexesSnapshot, serializationService,
+                    mapContainer.getExtractors(), Index.OperationSource.SYSTEM);
             recordStore.beforeOperation();
             try {
                 recordStore.forEach((key, record) -> {
@@ -345,11 +343,10 @@ class MapMigrationAwareService
                     if (value != null) {
                         QueryableEntry queryEntry = mapContainer.newQueryEntry(key, value);
                         queryEntry.setRecord(record);
-                        CachedQueryEntry<?, ?> newEntry =
-                                cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(key, value);
-                        indexRegistry.putEntry(newEntry, null, queryEntry, Index.OperationSource.SYSTEM);
+                        inserter.add(queryEntry);
                     }
                 }, false);
+                inserter.flush();
             } finally {
                 recordStore.afterOperation();
             }
@@ -44,6 +44,7 @@ class MapPostJoinAwareService implements PostJoinAwareService {
         final Map<String, MapContainer> mapContainers = mapServiceContext.getMapContainers();
         for (MapContainer mapContainer : mapContainers.values()) {
             postJoinOp.addMapInterceptors(mapContainer);
+            postJoinOp.addMaterializedAggregations(mapContainer);
         }
         List<AccumulatorInfo> infoList = getAccumulatorInfoList();
         postJoinOp.setInfoList(infoList);
@@ -390,6 +390,7 @@ class MapServiceContextImpl implements MapServiceContext {
                 recordStoreIterator.remove();
             }
         }
+        container.invalidateLastRecordStore();
 
         postProcessNonEmptyRemovedRecordStores(removedRecordStores, partitionId, onShutdown);
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+/**
+ * Named aggregations of an {@link IMap}, which are kept up to date while
+ * the entries of the map are mutated, so that reading them doesn't scan the
+ * entries.
+ * <p>
+ * Internal, implemented by the {@link IMap} proxy of the members only. There
+ * is no client protocol support for it.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public interface MaterializedAggregationMap<K, V> {
+
+    /**
+     * Registers an aggregation under the given name, which is kept up to date
+     * while the entries of this map are mutated, so that reading it with
+     * {@link #getMaterializedAggregation(String)} doesn't scan the entries.
+     * <p>
+     * Each partition keeps its own copy of the aggregator, built with a scan
+     * of the partition on the first read and then updated on every put,
+     * update, remove, eviction and expiration of an entry matching the
+     * predicate. Reading the aggregation combines the aggregators of the
+     * partitions. Count, sum and average aggregators for integral and big
+     * number types are updated incrementally on removals, and so are min and
+     * max aggregators unless the current minimum or maximum is removed. For
+     * other aggregators a removal causes the partition to be scanned again
+     * on the next read.
+     * <p>
+     * If an aggregation with the same name is already registered, it is
+     * replaced.
+     *
+     * @param name       name of the aggregation
+     * @param aggregator aggregator to aggregate the entries with
+     * @param predicate  predicate to filter the entries with
+     * @param <R>        type of the result
+     * @throws NullPointerException     if any of the arguments is {@code null}
+     * @throws IllegalArgumentException if the predicate is a {@link com.hazelcast.query.PagingPredicate} or a
+     *                                  {@link com.hazelcast.query.PartitionPredicate}
+     * @see #getMaterializedAggregation(String)
+     * @see #removeMaterializedAggregation(String)
+     */
+    <R> void addMaterializedAggregation(@Nonnull String name,
+                                        @Nonnull Aggregator<? super Map.Entry<K, V>, R> aggregator,
+                                        @Nonnull Predicate<K, V> predicate);
+
+    /**
+     * Returns the current result of the aggregation registered under the
+     * given name with {@link #addMaterializedAggregation}.
+     *
+     * @param name name of the aggregation
+     * @param <R>  type of the result
+     * @return the result of the aggregation
+     * @throws NullPointerException     if the specified {@code name} is {@code null}
+     * @throws IllegalArgumentException if no aggregation is registered under the given name
+     */
+    <R> R getMaterializedAggregation(@Nonnull String name);
+
+    /**
+     * Removes the aggregation registered under the given name with
+     * {@link #addMaterializedAggregation}.
+     *
+     * @param name name of the aggregation
+     * @return {@code true} if the aggregation was removed, {@code false} if
+     * no aggregation was registered under the given name
+     * @throws NullPointerException if the specified {@code name} is {@code null}
+     */
+    boolean removeMaterializedAggregation(@Nonnull String name);
+}
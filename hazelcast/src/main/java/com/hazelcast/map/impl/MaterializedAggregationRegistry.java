@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.map.impl.query.MaterializedAggregation;
+import com.hazelcast.spi.impl.operationexecutor.impl.PartitionOperationThread;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Registry for the materialized aggregations of an {@code IMap}.
+ *
+ * Definitions are read on every mutation of the map by the partition
+ * threads, so they are kept in a copy-on-write map. Registration and
+ * de-registration are done in generic-operation-threads and use
+ * synchronized blocks.
+ *
+ * This registry is created per map.
+ *
+ * @see MaterializedAggregation
+ * @see com.hazelcast.map.impl.recordstore.AggregatingMutationObserver
+ */
+public class MaterializedAggregationRegistry {
+
+    private volatile Map<String, MaterializedAggregation> aggregations = emptyMap();
+
+    /**
+     * Returns the aggregation registered with the given name or {@code null}
+     * if there is no such aggregation.
+     *
+     * This method is called by {@link PartitionOperationThread}
+     */
+    public MaterializedAggregation get(String name) {
+        return aggregations.get(name);
+    }
+
+    public Map<String, MaterializedAggregation> getAll() {
+        return aggregations;
+    }
+
+    /**
+     * Registers the supplied aggregation, replacing any aggregation
+     * previously registered with the same name.
+     *
+     * This method is called by {@link com.hazelcast.spi.impl.operationexecutor.impl.GenericOperationThread}
+     * when registering via {@link com.hazelcast.map.impl.operation.AddMaterializedAggregationOperation}
+     *
+     * @param aggregation the aggregation to register
+     */
+    public synchronized void register(MaterializedAggregation aggregation) {
+        assert !(Thread.currentThread() instanceof PartitionOperationThread);
+
+        Map<String, MaterializedAggregation> tmpMap = new HashMap<>(aggregations);
+        tmpMap.put(aggregation.getName(), aggregation);
+
+        aggregations = unmodifiableMap(tmpMap);
+    }
+
+    /**
+     * De-registers the aggregation with the supplied name, if there is any.
+     *
+     * This method is called by {@link com.hazelcast.spi.impl.operationexecutor.impl.GenericOperationThread}
+     * when de-registering via {@link com.hazelcast.map.impl.operation.RemoveMaterializedAggregationOperation}
+     *
+     * @param name name of the aggregation
+     * @return {@code true} when de-registration is successful
+     * otherwise returns {@code false} to indicate there is no
+     * aggregation registered with the provided name
+     */
+    public synchronized boolean deregister(String name) {
+        assert !(Thread.currentThread() instanceof PartitionOperationThread);
+
+        if (!aggregations.containsKey(name)) {
+            return false;
+        }
+
+        Map<String, MaterializedAggregation> tmpMap = new HashMap<>(aggregations);
+        tmpMap.remove(name);
+
+        aggregations = unmodifiableMap(tmpMap);
+
+        return true;
+    }
+}
@@ -46,6 +46,13 @@ public interface PartitionContainer {
 
     RecordStore getExistingRecordStore(String mapName);
 
+    /**
+     * Forgets the record store remembered by the last lookup of a partition
+     * thread. Needs to be called after record stores are removed from
+     * {@link #getMaps()} directly.
+     */
+    void invalidateLastRecordStore();
+
     void destroyMap(MapContainer mapContainer);
 
     boolean hasRunningCleanup();
@@ -31,6 +31,7 @@ import com.hazelcast.map.impl.operation.MapClearExpiredOperation;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.spi.impl.operationexecutor.impl.PartitionOperationThread;
 import com.hazelcast.spi.impl.operationservice.OperationService;
 import com.hazelcast.spi.properties.ClusterProperty;
 
@@ -76,6 +77,14 @@ public class PartitionContainerImpl implements PartitionContainer {
      */
     private long lastCleanupTimeCopy;
 
+    /**
+     * The record store last looked up by a partition thread. Consecutive
+     * operations on the same map, e.g. the ones drained together by a
+     * {@link PartitionOperationThread}, resolve it without a lookup in
+     * {@link #maps}.
+     */
+    private volatile RecordStore lastRecordStore;
+
     public PartitionContainerImpl(final MapService mapService, final int partitionId) {
         this.mapService = mapService;
         this.partitionId = partitionId;
@@ -155,8 +164,12 @@ public class PartitionContainerImpl implements PartitionContainer {
 
     @Override
     public RecordStore getRecordStore(String name) {
-        return ConcurrencyUtil.getOrPutSynchronized(maps, name,
-                contextMutexFactory, recordStoreConstructor);
+        RecordStore recordStore = lastRecordStore(name);
+        if (recordStore != null) {
+            return recordStore;
+        }
+        return rememberRecordStore(ConcurrencyUtil.getOrPutSynchronized(maps, name,
+                contextMutexFactory, recordStoreConstructor));
     }
 
     @Override
@@ -174,7 +187,38 @@ public class PartitionContainerImpl implements PartitionContainer {
     @Override
     @Nullable
     public RecordStore getExistingRecordStore(String mapName) {
-        return maps.get(mapName);
+        RecordStore recordStore = lastRecordStore(mapName);
+        if (recordStore != null) {
+            return recordStore;
+        }
+        return rememberRecordStore(maps.get(mapName));
+    }
+
+    private RecordStore lastRecordStore(String name) {
+        RecordStore recordStore = lastRecordStore;
+        return recordStore != null && recordStore.getName().equals(name) ? recordStore : null;
+    }
+
+    private RecordStore rememberRecordStore(RecordStore recordStore) {
+        // only partition threads remember their lookups, other threads would
+        // just make the partition threads miss
+        if (recordStore != null && lastRecordStore != recordStore
+                && Thread.currentThread() instanceof PartitionOperationThread) {
+            lastRecordStore = recordStore;
+            // The record store may have been removed by another thread after
+            // it was looked up, and its invalidation may have happened before
+            // it was remembered. Checking again after publishing it ensures
+            // that a removed record store isn't kept.
+            if (maps.get(recordStore.getName()) != recordStore) {
+                lastRecordStore = null;
+            }
+        }
+        return recordStore;
+    }
+
+    @Override
+    public void invalidateLastRecordStore() {
+        lastRecordStore = null;
     }
 
     @Override
@@ -189,6 +233,7 @@ public class PartitionContainerImpl implements PartitionContainer {
 
         String name = mapContainer.getName();
         RecordStore recordStore = maps.remove(name);
+        invalidateLastRecordStore();
         if (recordStore != null) {
             // this call also clears and disposes Indexes for that partition
             recordStore.destroy();
@@ -17,9 +17,12 @@
 package com.hazelcast.map.impl.iterator;
 
 import com.hazelcast.internal.util.ConstructorFunction;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 
 /**
  * Base class for iterating map entries in the whole cluster with
@@ -32,15 +35,24 @@ import java.util.NoSuchElementException;
 public class AbstractMapQueryIterator<R> implements Iterator<R> {
 
     private final ConstructorFunction<Integer, Iterator<R>> createPartitionIterator;
-    private final int partitionCount;
+    private final PrimitiveIterator.OfInt partitionIds;
     private Iterator<R> it;
-    private int idx;
 
     public AbstractMapQueryIterator(ConstructorFunction<Integer, Iterator<R>> createPartitionIterator, int partitionCount) {
+        this(createPartitionIterator, allPartitions(partitionCount));
+    }
+
+    /**
+     * Creates an iterator which iterates only the given partitions, in the
+     * ascending order of their IDs.
+     */
+    public AbstractMapQueryIterator(ConstructorFunction<Integer, Iterator<R>> createPartitionIterator,
+                                    PartitionIdSet partitionIds) {
         this.createPartitionIterator = createPartitionIterator;
-        this.partitionCount = partitionCount;
-        idx = 0;
-        it = createPartitionIterator.createNew(idx);
+        this.partitionIds = partitionIds.intIterator();
+        it = this.partitionIds.hasNext()
+                ? createPartitionIterator.createNew(this.partitionIds.nextInt())
+                : Collections.emptyIterator();
     }
 
     @Override
@@ -54,10 +66,10 @@ public class AbstractMapQueryIterator<R> implements Iterator<R> {
     @Override
     public boolean hasNext() {
         while (!it.hasNext()) {
-            if (idx == partitionCount - 1) {
+            if (!partitionIds.hasNext()) {
                 return false;
             }
-            it = createPartitionIterator.createNew(++idx);
+            it = createPartitionIterator.createNew(partitionIds.nextInt());
         }
         return true;
     }
@@ -66,4 +78,10 @@ public class AbstractMapQueryIterator<R> implements Iterator<R> {
     public void remove() {
         throw new UnsupportedOperationException("Removing when iterating map with query is not supported");
     }
+
+    private static PartitionIdSet allPartitions(int partitionCount) {
+        PartitionIdSet partitionIds = new PartitionIdSet(partitionCount);
+        partitionIds.complement();
+        return partitionIds;
+    }
 }
@@ -16,7 +16,6 @@
 
 package com.hazelcast.map.impl.operation;
 
-import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.map.impl.MapDataSerializerHook;
@@ -24,8 +23,8 @@ import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.record.Records;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
-import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.IndexBulkInserter;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.InternalIndex;
@@ -38,8 +37,6 @@ import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
 
 import java.io.IOException;
 
-import static com.hazelcast.config.CacheDeserializedValues.NEVER;
-
 public class AddIndexOperation extends MapOperation
         implements PartitionAwareOperation, MutatingOperation, BackupAwareOperation,
                     // AddIndexOperation is used when map proxy for IMap with indexes is initialized during passive state
@@ -104,17 +101,15 @@ public class AddIndexOperation extends MapOperation
 
         index.beginPartitionUpdate();
 
-        CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
-        CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER ? new CachedQueryEntry<>(serializationService,
-                mapContainer.getExtractors()) : null;
+        IndexBulkInserter inserter = new IndexBulkInserter(new InternalIndex[]{index}, serializationService,
+                mapContainer.getExtractors(), Index.OperationSource.USER);
         recordStore.forEach((dataKey, record) -> {
             Object value = Records.getValueOrCachedValue(record, serializationService);
             QueryableEntry<?, ?> queryEntry = mapContainer.newQueryEntry(dataKey, value);
             queryEntry.setRecord(record);
-            CachedQueryEntry<?, ?> newEntry =
-                    cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(dataKey, value);
-            index.putEntry(newEntry, null, queryEntry, Index.OperationSource.USER);
+            inserter.add(queryEntry);
         }, false, false);
+        inserter.flush();
 
         index.markPartitionAsIndexed(partitionId);
 
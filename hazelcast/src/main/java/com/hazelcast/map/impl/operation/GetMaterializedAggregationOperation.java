@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.query.MaterializedAggregation;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+
+import java.io.IOException;
+
+/**
+ * Returns the aggregator of a materialized aggregation for a single
+ * partition or {@code null} if no such aggregation is registered.
+ */
+public class GetMaterializedAggregationOperation extends MapOperation
+        implements PartitionAwareOperation, ReadonlyOperation {
+
+    private String aggregationName;
+    private Aggregator aggregator;
+
+    public GetMaterializedAggregationOperation() {
+    }
+
+    public GetMaterializedAggregationOperation(String name, String aggregationName) {
+        super(name);
+        this.aggregationName = aggregationName;
+    }
+
+    @Override
+    protected void runInternal() {
+        MaterializedAggregation aggregation = mapContainer.getMaterializedAggregationRegistry().get(aggregationName);
+        if (aggregation != null) {
+            recordStore.checkIfLoaded();
+            aggregator = recordStore.getAggregatingObserver().getAggregator(aggregation);
+        }
+    }
+
+    @Override
+    public Object getResponse() {
+        return aggregator;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(aggregationName);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        aggregationName = in.readString();
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.GET_MATERIALIZED_AGGREGATION;
+    }
+}
@@ -28,6 +28,8 @@ import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.MaterializedAggregationRegistry;
+import com.hazelcast.map.impl.query.MaterializedAggregation;
 import com.hazelcast.map.impl.querycache.QueryCacheContext;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfoSupplier;
@@ -37,21 +39,25 @@ import com.hazelcast.map.impl.querycache.publisher.PublisherRegistry;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.TargetAware;
 
 import java.io.IOException;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 
-public class PostJoinMapOperation extends Operation implements IdentifiedDataSerializable, TargetAware {
+public class PostJoinMapOperation extends Operation implements IdentifiedDataSerializable, TargetAware, Versioned {
 
     private List<InterceptorInfo> interceptorInfoList = new LinkedList<>();
+    private List<MaterializedAggregation> materializedAggregations = new ArrayList<>();
     private List<AccumulatorInfo> infoList;
 
     @Override
@@ -78,6 +84,10 @@ public class PostJoinMapOperation extends Operation implements IdentifiedDataSer
         interceptorInfoList.add(interceptorInfo);
     }
 
+    public void addMaterializedAggregations(MapContainer mapContainer) {
+        materializedAggregations.addAll(mapContainer.getMaterializedAggregationRegistry().getAll().values());
+    }
+
     public static class InterceptorInfo implements IdentifiedDataSerializable {
 
         private String mapName;
@@ -150,6 +160,13 @@ public class PostJoinMapOperation extends Operation implements IdentifiedDataSer
                 }
             }
         }
+        for (MaterializedAggregation aggregation : materializedAggregations) {
+            MaterializedAggregationRegistry registry = mapServiceContext.getMapContainer(aggregation.getMapName())
+                    .getMaterializedAggregationRegistry();
+            if (registry.get(aggregation.getName()) == null) {
+                registry.register(aggregation);
+            }
+        }
         createQueryCaches();
     }
 
@@ -188,6 +205,9 @@ public class PostJoinMapOperation extends Operation implements IdentifiedDataSer
 
         SerializationUtil.writeList(interceptorInfoList, out);
         SerializationUtil.writeList(infoList, out);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            SerializationUtil.writeList(materializedAggregations, out);
+        }
     }
 
     @Override
@@ -199,6 +219,9 @@ public class PostJoinMapOperation extends Operation implements IdentifiedDataSer
             interceptorInfoList.add(in.readObject());
         }
         infoList = SerializationUtil.readList(in);
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            materializedAggregations = SerializationUtil.readList(in);
+        }
     }
 
 
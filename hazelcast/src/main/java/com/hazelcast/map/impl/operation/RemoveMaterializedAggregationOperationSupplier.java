@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.util.function.Supplier;
+
+public class RemoveMaterializedAggregationOperationSupplier implements Supplier<Operation> {
+
+    private final String name;
+    private final String aggregationName;
+
+    public RemoveMaterializedAggregationOperationSupplier(String name, String aggregationName) {
+        this.name = name;
+        this.aggregationName = aggregationName;
+    }
+
+    @Override
+    public Operation get() {
+        return new RemoveMaterializedAggregationOperation(name, aggregationName);
+    }
+}
@@ -39,8 +39,10 @@ import com.hazelcast.map.impl.ComputeIfPresentEntryProcessor;
 import com.hazelcast.map.impl.KeyValueConsumingEntryProcessor;
 import com.hazelcast.map.impl.MapEntryReplacingEntryProcessor;
 import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MaterializedAggregationMap;
 import com.hazelcast.map.impl.MergeEntryProcessor;
 import com.hazelcast.map.impl.SimpleEntryView;
+import com.hazelcast.map.impl.iterator.AbstractMapQueryIterator;
 import com.hazelcast.map.impl.iterator.MapIterable;
 import com.hazelcast.map.impl.iterator.MapIterator;
 import com.hazelcast.map.impl.iterator.MapPartitionIterable;
@@ -60,7 +62,9 @@ import com.hazelcast.map.impl.querycache.subscriber.SubscriberContext;
 import com.hazelcast.map.listener.MapListener;
 import com.hazelcast.map.listener.MapPartitionLostListener;
 import com.hazelcast.projection.Projection;
+import com.hazelcast.projection.Projections;
 import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.PartitionPredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
 import com.hazelcast.ringbuffer.ReadResultSet;
@@ -88,6 +92,7 @@ import java.util.function.Function;
 
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
+import static com.hazelcast.internal.util.Preconditions.checkFalse;
 import static com.hazelcast.internal.util.Preconditions.checkNoNullInside;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
@@ -98,6 +103,8 @@ import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
 import static com.hazelcast.map.impl.query.QueryResultUtils.transformToSet;
 import static com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest.newQueryCacheRequest;
 import static com.hazelcast.map.impl.record.Record.UNSET;
+import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
+import static com.hazelcast.query.QueryConstants.THIS_ATTRIBUTE_NAME;
 import static com.hazelcast.query.impl.predicates.PredicateUtils.checkDoesNotContainPagingPredicate;
 import static com.hazelcast.spi.impl.InternalCompletableFuture.newCompletedFuture;
 import static com.hazelcast.spi.impl.InternalCompletableFuture.newDelegatingFuture;
@@ -110,7 +117,8 @@ import static java.util.Collections.emptyMap;
  * @param <V> the value type of map.
  */
 @SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:ClassDataAbstractionCoupling", "MethodCount"})
-public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJournalReader<EventJournalMapEvent<K, V>> {
+public class MapProxyImpl<K, V> extends MapProxySupport<K, V>
+        implements EventJournalReader<EventJournalMapEvent<K, V>>, MaterializedAggregationMap<K, V> {
 
     public MapProxyImpl(String name, MapService mapService, NodeEngine nodeEngine, MapConfig mapConfig) {
         super(name, mapService, nodeEngine, mapConfig);
@@ -485,6 +493,15 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return Collections.unmodifiableMap(result);
     }
 
+    @Override
+    public InternalCompletableFuture<Void> getAllStreaming(@Nonnull Set<K> keys,
+                                                           @Nonnull BiConsumer<? super K, ? super V> consumer) {
+        checkNotNull(keys, "Null keys are not allowed");
+        checkNotNull(consumer, "Null consumer is not allowed");
+
+        return getAllStreamingInternal(keys, consumer);
+    }
+
     @Override
     public boolean setTtl(@Nonnull K key, long ttl, @Nonnull TimeUnit timeunit) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
@@ -816,6 +833,49 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return executePredicate(predicate, IterationType.VALUE, false, Target.createPartitionTarget(partitions));
     }
 
+    @Nonnull
+    @Override
+    public Iterable<K> keySetIterable(@Nonnull Predicate<K, V> predicate, int fetchSize) {
+        return queryResultIterable(predicate, fetchSize,
+                Projections.<Map.Entry<K, V>, K>singleAttribute(KEY_ATTRIBUTE_NAME.value()), "keySetIterable");
+    }
+
+    @Nonnull
+    @Override
+    public Iterable<Map.Entry<K, V>> entrySetIterable(@Nonnull Predicate<K, V> predicate, int fetchSize) {
+        return queryResultIterable(predicate, fetchSize, Projections.<Map.Entry<K, V>>identity(), "entrySetIterable");
+    }
+
+    @Nonnull
+    @Override
+    public Iterable<V> valuesIterable(@Nonnull Predicate<K, V> predicate, int fetchSize) {
+        return queryResultIterable(predicate, fetchSize,
+                Projections.<Map.Entry<K, V>, V>singleAttribute(THIS_ATTRIBUTE_NAME.value()), "valuesIterable");
+    }
+
+    private <R> Iterable<R> queryResultIterable(Predicate<K, V> predicate, int fetchSize,
+                                                Projection<? super Map.Entry<K, V>, R> projection, String methodName) {
+        checkNotNull(predicate, NULL_PREDICATE_IS_NOT_ALLOWED);
+        checkPositive("fetchSize", fetchSize);
+        checkDoesNotContainPagingPredicate(predicate, methodName);
+
+        PartitionIdSet partitionIds;
+        Predicate<K, V> target;
+        if (predicate instanceof PartitionPredicate<K, V> partitionPredicate) {
+            partitionIds = partitionService.getPartitionIdSet(
+                    partitionPredicate.getPartitionKeys().stream().map(this::toDataWithStrategy));
+            target = partitionPredicate.getTarget();
+        } else {
+            partitionIds = new PartitionIdSet(partitionService.getPartitionCount());
+            partitionIds.complement();
+            target = predicate;
+        }
+        handleHazelcastInstanceAwareParams(target);
+        return () -> new AbstractMapQueryIterator<>(
+                partitionId -> new MapQueryPartitionIterator<>(this, fetchSize, partitionId, target, projection),
+                partitionIds);
+    }
+
     private Set executePredicate(Predicate predicate, IterationType iterationType, boolean uniqueResult, Target target) {
         checkNotNull(predicate, NULL_PREDICATE_IS_NOT_ALLOWED);
         QueryResult result = executeQueryInternal(predicate, iterationType, target);
@@ -937,6 +997,34 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return result.<R>getAggregator().aggregate();
     }
 
+    @Override
+    public <R> void addMaterializedAggregation(@Nonnull String name,
+                                               @Nonnull Aggregator<? super Map.Entry<K, V>, R> aggregator,
+                                               @Nonnull Predicate<K, V> predicate) {
+        checkNotNull(name, "Aggregation name should not be null!");
+        checkNotNull(aggregator, NULL_AGGREGATOR_IS_NOT_ALLOWED);
+        checkNotNull(predicate, NULL_PREDICATE_IS_NOT_ALLOWED);
+        checkDoesNotContainPagingPredicate(predicate, "addMaterializedAggregation");
+        checkFalse(predicate instanceof PartitionPredicate,
+                "PartitionPredicate is not supported by addMaterializedAggregation");
+
+        addMaterializedAggregationInternal(name, aggregator, predicate);
+    }
+
+    @Override
+    public <R> R getMaterializedAggregation(@Nonnull String name) {
+        checkNotNull(name, "Aggregation name should not be null!");
+
+        return getMaterializedAggregationInternal(name);
+    }
+
+    @Override
+    public boolean removeMaterializedAggregation(@Nonnull String name) {
+        checkNotNull(name, "Aggregation name should not be null!");
+
+        return removeMaterializedAggregationInternal(name);
+    }
+
     @Override
     public <R> Collection<R> project(@Nonnull Projection<? super Map.Entry<K, V>, R> projection) {
         return project(projection, Predicates.alwaysTrue());
@@ -59,13 +59,17 @@ import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.event.MapEventPublisher;
 import com.hazelcast.map.impl.operation.AddIndexOperationFactory;
 import com.hazelcast.map.impl.operation.AddInterceptorOperationSupplier;
+import com.hazelcast.map.impl.operation.AddMaterializedAggregationOperationSupplier;
 import com.hazelcast.map.impl.operation.AwaitMapFlushOperation;
 import com.hazelcast.map.impl.operation.IsEmptyOperationFactory;
 import com.hazelcast.map.impl.operation.IsKeyLoadFinishedOperation;
+import com.hazelcast.map.impl.operation.GetMaterializedAggregationOperationFactory;
 import com.hazelcast.map.impl.operation.IsPartitionLoadedOperationFactory;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
 import com.hazelcast.map.impl.operation.RemoveInterceptorOperationSupplier;
+import com.hazelcast.map.impl.operation.RemoveMaterializedAggregationOperationSupplier;
+import com.hazelcast.map.impl.query.MaterializedAggregation;
 import com.hazelcast.map.impl.query.Query;
 import com.hazelcast.map.impl.query.QueryEngine;
 import com.hazelcast.map.impl.query.QueryEventFilter;
@@ -137,6 +141,7 @@ import static com.hazelcast.map.impl.query.Target.createPartitionTarget;
 import static com.hazelcast.query.Predicates.alwaysFalse;
 import static com.hazelcast.spi.impl.InternalCompletableFuture.newCompletedFuture;
 import static com.hazelcast.spi.properties.ClusterProperty.FAIL_ON_INDETERMINATE_OPERATION_STATE;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_GET_ALL_STREAMING_CHUNK_SIZE;
 import static java.lang.Math.ceil;
 import static java.lang.Math.log10;
 import static java.lang.Math.min;
@@ -228,6 +233,7 @@ abstract class MapProxySupport<K, V>
 
     private final int putAllBatchSize;
     private final float putAllInitialSizeFactor;
+    private final int getAllStreamingChunkSize;
 
     protected MapProxySupport(String name, MapService service, NodeEngine nodeEngine, MapConfig mapConfig) {
         super(nodeEngine, service);
@@ -251,6 +257,7 @@ abstract class MapProxySupport<K, V>
 
         this.putAllBatchSize = properties.getInteger(MAP_PUT_ALL_BATCH_SIZE);
         this.putAllInitialSizeFactor = properties.getFloat(MAP_PUT_ALL_INITIAL_SIZE_FACTOR);
+        this.getAllStreamingChunkSize = properties.getInteger(MAP_GET_ALL_STREAMING_CHUNK_SIZE);
         // default value the same as in OperationService
         this.failOnIndeterminateOperationState = properties.getBoolean(FAIL_ON_INDETERMINATE_OPERATION_STATE);
     }
@@ -919,6 +926,50 @@ abstract class MapProxySupport<K, V>
         }
     }
 
+    protected InternalCompletableFuture<Void> getAllStreamingInternal(Set<K> keys,
+                                                                    BiConsumer<? super K, ? super V> consumer) {
+        List<Data> dataKeys = new ArrayList<>(keys.size());
+        toDataCollectionWithNonNullKeyValidation(keys, dataKeys);
+        InternalCompletableFuture<Void> future = new InternalCompletableFuture<>();
+        getAllStreamingChunk(dataKeys, 0, consumer, future);
+        return future;
+    }
+
+    /**
+     * Reads the chunk of the given keys starting at the given index, hands
+     * the entries to the consumer and then continues with the next chunk.
+     */
+    private void getAllStreamingChunk(List<Data> dataKeys, int from, BiConsumer<? super K, ? super V> consumer,
+                                      InternalCompletableFuture<Void> future) {
+        if (from >= dataKeys.size()) {
+            future.complete(null);
+            return;
+        }
+        List<Data> chunk = new ArrayList<>(dataKeys.subList(from, min(from + getAllStreamingChunkSize, dataKeys.size())));
+        OperationFactory operationFactory = operationProvider.createGetAllOperationFactory(name, chunk);
+        long startTimeNanos = Timer.nanos();
+        operationService.<Object>invokeOnPartitionsAsync(SERVICE_NAME, operationFactory, getPartitionsForKeys(chunk))
+                .whenCompleteAsync((responses, throwable) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                        return;
+                    }
+                    localMapStats.incrementGetLatencyNanos(chunk.size(), Timer.nanosElapsed(startTimeNanos));
+                    try {
+                        for (Object response : responses.values()) {
+                            MapEntries entries = toObject(response);
+                            for (int i = 0; i < entries.size(); i++) {
+                                consumer.accept(toObject(entries.getKey(i)), toObject(entries.getValue(i)));
+                            }
+                        }
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                        return;
+                    }
+                    getAllStreamingChunk(dataKeys, from + chunk.size(), consumer, future);
+                }, ConcurrencyUtil.getDefaultAsyncExecutor());
+    }
+
     private Collection<Integer> getPartitionsForKeys(Collection<Data> keys) {
         int partitions = partitionService.getPartitionCount();
         // TODO: is there better way to estimate the size?
@@ -1195,6 +1246,40 @@ abstract class MapProxySupport<K, V>
         return syncInvokeOnAllMembers(new RemoveInterceptorOperationSupplier(name, id));
     }
 
+    protected void addMaterializedAggregationInternal(String aggregationName, Aggregator aggregator, Predicate predicate) {
+        MaterializedAggregation aggregation = new MaterializedAggregation(name, aggregationName, aggregator, predicate);
+        syncInvokeOnAllMembers(new AddMaterializedAggregationOperationSupplier(name, aggregation));
+    }
+
+    protected boolean removeMaterializedAggregationInternal(String aggregationName) {
+        return syncInvokeOnAllMembers(new RemoveMaterializedAggregationOperationSupplier(name, aggregationName));
+    }
+
+    protected <R> R getMaterializedAggregationInternal(String aggregationName) {
+        try {
+            OperationFactory operationFactory = new GetMaterializedAggregationOperationFactory(name, aggregationName);
+            Map<Integer, Object> results = operationService.invokeOnAllPartitions(SERVICE_NAME, operationFactory);
+            incrementOtherOperationsStat();
+            Aggregator<?, R> result = null;
+            for (Object object : results.values()) {
+                Aggregator aggregator = toObject(object);
+                if (aggregator == null) {
+                    throw new IllegalArgumentException("No materialized aggregation '" + aggregationName
+                            + "' is registered on map '" + name + "'");
+                }
+                if (result == null) {
+                    result = aggregator;
+                } else {
+                    result.combine(aggregator);
+                }
+            }
+            result.onCombinationFinished();
+            return result.aggregate();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
     private <T> T syncInvokeOnAllMembers(Supplier<Operation> operationSupplier) {
         CompletableFuture<Object> future = invokeOnStableClusterSerial(getNodeEngine(),
                 operationSupplier, MAX_RETRIES);
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.internal.namespace.NamespaceUtil;
+import com.hazelcast.internal.namespace.impl.NodeEngineThreadLocalContext;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.spi.impl.NodeEngine;
+
+import java.io.IOException;
+
+/**
+ * Definition of a named aggregation registered on a map, which is kept up
+ * to date by the record stores while the entries of the map are mutated.
+ * <p>
+ * The aggregator of the definition is a prototype: each partition
+ * accumulates into a copy of it, see {@link #newAggregator}.
+ *
+ * @see com.hazelcast.map.impl.recordstore.AggregatingMutationObserver
+ */
+public class MaterializedAggregation implements IdentifiedDataSerializable {
+
+    private String mapName;
+    private String name;
+    private Aggregator aggregator;
+    private Predicate predicate;
+
+    public MaterializedAggregation() {
+    }
+
+    public MaterializedAggregation(String mapName, String name, Aggregator aggregator, Predicate predicate) {
+        this.mapName = mapName;
+        this.name = name;
+        this.aggregator = aggregator;
+        this.predicate = predicate;
+    }
+
+    public String getMapName() {
+        return mapName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Predicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns a new, empty copy of the prototype aggregator.
+     */
+    public Aggregator newAggregator(SerializationService ss) {
+        return ss.toObject(ss.toData(aggregator));
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.MATERIALIZED_AGGREGATION;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeString(mapName);
+        out.writeString(name);
+        out.writeObject(aggregator);
+        out.writeObject(predicate);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        mapName = in.readString();
+        name = in.readString();
+        NodeEngine engine = NodeEngineThreadLocalContext.getNodeEngineThreadLocalContext();
+        String namespace = MapService.lookupNamespace(engine, mapName);
+        aggregator = NamespaceUtil.callWithNamespace(engine, namespace, in::readObject);
+        predicate = NamespaceUtil.callWithNamespace(engine, namespace, in::readObject);
+    }
+
+    @Override
+    public String toString() {
+        return "MaterializedAggregation{"
+                + "mapName='" + mapName + '\''
+                + ", name='" + name + '\''
+                + ", aggregator=" + aggregator
+                + ", predicate=" + predicate
+                + '}';
+    }
+}
@@ -89,8 +89,13 @@ public class QueryOperation extends AbstractNamedOperation implements ReadonlyOp
         switch (getMapInMemoryFormat()) {
             case BINARY:
             case OBJECT:
-                result = queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query);
-                return RESPONSE;
+                if (!getMapServiceContext().getMapContainer(name).isOffHeapStorage()) {
+                    result = queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query);
+                    return RESPONSE;
+                }
+                // off-heap storages may only be scanned
+                // on partition threads, same as NATIVE ones
+                // fall through
             case NATIVE:
                 boolean useGlobalIndex = getMapServiceContext().getMapContainer(getName()).shouldUseGlobalIndex();
 
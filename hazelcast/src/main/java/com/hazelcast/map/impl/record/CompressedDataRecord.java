@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+
+/**
+ * Packed record which keeps its value compressed by the
+ * {@link ValueCompressor} of its map and decompresses it on every read.
+ * <p>
+ * It keeps per-entry stats, so that it serves any eviction policy.
+ */
+class CompressedDataRecord extends PackedDataRecordWithStats {
+
+    private final ValueCompressor compressor;
+
+    CompressedDataRecord(Data value, ValueCompressor compressor) {
+        super(null);
+        this.compressor = compressor;
+        setValue(value);
+    }
+
+    @Override
+    byte[] toPayload(Data value) {
+        return compressor.compress(value);
+    }
+
+    @Override
+    Data toValue(byte[] slab, int offset) {
+        return compressor.decompress(slab, offset);
+    }
+
+    @Override
+    public long getCost() {
+        return super.getCost() + REFERENCE_COST_IN_BYTES;
+    }
+}
@@ -44,6 +44,15 @@ public class DataRecordFactory implements RecordFactory<Data> {
 
         Data valueData = ss.toData(value);
 
+        ValueCompressor valueCompressor = mapContainer.getValueCompressor();
+        if (valueCompressor != null) {
+            return new CompressedDataRecord(valueData, valueCompressor);
+        }
+
+        if (mapContainer.isPackedRecords()) {
+            return newPackedRecord(valueData, mapConfig, perEntryStatsEnabled, hasEviction);
+        }
+
         switch (cacheDeserializedValues) {
             case NEVER:
                 return newSimpleRecord(valueData, mapConfig, perEntryStatsEnabled, hasEviction);
@@ -52,6 +61,31 @@ public class DataRecordFactory implements RecordFactory<Data> {
         }
     }
 
+    private Record<Data> newPackedRecord(Data valueData, MapConfig mapConfig,
+                                         boolean perEntryStatsEnabled, boolean hasEviction) {
+        if (perEntryStatsEnabled) {
+            return new PackedDataRecordWithStats(valueData);
+        }
+
+        if (hasEviction) {
+            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.LRU) {
+                return new PackedDataRecordWithLRUEviction(valueData);
+            }
+
+            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.LFU) {
+                return new PackedDataRecordWithLFUEviction(valueData);
+            }
+
+            if (mapConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.RANDOM) {
+                return new PackedDataRecord(valueData);
+            }
+
+            return new PackedDataRecordWithStats(valueData);
+        }
+
+        return new PackedDataRecord(valueData);
+    }
+
     private Record<Data> newCachedSimpleRecord(Data valueData, MapConfig mapConfig,
                                                boolean perEntryStatsEnabled, boolean hasEviction) {
         if (perEntryStatsEnabled) {
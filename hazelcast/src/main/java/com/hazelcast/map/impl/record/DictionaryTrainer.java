@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.record;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readLongB;
+
+/**
+ * Trains a compression dictionary on sample payloads, in the spirit of the
+ * COVER algorithm of zstd.
+ * <p>
+ * Every 8-byte sequence (d-mer) of the samples is scored by the number of
+ * samples it occurs in. Overlapping segments of the samples are scored by
+ * the sum of the scores of their d-mers which occur in more than one sample,
+ * and the best segments are picked as long as they contribute a d-mer not
+ * covered by an already picked segment. The best segments are placed at the
+ * end of the dictionary, where a deflater finds them at the shortest
+ * distance.
+ */
+final class DictionaryTrainer {
+
+    static final int SEGMENT_SIZE = 32;
+
+    private DictionaryTrainer() {
+    }
+
+    /**
+     * @return the dictionary, empty if the samples have nothing in common
+     */
+    static byte[] train(List<byte[]> samples, int maxDictionarySize) {
+        Map<Long, int[]> frequencies = countSamplesPerDmer(samples);
+
+        List<Segment> segments = new ArrayList<>();
+        for (byte[] sample : samples) {
+            for (int start = 0; start + LONG_SIZE_IN_BYTES <= sample.length; start += SEGMENT_SIZE / 2) {
+                Segment segment = new Segment(sample, start, Math.min(start + SEGMENT_SIZE, sample.length));
+                segment.score = segment.score(frequencies);
+                if (segment.score > 0) {
+                    segments.add(segment);
+                }
+            }
+        }
+        segments.sort(Comparator.comparingLong((Segment segment) -> segment.score).reversed());
+
+        List<Segment> picked = new ArrayList<>();
+        int size = 0;
+        for (int i = 0; i < segments.size() && size < maxDictionarySize; i++) {
+            Segment segment = segments.get(i);
+            if (segment.cover(frequencies)) {
+                picked.add(segment);
+                size += segment.end - segment.start;
+            }
+        }
+
+        byte[] dictionary = new byte[Math.min(size, maxDictionarySize)];
+        int position = dictionary.length;
+        for (int i = 0; i < picked.size() && position > 0; i++) {
+            Segment segment = picked.get(i);
+            int length = Math.min(segment.end - segment.start, position);
+            position -= length;
+            System.arraycopy(segment.sample, segment.end - length, dictionary, position, length);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Returns the number of samples each d-mer occurs in, the second element
+     * of the value is the index of the last sample it was seen in.
+     */
+    private static Map<Long, int[]> countSamplesPerDmer(List<byte[]> samples) {
+        Map<Long, int[]> frequencies = new HashMap<>();
+        for (int sampleIndex = 0; sampleIndex < samples.size(); sampleIndex++) {
+            byte[] sample = samples.get(sampleIndex);
+            for (int i = 0; i + LONG_SIZE_IN_BYTES <= sample.length; i++) {
+                int[] frequency = frequencies.computeIfAbsent(readLongB(sample, i), dmer -> new int[]{0, -1});
+                if (frequency[1] != sampleIndex) {
+                    frequency[0]++;
+                    frequency[1] = sampleIndex;
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    private static final class Segment {
+
+        final byte[] sample;
+        final int start;
+        final int end;
+        long score;
+
+        Segment(byte[] sample, int start, int end) {
+            this.sample = sample;
+            this.start = start;
+            this.end = end;
+        }
+
+        long score(Map<Long, int[]> frequencies) {
+            long score = 0;
+            for (int i = start; i + LONG_SIZE_IN_BYTES <= end; i++) {
+                int frequency = frequencies.get(readLongB(sample, i))[0];
+                if (frequency > 1) {
+                    score += frequency;
+                }
+            }
+            return score;
+        }
+
+        /**
+         * Marks the d-mers of this segment as covered.
+         *
+         * @return {@code true} if any of them occurs in more than one sample
+         * and was not covered yet
+         */
+        boolean cover(Map<Long, int[]> frequencies) {
+            boolean covered = false;
+            for (int i = start; i + LONG_SIZE_IN_BYTES <= end; i++) {
+                int[] frequency = frequencies.get(readLongB(sample, i));
+                if (frequency[0] > 1) {
+                    frequency[0] = 0;
+                    covered = true;
+                }
+            }
+            return covered;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_READER_WRITER;
+
+/**
+ * Record which keeps its metadata and the bytes of its value in one
+ * {@code byte[]}, so that a record costs a single array instead of a
+ * record object, a {@link HeapData} and its array.
+ * <p>
+ * Layout of the slab: the metadata ints of the record, followed by the
+ * payload of the value. An empty payload stands for a {@code null} value.
+ * This record only has a version, subclasses add the metadata needed by
+ * the eviction policy or by per-entry stats.
+ * <p>
+ * Used when the map config enables
+ * {@link com.hazelcast.config.MapConfig#setPackedRecordsEnabled(boolean) packed records}.
+ */
+public class PackedDataRecord implements Record<Data> {
+
+    static final int VERSION_OFFSET = 0;
+
+    private static final int METADATA_SIZE = INT_SIZE_IN_BYTES;
+    private static final int ARRAY_HEADER_SIZE_IN_BYTES = 16;
+
+    protected volatile byte[] slab;
+
+    PackedDataRecord(Data value) {
+        setValue(value);
+    }
+
+    /**
+     * Returns the number of heap bytes a packed record saves compared to
+     * the record {@link DataRecordFactory} creates for the same map config.
+     * A packed record has neither a separate {@link HeapData} object nor a
+     * reference to a cached deserialized value.
+     */
+    public static long heapCostSavingPerEntry(MapConfig mapConfig) {
+        long saving = OBJECT_HEADER_SIZE + REFERENCE_COST_IN_BYTES;
+        if (mapConfig.getCacheDeserializedValues() != CacheDeserializedValues.NEVER) {
+            saving += REFERENCE_COST_IN_BYTES;
+        }
+        return saving;
+    }
+
+    /**
+     * @return number of bytes at the start of the slab reserved for metadata
+     */
+    int metadataSize() {
+        return METADATA_SIZE;
+    }
+
+    /**
+     * Writes the initial metadata of a newly created record.
+     */
+    void initMetadata(byte[] newSlab) {
+        // version starts from 0
+    }
+
+    final int readMetadata(int offset) {
+        return readIntB(slab, offset);
+    }
+
+    final void writeMetadata(int offset, int value) {
+        writeIntB(slab, offset, value);
+    }
+
+    /**
+     * Returns the payload the slab keeps for the given value.
+     */
+    byte[] toPayload(Data value) {
+        return value.toByteArray();
+    }
+
+    /**
+     * Returns the value of the payload which starts at the given offset and
+     * ends with the slab.
+     */
+    Data toValue(byte[] slab, int offset) {
+        return new HeapData(Arrays.copyOfRange(slab, offset, slab.length));
+    }
+
+    @Override
+    public Data getValue() {
+        byte[] slab = this.slab;
+        int metadataSize = metadataSize();
+        if (slab.length == metadataSize) {
+            return null;
+        }
+        return toValue(slab, metadataSize);
+    }
+
+    @Override
+    public void setValue(Data value) {
+        byte[] payload = value == null ? null : toPayload(value);
+        int metadataSize = metadataSize();
+        byte[] newSlab = new byte[metadataSize + (payload == null ? 0 : payload.length)];
+        byte[] oldSlab = slab;
+        if (oldSlab == null) {
+            initMetadata(newSlab);
+        } else {
+            System.arraycopy(oldSlab, 0, newSlab, 0, metadataSize);
+        }
+        if (payload != null) {
+            System.arraycopy(payload, 0, newSlab, metadataSize, payload.length);
+        }
+        slab = newSlab;
+    }
+
+    @Override
+    public long getCost() {
+        return OBJECT_HEADER_SIZE + REFERENCE_COST_IN_BYTES
+                + ARRAY_HEADER_SIZE_IN_BYTES + slab.length;
+    }
+
+    @Override
+    public final int getVersion() {
+        return readMetadata(VERSION_OFFSET);
+    }
+
+    @Override
+    public final void setVersion(int version) {
+        writeMetadata(VERSION_OFFSET, version);
+    }
+
+    @Override
+    public void onAccess(long now) {
+        // NOP
+    }
+
+    @Override
+    public void onStore() {
+        // NOP
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return SIMPLE_DATA_RECORD_READER_WRITER;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PackedDataRecord that = (PackedDataRecord) o;
+        return Arrays.equals(slab, that.slab);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(slab);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{"
+                + "value=" + getValue()
+                + ", version=" + getVersion()
+                + '}';
+    }
+}
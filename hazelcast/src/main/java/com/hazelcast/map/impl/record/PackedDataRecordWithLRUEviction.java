@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER;
+
+/**
+ * Packed counterpart of {@link SimpleRecordWithLRUEviction}.
+ */
+class PackedDataRecordWithLRUEviction extends PackedDataRecord {
+
+    private static final int LAST_ACCESS_TIME_OFFSET = VERSION_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int METADATA_SIZE = LAST_ACCESS_TIME_OFFSET + INT_SIZE_IN_BYTES;
+
+    PackedDataRecordWithLRUEviction(Data value) {
+        super(value);
+    }
+
+    @Override
+    int metadataSize() {
+        return METADATA_SIZE;
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return recomputeWithBaseTime(getRawLastAccessTime());
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        setRawLastAccessTime(stripBaseTime(lastAccessTime));
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return readMetadata(LAST_ACCESS_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        writeMetadata(LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER;
+    }
+
+    @Override
+    public void onAccess(long now) {
+        setLastAccessTime(now);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.Clock;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+
+/**
+ * Packed counterpart of {@link DataRecordWithStats}.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+class PackedDataRecordWithStats extends PackedDataRecord {
+
+    private static final int HITS_OFFSET = VERSION_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int LAST_ACCESS_TIME_OFFSET = HITS_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int LAST_UPDATE_TIME_OFFSET = LAST_ACCESS_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int CREATION_TIME_OFFSET = LAST_UPDATE_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int LAST_STORED_TIME_OFFSET = CREATION_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int METADATA_SIZE = LAST_STORED_TIME_OFFSET + INT_SIZE_IN_BYTES;
+
+    PackedDataRecordWithStats(Data value) {
+        super(value);
+    }
+
+    @Override
+    int metadataSize() {
+        return METADATA_SIZE;
+    }
+
+    @Override
+    void initMetadata(byte[] newSlab) {
+        for (int offset = LAST_ACCESS_TIME_OFFSET; offset < METADATA_SIZE; offset += INT_SIZE_IN_BYTES) {
+            writeIntB(newSlab, offset, UNSET);
+        }
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return recomputeWithBaseTime(getRawLastAccessTime());
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        setRawLastAccessTime(stripBaseTime(lastAccessTime));
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return recomputeWithBaseTime(getRawLastUpdateTime());
+    }
+
+    @Override
+    public void setLastUpdateTime(long lastUpdateTime) {
+        setRawLastUpdateTime(stripBaseTime(lastUpdateTime));
+    }
+
+    @Override
+    public long getCreationTime() {
+        return recomputeWithBaseTime(getRawCreationTime());
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        setRawCreationTime(stripBaseTime(creationTime));
+    }
+
+    @Override
+    public int getHits() {
+        return readMetadata(HITS_OFFSET);
+    }
+
+    @Override
+    public void setHits(int hits) {
+        writeMetadata(HITS_OFFSET, hits);
+    }
+
+    @Override
+    public long getLastStoredTime() {
+        int lastStoredTime = getRawLastStoredTime();
+        return lastStoredTime == UNSET ? 0L : recomputeWithBaseTime(lastStoredTime);
+    }
+
+    @Override
+    public void setLastStoredTime(long lastStoredTime) {
+        setRawLastStoredTime(stripBaseTime(lastStoredTime));
+    }
+
+    @Override
+    public int getRawCreationTime() {
+        return readMetadata(CREATION_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawCreationTime(int creationTime) {
+        writeMetadata(CREATION_TIME_OFFSET, creationTime);
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return readMetadata(LAST_ACCESS_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        writeMetadata(LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+    }
+
+    @Override
+    public int getRawLastUpdateTime() {
+        return readMetadata(LAST_UPDATE_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastUpdateTime(int lastUpdateTime) {
+        writeMetadata(LAST_UPDATE_TIME_OFFSET, lastUpdateTime);
+    }
+
+    @Override
+    public int getRawLastStoredTime() {
+        return readMetadata(LAST_STORED_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastStoredTime(int lastStoredTime) {
+        writeMetadata(LAST_STORED_TIME_OFFSET, lastStoredTime);
+    }
+
+    @Override
+    public void onAccess(long now) {
+        incrementHits();
+        setLastAccessTime(now);
+    }
+
+    @Override
+    public void onStore() {
+        setLastStoredTime(Clock.currentTimeMillis());
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return DATA_RECORD_WITH_STATS_READER_WRITER;
+    }
+}
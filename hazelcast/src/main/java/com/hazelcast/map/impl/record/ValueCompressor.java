@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.readLongB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.serialization.impl.HeapData.DATA_OFFSET;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.TYPE_COMPACT_WITH_SCHEMA;
+
+/**
+ * Compresses the values of a map with deflate and dictionaries trained per
+ * Compact schema or Portable class.
+ * <p>
+ * The first {@value #SAMPLE_COUNT} values of a schema are stored as they are
+ * and sampled, then a dictionary is trained on the samples by
+ * {@link DictionaryTrainer}. Values of the schema stored afterwards are
+ * compressed with the dictionary unless that doesn't make them smaller.
+ * Values of other types are never compressed. Dictionaries are local to the
+ * member, replicas of a value are compressed by the member keeping them.
+ * <p>
+ * Payload of a stored value: a {@link #RAW} byte followed by the bytes of the
+ * value, or a {@link #COMPRESSED} byte followed by the dictionary ID, the
+ * length of the value and the deflated bytes of the value.
+ */
+public class ValueCompressor {
+
+    static final byte RAW = 0;
+    static final byte COMPRESSED = 1;
+    static final int SAMPLE_COUNT = 32;
+    static final int MAX_SAMPLE_SIZE = 1024;
+    static final int MAX_DICTIONARY_SIZE = 8 * 1024;
+    static final int MAX_DICTIONARIES = 256;
+
+    private static final int COMPRESSED_HEADER_SIZE = BYTE_SIZE_IN_BYTES + 2 * INT_SIZE_IN_BYTES;
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(
+            () -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    /**
+     * Keyed by the schema ID of the Compact values.
+     */
+    private final ConcurrentMap<Long, SchemaDictionary> compactDictionaries = new ConcurrentHashMap<>();
+    /**
+     * Keyed by the factory ID and the class ID of the Portable values.
+     */
+    private final ConcurrentMap<Long, SchemaDictionary> portableDictionaries = new ConcurrentHashMap<>();
+    private final LongAdder inputBytes = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+    private final LongAdder decompressionNanos = new LongAdder();
+    private volatile byte[][] dictionaries = new byte[0][];
+
+    /**
+     * Returns the payload a record keeps for the given value.
+     */
+    public byte[] compress(Data value) {
+        long start = System.nanoTime();
+        byte[] bytes = value.toByteArray();
+        byte[] dictionary = null;
+        int dictionaryId = -1;
+        SchemaDictionary schemaDictionary = schemaDictionaryOf(value, bytes);
+        if (schemaDictionary != null) {
+            dictionaryId = schemaDictionary.dictionaryId;
+            dictionary = dictionaryId < 0 ? null : dictionaries[dictionaryId];
+        }
+        byte[] payload = dictionary == null ? null : deflate(bytes, dictionary, dictionaryId);
+        if (payload == null) {
+            payload = new byte[BYTE_SIZE_IN_BYTES + bytes.length];
+            payload[0] = RAW;
+            System.arraycopy(bytes, 0, payload, BYTE_SIZE_IN_BYTES, bytes.length);
+        }
+        inputBytes.add(bytes.length);
+        storedBytes.add(payload.length);
+        compressionNanos.add(System.nanoTime() - start);
+        return payload;
+    }
+
+    /**
+     * Returns the value of the payload which starts at the given offset and
+     * ends with the array.
+     */
+    public Data decompress(byte[] bytes, int offset) {
+        if (bytes[offset] == RAW) {
+            return new HeapData(Arrays.copyOfRange(bytes, offset + BYTE_SIZE_IN_BYTES, bytes.length));
+        }
+        long start = System.nanoTime();
+        byte[] dictionary = dictionaries[readIntB(bytes, offset + BYTE_SIZE_IN_BYTES)];
+        byte[] value = new byte[readIntB(bytes, offset + BYTE_SIZE_IN_BYTES + INT_SIZE_IN_BYTES)];
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        try {
+            inflater.setDictionary(dictionary);
+            inflater.setInput(bytes, offset + COMPRESSED_HEADER_SIZE, bytes.length - offset - COMPRESSED_HEADER_SIZE);
+            if (inflater.inflate(value) != value.length) {
+                throw new HazelcastException("Compressed value is truncated");
+            }
+        } catch (DataFormatException e) {
+            throw new HazelcastException("Compressed value is corrupt", e);
+        }
+        decompressionNanos.add(System.nanoTime() - start);
+        return new HeapData(value);
+    }
+
+    /**
+     * Returns the number of value bytes passed to {@link #compress} divided
+     * by the number of bytes of the payloads it returned, {@code 1} if no
+     * value has been compressed yet.
+     */
+    public double getCompressionRatio() {
+        long stored = storedBytes.sum();
+        return stored == 0 ? 1 : (double) inputBytes.sum() / stored;
+    }
+
+    public long getCompressionNanos() {
+        return compressionNanos.sum();
+    }
+
+    public long getDecompressionNanos() {
+        return decompressionNanos.sum();
+    }
+
+    /**
+     * Returns the dictionary state of the schema of the value, samples the
+     * value while the schema has no dictionary yet. Returns {@code null} for
+     * values without schema.
+     */
+    private SchemaDictionary schemaDictionaryOf(Data value, byte[] bytes) {
+        ConcurrentMap<Long, SchemaDictionary> schemaDictionaries;
+        if (value.isCompact() || value.getType() == TYPE_COMPACT_WITH_SCHEMA) {
+            // Compact values start with the schema ID, also when the schema itself
+            // is embedded after it, see CompactStreamSerializer#writeSchema
+            schemaDictionaries = compactDictionaries;
+        } else if (value.isPortable()) {
+            // Portable values start with the factory ID followed by the class ID
+            schemaDictionaries = portableDictionaries;
+        } else {
+            return null;
+        }
+        if (bytes.length < DATA_OFFSET + LONG_SIZE_IN_BYTES) {
+            return null;
+        }
+
+        long schemaKey = readLongB(bytes, DATA_OFFSET);
+        SchemaDictionary schemaDictionary = schemaDictionaries.get(schemaKey);
+        if (schemaDictionary == null) {
+            if (compactDictionaries.size() + portableDictionaries.size() >= MAX_DICTIONARIES) {
+                return null;
+            }
+            schemaDictionary = schemaDictionaries.computeIfAbsent(schemaKey, key -> new SchemaDictionary());
+        }
+        if (schemaDictionary.samples != null) {
+            schemaDictionary.sample(bytes);
+        }
+        return schemaDictionary;
+    }
+
+    private synchronized int addDictionary(byte[] dictionary) {
+        byte[][] current = dictionaries;
+        if (current.length == MAX_DICTIONARIES) {
+            return -1;
+        }
+        byte[][] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = dictionary;
+        dictionaries = updated;
+        return current.length;
+    }
+
+    /**
+     * @return the payload, {@code null} if it is not smaller than the value
+     */
+    private static byte[] deflate(byte[] bytes, byte[] dictionary, int dictionaryId) {
+        byte[] payload = new byte[BYTE_SIZE_IN_BYTES + bytes.length];
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setDictionary(dictionary);
+        deflater.setInput(bytes);
+        deflater.finish();
+        int length = deflater.deflate(payload, COMPRESSED_HEADER_SIZE, payload.length - COMPRESSED_HEADER_SIZE);
+        if (!deflater.finished()) {
+            return null;
+        }
+        payload[0] = COMPRESSED;
+        writeIntB(payload, BYTE_SIZE_IN_BYTES, dictionaryId);
+        writeIntB(payload, BYTE_SIZE_IN_BYTES + INT_SIZE_IN_BYTES, bytes.length);
+        return Arrays.copyOf(payload, COMPRESSED_HEADER_SIZE + length);
+    }
+
+    /**
+     * Dictionary of a schema. Collects samples until a dictionary is trained.
+     */
+    private final class SchemaDictionary {
+
+        volatile int dictionaryId = -1;
+        volatile List<byte[]> samples = new ArrayList<>(SAMPLE_COUNT);
+
+        synchronized void sample(byte[] bytes) {
+            List<byte[]> samples = this.samples;
+            if (samples == null) {
+                return;
+            }
+            samples.add(bytes.length > MAX_SAMPLE_SIZE ? Arrays.copyOf(bytes, MAX_SAMPLE_SIZE) : bytes);
+            if (samples.size() == SAMPLE_COUNT) {
+                byte[] dictionary = DictionaryTrainer.train(samples, MAX_DICTIONARY_SIZE);
+                if (dictionary.length > 0) {
+                    dictionaryId = addDictionary(dictionary);
+                }
+                this.samples = null;
+            }
+        }
+    }
+}
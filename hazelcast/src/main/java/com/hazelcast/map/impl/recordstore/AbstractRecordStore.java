@@ -47,6 +47,9 @@ import com.hazelcast.wan.impl.CallerProvenance;
 
 import javax.annotation.Nonnull;
 
+import static com.hazelcast.memory.MemoryUnit.MEGABYTES;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_OFF_HEAP_STORAGE_PARTITION_MAX_SIZE_MB;
+
 /**
  * Contains record store common parts.
  */
@@ -68,6 +71,7 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     protected RecordFactory recordFactory;
     protected Storage<Data, Record> storage;
     protected IndexingMutationObserver<Record> indexingObserver;
+    protected AggregatingMutationObserver<Record> aggregatingObserver;
 
     protected AbstractRecordStore(MapContainer mapContainer, int partitionId) {
         this.name = mapContainer.getName();
@@ -87,6 +91,9 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     // overridden in different context
     RecordFactory createRecordFactory() {
         MapConfig mapConfig = mapContainer.getMapConfig();
+        if (mapContainer.isOffHeapStorage()) {
+            return new OffHeapRecordFactory(serializationService);
+        }
         switch (mapConfig.getInMemoryFormat()) {
             case BINARY:
                 return new DataRecordFactory(mapContainer, serializationService);
@@ -130,12 +137,21 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         // Add observer for indexing
         indexingObserver = new IndexingMutationObserver<>(this, serializationService);
         mutationObserver.add(indexingObserver);
+
+        // Add observer for materialized aggregations
+        aggregatingObserver = new AggregatingMutationObserver<>(this, serializationService);
+        mutationObserver.add(aggregatingObserver);
     }
 
     public IndexingMutationObserver<Record> getIndexingObserver() {
         return indexingObserver;
     }
 
+    @Override
+    public AggregatingMutationObserver<Record> getAggregatingObserver() {
+        return aggregatingObserver;
+    }
+
     @Override
     public InMemoryFormat getInMemoryFormat() {
         return inMemoryFormat;
@@ -175,6 +191,11 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     }
 
     public Storage createStorage(RecordFactory recordFactory, InMemoryFormat memoryFormat) {
+        if (mapContainer.isOffHeapStorage()) {
+            long capacity = MEGABYTES.toBytes(mapServiceContext.getNodeEngine().getProperties()
+                    .getLong(MAP_OFF_HEAP_STORAGE_PARTITION_MAX_SIZE_MB));
+            return new OffHeapStorage(capacity, getExpirySystem(), serializationService);
+        }
         return new StorageImpl(memoryFormat, getExpirySystem(), serializationService);
     }
 
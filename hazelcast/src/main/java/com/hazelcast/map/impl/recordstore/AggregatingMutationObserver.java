@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.aggregation.impl.AbstractAggregator;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MaterializedAggregationRegistry;
+import com.hazelcast.map.impl.query.MaterializedAggregation;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static com.hazelcast.map.impl.record.Records.getValueOrCachedValue;
+
+/**
+ * Keeps the materialized aggregations of a map up to date on a single
+ * partition.
+ * <p>
+ * The aggregator of a partition is built by a full scan of the partition on
+ * the first read and then updated on every put, update, load, remove,
+ * eviction and expiration of a primary entry. Old values are taken back with
+ * {@link AbstractAggregator#deaccumulate}; if the aggregator can't take a
+ * value back, or anything else invalidates it (backup mutations, replication,
+ * clear, reset), it is dropped and rebuilt on the next read.
+ * <p>
+ * Accessed by the partition thread only.
+ *
+ * @see MaterializedAggregation
+ */
+public class AggregatingMutationObserver<R extends Record> implements MutationObserver<R> {
+
+    private final MapContainer mapContainer;
+    private final SerializationService ss;
+    private final RecordStore recordStore;
+    private final MaterializedAggregationRegistry registry;
+    private final Map<String, PartitionAggregation> aggregations = new HashMap<>();
+    /**
+     * The value of the record being updated, passed between
+     * {@link #onBeforeUpdateRecord} and {@link #onUpdateRecord}.
+     */
+    private Object previousValue;
+
+    public AggregatingMutationObserver(RecordStore recordStore, SerializationService ss) {
+        this.mapContainer = recordStore.getMapContainer();
+        this.recordStore = recordStore;
+        this.registry = mapContainer.getMaterializedAggregationRegistry();
+        this.ss = ss;
+    }
+
+    @Override
+    public void onPutRecord(@Nonnull Data key, R record, Object oldValue, boolean backup) {
+        // a new record, the old value (if any) was never accumulated
+        if (backup) {
+            invalidate();
+        } else {
+            accumulate(key, getValueOrCachedValue(record, ss));
+        }
+    }
+
+    @Override
+    public void onReplicationPutRecord(@Nonnull Data key, @Nonnull R record, boolean populateIndex) {
+        invalidate();
+    }
+
+    @Override
+    public void onBeforeUpdateRecord(@Nonnull Data key, @Nonnull R record, Object previousValue, boolean backup) {
+        // taken back once the update succeeded, so a failed update leaves the aggregations intact
+        this.previousValue = previousValue;
+    }
+
+    @Override
+    public void onUpdateRecord(@Nonnull Data key, @Nonnull R record,
+                               Object oldValue, Object newValue, boolean backup) {
+        Object previousValue = this.previousValue;
+        this.previousValue = null;
+        if (backup || previousValue == null) {
+            invalidate();
+        } else {
+            deaccumulate(key, previousValue);
+            accumulate(key, getValueOrCachedValue(record, ss));
+        }
+    }
+
+    @Override
+    public void onRemoveRecord(@Nonnull Data key, R record, boolean backup) {
+        if (backup) {
+            invalidate();
+        } else {
+            deaccumulate(key, getValueOrCachedValue(record, ss));
+        }
+    }
+
+    @Override
+    public void onEvictRecord(@Nonnull Data key, @Nonnull R record, boolean backup) {
+        onRemoveRecord(key, record, backup);
+    }
+
+    @Override
+    public void onLoadRecord(@Nonnull Data key, @Nonnull R record, boolean backup) {
+        onPutRecord(key, record, null, backup);
+    }
+
+    @Override
+    public void onReset() {
+        invalidate();
+    }
+
+    @Override
+    public void onClear() {
+        invalidate();
+    }
+
+    @Override
+    public void onDestroy(boolean isDuringShutdown, boolean internal) {
+        invalidate();
+    }
+
+    /**
+     * Returns a copy of the aggregator of this partition for the given
+     * aggregation, building it by a full scan of the partition if needed.
+     * The accumulation of the returned copy is already finished.
+     */
+    public Aggregator getAggregator(MaterializedAggregation definition) {
+        PartitionAggregation aggregation = aggregations.get(definition.getName());
+        if (aggregation == null || aggregation.definition != definition) {
+            aggregation = build(definition);
+            aggregations.put(definition.getName(), aggregation);
+        }
+        Aggregator aggregator = ss.toObject(ss.toData(aggregation.aggregator));
+        aggregator.onAccumulationFinished();
+        return aggregator;
+    }
+
+    private PartitionAggregation build(MaterializedAggregation definition) {
+        Aggregator aggregator = definition.newAggregator(ss);
+        // expired records are included as they are taken back once removed
+        recordStore.forEach((BiConsumer<Data, Record>) (dataKey, record) -> {
+            QueryableEntry entry = newEntry(dataKey, getValueOrCachedValue(record, ss));
+            if (definition.getPredicate().apply(entry)) {
+                aggregator.accumulate(entry);
+            }
+        }, false, true);
+        return new PartitionAggregation(definition, aggregator);
+    }
+
+    private void accumulate(Data key, Object value) {
+        if (aggregations.isEmpty()) {
+            return;
+        }
+        QueryableEntry entry = null;
+        Iterator<PartitionAggregation> iterator = aggregations.values().iterator();
+        while (iterator.hasNext()) {
+            PartitionAggregation aggregation = iterator.next();
+            if (!aggregation.isRegistered()) {
+                iterator.remove();
+                continue;
+            }
+            entry = entry == null ? newEntry(key, value) : entry;
+            try {
+                if (aggregation.definition.getPredicate().apply(entry)) {
+                    aggregation.aggregator.accumulate(entry);
+                }
+            } catch (RuntimeException e) {
+                // don't fail the mutation, the rebuild reports the failure to the reader
+                iterator.remove();
+            }
+        }
+    }
+
+    private void deaccumulate(Data key, Object value) {
+        if (aggregations.isEmpty()) {
+            return;
+        }
+        QueryableEntry entry = null;
+        Iterator<PartitionAggregation> iterator = aggregations.values().iterator();
+        while (iterator.hasNext()) {
+            PartitionAggregation aggregation = iterator.next();
+            if (!aggregation.isRegistered()) {
+                iterator.remove();
+                continue;
+            }
+            entry = entry == null ? newEntry(key, value) : entry;
+            try {
+                if (aggregation.definition.getPredicate().apply(entry) && !aggregation.deaccumulate(entry)) {
+                    iterator.remove();
+                }
+            } catch (RuntimeException e) {
+                // don't fail the mutation, the rebuild reports the failure to the reader
+                iterator.remove();
+            }
+        }
+    }
+
+    private void invalidate() {
+        if (!aggregations.isEmpty()) {
+            aggregations.clear();
+        }
+    }
+
+    private QueryableEntry newEntry(Data key, Object value) {
+        return mapContainer.newQueryEntry(recordStore.getStorage().toBackingDataKeyFormat(key), value);
+    }
+
+    private final class PartitionAggregation {
+
+        private final MaterializedAggregation definition;
+        private final Aggregator aggregator;
+
+        PartitionAggregation(MaterializedAggregation definition, Aggregator aggregator) {
+            this.definition = definition;
+            this.aggregator = aggregator;
+        }
+
+        boolean isRegistered() {
+            return registry.get(definition.getName()) == definition;
+        }
+
+        @SuppressWarnings("unchecked")
+        boolean deaccumulate(QueryableEntry entry) {
+            return aggregator instanceof AbstractAggregator abstractAggregator && abstractAggregator.deaccumulate(entry);
+        }
+    }
+}
@@ -98,6 +98,24 @@ class CompositeMutationObserver<R extends Record> implements MutationObserver<R>
         }
     }
 
+    @Override
+    public void onBeforeUpdateRecord(@Nonnull Data key, @Nonnull R record, Object previousValue, boolean backup) {
+        Throwable throwable = null;
+        for (int i = 0; i < mutationObservers.size(); i++) {
+            try {
+                mutationObservers.get(i).onBeforeUpdateRecord(key, record, previousValue, backup);
+            } catch (Throwable t) {
+                if (throwable == null) {
+                    throwable = t;
+                }
+            }
+        }
+
+        if (throwable != null) {
+            throw rethrow(throwable);
+        }
+    }
+
     @Override
     public void onUpdateRecord(@Nonnull Data key, @Nonnull R record,
                                Object oldValue, Object newValue, boolean backup) {
@@ -1092,12 +1092,15 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
                                   boolean store, boolean countAsAccess, boolean backup) {
         updateRecord0(record, now, countAsAccess);
 
+        // taken before a post-processing map store replaces the value of the record
+        Object previousValue = oldValue != null ? oldValue : copyToHeapWhenNeeded(record.getValue());
         if (mapDataStore != EMPTY_MAP_DATA_STORE && store) {
             newValue = putIntoMapStore(record, key, newValue,
                     ttl, maxIdle, now, transactionId);
         }
 
-        return updateMemory(record, key, oldValue, newValue, changeExpiryOnUpdate,
+        mutationObserver.onBeforeUpdateRecord(key, record, previousValue, backup);
+        return updateMemory0(record, key, oldValue, newValue, changeExpiryOnUpdate,
                 ttl, maxIdle, expiryTime, now, backup);
     }
 
@@ -1114,6 +1117,16 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
     public Object updateMemory(Record record, Data key, Object oldValue, Object newValue,
                                boolean changeExpiryOnUpdate, long ttl, long maxIdle,
                                long expiryTime, long now, boolean backup) {
+        mutationObserver.onBeforeUpdateRecord(key, record,
+                oldValue != null ? oldValue : copyToHeapWhenNeeded(record.getValue()), backup);
+        return updateMemory0(record, key, oldValue, newValue, changeExpiryOnUpdate,
+                ttl, maxIdle, expiryTime, now, backup);
+    }
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    private Object updateMemory0(Record record, Data key, Object oldValue, Object newValue,
+                                 boolean changeExpiryOnUpdate, long ttl, long maxIdle,
+                                 long expiryTime, long now, boolean backup) {
         Record latestRecordAfterUpdate = storage.updateRecordValue(key, record, newValue);
         if (changeExpiryOnUpdate) {
             expirySystem.add(key, ttl, maxIdle, expiryTime, now, now);
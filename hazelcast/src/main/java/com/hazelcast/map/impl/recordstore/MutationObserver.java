@@ -51,6 +51,22 @@ public interface MutationObserver<R extends Record> {
      */
     void onReplicationPutRecord(@Nonnull Data key, @Nonnull R record, boolean populateIndex);
 
+    /**
+     * Called before the value of a record is replaced in the observed
+     * {@link RecordStore}. If the update succeeds, it is followed by
+     * {@link #onUpdateRecord}.
+     *
+     * @param key           The key of the record
+     * @param record        The record which is about to be updated
+     * @param previousValue The value of the record before the update,
+     *                      taken before a post-processing map store
+     *                      could replace it
+     * @param backup        {@code true} if this method is
+     *                      called by a backup operation, otherwise {@code false}
+     */
+    default void onBeforeUpdateRecord(@Nonnull Data key, @Nonnull R record, Object previousValue, boolean backup) {
+    }
+
     /**
      * Called when a new record is updated
      * in the observed {@link RecordStore}
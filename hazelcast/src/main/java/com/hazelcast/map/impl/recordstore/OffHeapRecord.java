@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReaderWriter;
+
+import java.util.Arrays;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+
+/**
+ * {@link Record} of an {@link OffHeapStorage}.
+ * <p>
+ * A record is either <em>attached</em>, in which case it is a flyweight over
+ * an entry block in the storage's memory and all reads and writes go to that
+ * block, or <em>detached</em>, in which case it holds its value and metadata
+ * on-heap. Records are created detached by the {@link OffHeapRecordFactory}
+ * and are attached by {@link OffHeapStorage#put}; removing an entry detaches
+ * the record passed to {@link OffHeapStorage#removeRecord} so that it stays
+ * readable afterwards.
+ * <p>
+ * Layout of an entry block:
+ * <pre>
+ * +--------------+----------------+-------------------+---------------------+-----------+-----------+
+ * | key length   | value length   | value capacity    | metadata            | key bytes | value     |
+ * | int          | int (-1: null) | int               | 6 ints, key hash    |           | bytes     |
+ * +--------------+----------------+-------------------+---------------------+-----------+-----------+
+ * </pre>
+ * Timestamps are stored as seconds relative to
+ * {@link com.hazelcast.internal.util.TimeStripUtil#EPOCH_TIME_MILLIS}, just
+ * like {@link com.hazelcast.map.impl.record.AbstractRecord} does.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class OffHeapRecord implements Record<Data> {
+
+    static final int KEY_LENGTH_OFFSET = 0;
+    static final int VALUE_LENGTH_OFFSET = KEY_LENGTH_OFFSET + INT_SIZE_IN_BYTES;
+    static final int VALUE_CAPACITY_OFFSET = VALUE_LENGTH_OFFSET + INT_SIZE_IN_BYTES;
+    static final int METADATA_OFFSET = VALUE_CAPACITY_OFFSET + INT_SIZE_IN_BYTES;
+    static final int VERSION_OFFSET = METADATA_OFFSET;
+    static final int HITS_OFFSET = VERSION_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_ACCESS_TIME_OFFSET = HITS_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_UPDATE_TIME_OFFSET = LAST_ACCESS_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int CREATION_TIME_OFFSET = LAST_UPDATE_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int LAST_STORED_TIME_OFFSET = CREATION_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int KEY_HASH_OFFSET = LAST_STORED_TIME_OFFSET + INT_SIZE_IN_BYTES;
+    static final int HEADER_SIZE = KEY_HASH_OFFSET + INT_SIZE_IN_BYTES;
+    static final int METADATA_SIZE = KEY_HASH_OFFSET - METADATA_OFFSET;
+
+    static final int NULL_VALUE_LENGTH = -1;
+
+    private static final int METADATA_COUNT = METADATA_SIZE / INT_SIZE_IN_BYTES;
+    private static final int DETACHED_COST = OBJECT_HEADER_SIZE + METADATA_SIZE;
+
+    private MemoryAccessor mem;
+    private long address = NULL_ADDRESS;
+
+    private Data detachedValue;
+    private int[] detachedMetadata;
+
+    OffHeapRecord(Data value) {
+        this.detachedValue = value;
+        this.detachedMetadata = new int[METADATA_COUNT];
+        Arrays.fill(detachedMetadata, UNSET);
+        detachedMetadata[(VERSION_OFFSET - METADATA_OFFSET) / INT_SIZE_IN_BYTES] = 0;
+        detachedMetadata[(HITS_OFFSET - METADATA_OFFSET) / INT_SIZE_IN_BYTES] = 0;
+    }
+
+    OffHeapRecord(MemoryAccessor mem, long address) {
+        this.mem = mem;
+        this.address = address;
+    }
+
+    long getAddress() {
+        return address;
+    }
+
+    boolean isAttached() {
+        return address != NULL_ADDRESS;
+    }
+
+    void attach(MemoryAccessor mem, long address) {
+        this.mem = mem;
+        this.address = address;
+        this.detachedValue = null;
+        this.detachedMetadata = null;
+    }
+
+    /**
+     * Copies the value and metadata of the entry block to the heap, so the
+     * record stays usable after the block is freed.
+     */
+    void detach() {
+        if (!isAttached()) {
+            return;
+        }
+        Data value = getValue();
+        int[] metadata = new int[METADATA_COUNT];
+        for (int i = 0; i < METADATA_COUNT; i++) {
+            metadata[i] = mem.getInt(address + METADATA_OFFSET + (long) i * INT_SIZE_IN_BYTES);
+        }
+        this.address = NULL_ADDRESS;
+        this.mem = null;
+        this.detachedValue = value;
+        this.detachedMetadata = metadata;
+    }
+
+    void setDetachedValue(Data value) {
+        assert !isAttached();
+        this.detachedValue = value;
+    }
+
+    @Override
+    public Data getValue() {
+        if (!isAttached()) {
+            return detachedValue;
+        }
+        int valueLength = mem.getInt(address + VALUE_LENGTH_OFFSET);
+        if (valueLength == NULL_VALUE_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[valueLength];
+        int keyLength = mem.getInt(address + KEY_LENGTH_OFFSET);
+        mem.copyToByteArray(address + HEADER_SIZE + keyLength, bytes, 0, valueLength);
+        return new HeapData(bytes);
+    }
+
+    /**
+     * Value changes of attached records must go through
+     * {@link OffHeapStorage#updateRecordValue}, since the new value may
+     * need a bigger entry block.
+     */
+    @Override
+    public void setValue(Data value) {
+        if (isAttached()) {
+            throw new UnsupportedOperationException("Values of attached records are updated through the storage");
+        }
+        this.detachedValue = value;
+    }
+
+    @Override
+    public long getCost() {
+        if (!isAttached()) {
+            return DETACHED_COST + (detachedValue == null ? 0 : detachedValue.getHeapCost());
+        }
+        return HEADER_SIZE + mem.getInt(address + KEY_LENGTH_OFFSET) + mem.getInt(address + VALUE_CAPACITY_OFFSET);
+    }
+
+    @Override
+    public int getVersion() {
+        return getMetadata(VERSION_OFFSET);
+    }
+
+    @Override
+    public void setVersion(int version) {
+        setMetadata(VERSION_OFFSET, version);
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return recomputeWithBaseTime(getRawLastAccessTime());
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        setRawLastAccessTime(stripBaseTime(lastAccessTime));
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return recomputeWithBaseTime(getRawLastUpdateTime());
+    }
+
+    @Override
+    public void setLastUpdateTime(long lastUpdateTime) {
+        setRawLastUpdateTime(stripBaseTime(lastUpdateTime));
+    }
+
+    @Override
+    public long getCreationTime() {
+        return recomputeWithBaseTime(getRawCreationTime());
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        setRawCreationTime(stripBaseTime(creationTime));
+    }
+
+    @Override
+    public int getHits() {
+        return getMetadata(HITS_OFFSET);
+    }
+
+    @Override
+    public void setHits(int hits) {
+        setMetadata(HITS_OFFSET, hits);
+    }
+
+    @Override
+    public long getLastStoredTime() {
+        int lastStoredTime = getRawLastStoredTime();
+        return lastStoredTime == UNSET ? 0L : recomputeWithBaseTime(lastStoredTime);
+    }
+
+    @Override
+    public void setLastStoredTime(long lastStoredTime) {
+        setRawLastStoredTime(stripBaseTime(lastStoredTime));
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return DATA_RECORD_WITH_STATS_READER_WRITER;
+    }
+
+    @Override
+    public int getRawCreationTime() {
+        return getMetadata(CREATION_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawCreationTime(int creationTime) {
+        setMetadata(CREATION_TIME_OFFSET, creationTime);
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return getMetadata(LAST_ACCESS_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        setMetadata(LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+    }
+
+    @Override
+    public int getRawLastUpdateTime() {
+        return getMetadata(LAST_UPDATE_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastUpdateTime(int lastUpdateTime) {
+        setMetadata(LAST_UPDATE_TIME_OFFSET, lastUpdateTime);
+    }
+
+    @Override
+    public int getRawLastStoredTime() {
+        return getMetadata(LAST_STORED_TIME_OFFSET);
+    }
+
+    @Override
+    public void setRawLastStoredTime(int lastStoredTime) {
+        setMetadata(LAST_STORED_TIME_OFFSET, lastStoredTime);
+    }
+
+    private int getMetadata(int offset) {
+        return isAttached()
+                ? mem.getInt(address + offset)
+                : detachedMetadata[(offset - METADATA_OFFSET) / INT_SIZE_IN_BYTES];
+    }
+
+    private void setMetadata(int offset, int value) {
+        if (isAttached()) {
+            mem.putInt(address + offset, value);
+        } else {
+            detachedMetadata[(offset - METADATA_OFFSET) / INT_SIZE_IN_BYTES] = value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapRecord{"
+                + "address=" + address
+                + ", version=" + getVersion()
+                + ", hits=" + getHits()
+                + ", lastAccessTime=" + getRawLastAccessTime()
+                + ", lastUpdateTime=" + getRawLastUpdateTime()
+                + ", creationTime=" + getRawCreationTime()
+                + '}';
+    }
+}
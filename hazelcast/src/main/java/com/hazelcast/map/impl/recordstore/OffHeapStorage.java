@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.impl.DirectBufferMemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.map.impl.OwnedEntryCostEstimatorFactory.createMapSizeEstimator;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.HEADER_SIZE;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.KEY_HASH_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.KEY_LENGTH_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.NULL_VALUE_LENGTH;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.VALUE_CAPACITY_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.VALUE_LENGTH_OFFSET;
+
+/**
+ * {@link Storage} which keeps keys, values and record metadata out of the
+ * Java heap, in memory managed by a {@link DirectBufferMemoryManager}.
+ * <p>
+ * Entries are indexed by an open-addressing hash table with linear probing,
+ * which lives in the same memory. A slot holds the address of the entry
+ * block (see {@link OffHeapRecord} for its layout) and the hash of the key,
+ * so probing compares keys only on hash matches. Removed entries leave
+ * tombstones behind, which keeps slot positions stable for the cursor
+ * based iteration; tombstones are purged when the table is rehashed.
+ * <p>
+ * Records handed out by this storage are flyweights over the entry blocks,
+ * they are allocated per lookup and are short-lived. Keys and values are
+ * copied to the heap whenever they leave the storage.
+ * <p>
+ * Not thread-safe, all accesses must happen on the partition thread which
+ * owns the record store. Only {@link #size()} and the cost estimation can
+ * be read from other threads.
+ */
+@SuppressWarnings({"checkstyle:methodcount", "checkstyle:classdataabstractioncoupling"})
+public class OffHeapStorage implements Storage<Data, OffHeapRecord> {
+
+    static final int SLOT_SIZE = 16;
+    static final int DEFAULT_INITIAL_CAPACITY = 256;
+    static final int MIN_SLAB_SIZE = 1 << 13;
+
+    private static final int SLOT_HASH_OFFSET = 8;
+    private static final long TOMBSTONE = -1L;
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final int INITIAL_KEY_BUFFER_SIZE = 64;
+
+    private final DirectBufferMemoryManager memoryManager;
+    private final MemoryAllocator malloc;
+    private final MemoryAccessor mem;
+    private final SerializationService serializationService;
+    private final ExpirySystem expirySystem;
+
+    // not final for testing purposes.
+    private EntryCostEstimator<Data, Record> entryCostEstimator;
+
+    private long table = NULL_ADDRESS;
+    private int capacity;
+    private int usedSlots;
+    private int resizeThreshold;
+    private int tableVersion;
+    private volatile int size;
+    private byte[] keyBuffer = new byte[INITIAL_KEY_BUFFER_SIZE];
+
+    /**
+     * @param capacity maximum number of bytes this storage may reserve
+     *                 outside the Java heap
+     */
+    public OffHeapStorage(long capacity, ExpirySystem expirySystem, SerializationService serializationService) {
+        this(new DirectBufferMemoryManager(MIN_SLAB_SIZE, DirectBufferMemoryManager.DEFAULT_MAX_SLAB_SIZE,
+                capacity), expirySystem, serializationService);
+    }
+
+    OffHeapStorage(DirectBufferMemoryManager memoryManager, ExpirySystem expirySystem,
+                   SerializationService serializationService) {
+        this.memoryManager = memoryManager;
+        this.malloc = memoryManager.getAllocator();
+        this.mem = memoryManager.getAccessor();
+        this.expirySystem = expirySystem;
+        this.serializationService = serializationService;
+        this.entryCostEstimator = createMapSizeEstimator(BINARY);
+    }
+
+    /**
+     * @return number of bytes reserved by this storage outside the Java heap.
+     */
+    public long getCommittedMemory() {
+        return memoryManager.getCommittedMemory();
+    }
+
+    @Override
+    @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
+            justification = "Only the partition thread updates the size, other threads only read it.")
+    public void put(Data key, OffHeapRecord record) {
+        ensureTable();
+        int hash = key.hashCode();
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            long slot = slotAddress(index);
+            long existing = mem.getLong(slot);
+            if (record.getAddress() == existing) {
+                return;
+            }
+            long entry = newEntry(key, hash, record, record.getValue());
+            updateCostEstimate(entryBlockSize(entry) - entryBlockSize(existing));
+            malloc.free(existing, entryBlockSize(existing));
+            mem.putLong(slot, entry);
+            return;
+        }
+
+        long entry = newEntry(key, hash, record, record.getValue());
+        insert(entry, hash);
+        size++;
+        updateCostEstimate(entryBlockSize(entry) + SLOT_SIZE);
+        if (usedSlots > resizeThreshold) {
+            rehash(size >= resizeThreshold >> 1 ? capacity << 1 : capacity);
+        }
+    }
+
+    @Override
+    public OffHeapRecord updateRecordValue(Data key, OffHeapRecord record, Object value) {
+        Data dataValue = serializationService.toData(value);
+        if (!record.isAttached()) {
+            record.setDetachedValue(dataValue);
+            return record;
+        }
+
+        long entry = record.getAddress();
+        int valueLength = dataValue == null ? NULL_VALUE_LENGTH : dataValue.totalSize();
+        if (valueLength <= mem.getInt(entry + VALUE_CAPACITY_OFFSET)) {
+            writeValue(entry, dataValue, valueLength);
+            return record;
+        }
+
+        // the value outgrew the entry block: move the entry to a bigger one
+        int index = indexOf(key, key.hashCode());
+        assert index >= 0 && mem.getLong(slotAddress(index)) == entry
+                : "Record of key " + key + " is not stored in this storage";
+        long newEntry = newEntry(key, key.hashCode(), record, dataValue);
+        updateCostEstimate(entryBlockSize(newEntry) - entryBlockSize(entry));
+        malloc.free(entry, entryBlockSize(entry));
+        mem.putLong(slotAddress(index), newEntry);
+        return record;
+    }
+
+    @Override
+    public OffHeapRecord get(Data key) {
+        int index = indexOf(key, key.hashCode());
+        return index < 0 ? null : new OffHeapRecord(mem, mem.getLong(slotAddress(index)));
+    }
+
+    @Override
+    public OffHeapRecord getIfSameKey(Data key) {
+        throw new UnsupportedOperationException("OffHeapStorage#getIfSameKey");
+    }
+
+    @Override
+    @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
+            justification = "Only the partition thread updates the size, other threads only read it.")
+    public void removeRecord(Data dataKey, @Nonnull OffHeapRecord record) {
+        int index = indexOf(dataKey, dataKey.hashCode());
+        if (index < 0) {
+            return;
+        }
+        long slot = slotAddress(index);
+        long entry = mem.getLong(slot);
+        if (record.getAddress() == entry) {
+            // callers may still read the removed record
+            record.detach();
+        }
+        int blockSize = entryBlockSize(entry);
+        malloc.free(entry, blockSize);
+        size--;
+        updateCostEstimate(-(blockSize + SLOT_SIZE));
+
+        int mask = capacity - 1;
+        if (mem.getLong(slotAddress((index + 1) & mask)) != NULL_ADDRESS) {
+            mem.putLong(slot, TOMBSTONE);
+            return;
+        }
+        // no probe sequence goes through this slot, so it and
+        // the tombstones right before it can be emptied
+        mem.putLong(slot, NULL_ADDRESS);
+        usedSlots--;
+        for (int i = (index - 1) & mask; mem.getLong(slotAddress(i)) == TOMBSTONE; i = (i - 1) & mask) {
+            mem.putLong(slotAddress(i), NULL_ADDRESS);
+            usedSlots--;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return indexOf(key, key.hashCode()) >= 0;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Data, OffHeapRecord>> mutationTolerantIterator() {
+        return new MutationTolerantIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        releaseMemory();
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        clear(isDuringShutdown);
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    @Override
+    public Iterable<EntryView> getRandomSamples(int sampleCount) {
+        if (sampleCount < 0) {
+            throw new IllegalArgumentException("Sample count cannot be a negative value.");
+        }
+        if (sampleCount == 0 || size == 0) {
+            return Collections.emptyList();
+        }
+        return () -> new SamplingIterator(sampleCount);
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> keys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (key, entry) -> keys.add(key));
+        return new MapKeysWithCursor(keys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size,
+                (key, entry) -> entries.add(new AbstractMap.SimpleEntry<>(key, new OffHeapRecord(mem, entry).getValue())));
+        return new MapEntriesWithCursor(entries, newPointers);
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    private void updateCostEstimate(long entrySize) {
+        entryCostEstimator.adjustEstimateBy(entrySize);
+    }
+
+    private void ensureTable() {
+        if (table == NULL_ADDRESS) {
+            allocateTable(DEFAULT_INITIAL_CAPACITY);
+        }
+    }
+
+    private void allocateTable(int newCapacity) {
+        table = malloc.allocate((long) newCapacity * SLOT_SIZE);
+        capacity = newCapacity;
+        usedSlots = 0;
+        resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+        tableVersion++;
+    }
+
+    private void releaseMemory() {
+        memoryManager.dispose();
+        table = NULL_ADDRESS;
+        capacity = 0;
+        usedSlots = 0;
+        resizeThreshold = 0;
+        tableVersion++;
+        size = 0;
+    }
+
+    private long slotAddress(int index) {
+        return table + (long) index * SLOT_SIZE;
+    }
+
+    private static boolean isLive(long entry) {
+        return entry != NULL_ADDRESS && entry != TOMBSTONE;
+    }
+
+    private int indexOf(Data key, int hash) {
+        if (size == 0) {
+            return -1;
+        }
+        int mask = capacity - 1;
+        for (int index = hash & mask; ; index = (index + 1) & mask) {
+            long slot = slotAddress(index);
+            long entry = mem.getLong(slot);
+            if (entry == NULL_ADDRESS) {
+                return -1;
+            }
+            if (entry != TOMBSTONE && mem.getInt(slot + SLOT_HASH_OFFSET) == hash && keyEquals(entry, key)) {
+                return index;
+            }
+        }
+    }
+
+    private boolean keyEquals(long entry, Data key) {
+        int keyLength = mem.getInt(entry + KEY_LENGTH_OFFSET);
+        if (keyLength != key.totalSize()) {
+            return false;
+        }
+        if (keyBuffer.length < keyLength) {
+            keyBuffer = new byte[keyLength];
+        }
+        mem.copyToByteArray(entry + HEADER_SIZE, keyBuffer, 0, keyLength);
+        return Arrays.equals(keyBuffer, 0, keyLength, key.toByteArray(), 0, keyLength);
+    }
+
+    private void insert(long entry, int hash) {
+        int mask = capacity - 1;
+        for (int index = hash & mask; ; index = (index + 1) & mask) {
+            long slot = slotAddress(index);
+            long current = mem.getLong(slot);
+            if (!isLive(current)) {
+                if (current == NULL_ADDRESS) {
+                    usedSlots++;
+                }
+                mem.putLong(slot, entry);
+                mem.putInt(slot + SLOT_HASH_OFFSET, hash);
+                return;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long oldTable = table;
+        int oldCapacity = capacity;
+        allocateTable(newCapacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            long oldSlot = oldTable + (long) i * SLOT_SIZE;
+            long entry = mem.getLong(oldSlot);
+            if (isLive(entry)) {
+                insert(entry, mem.getInt(oldSlot + SLOT_HASH_OFFSET));
+            }
+        }
+        malloc.free(oldTable, (long) oldCapacity * SLOT_SIZE);
+    }
+
+    /**
+     * Copies key, value and metadata of the given record into a new entry
+     * block and attaches the record to it.
+     */
+    private long newEntry(Data key, int hash, OffHeapRecord record, Data value) {
+        int keyLength = key.totalSize();
+        int valueLength = value == null ? NULL_VALUE_LENGTH : value.totalSize();
+        int blockSize = memoryManager.blockSizeOf((long) HEADER_SIZE + keyLength + Math.max(valueLength, 0));
+        long entry = malloc.allocate(blockSize);
+
+        mem.putInt(entry + KEY_LENGTH_OFFSET, keyLength);
+        mem.putInt(entry + VALUE_CAPACITY_OFFSET, blockSize - HEADER_SIZE - keyLength);
+        mem.putInt(entry + KEY_HASH_OFFSET, hash);
+        mem.copyFromByteArray(key.toByteArray(), 0, entry + HEADER_SIZE, keyLength);
+        writeValue(entry, value, valueLength);
+
+        OffHeapRecord target = new OffHeapRecord(mem, entry);
+        target.setVersion(record.getVersion());
+        target.setHits(record.getHits());
+        target.setRawCreationTime(record.getRawCreationTime());
+        target.setRawLastAccessTime(record.getRawLastAccessTime());
+        target.setRawLastUpdateTime(record.getRawLastUpdateTime());
+        target.setRawLastStoredTime(record.getRawLastStoredTime());
+
+        record.attach(mem, entry);
+        return entry;
+    }
+
+    private void writeValue(long entry, Data value, int valueLength) {
+        mem.putInt(entry + VALUE_LENGTH_OFFSET, valueLength);
+        if (valueLength > 0) {
+            int keyLength = mem.getInt(entry + KEY_LENGTH_OFFSET);
+            mem.copyFromByteArray(value.toByteArray(), 0, entry + HEADER_SIZE + keyLength, valueLength);
+        }
+    }
+
+    private int entryBlockSize(long entry) {
+        return HEADER_SIZE + mem.getInt(entry + KEY_LENGTH_OFFSET) + mem.getInt(entry + VALUE_CAPACITY_OFFSET);
+    }
+
+    private Data readKey(long entry) {
+        int keyLength = mem.getInt(entry + KEY_LENGTH_OFFSET);
+        byte[] bytes = new byte[keyLength];
+        mem.copyToByteArray(entry + HEADER_SIZE, bytes, 0, keyLength);
+        return new HeapData(bytes);
+    }
+
+    /**
+     * Same semantics as {@link com.hazelcast.internal.util.SampleableConcurrentHashMap}
+     * cursors: the table is walked from the highest slot down and a pointer is
+     * added for every table size observed during the iteration, so entries
+     * which had been returned before a resize are skipped after it.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size, EntryConsumer entryConsumer) {
+        pointers = checkPointers(pointers, capacity);
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+
+        int nextIndex;
+        if (lastPointer.getIndex() >= 0 && lastPointer.getIndex() < capacity) {
+            nextIndex = lastPointer.getIndex();
+        } else {
+            nextIndex = capacity - 1;
+        }
+        int counter = 0;
+        while (nextIndex >= 0 && counter < size) {
+            long slot = slotAddress(nextIndex--);
+            long entry = mem.getLong(slot);
+            if (isLive(entry) && hasNotBeenObserved(mem.getInt(slot + SLOT_HASH_OFFSET), pointers)) {
+                entryConsumer.accept(readKey(entry), entry);
+                counter++;
+            }
+        }
+        lastPointer.setIndex(nextIndex);
+        return pointers;
+    }
+
+    private static IterationPointer[] checkPointers(IterationPointer[] pointers, int currentTableSize) {
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        boolean iterationStarted = lastPointer.getSize() == -1;
+        boolean tableResized = lastPointer.getSize() != currentTableSize;
+        int newLength = !iterationStarted && tableResized ? pointers.length + 1 : pointers.length;
+
+        IterationPointer[] updatedPointers = new IterationPointer[newLength];
+        for (int i = 0; i < pointers.length; i++) {
+            updatedPointers[i] = new IterationPointer(pointers[i]);
+        }
+        if (iterationStarted || tableResized) {
+            updatedPointers[updatedPointers.length - 1] = new IterationPointer(Integer.MAX_VALUE, currentTableSize);
+        }
+        return updatedPointers;
+    }
+
+    private static boolean hasNotBeenObserved(int hash, IterationPointer[] pointers) {
+        for (int i = 0; i < pointers.length - 1; i++) {
+            IterationPointer iterationPointer = pointers[i];
+            int index = hash & (iterationPointer.getSize() - 1);
+            if (index > iterationPointer.getIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    private interface EntryConsumer {
+        void accept(Data key, long entry);
+    }
+
+    /**
+     * Walks the table in slot order. A rehash during the iteration is
+     * tolerated, the walk continues at the same slot index of the new table.
+     */
+    private final class MutationTolerantIterator implements Iterator<Map.Entry<Data, OffHeapRecord>> {
+
+        private int nextIndex;
+        private long nextEntry = NULL_ADDRESS;
+
+        @Override
+        public boolean hasNext() {
+            if (nextEntry != NULL_ADDRESS) {
+                return true;
+            }
+            while (nextIndex < capacity) {
+                long entry = mem.getLong(slotAddress(nextIndex++));
+                if (isLive(entry)) {
+                    nextEntry = entry;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Map.Entry<Data, OffHeapRecord> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long entry = nextEntry;
+            nextEntry = NULL_ADDRESS;
+            return new AbstractMap.SimpleImmutableEntry<>(readKey(entry), new OffHeapRecord(mem, entry));
+        }
+    }
+
+    /**
+     * Returns up to the requested number of entries, starting at a random
+     * slot and wrapping around the table at most once.
+     */
+    private final class SamplingIterator implements Iterator<EntryView> {
+
+        private final int sampleCount;
+        private final int expectedTableVersion = tableVersion;
+        private int nextIndex = ThreadLocalRandomProvider.get().nextInt(capacity);
+        private int visitedSlots;
+        private int returnedSamples;
+        private long nextEntry = NULL_ADDRESS;
+
+        private SamplingIterator(int sampleCount) {
+            this.sampleCount = sampleCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextEntry != NULL_ADDRESS) {
+                return true;
+            }
+            if (returnedSamples >= sampleCount || expectedTableVersion != tableVersion) {
+                return false;
+            }
+            int mask = capacity - 1;
+            while (visitedSlots < capacity) {
+                long entry = mem.getLong(slotAddress(nextIndex));
+                nextIndex = (nextIndex + 1) & mask;
+                visitedSlots++;
+                if (isLive(entry)) {
+                    nextEntry = entry;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public EntryView next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long entry = nextEntry;
+            nextEntry = NULL_ADDRESS;
+            returnedSamples++;
+            Data key = readKey(entry);
+            return new LazyEvictableEntryView<>(key, new OffHeapRecord(mem, entry),
+                    expirySystem.getExpiryMetadata(key), serializationService);
+        }
+    }
+}
@@ -530,6 +530,12 @@ public interface RecordStore<R extends Record> {
 
     Storage getStorage();
 
+    /**
+     * @return the observer maintaining the materialized aggregations of
+     * the map on this partition
+     */
+    AggregatingMutationObserver<R> getAggregatingObserver();
+
     void sampleAndForceRemoveEntries(int entryCountToRemove);
 
     /**
@@ -55,11 +55,33 @@ public interface NearCacheStats extends LocalInstanceStats {
      */
     double getRatio();
 
+    /**
+     * @return hits divided by the sum of hits and misses of Near Cache
+     * entries owned by this member, as a value between {@code 0} and {@code 1},
+     * or {@link Double#NaN} if there were no hits and no misses
+     * @since 6.0
+     */
+    default double getHitRate() {
+        long hits = getHits();
+        long misses = getMisses();
+        return hits + misses == 0 ? Double.NaN : (double) hits / (hits + misses);
+    }
+
     /**
      * @return number of evictions of Near Cache entries owned by this member
      */
     long getEvictions();
 
+    /**
+     * @return number of new keys which were not added to the Near Cache
+     * because the admission filter rejected them in favor of the eviction
+     * victim (when the admission filter is enabled)
+     * @since 6.0
+     */
+    default long getAdmissionRejections() {
+        return 0;
+    }
+
     /**
      * @return number of TTL and max-idle expirations of Near Cache entries owned by this member
      */
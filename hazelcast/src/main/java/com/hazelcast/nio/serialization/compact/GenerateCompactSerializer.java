@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.serialization.compact;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or a record for which a {@link CompactSerializer} is
+ * generated at compile time by the {@code hazelcast-compact-processor}
+ * annotation processor.
+ * <p>
+ * The generated serializer is a top level class in the package of the
+ * annotated type, named after the type with the {@code CompactSerializer}
+ * suffix. Nested types are named after all their enclosing types joined with
+ * {@code _}, e.g. {@code Outer_InnerCompactSerializer} for {@code Outer.Inner}.
+ * <p>
+ * When a class carrying this annotation is serialized without an explicitly
+ * configured serializer, the generated serializer is used in place of the
+ * reflective one. It uses the same type name and the same field names and
+ * kinds as the reflective serializer, so the serialized form of an object is
+ * identical with or without the generated serializer. If the generated
+ * serializer cannot be found in runtime, for example when the annotation
+ * processor was not run, the reflective serializer is used.
+ * <p>
+ * The generated serializers support the same field types as the reflective
+ * serializer except for collections and arrays of characters and enums.
+ * Non-private fields are accessed directly, private fields through their
+ * getters and setters. Classes must have a non-private constructor without
+ * arguments.
+ *
+ * @since 6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GenerateCompactSerializer {
+}
@@ -27,12 +27,17 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.BaseSingleValueIndexStore.ValueGroups;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.predicates.PredicateDataSerializerHook;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
@@ -54,12 +59,21 @@ public abstract class AbstractIndex implements InternalIndex {
      */
     public static final ComparableIdentifiedDataSerializable NULL = new NullObject();
 
+    /**
+     * The number of entries which attribute values are extracted by a single
+     * task of a bulk insertion.
+     */
+    static final int BULK_INSERT_CHUNK_SIZE = 1024;
+
     protected final InternalSerializationService ss;
     protected final Extractors extractors;
     protected final IndexStore indexStore;
     protected final IndexCopyBehavior copyBehavior;
 
     private final String[] components;
+    // indexed and included attributes which values are stored in entries,
+    // null if the index has no included attributes
+    private final String[] coveredAttributes;
     private final IndexConfig config;
     private final boolean ordered;
     private final PerIndexStats stats;
@@ -78,6 +92,7 @@ public abstract class AbstractIndex implements InternalIndex {
             int partitionId) {
         this.config = config;
         this.components = IndexUtils.getComponents(config);
+        this.coveredAttributes = getCoveredAttributes(config, components);
         this.ordered = config.getType() == IndexType.SORTED;
         this.ss = ss;
         this.extractors = extractors;
@@ -132,7 +147,18 @@ public abstract class AbstractIndex implements InternalIndex {
             converter = obtainConverter(newEntry);
         }
 
-        Object newAttributeValue = extractAttributeValue(newEntry);
+        Object newAttributeValue;
+        if (coveredAttributes == null) {
+            newAttributeValue = extractAttributeValue(newEntry);
+        } else {
+            Object[] coveredValues = new Object[coveredAttributes.length];
+            for (int i = 0; i < coveredAttributes.length; ++i) {
+                coveredValues[i] = newEntry.getAttributeValue(coveredAttributes[i]);
+            }
+            entryToStore.coverAttributeValues(coveredAttributes, coveredValues);
+            // the indexed attribute values are stored in the entry now
+            newAttributeValue = extractAttributeValue(entryToStore);
+        }
         if (oldEntry == null) {
             indexStore.insert(newAttributeValue, newEntry, entryToStore, operationStats);
             stats.onInsert(timestamp, operationStats, operationSource);
@@ -143,6 +169,51 @@ public abstract class AbstractIndex implements InternalIndex {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Attribute values are extracted and grouped by chunks of {@link
+     * #BULK_INSERT_CHUNK_SIZE} entries. The groups are inserted into the index
+     * store afterwards, holding its write lock only once and touching every
+     * distinct value only once per chunk.
+     */
+    @Override
+    public void putEntries(List<CachedQueryEntry> newEntries, List<QueryableEntry> entriesToStore,
+                           OperationSource operationSource) {
+        if (coveredAttributes != null || !(indexStore instanceof BaseSingleValueIndexStore store)) {
+            InternalIndex.super.putEntries(newEntries, entriesToStore, operationSource);
+            return;
+        }
+
+        long timestamp = stats.makeTimestamp();
+        // see putEntry: the converter must be initialized before storing entries
+        for (int i = 0; i < newEntries.size() && converterIsUnassignedOrTransient(converter); ++i) {
+            converter = obtainConverter(newEntries.get(i));
+        }
+
+        List<ValueGroups> groups = new ArrayList<>();
+        long recordCount = 0;
+        for (int from = 0; from < newEntries.size(); from += BULK_INSERT_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_INSERT_CHUNK_SIZE, newEntries.size());
+            ValueGroups chunkGroups = extractAndGroup(store, newEntries.subList(from, to), entriesToStore.subList(from, to));
+            groups.add(chunkGroups);
+            recordCount += chunkGroups.getRecordCount();
+        }
+
+        IndexOperationStats operationStats = stats.createOperationStats();
+        store.insertAll(groups, operationStats);
+        stats.onBulkInsert(timestamp, recordCount, operationStats);
+    }
+
+    private ValueGroups extractAndGroup(BaseSingleValueIndexStore store, List<CachedQueryEntry> entries,
+                                        List<QueryableEntry> entriesToStore) {
+        Object[] values = new Object[entries.size()];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = extractAttributeValue(entries.get(i));
+        }
+        return store.groupByValue(values, entriesToStore);
+    }
+
     @Override
     public void removeEntry(CachedQueryEntry entry, OperationSource operationSource) {
         long timestamp = stats.makeTimestamp();
@@ -417,7 +488,7 @@ public abstract class AbstractIndex implements InternalIndex {
         }
     }
 
-    private static boolean converterIsUnassignedOrTransient(TypeConverter converter) {
+    static boolean converterIsUnassignedOrTransient(TypeConverter converter) {
         if (converter == null) {
             // unassigned
             return true;
@@ -443,6 +514,17 @@ public abstract class AbstractIndex implements InternalIndex {
         return componentConverter == NULL_CONVERTER ? null : componentConverter;
     }
 
+    private static String[] getCoveredAttributes(IndexConfig config, String[] components) {
+        List<String> includedAttributes = config.getIncludedAttributes();
+        if (includedAttributes.isEmpty()) {
+            return null;
+        }
+
+        Set<String> coveredAttributes = new LinkedHashSet<>(Arrays.asList(components));
+        coveredAttributes.addAll(includedAttributes);
+        return coveredAttributes.toArray(new String[0]);
+    }
+
     private static final class NullObject implements ComparableIdentifiedDataSerializable {
 
         @SuppressWarnings("NullableProblems")
@@ -0,0 +1,734 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.query.Predicate;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static com.hazelcast.query.impl.OrderedIndexStore.DATA_COMPARATOR;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptySet;
+
+/**
+ * Sorted index store which keeps its entries in an on-heap B+tree.
+ * <p>
+ * Entries are ordered by their index value and, for equal values, by their
+ * serialized key, the same order {@link OrderedIndexStore} iterates them in.
+ * An entry costs three array slots of a leaf instead of a skip list node and
+ * an entry of a per-value map. Leaves are linked to their neighbours, so range
+ * scans walk consecutive arrays.
+ * <p>
+ * Removal does not rebalance the tree, leaves and inner nodes are unlinked
+ * only once they get empty.
+ * <p>
+ * All operations are guarded by the global lock of {@link BaseIndexStore}.
+ * The SQL iterators fetch the entries of one index value at a time under the
+ * read lock and look up the next value from scratch afterwards, so they are
+ * weakly consistent, like the iterators of {@link OrderedIndexStore}.
+ */
+@SuppressWarnings({"rawtypes", "checkstyle:methodcount"})
+public class BTreeIndexStore extends BaseSingleValueIndexStore {
+
+    static final int NODE_CAPACITY = 64;
+
+    /**
+     * Bound flags telling where a bound is placed among the entries having
+     * the bound value: before all of them, after all of them or exactly at
+     * the entry with the bound key.
+     */
+    private static final int BEFORE = -1;
+    private static final int EXACT = 0;
+    private static final int AFTER = 1;
+
+    private Node root = new Leaf();
+
+    // scratch state of an insertion, guarded by the write lock
+    private Comparable splitValue;
+    private Data splitKey;
+    private Node splitNode;
+    // scratch state of a removal, guarded by the write lock
+    private boolean nodeEmptied;
+
+    public BTreeIndexStore() {
+        // results are always copied out of the tree
+        super(IndexCopyBehavior.NEVER, true);
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        QueryableEntry oldEntry = insert(root, value, record.getKeyData(), record);
+        if (splitNode != null) {
+            Inner newRoot = new Inner();
+            newRoot.children[0] = root;
+            newRoot.insertAt(0, splitValue, splitKey, splitNode);
+            root = newRoot;
+            clearSplit();
+        }
+        return oldEntry;
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        QueryableEntry oldEntry = remove(root, value, recordKey);
+        if (nodeEmptied && root instanceof Inner) {
+            root = new Leaf();
+        } else {
+            while (root instanceof Inner inner && inner.size == 0) {
+                root = inner.children[0];
+            }
+        }
+        nodeEmptied = false;
+        return oldEntry;
+    }
+
+    @Override
+    Map<Comparable, List<QueryableEntry>> newValueGroups() {
+        return new TreeMap<>(SPECIAL_AWARE_COMPARATOR);
+    }
+
+    @Override
+    void insertAllInternal(Comparable value, List<QueryableEntry> records, Consumer<QueryableEntry> addedRecords) {
+        // entries of a value are ordered by their keys, inserting them in
+        // order keeps consecutive insertions in the same leaf
+        records.sort((left, right) -> DATA_COMPARATOR.compare(left.getKeyData(), right.getKeyData()));
+        super.insertAllInternal(value, records, addedRecords);
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // We still need to canonicalize query arguments for ordered indexes to
+        // support InPredicate queries.
+        return Comparables.canonicalizeForHashLookup(value);
+    }
+
+    @Override
+    Comparable canonicalizeScalarForStorage(Comparable value) {
+        // ordered indexes don't do hash lookups on their stored values
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            root = new Leaf();
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(@Nonnull Comparable value) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(value, false));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparison comparison, Comparable value, boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(comparison, value, descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparable from, boolean fromInclusive, Comparable to,
+                                                         boolean toInclusive, boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(
+                getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending));
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable value, boolean descending) {
+        return getSqlRecordIteratorBatch(value, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable value, boolean descending,
+                                                               Data lastEntryKeyData) {
+        int startFlag = lastEntryKeyData != null ? EXACT : descending ? AFTER : BEFORE;
+        return new GroupIterator(value, lastEntryKeyData, startFlag, value, true, descending);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        return descending
+                ? new GroupIterator(POSITIVE_INFINITY, null, AFTER, null, true, true)
+                : new GroupIterator(null, null, BEFORE, POSITIVE_INFINITY, true, false);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparison comparison,
+                                                               @Nonnull Comparable value, boolean descending) {
+        return getSqlRecordIteratorBatch(comparison, value, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparison comparison,
+                                                               @Nonnull Comparable value, boolean descending,
+                                                               Data lastEntryKeyData) {
+        switch (comparison) {
+            case LESS:
+                return getSqlRecordIteratorBatch(NULL, false, value, false, descending, lastEntryKeyData);
+            case LESS_OR_EQUAL:
+                return getSqlRecordIteratorBatch(NULL, false, value, true, descending, lastEntryKeyData);
+            case GREATER:
+                return getSqlRecordIteratorBatch(value, false, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            case GREATER_OR_EQUAL:
+                return getSqlRecordIteratorBatch(value, true, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable from, boolean fromInclusive,
+                                                               @Nonnull Comparable to, boolean toInclusive,
+                                                               boolean descending) {
+        return getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, null);
+    }
+
+    @Override
+    @SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable from, boolean fromInclusive,
+                                                               @Nonnull Comparable to, boolean toInclusive,
+                                                               boolean descending, Data lastEntryKeyData) {
+        boolean useCursor = lastEntryKeyData != null;
+        if (useCursor && !descending && !fromInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
+        }
+        if (useCursor && descending && !toInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
+        }
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order > 0 || order == 0 && (!fromInclusive || !toInclusive)) {
+            return emptyIterator();
+        }
+
+        if (descending) {
+            int startFlag = useCursor ? EXACT : toInclusive ? AFTER : BEFORE;
+            return new GroupIterator(to, lastEntryKeyData, startFlag, from, fromInclusive, true);
+        } else {
+            int startFlag = useCursor ? EXACT : fromInclusive ? BEFORE : AFTER;
+            return new GroupIterator(from, lastEntryKeyData, startFlag, to, toInclusive, false);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            collect(value, true, value, true, records);
+            return toSingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            MultiResultSet results = createMultiResultSet();
+            for (Comparable value : values) {
+                Map<Data, QueryableEntry> records = new HashMap<>();
+                collect(value, true, value, true, records);
+                if (!records.isEmpty()) {
+                    copyToMultiResultSet(results, records);
+                }
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable value) {
+        switch (comparison) {
+            case LESS:
+                return getRecords(NULL, false, value, false);
+            case LESS_OR_EQUAL:
+                return getRecords(NULL, false, value, true);
+            case GREATER:
+                return getRecords(value, false, POSITIVE_INFINITY, true);
+            case GREATER_OR_EQUAL:
+                return getRecords(value, true, POSITIVE_INFINITY, true);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        takeReadLock();
+        try {
+            int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+            if (order > 0 || order == 0 && (!fromInclusive || !toInclusive)) {
+                return emptySet();
+            }
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            collect(from, fromInclusive, to, toInclusive, records);
+            if (order == 0) {
+                return toSingleResultSet(records);
+            }
+            MultiResultSet results = createMultiResultSet();
+            copyToMultiResultSet(results, records);
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    private void collect(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive,
+                         Map<Data, QueryableEntry> records) {
+        Leaf leaf = findLeaf(from, null, fromInclusive ? BEFORE : AFTER, false);
+        int index = leaf.countNotAfter(from, null, fromInclusive ? BEFORE : AFTER);
+        while (leaf != null) {
+            for (; index < leaf.size; index++) {
+                if (isPastUpperLimit(leaf.values[index], to, toInclusive)) {
+                    return;
+                }
+                records.put(leaf.keys[index], leaf.entries[index]);
+            }
+            leaf = leaf.next;
+            index = 0;
+        }
+    }
+
+    private QueryableEntry insert(Node node, Comparable value, Data key, QueryableEntry entry) {
+        if (node instanceof Leaf leaf) {
+            int index = leaf.countBefore(value, key, EXACT);
+            if (index < leaf.size && compare(leaf.values[index], leaf.keys[index], value, key, EXACT) == 0) {
+                QueryableEntry oldEntry = leaf.entries[index];
+                leaf.entries[index] = entry;
+                return oldEntry;
+            }
+            if (leaf.size < NODE_CAPACITY) {
+                leaf.insertAt(index, value, key, entry);
+            } else {
+                Leaf right = leaf.split();
+                if (index <= leaf.size) {
+                    leaf.insertAt(index, value, key, entry);
+                } else {
+                    right.insertAt(index - leaf.size, value, key, entry);
+                }
+                setSplit(right.values[0], right.keys[0], right);
+            }
+            return null;
+        }
+
+        Inner inner = (Inner) node;
+        int childIndex = inner.countNotAfter(value, key, EXACT);
+        QueryableEntry oldEntry = insert(inner.children[childIndex], value, key, entry);
+        if (splitNode != null) {
+            Comparable separatorValue = splitValue;
+            Data separatorKey = splitKey;
+            Node newChild = splitNode;
+            clearSplit();
+            if (inner.size < NODE_CAPACITY) {
+                inner.insertAt(childIndex, separatorValue, separatorKey, newChild);
+            } else {
+                int middle = NODE_CAPACITY / 2;
+                Comparable promotedValue = inner.values[middle];
+                Data promotedKey = inner.keys[middle];
+                Inner right = inner.split();
+                if (childIndex <= middle) {
+                    inner.insertAt(childIndex, separatorValue, separatorKey, newChild);
+                } else {
+                    right.insertAt(childIndex - middle - 1, separatorValue, separatorKey, newChild);
+                }
+                setSplit(promotedValue, promotedKey, right);
+            }
+        }
+        return oldEntry;
+    }
+
+    private QueryableEntry remove(Node node, Comparable value, Data key) {
+        if (node instanceof Leaf leaf) {
+            int index = leaf.countBefore(value, key, EXACT);
+            if (index == leaf.size || compare(leaf.values[index], leaf.keys[index], value, key, EXACT) != 0) {
+                return null;
+            }
+            QueryableEntry oldEntry = leaf.entries[index];
+            leaf.removeAt(index);
+            if (leaf.size == 0) {
+                leaf.unlink();
+                nodeEmptied = true;
+            }
+            return oldEntry;
+        }
+
+        Inner inner = (Inner) node;
+        int childIndex = inner.countNotAfter(value, key, EXACT);
+        QueryableEntry oldEntry = remove(inner.children[childIndex], value, key);
+        if (nodeEmptied) {
+            if (inner.size == 0) {
+                inner.children[0] = null;
+            } else {
+                inner.removeChild(childIndex);
+                nodeEmptied = false;
+            }
+        }
+        return oldEntry;
+    }
+
+    private void setSplit(Comparable value, Data key, Node node) {
+        splitValue = value;
+        splitKey = key;
+        splitNode = node;
+    }
+
+    private void clearSplit() {
+        splitValue = null;
+        splitKey = null;
+        splitNode = null;
+    }
+
+    /**
+     * Descends to the leaf which contains the first entry after the given
+     * bound or, if {@code last} is {@code true}, the last entry before it.
+     * The entry may also be in a neighbour of the returned leaf.
+     */
+    private Leaf findLeaf(Comparable value, Data key, int flag, boolean last) {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            int childIndex = last ? inner.countBefore(value, key, flag) : inner.countNotAfter(value, key, flag);
+            node = inner.children[childIndex];
+        }
+        return (Leaf) node;
+    }
+
+    private static boolean isPastUpperLimit(Comparable value, Comparable to, boolean toInclusive) {
+        int order = SPECIAL_AWARE_COMPARATOR.compare(value, to);
+        return order > 0 || order == 0 && !toInclusive;
+    }
+
+    private static boolean isPastLowerLimit(Comparable value, Comparable from, boolean fromInclusive) {
+        int order = SPECIAL_AWARE_COMPARATOR.compare(value, from);
+        return order < 0 || order == 0 && !fromInclusive;
+    }
+
+    /**
+     * Compares the entry with the given value and key to the given bound.
+     */
+    private static int compare(Comparable value, Data key, Comparable boundValue, Data boundKey, int boundFlag) {
+        int order = SPECIAL_AWARE_COMPARATOR.compare(value, boundValue);
+        if (order != 0) {
+            return order;
+        }
+        return boundFlag == EXACT ? DATA_COMPARATOR.compare(key, boundKey) : -boundFlag;
+    }
+
+    private abstract static class Node {
+        final Comparable[] values = new Comparable[NODE_CAPACITY];
+        final Data[] keys = new Data[NODE_CAPACITY];
+        int size;
+
+        /**
+         * @return the number of values before the given bound.
+         */
+        final int countBefore(Comparable value, Data key, int flag) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(values[middle], keys[middle], value, key, flag) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return the number of values before or at the given bound.
+         */
+        final int countNotAfter(Comparable value, Data key, int flag) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(values[middle], keys[middle], value, key, flag) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final QueryableEntry[] entries = new QueryableEntry[NODE_CAPACITY];
+        Leaf previous;
+        Leaf next;
+
+        void insertAt(int index, Comparable value, Data key, QueryableEntry entry) {
+            int moved = size - index;
+            System.arraycopy(values, index, values, index + 1, moved);
+            System.arraycopy(keys, index, keys, index + 1, moved);
+            System.arraycopy(entries, index, entries, index + 1, moved);
+            values[index] = value;
+            keys[index] = key;
+            entries[index] = entry;
+            size++;
+        }
+
+        void removeAt(int index) {
+            int moved = size - index - 1;
+            System.arraycopy(values, index + 1, values, index, moved);
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(entries, index + 1, entries, index, moved);
+            size--;
+            values[size] = null;
+            keys[size] = null;
+            entries[size] = null;
+        }
+
+        /**
+         * Moves the upper half of this full leaf to a new leaf linked after it.
+         */
+        Leaf split() {
+            Leaf right = new Leaf();
+            int half = size / 2;
+            int moved = size - half;
+            System.arraycopy(values, half, right.values, 0, moved);
+            System.arraycopy(keys, half, right.keys, 0, moved);
+            System.arraycopy(entries, half, right.entries, 0, moved);
+            Arrays.fill(values, half, size, null);
+            Arrays.fill(keys, half, size, null);
+            Arrays.fill(entries, half, size, null);
+            right.size = moved;
+            size = half;
+
+            right.next = next;
+            right.previous = this;
+            if (next != null) {
+                next.previous = right;
+            }
+            next = right;
+            return right;
+        }
+
+        void unlink() {
+            if (previous != null) {
+                previous.next = next;
+            }
+            if (next != null) {
+                next.previous = previous;
+            }
+            previous = null;
+            next = null;
+        }
+    }
+
+    /**
+     * Inner node, the children before separator {@code i} hold entries before
+     * it, the children after it hold the separator itself and the entries
+     * after it.
+     */
+    private static final class Inner extends Node {
+        final Node[] children = new Node[NODE_CAPACITY + 1];
+
+        /**
+         * Inserts the given separator after the child at the given index,
+         * followed by the given child.
+         */
+        void insertAt(int index, Comparable value, Data key, Node child) {
+            int moved = size - index;
+            System.arraycopy(values, index, values, index + 1, moved);
+            System.arraycopy(keys, index, keys, index + 1, moved);
+            System.arraycopy(children, index + 1, children, index + 2, moved);
+            values[index] = value;
+            keys[index] = key;
+            children[index + 1] = child;
+            size++;
+        }
+
+        void removeChild(int childIndex) {
+            int separatorIndex = childIndex == 0 ? 0 : childIndex - 1;
+            int movedSeparators = size - separatorIndex - 1;
+            System.arraycopy(values, separatorIndex + 1, values, separatorIndex, movedSeparators);
+            System.arraycopy(keys, separatorIndex + 1, keys, separatorIndex, movedSeparators);
+            System.arraycopy(children, childIndex + 1, children, childIndex, size - childIndex);
+            children[size] = null;
+            size--;
+            values[size] = null;
+            keys[size] = null;
+        }
+
+        /**
+         * Moves the separators and children after the middle separator of
+         * this full node to a new node, the middle separator is dropped.
+         */
+        Inner split() {
+            Inner right = new Inner();
+            int middle = NODE_CAPACITY / 2;
+            int moved = size - middle - 1;
+            System.arraycopy(values, middle + 1, right.values, 0, moved);
+            System.arraycopy(keys, middle + 1, right.keys, 0, moved);
+            System.arraycopy(children, middle + 1, right.children, 0, moved + 1);
+            Arrays.fill(values, middle, size, null);
+            Arrays.fill(keys, middle, size, null);
+            Arrays.fill(children, middle + 1, size + 1, null);
+            right.size = moved;
+            size = middle;
+            return right;
+        }
+    }
+
+    /**
+     * Iterates the entries between a start bound and a limit one index value
+     * at a time.
+     */
+    private final class GroupIterator implements Iterator<IndexKeyEntries> {
+        private final Comparable limit;
+        private final boolean limitInclusive;
+        private final boolean descending;
+
+        private Comparable boundValue;
+        private Data boundKey;
+        private int boundFlag;
+        private IndexKeyEntries nextGroup;
+        private boolean done;
+
+        GroupIterator(Comparable startValue, Data startKey, int startFlag,
+                      Comparable limit, boolean limitInclusive, boolean descending) {
+            this.boundValue = startValue;
+            this.boundKey = startKey;
+            this.boundFlag = startFlag;
+            this.limit = limit;
+            this.limitInclusive = limitInclusive;
+            this.descending = descending;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextGroup == null && !done) {
+                takeReadLock();
+                try {
+                    nextGroup = descending ? fetchPrevious() : fetchNext();
+                } finally {
+                    releaseReadLock();
+                }
+                done = nextGroup == null;
+            }
+            return nextGroup != null;
+        }
+
+        @Override
+        public IndexKeyEntries next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IndexKeyEntries group = nextGroup;
+            nextGroup = null;
+            boundValue = group.getIndexKey();
+            boundKey = null;
+            boundFlag = descending ? BEFORE : AFTER;
+            return group;
+        }
+
+        private IndexKeyEntries fetchNext() {
+            Leaf leaf = findLeaf(boundValue, boundKey, boundFlag, false);
+            int index = leaf.countNotAfter(boundValue, boundKey, boundFlag);
+            while (leaf != null && index == leaf.size) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            if (leaf == null || isPastUpperLimit(leaf.values[index], limit, limitInclusive)) {
+                return null;
+            }
+
+            Comparable value = leaf.values[index];
+            List<QueryableEntry> entries = new ArrayList<>();
+            while (leaf != null) {
+                for (; index < leaf.size; index++) {
+                    if (SPECIAL_AWARE_COMPARATOR.compare(leaf.values[index], value) != 0) {
+                        return new IndexKeyEntries(value, entries.iterator());
+                    }
+                    entries.add(leaf.entries[index]);
+                }
+                leaf = leaf.next;
+                index = 0;
+            }
+            return new IndexKeyEntries(value, entries.iterator());
+        }
+
+        private IndexKeyEntries fetchPrevious() {
+            Leaf leaf = findLeaf(boundValue, boundKey, boundFlag, true);
+            int index = leaf.countBefore(boundValue, boundKey, boundFlag) - 1;
+            while (leaf != null && index < 0) {
+                leaf = leaf.previous;
+                index = leaf == null ? -1 : leaf.size - 1;
+            }
+            if (leaf == null || isPastLowerLimit(leaf.values[index], limit, limitInclusive)) {
+                return null;
+            }
+
+            Comparable value = leaf.values[index];
+            List<QueryableEntry> entries = new ArrayList<>();
+            while (leaf != null) {
+                for (; index >= 0; index--) {
+                    if (SPECIAL_AWARE_COMPARATOR.compare(leaf.values[index], value) != 0) {
+                        return new IndexKeyEntries(value, entries.iterator());
+                    }
+                    entries.add(leaf.entries[index]);
+                }
+                leaf = leaf.previous;
+                index = leaf == null ? -1 : leaf.size - 1;
+            }
+            return new IndexKeyEntries(value, entries.iterator());
+        }
+    }
+}
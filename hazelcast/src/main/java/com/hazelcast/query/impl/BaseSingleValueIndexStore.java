@@ -21,7 +21,12 @@ import com.hazelcast.internal.monitor.impl.IndexOperationStats;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.query.impl.getters.MultiResult;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * The base store for indexes that are unable to work with multi-value
@@ -74,6 +79,49 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
      */
     abstract Object removeInternal(Comparable value, Data recordKey);
 
+    /**
+     * Creates a map to group the records of a bulk insertion by their values.
+     * <p>
+     * Stores keeping their values sorted return a map sorted in the same
+     * order, so the values are inserted in order.
+     */
+    Map<Comparable, List<QueryableEntry>> newValueGroups() {
+        return new HashMap<>();
+    }
+
+    /**
+     * Associates the given value in this index store with all the given
+     * records.
+     * <p>
+     * The default implementation associates the records one by one.
+     *
+     * @param value        the value of an attribute this index store is built for.
+     * @param records      the records to associate with the given value.
+     * @param addedRecords the consumer of the given records which were not
+     *                     associated with the given value before the operation.
+     */
+    void insertAllInternal(Comparable value, List<QueryableEntry> records, Consumer<QueryableEntry> addedRecords) {
+        for (QueryableEntry record : records) {
+            if (insertInternal(value, record) == null) {
+                addedRecords.accept(record);
+            }
+        }
+    }
+
+    /**
+     * Puts the given records into the given records map of a value, passing
+     * the records which were not present in the map before to the given
+     * consumer.
+     */
+    static void putAll(Map<Data, QueryableEntry> recordMap, List<QueryableEntry> records,
+                       Consumer<QueryableEntry> addedRecords) {
+        for (QueryableEntry record : records) {
+            if (recordMap.put(record.getKeyData(), record) == null) {
+                addedRecords.accept(record);
+            }
+        }
+    }
+
     final MultiResultSet createMultiResultSet() {
         return multiResultHasToDetectDuplicates ? new DuplicateDetectingMultiResult() : new FastMultiResultSet();
     }
@@ -112,6 +160,62 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
         }
     }
 
+    /**
+     * Groups the given records by the given attribute values for a bulk
+     * insertion, see {@link #insertAll}.
+     * <p>
+     * The method doesn't access the store, so it may be invoked concurrently
+     * from any thread.
+     *
+     * @param values  the values of an attribute this index store is built
+     *                for, one per record.
+     * @param records the records to group.
+     * @return the grouped records.
+     */
+    final ValueGroups groupByValue(Object[] values, List<QueryableEntry> records) {
+        ValueGroups groups = new ValueGroups(newValueGroups());
+        for (int i = 0; i < values.length; ++i) {
+            Object value = values[i];
+            if (value == NonTerminalJsonValue.INSTANCE) {
+                continue;
+            }
+            QueryableEntry record = records.get(i);
+            if (value instanceof MultiResult result) {
+                multiResultHasToDetectDuplicates = true;
+                for (Object o : result.getResults()) {
+                    groups.add(sanitizeValue(o), record);
+                }
+            } else {
+                groups.add(sanitizeValue(value), record);
+            }
+            groups.values.put(record, value);
+            ++groups.recordCount;
+        }
+        return groups;
+    }
+
+    /**
+     * Inserts the records grouped by {@link #groupByValue} holding the write
+     * lock only once.
+     *
+     * @param groups         the grouped records to insert.
+     * @param operationStats the operation stats to track the stats.
+     */
+    final void insertAll(List<ValueGroups> groups, IndexOperationStats operationStats) {
+        takeWriteLock();
+        try {
+            for (ValueGroups valueGroups : groups) {
+                // the stats are given the extracted values, as by the insertion of a single record
+                Consumer<QueryableEntry> addedRecords = record -> operationStats.onEntryAdded(valueGroups.values.get(record));
+                for (Map.Entry<Comparable, List<QueryableEntry>> group : valueGroups.groups.entrySet()) {
+                    insertAllInternal(group.getKey(), group.getValue(), addedRecords);
+                }
+            }
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
     private void unwrapAndInsertToIndex(Object newValue, QueryableEntry<?, ?> queryableEntry,
                                         IndexOperationStats operationStats) {
         if (newValue == NonTerminalJsonValue.INSTANCE) {
@@ -158,4 +262,28 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
         }
     }
 
+    /**
+     * Records of a bulk insertion grouped by their values.
+     */
+    static final class ValueGroups {
+
+        private final Map<Comparable, List<QueryableEntry>> groups;
+        private final Map<QueryableEntry, Object> values = new IdentityHashMap<>();
+        private int recordCount;
+
+        private ValueGroups(Map<Comparable, List<QueryableEntry>> groups) {
+            this.groups = groups;
+        }
+
+        /**
+         * Returns the number of grouped records.
+         */
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        private void add(Comparable value, QueryableEntry record) {
+            groups.computeIfAbsent(value, x -> new ArrayList<>()).add(record);
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package com.hazelcast.query.impl;
 
 import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
 import com.hazelcast.core.TypeConverter;
 import com.hazelcast.internal.json.NonTerminalJsonValue;
 import com.hazelcast.internal.monitor.impl.IndexOperationStats;
@@ -69,7 +70,7 @@ public final class BitmapIndexStore extends BaseIndexStore {
 
     private final String keyAttribute;
 
-    private final Bitmap<QueryableEntry> bitmap = new Bitmap<>();
+    private final Bitmap<QueryableEntry> bitmap;
     // maps user-provided long keys to long bitmap keys
     private final Long2LongHashMap internalKeys;
     // maps user-provided object keys to long bitmap keys
@@ -79,6 +80,8 @@ public final class BitmapIndexStore extends BaseIndexStore {
     public BitmapIndexStore(IndexConfig config) {
         super(IndexCopyBehavior.NEVER, true);
 
+        this.bitmap = new Bitmap<>(config.getStoreType() == IndexStoreType.ROARING_BITMAP);
+
         this.keyAttribute = config.getBitmapIndexOptions().getUniqueKey();
 
         switch (config.getBitmapIndexOptions().getUniqueKeyTransformation()) {
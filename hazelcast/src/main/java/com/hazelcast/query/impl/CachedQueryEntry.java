@@ -68,6 +68,7 @@ public class CachedQueryEntry<K, V> extends QueryableEntry<K, V> implements Iden
         if (key == null) {
             throw new IllegalArgumentException("keyData cannot be null");
         }
+        clearCoveredAttributeValues();
 
         if (key instanceof Data data) {
             this.keyData = data;
@@ -90,6 +91,7 @@ public class CachedQueryEntry<K, V> extends QueryableEntry<K, V> implements Iden
 
     @SuppressWarnings("unchecked")
     public CachedQueryEntry<K, V> initWithObjectKeyValue(Object key, Object value) {
+        clearCoveredAttributeValues();
         this.keyObject = (K) key;
         this.keyData = null;
         this.valueObject = (V) value;
@@ -25,6 +25,7 @@ import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -120,6 +121,12 @@ public class GlobalQueryContextWithStats extends QueryContext {
             delegate.putEntry(newEntry, oldEntry, entryToStore, operationSource);
         }
 
+        @Override
+        public void putEntries(List<CachedQueryEntry> newEntries, List<QueryableEntry> entriesToStore,
+                               OperationSource operationSource) {
+            delegate.putEntries(newEntries, entriesToStore, operationSource);
+        }
+
         @Override
         public void removeEntry(CachedQueryEntry entry, OperationSource operationSource) {
             delegate.removeEntry(entry, operationSource);
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.query.impl.getters.Extractors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+
+/**
+ * Collects the entries of a partition being indexed and inserts them into
+ * the given indexes in batches, see {@link InternalIndex#putEntries}.
+ * <p>
+ * The instances are not thread-safe, they are used by the partition thread
+ * populating the indexes.
+ */
+public final class IndexBulkInserter {
+
+    /**
+     * The number of entries collected before they are inserted, bounds the
+     * number of deserialized entries kept at a time.
+     */
+    static final int BATCH_SIZE = 16 * 1024;
+
+    private final InternalIndex[] indexes;
+    private final SerializationService ss;
+    private final Extractors extractors;
+    private final Index.OperationSource operationSource;
+    private final List<CachedQueryEntry> newEntries = new ArrayList<>();
+    private final List<QueryableEntry> entriesToStore = new ArrayList<>();
+
+    /**
+     * @param indexes         the indexes to insert the entries into.
+     * @param ss              the serialization service to deserialize the
+     *                        entries with.
+     * @param extractors      the extractors to extract attribute values with.
+     * @param operationSource the operation source.
+     */
+    public IndexBulkInserter(InternalIndex[] indexes, SerializationService ss, Extractors extractors,
+                             Index.OperationSource operationSource) {
+        this.indexes = indexes;
+        this.ss = ss;
+        this.extractors = extractors;
+        this.operationSource = operationSource;
+    }
+
+    /**
+     * Adds the given entry to the current batch, inserts the batch if it is
+     * full.
+     *
+     * @param entry the entry to store in the indexes.
+     */
+    public void add(QueryableEntry entry) {
+        newEntries.add(entry instanceof CachedQueryEntry cachedEntry
+                ? cachedEntry : new CachedQueryEntry(ss, entry.getKeyData(), entry.getTargetObject(false), extractors));
+        entriesToStore.add(entry);
+        if (newEntries.size() == BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Inserts the current batch into the indexes.
+     */
+    public void flush() {
+        if (newEntries.isEmpty()) {
+            return;
+        }
+
+        Throwable exception = null;
+        for (InternalIndex index : indexes) {
+            try {
+                index.putEntries(newEntries, entriesToStore, operationSource);
+            } catch (Exception e) {
+                if (exception == null) {
+                    exception = e;
+                }
+            }
+        }
+        newEntries.clear();
+        entriesToStore.clear();
+
+        if (exception != null) {
+            throw rethrow(exception);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.hazelcast.query.impl;
 
 import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.monitor.impl.PartitionIndexChangeEvent;
 import com.hazelcast.internal.monitor.impl.PerIndexStats;
@@ -50,9 +51,11 @@ public class IndexImpl extends AbstractIndex {
                                           PerIndexStats stats, String mapName, int ignored) {
         switch (config.getType()) {
             case SORTED:
-                return new OrderedIndexStore(copyBehavior);
+                return config.getStoreType() == IndexStoreType.BTREE
+                        ? new BTreeIndexStore() : new OrderedIndexStore(copyBehavior);
             case HASH:
-                return new UnorderedIndexStore(copyBehavior);
+                return config.getStoreType() == IndexStoreType.PRIMITIVE_HASH
+                        ? new PrimitiveHashIndexStore() : new UnorderedIndexStore(copyBehavior);
             case BITMAP:
                 return new BitmapIndexStore(config);
             default:
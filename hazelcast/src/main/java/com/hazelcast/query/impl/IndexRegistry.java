@@ -33,6 +33,7 @@ import com.hazelcast.map.impl.operation.steps.engine.Step;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.query.impl.predicates.IndexAwarePredicate;
+import com.hazelcast.query.impl.predicates.QueryPlanCache;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Arrays;
@@ -75,6 +76,7 @@ public class IndexRegistry {
     private final Supplier<java.util.function.Predicate<QueryableEntry>> resultFilterFactory;
     private final QueryContextProvider queryContextProvider;
     private final InternalSerializationService ss;
+    private final QueryPlanCache queryPlanCache;
 
     private final Map<String, InternalIndex> indexesByName = new ConcurrentHashMap<>(3);
     private final AttributeIndexRegistry attributeIndexRegistry = new AttributeIndexRegistry();
@@ -102,7 +104,8 @@ public class IndexRegistry {
                           InMemoryFormat inMemoryFormat,
                           int partitionCount,
                           int partitionId,
-                          Supplier<java.util.function.Predicate<QueryableEntry>> resultFilterFactory) {
+                          Supplier<java.util.function.Predicate<QueryableEntry>> resultFilterFactory,
+                          int queryPlanCacheSize) {
         this.node = node;
         this.mapName = mapName;
         this.global = global;
@@ -116,6 +119,7 @@ public class IndexRegistry {
         this.partitionCount = partitionCount;
         this.partitionId = partitionId;
         this.resultFilterFactory = resultFilterFactory;
+        this.queryPlanCache = global && queryPlanCacheSize > 0 ? new QueryPlanCache(queryPlanCacheSize) : null;
     }
 
     public static void beginPartitionUpdate(InternalIndex[] indexes) {
@@ -208,6 +212,7 @@ public class IndexRegistry {
             newCompositeIndexes[oldCompositeIndexes.length] = index;
             compositeIndexes = newCompositeIndexes;
         }
+        invalidateQueryPlans();
         return index;
     }
 
@@ -275,6 +280,7 @@ public class IndexRegistry {
         attributeIndexRegistry.clear();
         evaluateOnlyAttributeIndexRegistry.clear();
         converterCache.clear();
+        invalidateQueryPlans();
 
         for (InternalIndex index : indexesCopy) {
             index.destroy();
@@ -291,6 +297,7 @@ public class IndexRegistry {
         for (InternalIndex index : indexesCopy) {
             index.clear();
         }
+        invalidateQueryPlans();
     }
 
     /**
@@ -579,6 +586,36 @@ public class IndexRegistry {
         return stats;
     }
 
+    /**
+     * Returns the cache of the query plans optimized against this indexes
+     * instance or {@code null} if the plans are not cached, e.g. for
+     * partitioned indexes.
+     */
+    public QueryPlanCache getQueryPlanCache() {
+        return queryPlanCache;
+    }
+
+    /**
+     * Returns {@code true} if the converters of all the indexes of this
+     * indexes instance are resolved, {@code false} otherwise.
+     * <p>
+     * Resolved converters are replaced only when the indexes are cleared.
+     */
+    public boolean haveResolvedConverters() {
+        for (InternalIndex index : indexes) {
+            if (AbstractIndex.converterIsUnassignedOrTransient(index.getConverter())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void invalidateQueryPlans() {
+        if (queryPlanCache != null) {
+            queryPlanCache.clear();
+        }
+    }
+
     private static QueryContextProvider createQueryContextProvider(IndexRegistry indexes,
                                                                    boolean global, boolean statisticsEnabled) {
         if (statisticsEnabled) {
@@ -626,6 +663,7 @@ public class IndexRegistry {
 
         private Node node;
         private Supplier<java.util.function.Predicate<QueryableEntry>> resultFilterFactory;
+        private int queryPlanCacheSize;
 
         Builder(Node node, String mapName, SerializationService ss, IndexCopyBehavior indexCopyBehavior,
                 InMemoryFormat inMemoryFormat) {
@@ -708,13 +746,24 @@ public class IndexRegistry {
             return this;
         }
 
+        /**
+         * @param queryPlanCacheSize the maximum number of query plans cached
+         *                           for global indexes, {@code 0} disables
+         *                           the cache. Default value is 0.
+         * @return this builder instance
+         */
+        public Builder queryPlanCacheSize(int queryPlanCacheSize) {
+            this.queryPlanCacheSize = queryPlanCacheSize;
+            return this;
+        }
+
         /**
          * @return a new instance of Indexes
          */
         public IndexRegistry build() {
             return new IndexRegistry(node, mapName, serializationService, indexCopyBehavior, extractors,
                     indexProvider, usesCachedQueryableEntries, statsEnabled, global,
-                    inMemoryFormat, partitionCount, partitionId, resultFilterFactory);
+                    inMemoryFormat, partitionCount, partitionId, resultFilterFactory, queryPlanCacheSize);
         }
     }
 }
@@ -21,7 +21,9 @@ import com.hazelcast.config.BitmapIndexOptions;
 import com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation;
 import com.hazelcast.config.ConfigXmlGenerator.XmlGenerator;
 import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
 import com.hazelcast.config.IndexType;
+import com.hazelcast.config.InvalidConfigurationException;
 import com.hazelcast.internal.util.StringUtil;
 import com.hazelcast.internal.util.UuidUtil;
 import com.hazelcast.memory.Capacity;
@@ -56,6 +58,40 @@ public final class IndexUtils {
         // No-op.
     }
 
+    /**
+     * Checks that the given index config has no included attributes. Used
+     * by the paths which cannot carry included attributes yet, like the
+     * client protocol, so such an index config is not silently turned into
+     * a non-covering index.
+     *
+     * @param config Index config.
+     * @param path   Description of the path the config is passed through.
+     * @throws IllegalArgumentException If the index config has included attributes.
+     */
+    public static void checkNoIncludedAttributes(IndexConfig config, String path) {
+        if (!config.getIncludedAttributes().isEmpty()) {
+            throw new IllegalArgumentException("Included attributes are not supported by " + path
+                    + " yet, configure the index with the member-side Java config API: " + config);
+        }
+    }
+
+    /**
+     * Checks that the given index config uses the default store type. Used by
+     * the paths which cannot carry the store type yet, like the client
+     * protocol, so such an index config is not silently turned into an index
+     * with the default store.
+     *
+     * @param config Index config.
+     * @param path   Description of the path the config is passed through.
+     * @throws IllegalArgumentException If the index config has a store type other than the default one.
+     */
+    public static void checkDefaultStoreType(IndexConfig config, String path) {
+        if (config.getStoreType() != IndexStoreType.DEFAULT) {
+            throw new IllegalArgumentException("Index store types are not supported by " + path
+                    + " yet, configure the index with the member-side Java config API: " + config);
+        }
+    }
+
     /**
      * Validate provided index config and normalize it's name and attribute names.
      *
@@ -84,6 +120,11 @@ public final class IndexUtils {
             throw new IllegalArgumentException("Composite bitmap indexes are not supported: " + config);
         }
 
+        if (!supportsStoreType(config.getType(), config.getStoreType())) {
+            throw new IllegalArgumentException("Index store type " + config.getStoreType()
+                + " is not supported by " + config.getType() + " indexes: " + config);
+        }
+
         List<String> normalizedAttributeNames = new ArrayList<>(originalAttributeNames.size());
 
         for (String originalAttributeName : originalAttributeNames) {
@@ -123,6 +164,21 @@ public final class IndexUtils {
         IndexConfig normalizedConfig =
             buildNormalizedConfig(mapName, config.getType(), name, normalizedAttributeNames, config.getBTreeIndexConfig());
 
+        for (String includedAttributeName : config.getIncludedAttributes()) {
+            validateAttribute(config, includedAttributeName);
+
+            String normalizedIncludedAttributeName = canonicalizeAttribute(includedAttributeName.trim());
+
+            if (normalizedConfig.getIncludedAttributes().contains(normalizedIncludedAttributeName)) {
+                throw new IllegalArgumentException("Duplicate included attribute name [attributeName="
+                    + includedAttributeName + ", indexConfig=" + config + ']');
+            }
+
+            normalizedConfig.addIncludedAttribute(normalizedIncludedAttributeName);
+        }
+
+        normalizedConfig.setStoreType(config.getStoreType());
+
         if (config.getType() == IndexType.BITMAP) {
             String uniqueKey = config.getBitmapIndexOptions().getUniqueKey();
             UniqueKeyTransformation uniqueKeyTransformation = config.getBitmapIndexOptions().getUniqueKeyTransformation();
@@ -136,6 +192,15 @@ public final class IndexUtils {
         return normalizedConfig;
     }
 
+    private static boolean supportsStoreType(IndexType type, IndexStoreType storeType) {
+        return switch (storeType) {
+            case DEFAULT -> true;
+            case BTREE -> type == IndexType.SORTED;
+            case PRIMITIVE_HASH -> type == IndexType.HASH;
+            case ROARING_BITMAP -> type == IndexType.BITMAP;
+        };
+    }
+
     private static IndexConfig buildNormalizedConfig(String mapName, IndexType indexType, String indexName,
                                                      List<String> normalizedAttributeNames,
                                                      BTreeIndexConfig btreeIndexConfig) {
@@ -328,6 +393,9 @@ public final class IndexUtils {
         IndexConfig res = new IndexConfig().setName(name).setType(type);
 
         for (Node attributesNode : childElements(indexNode)) {
+            if ("included-attributes".equals(cleanNodeName(attributesNode))) {
+                throw includedAttributesNotSupported(name);
+            }
             if ("attributes".equals(cleanNodeName(attributesNode))) {
                 for (Node attributeNode : childElements(attributesNode)) {
                     if ("attribute".equals(cleanNodeName(attributeNode))) {
@@ -397,6 +465,11 @@ public final class IndexUtils {
         }
     }
 
+    private static InvalidConfigurationException includedAttributesNotSupported(String indexName) {
+        return new InvalidConfigurationException("Included attributes of index " + indexName
+                + " cannot be configured declaratively yet, use the Java config API");
+    }
+
     public static IndexConfig getIndexConfigFromYaml(Node indexNode, boolean domLevel3, boolean strict) {
         NamedNodeMap attrs = indexNode.getAttributes();
 
@@ -414,6 +487,10 @@ public final class IndexUtils {
         IndexType type = getIndexTypeFromXmlName(typeStr);
         IndexConfig res = new IndexConfig().setName(name).setType(type);
 
+        if (attrs.getNamedItem("included-attributes") != null) {
+            throw includedAttributesNotSupported(name);
+        }
+
         Node attributesNode = attrs.getNamedItem("attributes");
         for (Node attributeNode : childElements(attributesNode)) {
             String attribute = attributeNode.getNodeValue();
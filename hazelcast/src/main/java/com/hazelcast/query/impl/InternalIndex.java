@@ -20,6 +20,8 @@ import com.hazelcast.internal.monitor.impl.PerIndexStats;
 import com.hazelcast.map.impl.recordstore.CustomStepAwareStorage;
 import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
 
+import java.util.List;
+
 /**
  * Provides the private index API.
  */
@@ -39,6 +41,27 @@ public interface InternalIndex extends Index {
      */
     Comparable canonicalizeQueryArgumentScalar(Comparable value);
 
+    /**
+     * Inserts the given new entries into this index in bulk.
+     * <p>
+     * The entries are expected to be absent from this index, as it happens
+     * while this index is populated for a partition.
+     * <p>
+     * The default implementation inserts the entries one by one.
+     *
+     * @param newEntries      the entries from which attribute values should
+     *                        be read.
+     * @param entriesToStore  the entries that should be stored in this index,
+     *                        one per new entry, see {@link #putEntry}.
+     * @param operationSource the operation source.
+     */
+    default void putEntries(List<CachedQueryEntry> newEntries, List<QueryableEntry> entriesToStore,
+                            OperationSource operationSource) {
+        for (int i = 0; i < newEntries.size(); ++i) {
+            putEntry(newEntries.get(i), null, entriesToStore.get(i), operationSource);
+        }
+    }
+
     /**
      * Returns {@code true} if the given partition is indexed by this index,
      * {@code false} otherwise.
@@ -24,6 +24,7 @@ import javax.annotation.Nonnull;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
@@ -32,6 +33,7 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static com.hazelcast.query.impl.AbstractIndex.NULL;
@@ -70,10 +72,12 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
 
     private final IndexFunctor<Comparable, QueryableEntry> addFunctor;
     private final IndexFunctor<Comparable, Data> removeFunctor;
+    private final boolean copyOnWrite;
 
     public OrderedIndexStore(IndexCopyBehavior copyOn) {
         super(copyOn, true);
         assert copyOn != null;
+        copyOnWrite = copyOn == IndexCopyBehavior.COPY_ON_WRITE;
         if (copyOn == IndexCopyBehavior.COPY_ON_WRITE) {
             addFunctor = new CopyOnWriteAddFunctor();
             removeFunctor = new CopyOnWriteRemoveFunctor();
@@ -93,6 +97,25 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         return removeFunctor.invoke(value, recordKey);
     }
 
+    @Override
+    Map<Comparable, List<QueryableEntry>> newValueGroups() {
+        return new TreeMap<>(SPECIAL_AWARE_COMPARATOR);
+    }
+
+    @Override
+    void insertAllInternal(Comparable value, List<QueryableEntry> records, Consumer<QueryableEntry> addedRecords) {
+        if (copyOnWrite) {
+            NavigableMap<Data, QueryableEntry> existingRecords = recordMap.get(value);
+            NavigableMap<Data, QueryableEntry> newRecords = existingRecords == null
+                    ? new TreeMap<>(DATA_COMPARATOR) : new TreeMap<>(existingRecords);
+            putAll(newRecords, records, addedRecords);
+            recordMap.put(value, newRecords);
+        } else {
+            putAll(recordMap.computeIfAbsent(value, x -> new ConcurrentSkipListMap<>(DATA_COMPARATOR)), records,
+                    addedRecords);
+        }
+    }
+
     @Override
     public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
         // We still need to canonicalize query arguments for ordered indexes to
@@ -463,11 +486,11 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
 
     }
 
-    private static final class IteratorFromBatch implements Iterator<QueryableEntry> {
+    static final class IteratorFromBatch implements Iterator<QueryableEntry> {
         private final Iterator<IndexKeyEntries> iterator;
         private Iterator<QueryableEntry> indexKeyIterator;
 
-        private IteratorFromBatch(@Nonnull Iterator<IndexKeyEntries> iterator) {
+        IteratorFromBatch(@Nonnull Iterator<IndexKeyEntries> iterator) {
             this.iterator = iterator;
             this.indexKeyIterator = iterator.hasNext() ? iterator.next().getEntries() : null;
         }
@@ -0,0 +1,551 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.query.Predicate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.hazelcast.internal.util.HashUtil.fastLongMix;
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.UnorderedIndexStore.canonicalizeLongRepresentable;
+
+/**
+ * Hash index store which keeps integral and {@link UUID} values in primitive
+ * open-addressing tables.
+ * <p>
+ * {@link UnorderedIndexStore} boxes every value and keeps a concurrent map of
+ * entries per value. This store keys integral values by a {@code long} and
+ * UUIDs by two {@code long}s, and keeps the entries of a value in a compact
+ * posting: the entry itself, an array of up to
+ * {@value #MAX_ARRAY_POSTING_SIZE} entries or, for more entries, a map by
+ * entry key. Values of other types and composite values are kept in a
+ * regular map of postings.
+ * <p>
+ * All operations are guarded by the global lock of {@link BaseIndexStore},
+ * results are copied out of the postings under the read lock.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class PrimitiveHashIndexStore extends BaseSingleValueIndexStore {
+
+    static final int MAX_ARRAY_POSTING_SIZE = 8;
+
+    private static final int INITIAL_TABLE_CAPACITY = 16;
+
+    private final PrimitiveTable longTable = new PrimitiveTable(1);
+    private final PrimitiveTable uuidTable = new PrimitiveTable(2);
+    private final Map<Comparable, Object> otherPostings = new HashMap<>();
+    private Object nullPosting;
+
+    // scratch state of an update, guarded by the write lock
+    private QueryableEntry oldEntry;
+
+    public PrimitiveHashIndexStore() {
+        // results are always copied out of the postings
+        super(IndexCopyBehavior.NEVER, true);
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        if (value == NULL) {
+            nullPosting = addToPosting(nullPosting, record);
+        } else if (isLongKey(value)) {
+            longTable.add(0, ((Number) value).longValue(), record);
+        } else if (value instanceof UUID uuid) {
+            uuidTable.add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), record);
+        } else {
+            Object posting = addToPosting(otherPostings.get(value), record);
+            otherPostings.put(value, posting);
+        }
+        return takeOldEntry();
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        if (value == NULL) {
+            nullPosting = removeFromPosting(nullPosting, recordKey);
+        } else if (isLongKey(value)) {
+            longTable.remove(0, ((Number) value).longValue(), recordKey);
+        } else if (value instanceof UUID uuid) {
+            uuidTable.remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), recordKey);
+        } else {
+            Object posting = otherPostings.get(value);
+            if (posting != null) {
+                posting = removeFromPosting(posting, recordKey);
+                if (posting == null) {
+                    otherPostings.remove(value);
+                } else {
+                    otherPostings.put(value, posting);
+                }
+            }
+        }
+        return takeOldEntry();
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // Using a storage representation for arguments here to save on
+        // conversions later.
+        return canonicalizeScalarForStorage(value);
+    }
+
+    @Override
+    Comparable canonicalizeScalarForStorage(Comparable value) {
+        return UnorderedIndexStore.canonicalizeNumberForStorage(value);
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            longTable.clear();
+            uuidTable.clear();
+            otherPostings.clear();
+            nullPosting = null;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(boolean descending) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            copyPosting(nullPosting, records);
+            collectMatching(value -> true, records);
+            return records.values().iterator();
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparable value) {
+        return getRecords(value).iterator();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparison comparison, Comparable value, boolean descending) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparable from, boolean fromInclusive, Comparable to,
+                                                         boolean toInclusive, boolean descending) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(Comparable value, boolean descending) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(Comparison comparison, Comparable value,
+                                                               boolean descending) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(Comparable from, boolean fromInclusive, Comparable to,
+                                                               boolean toInclusive, boolean descending) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            copyPosting(getPosting(canonicalize(value)), records);
+            return toSingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            for (Comparable value : values) {
+                // value is already canonicalized by the associated index
+                copyPosting(getPosting(value), records);
+            }
+            return toSingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable value) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            collectMatching(indexedValue -> {
+                int result = Comparables.compare(value, indexedValue);
+                return switch (comparison) {
+                    case LESS -> result > 0;
+                    case LESS_OR_EQUAL -> result >= 0;
+                    case GREATER -> result < 0;
+                    case GREATER_OR_EQUAL -> result <= 0;
+                };
+            }, records);
+            return toSingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            if (Comparables.compare(from, to) == 0) {
+                if (fromInclusive && toInclusive) {
+                    copyPosting(getPosting(canonicalize(from)), records);
+                }
+                return toSingleResultSet(records);
+            }
+
+            int fromBound = fromInclusive ? 0 : +1;
+            int toBound = toInclusive ? 0 : -1;
+            collectMatching(value -> Comparables.compare(value, from) >= fromBound
+                    && Comparables.compare(value, to) <= toBound, records);
+            return toSingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    private Object getPosting(Comparable value) {
+        if (value == NULL) {
+            return nullPosting;
+        } else if (isLongKey(value)) {
+            return longTable.get(0, ((Number) value).longValue());
+        } else if (value instanceof UUID uuid) {
+            return uuidTable.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        } else {
+            return otherPostings.get(value);
+        }
+    }
+
+    /**
+     * Copies the entries of all non-null values accepted by the given filter
+     * to the given records.
+     */
+    private void collectMatching(java.util.function.Predicate<Comparable> filter, Map<Data, QueryableEntry> records) {
+        Object[] longPostings = longTable.postings;
+        for (int slot = 0; slot < longPostings.length; slot++) {
+            if (longPostings[slot] != null && filter.test(canonicalizeLongRepresentable(longTable.low(slot)))) {
+                copyPosting(longPostings[slot], records);
+            }
+        }
+        Object[] uuidPostings = uuidTable.postings;
+        for (int slot = 0; slot < uuidPostings.length; slot++) {
+            if (uuidPostings[slot] != null && filter.test(new UUID(uuidTable.high(slot), uuidTable.low(slot)))) {
+                copyPosting(uuidPostings[slot], records);
+            }
+        }
+        for (Map.Entry<Comparable, Object> entry : otherPostings.entrySet()) {
+            if (filter.test(entry.getKey())) {
+                copyPosting(entry.getValue(), records);
+            }
+        }
+    }
+
+    private Comparable canonicalize(Comparable value) {
+        if (value instanceof CompositeValue compositeValue) {
+            Comparable[] components = compositeValue.getComponents();
+            for (int i = 0; i < components.length; ++i) {
+                components[i] = canonicalizeScalarForStorage(components[i]);
+            }
+            return value;
+        } else {
+            return canonicalizeScalarForStorage(value);
+        }
+    }
+
+    private QueryableEntry takeOldEntry() {
+        QueryableEntry entry = oldEntry;
+        oldEntry = null;
+        return entry;
+    }
+
+    /**
+     * Adds the given entry to the given posting, replacing the entry with the
+     * same key if there is one.
+     *
+     * @return the updated posting
+     */
+    private Object addToPosting(Object posting, QueryableEntry entry) {
+        Data key = entry.getKeyData();
+        if (posting == null) {
+            return entry;
+        } else if (posting instanceof QueryableEntry single) {
+            if (single.getKeyData().equals(key)) {
+                oldEntry = single;
+                return entry;
+            }
+            return new QueryableEntry[]{single, entry};
+        } else if (posting instanceof QueryableEntry[] entries) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].getKeyData().equals(key)) {
+                    oldEntry = entries[i];
+                    entries[i] = entry;
+                    return entries;
+                }
+            }
+            if (entries.length < MAX_ARRAY_POSTING_SIZE) {
+                QueryableEntry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+                newEntries[entries.length] = entry;
+                return newEntries;
+            }
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            copyPosting(entries, records);
+            records.put(key, entry);
+            return records;
+        } else {
+            oldEntry = ((Map<Data, QueryableEntry>) posting).put(key, entry);
+            return posting;
+        }
+    }
+
+    /**
+     * Removes the entry with the given key from the given posting.
+     *
+     * @return the updated posting or {@code null} if no entries are left
+     */
+    private Object removeFromPosting(Object posting, Data key) {
+        if (posting == null) {
+            return null;
+        } else if (posting instanceof QueryableEntry single) {
+            if (single.getKeyData().equals(key)) {
+                oldEntry = single;
+                return null;
+            }
+            return single;
+        } else if (posting instanceof QueryableEntry[] entries) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].getKeyData().equals(key)) {
+                    oldEntry = entries[i];
+                    if (entries.length == 2) {
+                        return entries[1 - i];
+                    }
+                    QueryableEntry[] newEntries = new QueryableEntry[entries.length - 1];
+                    System.arraycopy(entries, 0, newEntries, 0, i);
+                    System.arraycopy(entries, i + 1, newEntries, i, newEntries.length - i);
+                    return newEntries;
+                }
+            }
+            return entries;
+        } else {
+            Map<Data, QueryableEntry> records = (Map<Data, QueryableEntry>) posting;
+            oldEntry = records.remove(key);
+            // shrink back with some hysteresis to avoid flapping at the limit
+            if (records.size() <= MAX_ARRAY_POSTING_SIZE / 2) {
+                return records.values().toArray(new QueryableEntry[0]);
+            }
+            return records;
+        }
+    }
+
+    private static void copyPosting(Object posting, Map<Data, QueryableEntry> records) {
+        if (posting == null) {
+            return;
+        } else if (posting instanceof QueryableEntry single) {
+            records.put(single.getKeyData(), single);
+        } else if (posting instanceof QueryableEntry[] entries) {
+            for (QueryableEntry entry : entries) {
+                records.put(entry.getKeyData(), entry);
+            }
+        } else {
+            records.putAll((Map<Data, QueryableEntry>) posting);
+        }
+    }
+
+    private static boolean isLongKey(Comparable value) {
+        // long representable values are canonicalized to either of them
+        return value instanceof Long || value instanceof Integer;
+    }
+
+    /**
+     * Open-addressing table with linear probing from keys of one or two
+     * {@code long}s to postings. A slot is free when its posting is
+     * {@code null}.
+     */
+    private final class PrimitiveTable {
+        private final int keyWidth;
+        private long[] keys;
+        private Object[] postings;
+        private int size;
+
+        PrimitiveTable(int keyWidth) {
+            this.keyWidth = keyWidth;
+            allocate(INITIAL_TABLE_CAPACITY);
+        }
+
+        Object get(long high, long low) {
+            int slot = slotOf(high, low);
+            return slot < 0 ? null : postings[slot];
+        }
+
+        void add(long high, long low, QueryableEntry entry) {
+            int slot = slotOf(high, low);
+            if (slot >= 0) {
+                postings[slot] = addToPosting(postings[slot], entry);
+                return;
+            }
+            slot = -slot - 1;
+            setKey(slot, high, low);
+            postings[slot] = entry;
+            if (++size > postings.length * LOAD_FACTOR) {
+                rehash(postings.length * 2);
+            }
+        }
+
+        void remove(long high, long low, Data key) {
+            int slot = slotOf(high, low);
+            if (slot < 0) {
+                return;
+            }
+            Object posting = removeFromPosting(postings[slot], key);
+            if (posting != null) {
+                postings[slot] = posting;
+            } else {
+                size--;
+                compact(slot);
+            }
+        }
+
+        void clear() {
+            size = 0;
+            allocate(INITIAL_TABLE_CAPACITY);
+        }
+
+        long high(int slot) {
+            return keyWidth == 1 ? 0 : keys[slot * keyWidth];
+        }
+
+        long low(int slot) {
+            return keys[slot * keyWidth + keyWidth - 1];
+        }
+
+        /**
+         * @return the slot of the given key or, if there is no such key,
+         * {@code -(insertion slot + 1)}
+         */
+        private int slotOf(long high, long low) {
+            int mask = postings.length - 1;
+            int slot = hash(high, low) & mask;
+            while (postings[slot] != null) {
+                if (low(slot) == low && high(slot) == high) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -slot - 1;
+        }
+
+        /**
+         * Frees the given slot and shifts back the keys which probed past it.
+         */
+        private void compact(int freedSlot) {
+            int mask = postings.length - 1;
+            int hole = freedSlot;
+            postings[hole] = null;
+            int slot = (hole + 1) & mask;
+            while (postings[slot] != null) {
+                int idealSlot = hash(high(slot), low(slot)) & mask;
+                if (((slot - idealSlot) & mask) >= ((slot - hole) & mask)) {
+                    setKey(hole, high(slot), low(slot));
+                    postings[hole] = postings[slot];
+                    postings[slot] = null;
+                    hole = slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldPostings = postings;
+            allocate(capacity);
+            int mask = capacity - 1;
+            for (int oldSlot = 0; oldSlot < oldPostings.length; oldSlot++) {
+                if (oldPostings[oldSlot] == null) {
+                    continue;
+                }
+                long high = keyWidth == 1 ? 0 : oldKeys[oldSlot * keyWidth];
+                long low = oldKeys[oldSlot * keyWidth + keyWidth - 1];
+                int slot = hash(high, low) & mask;
+                while (postings[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                setKey(slot, high, low);
+                postings[slot] = oldPostings[oldSlot];
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity * keyWidth];
+            postings = new Object[capacity];
+        }
+
+        private void setKey(int slot, long high, long low) {
+            if (keyWidth != 1) {
+                keys[slot * keyWidth] = high;
+            }
+            keys[slot * keyWidth + keyWidth - 1] = low;
+        }
+
+        private int hash(long high, long low) {
+            return (int) fastLongMix(low ^ fastLongMix(high));
+        }
+    }
+}
@@ -63,6 +63,7 @@ public class QueryEntry extends QueryableEntry {
         this.key = key;
         this.value = value;
         this.extractors = extractors;
+        clearCoveredAttributeValues();
     }
 
     @Override
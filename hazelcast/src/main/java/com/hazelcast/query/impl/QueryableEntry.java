@@ -28,6 +28,7 @@ import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.getters.ReflectionHelper;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
@@ -43,12 +44,23 @@ import static com.hazelcast.query.impl.TypeConverters.NULL_CONVERTER;
  */
 public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K, V> {
 
+    /**
+     * Returned by {@link #getCoveredAttributeValue} for attributes which
+     * values are not stored in the entry.
+     */
+    public static final Object NOT_COVERED = new Object();
+
     protected InternalSerializationService serializationService;
     protected Extractors extractors;
 
     protected Record record;
     private transient JsonMetadata metadata;
 
+    // attribute values stored by covering indexes as name-value pairs, the
+    // array is replaced on updates since entries are read concurrently once
+    // stored in an index
+    private transient volatile Object[] coveredAttributeValues;
+
     public Record getRecord() {
         return record;
     }
@@ -59,7 +71,54 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
 
     @Override
     public Object getAttributeValue(String attributeName) throws QueryException {
-        return extractAttributeValue(attributeName);
+        Object coveredValue = getCoveredAttributeValue(attributeName);
+        return coveredValue == NOT_COVERED ? extractAttributeValue(attributeName) : coveredValue;
+    }
+
+    /**
+     * Returns the value of the given attribute stored in this entry by a
+     * covering index.
+     *
+     * @param attributeName the name of the attribute.
+     * @return the attribute value or {@link #NOT_COVERED} if no covering index
+     * stored the value of the attribute.
+     * @see com.hazelcast.config.IndexConfig#getIncludedAttributes()
+     */
+    public Object getCoveredAttributeValue(String attributeName) {
+        Object[] covered = coveredAttributeValues;
+        if (covered != null) {
+            for (int i = 0; i < covered.length; i += 2) {
+                if (covered[i].equals(attributeName)) {
+                    return covered[i + 1];
+                }
+            }
+        }
+        return NOT_COVERED;
+    }
+
+    /**
+     * Stores the given values of the given attributes in this entry, values
+     * of attributes which are already stored are kept as is.
+     */
+    void coverAttributeValues(String[] attributeNames, Object[] values) {
+        Object[] covered = coveredAttributeValues;
+        int size = covered == null ? 0 : covered.length;
+        Object[] newCovered = covered == null
+                ? new Object[attributeNames.length * 2] : Arrays.copyOf(covered, size + attributeNames.length * 2);
+        for (int i = 0; i < attributeNames.length; ++i) {
+            if (covered == null || getCoveredAttributeValue(attributeNames[i]) == NOT_COVERED) {
+                newCovered[size++] = attributeNames[i];
+                newCovered[size++] = values[i];
+            }
+        }
+        coveredAttributeValues = size == newCovered.length ? newCovered : Arrays.copyOf(newCovered, size);
+    }
+
+    /**
+     * Drops attribute values stored in this entry by covering indexes.
+     */
+    protected void clearCoveredAttributeValues() {
+        coveredAttributeValues = null;
     }
 
     public abstract Data getKeyData();
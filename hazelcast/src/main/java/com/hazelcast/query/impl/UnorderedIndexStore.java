@@ -25,10 +25,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
 import static com.hazelcast.query.impl.AbstractIndex.NULL;
 
@@ -42,10 +44,13 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
     private final IndexFunctor<Comparable, QueryableEntry> addFunctor;
     private final IndexFunctor<Comparable, Data> removeFunctor;
 
+    private final boolean copyOnWrite;
+
     private volatile Map<Data, QueryableEntry> recordsWithNullValue;
 
     public UnorderedIndexStore(IndexCopyBehavior copyOn) {
         super(copyOn, true);
+        copyOnWrite = copyOn == IndexCopyBehavior.COPY_ON_WRITE;
         if (copyOn == IndexCopyBehavior.COPY_ON_WRITE) {
             addFunctor = new CopyOnWriteAddFunctor();
             removeFunctor = new CopyOnWriteRemoveFunctor();
@@ -67,6 +72,29 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
         return removeFunctor.invoke(value, recordKey);
     }
 
+    @Override
+    void insertAllInternal(Comparable value, List<QueryableEntry> records, Consumer<QueryableEntry> addedRecords) {
+        if (copyOnWrite) {
+            Map<Data, QueryableEntry> newRecords = new HashMap<>(value == NULL
+                    ? recordsWithNullValue : recordMap.getOrDefault(value, Collections.emptyMap()));
+            putAll(newRecords, records, addedRecords);
+            if (value == NULL) {
+                recordsWithNullValue = newRecords;
+            } else {
+                recordMap.put(value, newRecords);
+            }
+        } else if (value == NULL) {
+            putAll(recordsWithNullValue, records, addedRecords);
+        } else {
+            Map<Data, QueryableEntry> existingRecords = recordMap.get(value);
+            if (existingRecords == null) {
+                existingRecords = new ConcurrentHashMap<>(records.size(), LOAD_FACTOR, 1);
+                recordMap.put(value, existingRecords);
+            }
+            putAll(existingRecords, records, addedRecords);
+        }
+    }
+
     @Override
     public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
         // Using a storage representation for arguments here to save on
@@ -76,6 +104,10 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
 
     @Override
     public Comparable canonicalizeScalarForStorage(Comparable value) {
+        return canonicalizeNumberForStorage(value);
+    }
+
+    static Comparable canonicalizeNumberForStorage(Comparable value) {
         // Assuming on-heap overhead of 12 bytes for the object header and
         // allocation granularity by modulo 8, there is no point in trying to
         // represent a value in less than 4 bytes.
@@ -450,7 +482,7 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
         }
     }
 
-    private static Comparable canonicalizeLongRepresentable(long value) {
+    static Comparable canonicalizeLongRepresentable(long value) {
         if (value == (long) (int) value) {
             return (int) value;
         } else {
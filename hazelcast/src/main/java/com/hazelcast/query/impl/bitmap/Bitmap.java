@@ -38,21 +38,46 @@ import java.util.Map;
  * Internally, each bitmap manages a set of sparse bit sets, one for each
  * possible attribute value, and a sparse array to map from unique {@code long}
  * entry keys back to entries.
+ * <p>
+ * Bitmaps created in the roaring mode use {@link RoaringBitSet roaring bit
+ * sets} instead of sparse bit sets and evaluate predicates by combining whole
+ * bit sets container by container instead of merging their iterators member by
+ * member.
  *
  * @param <E> the type of entries being indexed.
  */
 @SuppressWarnings("rawtypes")
 public final class Bitmap<E> {
 
-    private final Map<Object, SparseBitSet> bitSets = new HashMap<>();
+    private final Map<Object, LongBitSet> bitSets = new HashMap<>();
 
     private final SparseArray<E> entries = new SparseArray<>();
 
+    // the keys of all the entries, maintained only in the roaring mode
+    private final RoaringBitSet universe;
+
     // Note! At the moment bitmap index doesn't support memory statistics,
     // because we cannot produce precise memory estimate.
     // Instead, we provide zero memory consumption estimation.
     private enum ZeroCost { ZERO_COST }
 
+    /**
+     * Constructs a new bitmap backed by sparse bit sets.
+     */
+    public Bitmap() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new bitmap.
+     *
+     * @param roaring {@code true} to back the bitmap by roaring bit sets,
+     *                {@code false} to back it by sparse bit sets.
+     */
+    public Bitmap(boolean roaring) {
+        this.universe = roaring ? new RoaringBitSet() : null;
+    }
+
     /**
      * Inserts the given values associated with the given entry having the given
      * unique key.
@@ -66,12 +91,15 @@ public final class Bitmap<E> {
             Object value = values.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
+            LongBitSet bitSet = bitSets.computeIfAbsent(value, x -> newBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
             bitSet.add(key);
         }
 
         entries.set(key, entry);
+        if (universe != null) {
+            universe.add(key);
+        }
     }
 
     /**
@@ -88,7 +116,7 @@ public final class Bitmap<E> {
             Object value = oldValues.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.get(value);
+            LongBitSet bitSet = bitSets.get(value);
             if (bitSet != null) {
                 bitSet.remove(key);
             }
@@ -99,12 +127,15 @@ public final class Bitmap<E> {
             Object value = newValues.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
+            LongBitSet bitSet = bitSets.computeIfAbsent(value, x -> newBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
             bitSet.add(key);
         }
 
         entries.set(key, entry);
+        if (universe != null) {
+            universe.add(key);
+        }
     }
 
     /**
@@ -119,7 +150,7 @@ public final class Bitmap<E> {
             Object value = values.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.get(value);
+            LongBitSet bitSet = bitSets.get(value);
             if (bitSet != null) {
                 if (bitSet.remove(key)) {
                     bitSets.remove(value);
@@ -129,6 +160,9 @@ public final class Bitmap<E> {
         }
 
         entries.clear(key);
+        if (universe != null) {
+            universe.remove(key);
+        }
     }
 
     /**
@@ -137,6 +171,9 @@ public final class Bitmap<E> {
     public void clear() {
         bitSets.clear();
         entries.clear();
+        if (universe != null) {
+            universe.clear();
+        }
     }
 
     /**
@@ -153,7 +190,13 @@ public final class Bitmap<E> {
      * @return an iterator containing entries matching the given predicate.
      */
     public Iterator<E> evaluate(Predicate predicate, TypeConverter converter) {
-        return new EntryIterator<>(predicateIterator(predicate, converter), entries.iterator());
+        AscendingLongIterator iterator = universe == null ? predicateIterator(predicate, converter)
+                : predicateBitSet(predicate, converter).iterator();
+        return new EntryIterator<>(iterator, entries.iterator());
+    }
+
+    private LongBitSet newBitSet() {
+        return universe == null ? new SparseBitSet() : new RoaringBitSet();
     }
 
     @SuppressWarnings("checkstyle:npathcomplexity")
@@ -201,6 +244,60 @@ public final class Bitmap<E> {
         throw new IllegalArgumentException("unexpected predicate: " + predicate);
     }
 
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    private RoaringBitSet predicateBitSet(Predicate predicate, TypeConverter converter) {
+        if (predicate instanceof AndPredicate andPredicate) {
+            Predicate[] predicates = andPredicate.getPredicates();
+            assert predicates.length > 0;
+            return BitmapAlgorithms.and(predicateBitSets(predicates, converter));
+        }
+
+        if (predicate instanceof OrPredicate orPredicate) {
+            Predicate[] predicates = orPredicate.getPredicates();
+            assert predicates.length > 0;
+            return BitmapAlgorithms.or(predicateBitSets(predicates, converter));
+        }
+
+        if (predicate instanceof NotPredicate notPredicate) {
+            Predicate subPredicate = notPredicate.getPredicate();
+            return BitmapAlgorithms.not(predicateBitSet(subPredicate, converter), universe);
+        }
+
+        if (predicate instanceof NotEqualPredicate notEqualPredicate) {
+            Comparable value = notEqualPredicate.getValue();
+            return BitmapAlgorithms.not(valueBitSet(value, converter), universe);
+        }
+
+        if (predicate instanceof EqualPredicate equalPredicate) {
+            Comparable value = equalPredicate.getFrom();
+            return valueBitSet(value, converter);
+        }
+
+        if (predicate instanceof InPredicate inPredicate) {
+            Comparable[] values = inPredicate.getValues();
+            RoaringBitSet[] valueBitSets = new RoaringBitSet[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                valueBitSets[i] = valueBitSet(values[i], converter);
+            }
+            return BitmapAlgorithms.or(valueBitSets);
+        }
+
+        throw new IllegalArgumentException("unexpected predicate: " + predicate);
+    }
+
+    private RoaringBitSet[] predicateBitSets(Predicate[] predicates, TypeConverter converter) {
+        RoaringBitSet[] result = new RoaringBitSet[predicates.length];
+        for (int i = 0; i < predicates.length; ++i) {
+            result[i] = predicateBitSet(predicates[i], converter);
+        }
+        return result;
+    }
+
+    private RoaringBitSet valueBitSet(Comparable value, TypeConverter converter) {
+        RoaringBitSet bitSet = (RoaringBitSet) bitSets.get(converter.convert(value));
+        return bitSet == null ? RoaringBitSet.EMPTY : bitSet;
+    }
+
     private AscendingLongIterator[] predicateIterators(Predicate[] predicates, TypeConverter converter) {
         AscendingLongIterator[] iterators = new AscendingLongIterator[predicates.length];
         for (int i = 0; i < predicates.length; ++i) {
@@ -210,7 +307,7 @@ public final class Bitmap<E> {
     }
 
     private AscendingLongIterator valueIterator(Comparable value, TypeConverter converter) {
-        SparseBitSet bitSet = bitSets.get(converter.convert(value));
+        LongBitSet bitSet = bitSets.get(converter.convert(value));
         return bitSet == null ? AscendingLongIterator.EMPTY : bitSet.iterator();
     }
 
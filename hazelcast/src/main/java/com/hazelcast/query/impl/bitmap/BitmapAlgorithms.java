@@ -19,10 +19,11 @@ package com.hazelcast.query.impl.bitmap;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * Provides algorithms crucial for set operations on ordered iterators provided
- * by sparse bit sets.
+ * by sparse bit sets and on roaring bit sets.
  */
 final class BitmapAlgorithms {
 
@@ -53,6 +54,40 @@ final class BitmapAlgorithms {
         return new NotIterator(iterator, universe);
     }
 
+    /**
+     * @return a bit set that represents a result of intersection of the given
+     * bit sets.
+     */
+    public static RoaringBitSet and(RoaringBitSet[] bitSets) {
+        assert bitSets.length > 0;
+        // intersect the smallest bit sets first to shrink the result early
+        RoaringBitSet[] ordered = bitSets.clone();
+        Arrays.sort(ordered, Comparator.comparingLong(RoaringBitSet::cardinality));
+
+        RoaringBitSet result = ordered[0];
+        for (int i = 1; i < ordered.length && !result.isEmpty(); ++i) {
+            result = RoaringBitSet.and(result, ordered[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @return a bit set that represents a result of union over the given bit
+     * sets.
+     */
+    public static RoaringBitSet or(RoaringBitSet[] bitSets) {
+        assert bitSets.length > 0;
+        return bitSets.length == 1 ? bitSets[0] : RoaringBitSet.or(bitSets);
+    }
+
+    /**
+     * @return a bit set that represents a result of negation of the given bit
+     * set over the given universe (a set of known elements).
+     */
+    public static RoaringBitSet not(RoaringBitSet bitSet, RoaringBitSet universe) {
+        return RoaringBitSet.andNot(universe, bitSet);
+    }
+
     private static final class AndIterator implements AscendingLongIterator {
 
         // The idea: order iterators by their current index; if the index of the
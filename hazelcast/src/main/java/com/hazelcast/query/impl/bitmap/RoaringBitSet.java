@@ -0,0 +1,1031 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.bitmap;
+
+import java.util.Arrays;
+
+/**
+ * A compressed bit set of non-negative {@code long} members in the spirit of
+ * Roaring bitmaps.
+ * <p>
+ * Members are split into 64K chunks by their upper 48 bits. The lower 16 bits
+ * of the members of a chunk are kept in one of three containers, whichever is
+ * the smallest for the chunk contents:
+ * <ul>
+ * <li>{@link ArrayContainer}: a sorted array of up to {@link
+ * #ARRAY_CONTAINER_MAX_SIZE} members, used for sparse chunks.
+ * <li>{@link BitmapContainer}: a plain 64K bit bitmap, used for dense chunks.
+ * <li>{@link RunContainer}: a sorted array of member runs, used for chunks
+ * of consecutive members.
+ * </ul>
+ * Unlike {@link SparseBitSet}, which is only iterated, this bit set supports
+ * set operations producing new bit sets, see {@link #and}, {@link #or} and
+ * {@link #andNot}. Bitmap containers are combined word by word in plain loops
+ * which the JIT compiler is able to vectorize.
+ * <p>
+ * Set operations never modify their arguments, but results may share
+ * containers with them, so results must be consumed before the arguments are
+ * modified.
+ */
+final class RoaringBitSet implements LongBitSet {
+
+    /**
+     * The maximum number of members kept in an array container.
+     */
+    public static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+
+    /**
+     * Denotes an empty bit set, it must never be modified.
+     */
+    static final RoaringBitSet EMPTY = new RoaringBitSet();
+
+    static final int CHUNK_SHIFT = 16;
+    static final int CHUNK_MASK = 0xFFFF;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_COUNT = CHUNK_SIZE >>> WORD_SHIFT;
+    private static final int BITMAP_SIZE_IN_BYTES = WORD_COUNT * Long.BYTES;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Container[] containers = new Container[INITIAL_CAPACITY];
+    private int size;
+
+    // used for caching of the last resolved chunk
+    private int lastChunk = -1;
+
+    @Override
+    public void add(long member) {
+        assert member >= 0;
+        long key = member >>> CHUNK_SHIFT;
+        char low = (char) (member & CHUNK_MASK);
+
+        int chunk = findChunk(key);
+        if (chunk >= 0) {
+            containers[chunk] = containers[chunk].add(low);
+        } else {
+            chunk = -chunk - 1;
+            insertChunk(chunk, key, new ArrayContainer(low));
+        }
+        lastChunk = chunk;
+    }
+
+    @Override
+    public boolean remove(long member) {
+        assert member >= 0;
+        int chunk = findChunk(member >>> CHUNK_SHIFT);
+        if (chunk < 0) {
+            return false;
+        }
+
+        Container container = containers[chunk].remove((char) (member & CHUNK_MASK));
+        if (container.cardinality() == 0) {
+            removeChunk(chunk);
+            lastChunk = -1;
+            return size == 0;
+        }
+        containers[chunk] = container;
+        lastChunk = chunk;
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the given member is in this bit set, {@code
+     * false} otherwise.
+     */
+    public boolean contains(long member) {
+        assert member >= 0;
+        int chunk = findChunk(member >>> CHUNK_SHIFT);
+        return chunk >= 0 && containers[chunk].contains((char) (member & CHUNK_MASK));
+    }
+
+    /**
+     * @return the number of members in this bit set.
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; ++i) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Removes all the members from this bit set.
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+        lastChunk = -1;
+    }
+
+    /**
+     * @return {@code true} if this bit set has no members, {@code false}
+     * otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the container of the chunk having the given key or {@code null}
+     * if there is no such chunk.
+     */
+    Container getContainer(long key) {
+        int chunk = findChunk(key);
+        return chunk >= 0 ? containers[chunk] : null;
+    }
+
+    @Override
+    public AscendingLongIterator iterator() {
+        return new IteratorImpl(this);
+    }
+
+    /**
+     * @return a new bit set which is an intersection of the given bit sets.
+     */
+    public static RoaringBitSet and(RoaringBitSet left, RoaringBitSet right) {
+        RoaringBitSet result = new RoaringBitSet();
+        int leftChunk = 0;
+        int rightChunk = 0;
+        while (leftChunk < left.size && rightChunk < right.size) {
+            long leftKey = left.keys[leftChunk];
+            long rightKey = right.keys[rightChunk];
+            if (leftKey < rightKey) {
+                leftChunk = left.advanceChunkTo(leftChunk, rightKey);
+            } else if (leftKey > rightKey) {
+                rightChunk = right.advanceChunkTo(rightChunk, leftKey);
+            } else {
+                Container container = left.containers[leftChunk].and(right.containers[rightChunk]);
+                if (container != null) {
+                    result.appendChunk(leftKey, container);
+                }
+                ++leftChunk;
+                ++rightChunk;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a new bit set which is a union of the given bit sets.
+     */
+    public static RoaringBitSet or(RoaringBitSet left, RoaringBitSet right) {
+        RoaringBitSet result = new RoaringBitSet();
+        int leftChunk = 0;
+        int rightChunk = 0;
+        while (leftChunk < left.size || rightChunk < right.size) {
+            long leftKey = leftChunk < left.size ? left.keys[leftChunk] : Long.MAX_VALUE;
+            long rightKey = rightChunk < right.size ? right.keys[rightChunk] : Long.MAX_VALUE;
+            if (leftKey < rightKey) {
+                result.appendChunk(leftKey, left.containers[leftChunk++]);
+            } else if (leftKey > rightKey) {
+                result.appendChunk(rightKey, right.containers[rightChunk++]);
+            } else {
+                result.appendChunk(leftKey, left.containers[leftChunk++].or(right.containers[rightChunk++]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a new bit set which is a union of all the given bit sets.
+     */
+    public static RoaringBitSet or(RoaringBitSet[] bitSets) {
+        // k-way merge of chunks, the chunks having the same key are combined
+        // at once instead of building intermediate results
+        int[] heap = new int[bitSets.length];
+        int[] positions = new int[bitSets.length];
+        int heapSize = 0;
+        for (int i = 0; i < bitSets.length; ++i) {
+            if (bitSets[i].size > 0) {
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; --i) {
+            siftDown(heap, heapSize, i, bitSets, positions);
+        }
+
+        RoaringBitSet result = new RoaringBitSet();
+        Container[] group = new Container[bitSets.length];
+        while (heapSize > 0) {
+            long key = currentKey(heap[0], bitSets, positions);
+            int groupSize = 0;
+            while (heapSize > 0 && currentKey(heap[0], bitSets, positions) == key) {
+                int setIndex = heap[0];
+                group[groupSize++] = bitSets[setIndex].containers[positions[setIndex]++];
+                if (positions[setIndex] == bitSets[setIndex].size) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, bitSets, positions);
+            }
+            result.appendChunk(key, groupSize == 1 ? group[0] : unionOf(group, groupSize));
+        }
+        return result;
+    }
+
+    /**
+     * @return a new bit set which contains the members of the given bit set
+     * which are not members of the given excluded bit set.
+     */
+    public static RoaringBitSet andNot(RoaringBitSet bitSet, RoaringBitSet excluded) {
+        RoaringBitSet result = new RoaringBitSet();
+        int excludedChunk = 0;
+        for (int chunk = 0; chunk < bitSet.size; ++chunk) {
+            long key = bitSet.keys[chunk];
+            excludedChunk = excluded.advanceChunkTo(excludedChunk, key);
+            if (excludedChunk < excluded.size && excluded.keys[excludedChunk] == key) {
+                Container container = bitSet.containers[chunk].andNot(excluded.containers[excludedChunk]);
+                if (container != null) {
+                    result.appendChunk(key, container);
+                }
+            } else {
+                result.appendChunk(key, bitSet.containers[chunk]);
+            }
+        }
+        return result;
+    }
+
+    private static Container unionOf(Container[] group, int groupSize) {
+        int totalCardinality = 0;
+        boolean allArrays = true;
+        for (int i = 0; i < groupSize; ++i) {
+            totalCardinality += group[i].cardinality();
+            allArrays &= group[i] instanceof ArrayContainer;
+        }
+
+        if (allArrays && totalCardinality <= ARRAY_CONTAINER_MAX_SIZE) {
+            char[] values = new char[totalCardinality];
+            int offset = 0;
+            for (int i = 0; i < groupSize; ++i) {
+                ArrayContainer container = (ArrayContainer) group[i];
+                System.arraycopy(container.values, 0, values, offset, container.size);
+                offset += container.size;
+            }
+            Arrays.sort(values);
+            int size = 0;
+            for (int i = 0; i < values.length; ++i) {
+                if (size == 0 || values[size - 1] != values[i]) {
+                    values[size++] = values[i];
+                }
+            }
+            return new ArrayContainer(values, size);
+        }
+
+        long[] words = new long[WORD_COUNT];
+        for (int i = 0; i < groupSize; ++i) {
+            group[i].orInto(words);
+        }
+        return optimize(words);
+    }
+
+    private static long currentKey(int setIndex, RoaringBitSet[] bitSets, int[] positions) {
+        return bitSets[setIndex].keys[positions[setIndex]];
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int index, RoaringBitSet[] bitSets, int[] positions) {
+        int setIndex = heap[index];
+        long key = heapSize > index ? currentKey(setIndex, bitSets, positions) : 0;
+        int firstLeafIndex = heapSize >>> 1;
+        while (index < firstLeafIndex) {
+            int childIndex = (index << 1) + 1;
+            int rightChildIndex = childIndex + 1;
+            if (rightChildIndex < heapSize && currentKey(heap[rightChildIndex], bitSets, positions)
+                    < currentKey(heap[childIndex], bitSets, positions)) {
+                childIndex = rightChildIndex;
+            }
+            if (key <= currentKey(heap[childIndex], bitSets, positions)) {
+                break;
+            }
+            heap[index] = heap[childIndex];
+            index = childIndex;
+        }
+        heap[index] = setIndex;
+    }
+
+    /**
+     * Converts the given bitmap words to the smallest container able to
+     * represent them.
+     *
+     * @return the container or {@code null} if no bits are set.
+     */
+    static Container optimize(long[] words) {
+        int cardinality = 0;
+        int runCount = 0;
+        long previousWord = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+            // a run starts at each set bit preceded by a clear bit
+            runCount += Long.bitCount(word & ~(word << 1 | previousWord >>> (Long.SIZE - 1)));
+            previousWord = word;
+        }
+
+        if (cardinality == 0) {
+            return null;
+        }
+        int runSize = runCount * 2 * Character.BYTES;
+        if (cardinality <= ARRAY_CONTAINER_MAX_SIZE && cardinality * Character.BYTES <= runSize) {
+            return ArrayContainer.fromWords(words, cardinality);
+        }
+        if (runSize < BITMAP_SIZE_IN_BYTES) {
+            return RunContainer.fromWords(words, runCount, cardinality);
+        }
+        return new BitmapContainer(words, cardinality);
+    }
+
+    private int findChunk(long key) {
+        int cached = lastChunk;
+        if (cached >= 0 && cached < size && keys[cached] == key) {
+            return cached;
+        }
+        if (size > 0 && keys[size - 1] < key) {
+            // fast path for appending members in ascending order
+            return -size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * @return the position of the first chunk at or after the given one
+     * having a key greater than or equal to the given key.
+     */
+    private int advanceChunkTo(int chunk, long key) {
+        if (chunk >= size || keys[chunk] >= key) {
+            return chunk;
+        }
+        int found = Arrays.binarySearch(keys, chunk, size, key);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    private void insertChunk(int chunk, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, chunk, keys, chunk + 1, size - chunk);
+        System.arraycopy(containers, chunk, containers, chunk + 1, size - chunk);
+        keys[chunk] = key;
+        containers[chunk] = container;
+        ++size;
+    }
+
+    private void appendChunk(long key, Container container) {
+        assert size == 0 || keys[size - 1] < key;
+        insertChunk(size, key, container);
+    }
+
+    private void removeChunk(int chunk) {
+        System.arraycopy(keys, chunk + 1, keys, chunk, size - chunk - 1);
+        System.arraycopy(containers, chunk + 1, containers, chunk, size - chunk - 1);
+        --size;
+        containers[size] = null;
+    }
+
+    /**
+     * Keeps the lower 16 bits of the members of a chunk.
+     * <p>
+     * Updates return the container which replaces the updated one, it may be
+     * the same container or a container of another type.
+     */
+    abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        /**
+         * @return the smallest value greater than or equal to the given one or
+         * {@code -1} if there is no such value.
+         */
+        abstract int nextValue(int from);
+
+        /**
+         * Sets the bits of the values of this container in the given bitmap
+         * words.
+         */
+        abstract void orInto(long[] words);
+
+        /**
+         * Clears the bits of the values of this container in the given bitmap
+         * words.
+         */
+        abstract void clearFrom(long[] words);
+
+        /**
+         * @return the values of this container as new bitmap words.
+         */
+        long[] toWords() {
+            long[] words = new long[WORD_COUNT];
+            orInto(words);
+            return words;
+        }
+
+        /**
+         * @return an intersection of this container and the given one or
+         * {@code null} if it is empty.
+         */
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] words = toWords();
+            if (other instanceof BitmapContainer bitmap) {
+                long[] otherWords = bitmap.words;
+                for (int i = 0; i < WORD_COUNT; ++i) {
+                    words[i] &= otherWords[i];
+                }
+            } else {
+                long[] otherWords = other.toWords();
+                for (int i = 0; i < WORD_COUNT; ++i) {
+                    words[i] &= otherWords[i];
+                }
+            }
+            return optimize(words);
+        }
+
+        /**
+         * @return a union of this container and the given one.
+         */
+        Container or(Container other) {
+            if (this instanceof ArrayContainer left && other instanceof ArrayContainer right
+                    && left.size + right.size <= ARRAY_CONTAINER_MAX_SIZE) {
+                return ArrayContainer.merge(left, right);
+            }
+            long[] words = toWords();
+            other.orInto(words);
+            return optimize(words);
+        }
+
+        /**
+         * @return a container having the values of this container which are
+         * not in the given one or {@code null} if there are no such values.
+         */
+        Container andNot(Container other) {
+            long[] words = toWords();
+            other.clearFrom(words);
+            return optimize(words);
+        }
+
+    }
+
+    /**
+     * Keeps the values in a sorted array.
+     */
+    static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int size;
+
+        ArrayContainer(char value) {
+            values = new char[]{value};
+            size = 1;
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        static ArrayContainer fromWords(long[] words, int cardinality) {
+            char[] values = new char[cardinality];
+            int size = 0;
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                long word = words[i];
+                while (word != 0) {
+                    values[size++] = (char) ((i << WORD_SHIFT) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, size);
+        }
+
+        static ArrayContainer merge(ArrayContainer left, ArrayContainer right) {
+            char[] values = new char[left.size + right.size];
+            int size = 0;
+            int leftIndex = 0;
+            int rightIndex = 0;
+            while (leftIndex < left.size && rightIndex < right.size) {
+                char leftValue = left.values[leftIndex];
+                char rightValue = right.values[rightIndex];
+                if (leftValue <= rightValue) {
+                    values[size++] = leftValue;
+                    ++leftIndex;
+                    if (leftValue == rightValue) {
+                        ++rightIndex;
+                    }
+                } else {
+                    values[size++] = rightValue;
+                    ++rightIndex;
+                }
+            }
+            while (leftIndex < left.size) {
+                values[size++] = left.values[leftIndex++];
+            }
+            while (rightIndex < right.size) {
+                values[size++] = right.values[rightIndex++];
+            }
+            return new ArrayContainer(values, size);
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = size > 0 && values[size - 1] < value ? -size - 1 : Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_CONTAINER_MAX_SIZE) {
+                long[] words = toWords();
+                words[value >>> WORD_SHIFT] |= 1L << value;
+                return optimize(words);
+            }
+
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_CONTAINER_MAX_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            ++size;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                --size;
+            }
+            return this;
+        }
+
+        @Override
+        int nextValue(int from) {
+            if (from >= CHUNK_SIZE) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(values, 0, size, (char) from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < size ? values[index] : -1;
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < size; ++i) {
+                char value = values[i];
+                words[value >>> WORD_SHIFT] |= 1L << value;
+            }
+        }
+
+        @Override
+        void clearFrom(long[] words) {
+            for (int i = 0; i < size; ++i) {
+                char value = values[i];
+                words[value >>> WORD_SHIFT] &= ~(1L << value);
+            }
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[size];
+            int resultSize = 0;
+            for (int i = 0; i < size; ++i) {
+                if (other.contains(values[i])) {
+                    result[resultSize++] = values[i];
+                }
+            }
+            return resultSize == 0 ? null : new ArrayContainer(result, resultSize);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[size];
+            int resultSize = 0;
+            for (int i = 0; i < size; ++i) {
+                if (!other.contains(values[i])) {
+                    result[resultSize++] = values[i];
+                }
+            }
+            return resultSize == 0 ? null : new ArrayContainer(result, resultSize);
+        }
+
+    }
+
+    /**
+     * Keeps the values in a 64K bit bitmap.
+     */
+    static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> WORD_SHIFT] & 1L << value) != 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int wordIndex = value >>> WORD_SHIFT;
+            long word = words[wordIndex];
+            long newWord = word | 1L << value;
+            if (word == newWord) {
+                return this;
+            }
+            words[wordIndex] = newWord;
+            if (++cardinality == CHUNK_SIZE) {
+                return RunContainer.full();
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int wordIndex = value >>> WORD_SHIFT;
+            long word = words[wordIndex];
+            long newWord = word & ~(1L << value);
+            if (word == newWord) {
+                return this;
+            }
+            words[wordIndex] = newWord;
+            if (--cardinality == ARRAY_CONTAINER_MAX_SIZE) {
+                return ArrayContainer.fromWords(words, cardinality);
+            }
+            return this;
+        }
+
+        @Override
+        int nextValue(int from) {
+            int wordIndex = from >>> WORD_SHIFT;
+            if (wordIndex >= WORD_COUNT) {
+                return -1;
+            }
+            long word = words[wordIndex] & -1L << from;
+            while (word == 0) {
+                if (++wordIndex == WORD_COUNT) {
+                    return -1;
+                }
+                word = words[wordIndex];
+            }
+            return (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        void orInto(long[] words) {
+            long[] ownWords = this.words;
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                words[i] |= ownWords[i];
+            }
+        }
+
+        @Override
+        void clearFrom(long[] words) {
+            long[] ownWords = this.words;
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                words[i] &= ~ownWords[i];
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+    }
+
+    /**
+     * Keeps the values as a sorted array of runs, each run is a pair of its
+     * start and its length minus one.
+     */
+    static final class RunContainer extends Container {
+
+        private char[] runs;
+        private int runCount;
+        private int cardinality;
+
+        RunContainer(char[] runs, int runCount, int cardinality) {
+            this.runs = runs;
+            this.runCount = runCount;
+            this.cardinality = cardinality;
+        }
+
+        static RunContainer full() {
+            return new RunContainer(new char[]{0, CHUNK_MASK}, 1, CHUNK_SIZE);
+        }
+
+        static RunContainer fromWords(long[] words, int runCount, int cardinality) {
+            char[] runs = new char[runCount * 2];
+            int run = 0;
+            int value = nextSetBit(words, 0);
+            while (value >= 0) {
+                int end = nextClearBit(words, value);
+                runs[run * 2] = (char) value;
+                runs[run * 2 + 1] = (char) (end - value - 1);
+                ++run;
+                value = end < CHUNK_SIZE ? nextSetBit(words, end) : -1;
+            }
+            return new RunContainer(runs, runCount, cardinality);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            int run = findRun(value);
+            return run >= 0 && value <= end(run);
+        }
+
+        @Override
+        Container add(char value) {
+            int run = findRun(value);
+            if (run >= 0 && value <= end(run)) {
+                return this;
+            }
+            ++cardinality;
+
+            boolean extendsPrevious = run >= 0 && end(run) + 1 == value;
+            boolean extendsNext = run + 1 < runCount && start(run + 1) == value + 1;
+            if (extendsPrevious && extendsNext) {
+                // merge the runs around the value
+                runs[run * 2 + 1] = (char) (end(run + 1) - start(run));
+                removeRun(run + 1);
+                return this;
+            } else if (extendsPrevious) {
+                ++runs[run * 2 + 1];
+                return this;
+            } else if (extendsNext) {
+                --runs[(run + 1) * 2];
+                ++runs[(run + 1) * 2 + 1];
+                return this;
+            }
+
+            insertRun(run + 1, value, value);
+            return convertIfLarge();
+        }
+
+        @Override
+        Container remove(char value) {
+            int run = findRun(value);
+            if (run < 0 || value > end(run)) {
+                return this;
+            }
+            --cardinality;
+
+            int start = start(run);
+            int end = end(run);
+            if (start == end) {
+                removeRun(run);
+            } else if (value == start) {
+                ++runs[run * 2];
+                --runs[run * 2 + 1];
+            } else if (value == end) {
+                --runs[run * 2 + 1];
+            } else {
+                runs[run * 2 + 1] = (char) (value - 1 - start);
+                insertRun(run + 1, value + 1, end);
+                return convertIfLarge();
+            }
+            return this;
+        }
+
+        @Override
+        int nextValue(int from) {
+            if (from >= CHUNK_SIZE) {
+                return -1;
+            }
+            int run = findRun((char) from);
+            if (run >= 0 && from <= end(run)) {
+                return from;
+            }
+            return run + 1 < runCount ? start(run + 1) : -1;
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int run = 0; run < runCount; ++run) {
+                int start = start(run);
+                int end = end(run) + 1;
+                int startWord = start >>> WORD_SHIFT;
+                int endWord = (end - 1) >>> WORD_SHIFT;
+                long startMask = -1L << start;
+                long endMask = -1L >>> -end;
+                if (startWord == endWord) {
+                    words[startWord] |= startMask & endMask;
+                } else {
+                    words[startWord] |= startMask;
+                    for (int i = startWord + 1; i < endWord; ++i) {
+                        words[i] = -1L;
+                    }
+                    words[endWord] |= endMask;
+                }
+            }
+        }
+
+        @Override
+        void clearFrom(long[] words) {
+            for (int run = 0; run < runCount; ++run) {
+                int start = start(run);
+                int end = end(run) + 1;
+                int startWord = start >>> WORD_SHIFT;
+                int endWord = (end - 1) >>> WORD_SHIFT;
+                long startMask = -1L << start;
+                long endMask = -1L >>> -end;
+                if (startWord == endWord) {
+                    words[startWord] &= ~(startMask & endMask);
+                } else {
+                    words[startWord] &= ~startMask;
+                    for (int i = startWord + 1; i < endWord; ++i) {
+                        words[i] = 0;
+                    }
+                    words[endWord] &= ~endMask;
+                }
+            }
+        }
+
+        private int start(int run) {
+            return runs[run * 2];
+        }
+
+        private int end(int run) {
+            return runs[run * 2] + runs[run * 2 + 1];
+        }
+
+        /**
+         * @return the last run starting at or before the given value or
+         * {@code -1} if there is no such run.
+         */
+        private int findRun(char value) {
+            int low = 0;
+            int high = runCount - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (runs[middle * 2] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return high;
+        }
+
+        private void insertRun(int run, int start, int end) {
+            if (runCount * 2 == runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            System.arraycopy(runs, run * 2, runs, run * 2 + 2, (runCount - run) * 2);
+            runs[run * 2] = (char) start;
+            runs[run * 2 + 1] = (char) (end - start);
+            ++runCount;
+        }
+
+        private void removeRun(int run) {
+            System.arraycopy(runs, run * 2 + 2, runs, run * 2, (runCount - run - 1) * 2);
+            --runCount;
+        }
+
+        private Container convertIfLarge() {
+            int runSize = runCount * 2 * Character.BYTES;
+            if (runSize > BITMAP_SIZE_IN_BYTES
+                    || cardinality <= ARRAY_CONTAINER_MAX_SIZE && runSize > cardinality * Character.BYTES) {
+                return optimize(toWords());
+            }
+            return this;
+        }
+
+        private static int nextSetBit(long[] words, int from) {
+            int wordIndex = from >>> WORD_SHIFT;
+            long word = words[wordIndex] & -1L << from;
+            while (word == 0) {
+                if (++wordIndex == WORD_COUNT) {
+                    return -1;
+                }
+                word = words[wordIndex];
+            }
+            return (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+        }
+
+        private static int nextClearBit(long[] words, int from) {
+            int wordIndex = from >>> WORD_SHIFT;
+            long word = ~words[wordIndex] & -1L << from;
+            while (word == 0) {
+                if (++wordIndex == WORD_COUNT) {
+                    return CHUNK_SIZE;
+                }
+                word = ~words[wordIndex];
+            }
+            return (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+        }
+
+    }
+
+    private static final class IteratorImpl implements AscendingLongIterator {
+
+        private final long[] keys;
+        private final Container[] containers;
+        private final int size;
+
+        private int chunk;
+        private long index;
+
+        IteratorImpl(RoaringBitSet bitSet) {
+            this.keys = bitSet.keys;
+            this.containers = bitSet.containers;
+            this.size = bitSet.size;
+            this.index = seek(0, 0);
+        }
+
+        @Override
+        public long getIndex() {
+            return index;
+        }
+
+        @Override
+        public long advance() {
+            long current = index;
+            if (current != END) {
+                index = seek(chunk, (int) (current & CHUNK_MASK) + 1);
+            }
+            return current;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long member) {
+            if (index == END || index >= member) {
+                return index;
+            }
+
+            long key = member >>> CHUNK_SHIFT;
+            if (keys[chunk] == key) {
+                index = seek(chunk, (int) (member & CHUNK_MASK));
+            } else {
+                int found = Arrays.binarySearch(keys, chunk + 1, size, key);
+                index = found >= 0 ? seek(found, (int) (member & CHUNK_MASK)) : seek(-found - 1, 0);
+            }
+            return index;
+        }
+
+        /**
+         * Positions this iterator at the first member at or after the given
+         * value of the given chunk.
+         */
+        private long seek(int chunk, int from) {
+            while (chunk < size) {
+                int value = containers[chunk].nextValue(from);
+                if (value >= 0) {
+                    this.chunk = chunk;
+                    return keys[chunk] << CHUNK_SHIFT | value;
+                }
+                ++chunk;
+                from = 0;
+            }
+            this.chunk = size;
+            return END;
+        }
+
+    }
+
+}
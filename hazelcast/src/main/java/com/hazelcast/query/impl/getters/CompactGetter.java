@@ -19,11 +19,22 @@ package com.hazelcast.query.impl.getters;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
+import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 public class CompactGetter extends Getter {
+    /**
+     * Maximum number of attribute paths the primitive field readers are
+     * cached for.
+     */
+    static final int MAX_CACHED_FIELD_READERS = 1024;
+
     private final InternalSerializationService serializationService;
+    private final ConcurrentMap<String, CompactPrimitiveFieldReader> fieldReaders = new ConcurrentHashMap<>();
 
     public CompactGetter(InternalSerializationService serializationService) {
         super(null);
@@ -31,6 +42,17 @@ public class CompactGetter extends Getter {
     }
 
     private Object getValueInternal(Object target, String fieldPath, boolean useLazyDeserialization) throws Exception {
+        if (target instanceof HeapData data && data.isCompact()) {
+            // Top level primitive fields are read directly from the serialized bytes
+            CompactPrimitiveFieldReader fieldReader = getFieldReader(fieldPath);
+            if (fieldReader != null) {
+                Object value = fieldReader.read(data);
+                if (value != CompactPrimitiveFieldReader.NOT_READ) {
+                    return value;
+                }
+            }
+        }
+
         InternalGenericRecord record;
         if (target instanceof CompactGenericRecord genericRecord) {
             record = genericRecord;
@@ -41,6 +63,15 @@ public class CompactGetter extends Getter {
         return reader.read(fieldPath);
     }
 
+    private CompactPrimitiveFieldReader getFieldReader(String fieldPath) {
+        CompactPrimitiveFieldReader fieldReader = fieldReaders.get(fieldPath);
+        if (fieldReader == null && fieldReaders.size() < MAX_CACHED_FIELD_READERS) {
+            fieldReader = fieldReaders.computeIfAbsent(fieldPath,
+                    path -> new CompactPrimitiveFieldReader(path, serializationService));
+        }
+        return fieldReader;
+    }
+
     @Override
     public Object getValue(Object target, String fieldPath) throws Exception {
         return getValueInternal(target, fieldPath, false);
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.getters;
+
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.compact.FieldDescriptor;
+import com.hazelcast.internal.serialization.impl.compact.OffsetReader;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.nio.serialization.FieldKind;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.serialization.impl.compact.OffsetReader.NULL_OFFSET;
+
+/**
+ * Reads a top level primitive or nullable primitive field of Compact
+ * serialized {@link HeapData} directly from its backing array, without
+ * creating a reader for the whole object.
+ * <p>
+ * The position of the field is resolved once per schema, from its
+ * {@link FieldDescriptor}, and cached. Reading a field of a schema seen
+ * before then only costs a lookup of the schema id, and the boxing of the
+ * value.
+ */
+final class CompactPrimitiveFieldReader {
+
+    /**
+     * Returned when the field cannot be read by this reader, because it does
+     * not exist in the schema or it is not a primitive.
+     */
+    static final Object NOT_READ = new Object();
+
+    /**
+     * Maximum number of schemas, i.e. versions of the same class, the
+     * resolved positions are cached for.
+     */
+    static final int MAX_CACHED_SCHEMAS = 8;
+
+    private static final int SCHEMA_ID_POSITION = HeapData.DATA_OFFSET;
+    private static final int FIXED_SIZE_DATA_POSITION = SCHEMA_ID_POSITION + LONG_SIZE_IN_BYTES;
+    private static final int VARIABLE_SIZE_DATA_POSITION = FIXED_SIZE_DATA_POSITION + INT_SIZE_IN_BYTES;
+
+    private final String fieldName;
+    private final InternalSerializationService serializationService;
+    private final boolean bigEndian;
+    private volatile ResolvedField[] resolvedFields = new ResolvedField[0];
+
+    CompactPrimitiveFieldReader(String fieldName, InternalSerializationService serializationService) {
+        this.fieldName = fieldName;
+        this.serializationService = serializationService;
+        this.bigEndian = serializationService.getByteOrder() == ByteOrder.BIG_ENDIAN;
+    }
+
+    /**
+     * Returns the value of the field in the given Compact serialized data or
+     * {@link #NOT_READ} if the field cannot be read by this reader.
+     */
+    Object read(HeapData data) throws IOException {
+        byte[] bytes = data.toByteArray();
+        ResolvedField field = resolve(Bits.readLong(bytes, SCHEMA_ID_POSITION, bigEndian), data);
+        if (field.kind == null) {
+            return NOT_READ;
+        }
+        switch (field.kind) {
+            case BOOLEAN:
+                return ((bytes[field.dataPosition + field.offset] >>> field.bitOffset) & 1) != 0;
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case FLOAT32:
+            case FLOAT64:
+                return readPrimitive(bytes, field.dataPosition + field.offset, field.kind);
+            default:
+                // nullable primitive, field.offset is the index of the field among the var-sized ones
+                int dataLength = Bits.readInt(bytes, FIXED_SIZE_DATA_POSITION, bigEndian);
+                int offset = OffsetReader.readOffset(bytes, field.dataPosition + dataLength, field.offset,
+                        dataLength, bigEndian);
+                return offset == NULL_OFFSET ? null : readPrimitive(bytes, field.dataPosition + offset, field.kind);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private Object readPrimitive(byte[] bytes, int position, FieldKind kind) {
+        switch (kind) {
+            case NULLABLE_BOOLEAN:
+                return bytes[position] != 0;
+            case INT8:
+            case NULLABLE_INT8:
+                return bytes[position];
+            case INT16:
+            case NULLABLE_INT16:
+                return Bits.readShort(bytes, position, bigEndian);
+            case INT32:
+            case NULLABLE_INT32:
+                return Bits.readInt(bytes, position, bigEndian);
+            case INT64:
+            case NULLABLE_INT64:
+                return Bits.readLong(bytes, position, bigEndian);
+            case FLOAT32:
+            case NULLABLE_FLOAT32:
+                return Float.intBitsToFloat(Bits.readInt(bytes, position, bigEndian));
+            case FLOAT64:
+            case NULLABLE_FLOAT64:
+                return Double.longBitsToDouble(Bits.readLong(bytes, position, bigEndian));
+            default:
+                throw new IllegalStateException("Unexpected field kind: " + kind);
+        }
+    }
+
+    private ResolvedField resolve(long schemaId, HeapData data) throws IOException {
+        ResolvedField[] fields = resolvedFields;
+        for (ResolvedField field : fields) {
+            if (field.schemaId == schemaId) {
+                return field;
+            }
+        }
+
+        Schema schema = serializationService.extractSchemaFromData(data);
+        ResolvedField field = new ResolvedField(schema, schema.getField(fieldName));
+        if (fields.length < MAX_CACHED_SCHEMAS) {
+            // a concurrent resolution may be lost, it will be resolved again on the next read
+            ResolvedField[] newFields = Arrays.copyOf(fields, fields.length + 1);
+            newFields[fields.length] = field;
+            resolvedFields = newFields;
+        }
+        return field;
+    }
+
+    /**
+     * Position of the field in the objects of a schema.
+     */
+    private static final class ResolvedField {
+
+        private final long schemaId;
+
+        /**
+         * Kind of the field or {@code null} if the field cannot be read
+         * directly.
+         */
+        private final FieldKind kind;
+
+        /**
+         * Position of the data section in the backing array of the
+         * {@link HeapData}.
+         */
+        private final int dataPosition;
+
+        /**
+         * Offset of the fixed-size fields in the data section or index of
+         * the var-sized fields.
+         */
+        private final int offset;
+        private final int bitOffset;
+
+        ResolvedField(Schema schema, FieldDescriptor descriptor) {
+            this.schemaId = schema.getSchemaId();
+            this.kind = descriptor != null && isPrimitive(descriptor.getKind()) ? descriptor.getKind() : null;
+            this.dataPosition = schema.getNumberOfVariableSizeFields() == 0
+                    ? FIXED_SIZE_DATA_POSITION : VARIABLE_SIZE_DATA_POSITION;
+            this.offset = descriptor == null ? 0 : isNullable(descriptor.getKind())
+                    ? descriptor.getIndex() : descriptor.getOffset();
+            this.bitOffset = descriptor == null ? 0 : descriptor.getBitOffset();
+        }
+
+        private static boolean isPrimitive(FieldKind kind) {
+            switch (kind) {
+                case BOOLEAN:
+                case INT8:
+                case INT16:
+                case INT32:
+                case INT64:
+                case FLOAT32:
+                case FLOAT64:
+                    return true;
+                default:
+                    return isNullable(kind);
+            }
+        }
+
+        private static boolean isNullable(FieldKind kind) {
+            switch (kind) {
+                case NULLABLE_BOOLEAN:
+                case NULLABLE_INT8:
+                case NULLABLE_INT16:
+                case NULLABLE_INT32:
+                case NULLABLE_INT64:
+                case NULLABLE_FLOAT32:
+                case NULLABLE_FLOAT64:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+}
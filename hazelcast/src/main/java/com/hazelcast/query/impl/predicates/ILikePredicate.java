@@ -36,6 +36,21 @@ public class ILikePredicate extends LikePredicate {
         super(attribute, second);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ILikePredicate && super.equals(o);
+    }
+
+    @Override
+    public boolean canEqual(Object other) {
+        return other instanceof ILikePredicate;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
     @Override
     public Set<QueryableEntry> filter(QueryContext queryContext) {
         return null;
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.predicates;
+
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.query.Predicate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * Bounded cache of predicates optimized against the indexes of a map.
+ * <p>
+ * Plans are keyed by the predicates they were optimized from, normalized by
+ * {@link #toPlanKey}. Optimized predicates depend on the indexes and their
+ * converters, so the owner of the indexes {@link #clear clears} the cache
+ * every time the indexes are added, removed or cleared. When the cache
+ * becomes full, the least recently used plan is evicted.
+ * <p>
+ * The plans are kept in an access ordered {@link LinkedHashMap} guarded by
+ * its own monitor, a lookup is cheap compared to the query it's done for.
+ */
+public final class QueryPlanCache {
+
+    /**
+     * Built-in predicates with value based equality which are not changed
+     * while queries are executed.
+     */
+    private static final Set<Class<? extends Predicate>> CACHEABLE_LEAF_PREDICATES = Set.of(
+            EqualPredicate.class, NotEqualPredicate.class, GreaterLessPredicate.class, BetweenPredicate.class,
+            InPredicate.class, LikePredicate.class, ILikePredicate.class, RegexPredicate.class,
+            InstanceOfPredicate.class, TruePredicate.class, FalsePredicate.class);
+
+    private static final int HASH_MAP_INITIAL_CAPACITY = 16;
+    private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
+
+    private final int maxSize;
+    private final LinkedHashMap<Predicate, Predicate> plans =
+            new LinkedHashMap<>(HASH_MAP_INITIAL_CAPACITY, HASH_MAP_LOAD_FACTOR, true);
+    private final AtomicLong version = new AtomicLong();
+    private final Counter hits = newMwCounter();
+    private final Counter misses = newMwCounter();
+
+    public QueryPlanCache(int maxSize) {
+        assert maxSize > 0;
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the key under which the plan of the given predicate is cached
+     * or {@code null} if the plan of the predicate can't be cached.
+     * <p>
+     * Only trees of the predicates provided by {@link com.hazelcast.query.Predicates}
+     * can be cached since equality of other predicates, e.g. the custom ones,
+     * is unknown. SQL predicates are keyed by the predicates parsed from them,
+     * so queries differing only in formatting share their plans.
+     */
+    public static Predicate toPlanKey(Predicate predicate) {
+        Predicate key = predicate instanceof SqlPredicate sqlPredicate ? sqlPredicate.getPredicate() : predicate;
+        return isCacheable(key) ? key : null;
+    }
+
+    /**
+     * Returns the plan cached under the given key or {@code null} if there
+     * is no such plan.
+     */
+    public Predicate get(Predicate key) {
+        Predicate optimized;
+        synchronized (plans) {
+            optimized = plans.get(key);
+        }
+        if (optimized == null) {
+            misses.inc();
+            return null;
+        }
+        hits.inc();
+        return optimized;
+    }
+
+    /**
+     * Returns the version of this cache, which changes every time the cache
+     * is cleared.
+     * <p>
+     * The version has to be read before a plan is optimized and passed to
+     * {@link #put}, so the plans optimized against outdated indexes are not
+     * cached.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Caches the given plan under the given key unless the cache was cleared
+     * since the given version has been read.
+     */
+    public void put(Predicate key, Predicate optimized, long expectedVersion) {
+        synchronized (plans) {
+            if (version.get() != expectedVersion) {
+                return;
+            }
+
+            plans.put(key, optimized);
+            if (plans.size() > maxSize) {
+                Iterator<Predicate> leastRecentlyUsed = plans.keySet().iterator();
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all the plans from this cache.
+     */
+    public void clear() {
+        synchronized (plans) {
+            version.incrementAndGet();
+            plans.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private static boolean isCacheable(Predicate predicate) {
+        if (predicate instanceof AndPredicate || predicate instanceof OrPredicate) {
+            for (Predicate subPredicate : ((CompoundPredicate) predicate).getPredicates()) {
+                if (!isCacheable(subPredicate)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (predicate instanceof NotPredicate notPredicate) {
+            return isCacheable(notPredicate.getPredicate());
+        }
+        return predicate != null && CACHEABLE_LEAF_PREDICATES.contains(predicate.getClass());
+    }
+}
@@ -21,6 +21,11 @@ import com.hazelcast.query.impl.IndexRegistry;
 
 /**
  * Rule based optimizer. It chains {@link Visitor}s to rewrite query.
+ * <p>
+ * Rewritten predicates are cached in the {@link QueryPlanCache} of the given
+ * indexes, if they have one. Plans are cached only once the converters of all
+ * the indexes are resolved, since the rewritten predicates may hold values
+ * converted by them.
  */
 public final class RuleBasedQueryOptimizer implements QueryOptimizer {
 
@@ -33,6 +38,27 @@ public final class RuleBasedQueryOptimizer implements QueryOptimizer {
     @Override
     @SuppressWarnings("unchecked")
     public <K, V> Predicate<K, V> optimize(Predicate<K, V> predicate, IndexRegistry indexes) {
+        QueryPlanCache cache = indexes == null ? null : indexes.getQueryPlanCache();
+        Predicate key = cache == null ? null : QueryPlanCache.toPlanKey(predicate);
+        if (key == null) {
+            return applyRules(predicate, indexes);
+        }
+
+        Predicate optimized = cache.get(key);
+        if (optimized != null) {
+            return optimized;
+        }
+
+        long version = cache.getVersion();
+        boolean convertersResolved = indexes.haveResolvedConverters();
+        optimized = applyRules(predicate, indexes);
+        if (convertersResolved) {
+            cache.put(key, optimized, version);
+        }
+        return optimized;
+    }
+
+    private Predicate applyRules(Predicate predicate, IndexRegistry indexes) {
         Predicate optimized = predicate;
         if (optimized instanceof VisitablePredicate) {
             optimized = ((VisitablePredicate) optimized).accept(flatteningVisitor, indexes);
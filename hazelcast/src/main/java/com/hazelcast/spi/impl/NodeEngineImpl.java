@@ -301,7 +301,7 @@ public class NodeEngineImpl implements NodeEngine {
         FileMetricSet.register(metricsRegistry);
 
         metricsRegistry.registerStaticMetrics(node.getNodeExtension().getMemoryStats(), MEMORY_PREFIX);
-        metricsRegistry.provideMetrics(operationService, proxyService, eventService, operationParker);
+        metricsRegistry.provideMetrics(operationService, proxyService, eventService, operationParker, serializationService);
 
         serviceManager.start();
         proxyService.init();
@@ -81,6 +81,11 @@ public final class SpiDataSerializerHook implements DataSerializerHook {
     public static final int SIMPLE_TOKEN_CRED = 24;
     public static final int DISTRIBUTED_OBJECT_EVENT_PACKET = 25;
     public static final int APPEND_TENANT_CONTROL_OPERATION = 26;
+    /**
+     * The type ID of a response batch. A response batch is never
+     * deserialized, it is unpacked by the inbound response handling.
+     */
+    public static final int RESPONSE_BATCH = 27;
 
     private static final DataSerializableFactory FACTORY = createFactoryInternal();
 
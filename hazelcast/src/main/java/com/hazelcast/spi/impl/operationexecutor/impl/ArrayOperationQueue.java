@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.util.concurrent.ManyToOneConcurrentArrayQueue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+
+/**
+ * An {@link OperationQueue} for a single consumer, the
+ * {@link PartitionOperationThread}, that keeps the normal tasks in a bounded
+ * lock-free {@link ManyToOneConcurrentArrayQueue}. Compared to the
+ * {@link OperationQueueImpl} an add doesn't allocate a node, and it only
+ * unparks the consumer if the consumer actually parked.
+ * <p>
+ * When the consumer has nothing to do it spins, then yields and only then
+ * parks, so a busy partition thread picks up new tasks without being
+ * unparked.
+ * <p>
+ * There is no back pressure between members, so the queue can't reject
+ * tasks: once the array is full, normal tasks are added to an unbounded
+ * overflow queue, and they keep being added there until the consumer
+ * drained it. Since the consumer only takes from the overflow queue once
+ * the array is empty, the FIFO ordering of the tasks of a producer is
+ * retained.
+ * <p>
+ * Priority tasks are rare, so they are kept in a {@link ConcurrentLinkedQueue}.
+ */
+public final class ArrayOperationQueue implements OperationQueue {
+
+    static final int SPIN_COUNT = 100;
+    static final int YIELD_COUNT = 10;
+
+    private final ManyToOneConcurrentArrayQueue<Object> normalQueue;
+    private final Queue<Object> overflowQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Object> priorityQueue = new ConcurrentLinkedQueue<>();
+    private Thread consumerThread;
+    private volatile boolean parked;
+
+    /**
+     * @param capacity the capacity of the array for the normal tasks; it is
+     *                 rounded up to the next power of two.
+     */
+    public ArrayOperationQueue(int capacity) {
+        this.normalQueue = new ManyToOneConcurrentArrayQueue<>(capacity);
+    }
+
+    /**
+     * Sets the consumer thread. This needs to be done before any task is
+     * added.
+     */
+    public void setConsumerThread(Thread consumerThread) {
+        this.consumerThread = checkNotNull(consumerThread, "consumerThread can't be null");
+    }
+
+    @Override
+    public void add(Object task, boolean priority) {
+        checkNotNull(task, "task can't be null");
+
+        if (priority) {
+            priorityQueue.add(task);
+        } else if (!overflowQueue.isEmpty() || !normalQueue.offer(task)) {
+            overflowQueue.add(task);
+        }
+
+        // the task is published before parked is read, and parked is written
+        // before the consumer checks for tasks, so the consumer never misses it
+        if (parked) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    @Override
+    public Object take(boolean priorityOnly) throws InterruptedException {
+        for (long idleCount = 0; ; idleCount++) {
+            Object task = priorityOnly ? priorityQueue.poll() : poll();
+            if (task != null) {
+                return task;
+            }
+
+            if (idleCount < SPIN_COUNT) {
+                Thread.onSpinWait();
+            } else if (idleCount < SPIN_COUNT + YIELD_COUNT) {
+                Thread.yield();
+            } else {
+                park(priorityOnly);
+            }
+        }
+    }
+
+    private void park(boolean priorityOnly) throws InterruptedException {
+        parked = true;
+        if (priorityOnly ? priorityQueue.isEmpty() : isEmpty()) {
+            LockSupport.park(this);
+        }
+        parked = false;
+
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public Object poll() {
+        Object task = priorityQueue.poll();
+        if (task != null) {
+            return task;
+        }
+
+        task = normalQueue.poll();
+        if (task != null) {
+            return task;
+        }
+
+        // The tasks a producer added to the array before adding one to the overflow queue
+        // are counted by the size of the array once the overflow task is visible; they need
+        // to be taken first, even if they are still being written.
+        if (!overflowQueue.isEmpty() && normalQueue.size() == 0) {
+            return overflowQueue.poll();
+        }
+        return null;
+    }
+
+    @Override
+    public int normalSize() {
+        return normalQueue.size() + overflowQueue.size();
+    }
+
+    @Override
+    public int prioritySize() {
+        return priorityQueue.size();
+    }
+
+    @Override
+    public int size() {
+        return normalSize() + prioritySize();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        // the size of the normal queue is based on its tail; an added task
+        // may not be visible yet, but it is counted
+        return priorityQueue.isEmpty() && normalQueue.size() == 0 && overflowQueue.isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.networking.OutboundFrame;
+import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.logging.ILogger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the frames a {@link PartitionOperationThread} writes during a
+ * drain, so each connection gets all of its frames with a single
+ * {@link Connection#writeAll(java.util.Collection)}.
+ * <p>
+ * The order of the frames of a connection is retained. This class is only
+ * accessed by the owning thread.
+ */
+final class ConnectionWriteBatch {
+
+    private final List<Connection> connections = new ArrayList<>();
+    private final List<OutboundFrame> frames = new ArrayList<>();
+    private final List<OutboundFrame> connectionFrames = new ArrayList<>();
+    private final ILogger logger;
+
+    ConnectionWriteBatch(ILogger logger) {
+        this.logger = logger;
+    }
+
+    void add(Connection connection, OutboundFrame frame) {
+        connections.add(connection);
+        frames.add(frame);
+    }
+
+    int size() {
+        return frames.size();
+    }
+
+    void flush() {
+        int size = frames.size();
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = connections.get(i);
+                if (connection != null) {
+                    flush(connection, i, size);
+                }
+            }
+        } finally {
+            connections.clear();
+            frames.clear();
+        }
+    }
+
+    private void flush(Connection connection, int from, int size) {
+        // a drain rarely spans more than a few connections, so a linear scan
+        // is cheaper than grouping the frames in a map
+        for (int i = from; i < size; i++) {
+            if (connections.get(i) == connection) {
+                connectionFrames.add(frames.get(i));
+                connections.set(i, null);
+            }
+        }
+        try {
+            connection.writeAll(connectionFrames);
+        } catch (Exception e) {
+            logger.warning("Failed to write " + connectionFrames.size() + " frames to " + connection, e);
+        } finally {
+            connectionFrames.clear();
+        }
+    }
+}
@@ -66,7 +66,10 @@ import static com.hazelcast.internal.util.ThreadUtil.createThreadPoolName;
 import static com.hazelcast.spi.impl.operationservice.impl.InboundResponseHandlerSupplier.getIdleStrategy;
 import static com.hazelcast.spi.properties.ClusterProperty.GENERIC_OPERATION_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_QUEUE_CAPACITY;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_QUEUE_TYPE;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_DRAIN_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.PRIORITY_GENERIC_OPERATION_THREAD_COUNT;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -176,19 +179,32 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         }
 
         IdleStrategy idleStrategy = getIdleStrategy(properties, IDLE_STRATEGY);
+        boolean arrayQueue = isArrayQueue(properties);
+        int queueCapacity = properties.getInteger(PARTITION_OPERATION_QUEUE_CAPACITY);
+        int drainSize = properties.getInteger(PARTITION_OPERATION_THREAD_DRAIN_SIZE);
         PartitionOperationThread[] threads = new PartitionOperationThread[threadCount];
         for (int threadId = 0; threadId < threads.length; threadId++) {
             String threadName = createThreadPoolName(hzName, "partition-operation") + threadId;
-            // the normalQueue will be a blocking queue. We don't want to idle, because there are many operation threads.
-            MPSCQueue<Object> normalQueue = new MPSCQueue<>(idleStrategy);
-
-            OperationQueue operationQueue = new OperationQueueImpl(normalQueue, new ConcurrentLinkedQueue<>());
+            OperationQueue operationQueue;
+            MPSCQueue<Object> normalQueue = null;
+            if (arrayQueue) {
+                operationQueue = new ArrayOperationQueue(queueCapacity);
+            } else {
+                // the normalQueue will be a blocking queue. We don't want to idle, because there are many operation threads.
+                normalQueue = new MPSCQueue<>(idleStrategy);
+                operationQueue = new OperationQueueImpl(normalQueue, new ConcurrentLinkedQueue<>());
+            }
 
             PartitionOperationThread partitionThread = new PartitionOperationThread(threadName, threadId,
                     operationQueue, logger, nodeExtension, partitionOperationRunners, configClassLoader);
             partitionThread.setThreadAffinity(threadAffinity);
+            partitionThread.setDrainSize(drainSize);
             threads[threadId] = partitionThread;
-            normalQueue.setConsumerThread(partitionThread);
+            if (arrayQueue) {
+                ((ArrayOperationQueue) operationQueue).setConsumerThread(partitionThread);
+            } else {
+                normalQueue.setConsumerThread(partitionThread);
+            }
         }
 
         // we need to assign the PartitionOperationThreads to all OperationRunners they own
@@ -233,6 +249,16 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         return threads;
     }
 
+    private static boolean isArrayQueue(HazelcastProperties properties) {
+        String queueType = properties.getString(PARTITION_OPERATION_QUEUE_TYPE);
+        if ("array".equals(queueType)) {
+            return true;
+        } else if ("linked".equals(queueType)) {
+            return false;
+        }
+        throw new IllegalStateException("Unrecognized " + PARTITION_OPERATION_QUEUE_TYPE.getName() + " value=" + queueType);
+    }
+
     static int getPartitionThreadId(int partitionId, int partitionThreadCount) {
         return partitionId % partitionThreadCount;
     }
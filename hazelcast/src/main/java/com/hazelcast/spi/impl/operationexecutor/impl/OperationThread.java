@@ -83,7 +83,7 @@ public abstract class OperationThread extends HazelcastManagedThread implements
 
     private final boolean priority;
     private final NodeExtension nodeExtension;
-    private final ILogger logger;
+    final ILogger logger;
     private volatile boolean shutdown;
 
     public OperationThread(String name,
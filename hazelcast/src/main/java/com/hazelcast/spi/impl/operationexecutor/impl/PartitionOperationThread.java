@@ -18,21 +18,47 @@ package com.hazelcast.spi.impl.operationexecutor.impl;
 
 import com.hazelcast.instance.impl.NodeExtension;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.networking.OutboundFrame;
+import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAINED_TASK_LATENCY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAINED_TASK_LATENCY_AVG;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAIN_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_PARTITION_OPERATION_THREAD_TASKS_PER_DRAIN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_PARTITION_OPERATION_THREAD_NORMAL_PENDING_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_PARTITION_OPERATION_THREAD_PRIORITY_PENDING_COUNT;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 
 /**
  * An {@link OperationThread} that executes Operations for a particular partition,
  * e.g. a map.get operation.
+ * <p>
+ * When the drain size is larger than 1, the thread doesn't go back to its queue
+ * for every task, but drains up to that many queued tasks in one run. Frames
+ * written with {@link #deferWrite(Connection, OutboundFrame)} during a drain are
+ * written once the drain ends, with a single write per connection.
  */
 public class PartitionOperationThread extends OperationThread {
 
     OperationRunner[] partitionOperationRunners;
 
+    // These counters are only updated when draining is enabled.
+    @Probe(name = OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAIN_COUNT)
+    private final SwCounter drainCount = newSwCounter();
+    @Probe(name = OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAINED_TASK_LATENCY, unit = NS)
+    private final SwCounter drainedTaskLatencyNanos = newSwCounter();
+    private final SwCounter drainedTaskCount = newSwCounter();
+
+    private int drainSize = 1;
+    // only accessed by this thread
+    private ConnectionWriteBatch writeBatch;
+    private boolean draining;
+
     @SuppressFBWarnings("EI_EXPOSE_REP")
     public PartitionOperationThread(String name,
                                     int threadId,
@@ -54,6 +80,90 @@ public class PartitionOperationThread extends OperationThread {
         return partitionOperationRunners[partitionId];
     }
 
+    /**
+     * Sets the maximum number of tasks run in one drain. Needs to be called
+     * before the thread is started.
+     *
+     * @param drainSize the maximum number of tasks per drain; 1 disables draining.
+     */
+    public void setDrainSize(int drainSize) {
+        if (drainSize < 1) {
+            throw new IllegalArgumentException("drainSize can't be smaller than 1, drainSize=" + drainSize);
+        }
+        this.drainSize = drainSize;
+        this.writeBatch = drainSize > 1 ? new ConnectionWriteBatch(logger) : null;
+    }
+
+    /**
+     * Defers writing the frame to the connection to the end of the current
+     * drain, if the calling thread is a draining partition thread.
+     *
+     * @param connection the connection to write to
+     * @param frame      the frame to write
+     * @return {@code true} if the write was deferred, {@code false} if the
+     * caller needs to write the frame itself.
+     */
+    public static boolean deferWrite(Connection connection, OutboundFrame frame) {
+        if (Thread.currentThread() instanceof PartitionOperationThread thread && thread.draining) {
+            thread.writeBatch.add(connection, frame);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void loop() throws Exception {
+        if (drainSize == 1) {
+            super.loop();
+            return;
+        }
+
+        while (!isShutdown()) {
+            Object task;
+            try {
+                task = queue.take(false);
+            } catch (InterruptedException e) {
+                continue;
+            }
+
+            drain(task);
+        }
+    }
+
+    void drain(Object firstTask) {
+        int taskCount = 0;
+        long latencyNanos = 0;
+        draining = true;
+        try {
+            Object task = firstTask;
+            do {
+                long startNanos = System.nanoTime();
+                process(task);
+                latencyNanos += System.nanoTime() - startNanos;
+                taskCount++;
+            } while (taskCount < drainSize && (task = queue.poll()) != null);
+        } finally {
+            draining = false;
+            writeBatch.flush();
+        }
+
+        drainCount.inc();
+        drainedTaskCount.inc(taskCount);
+        drainedTaskLatencyNanos.inc(latencyNanos);
+    }
+
+    @Probe(name = OPERATION_METRIC_PARTITION_OPERATION_THREAD_TASKS_PER_DRAIN)
+    double tasksPerDrain() {
+        long drains = drainCount.get();
+        return drains == 0 ? 0 : (double) drainedTaskCount.get() / drains;
+    }
+
+    @Probe(name = OPERATION_METRIC_PARTITION_OPERATION_THREAD_DRAINED_TASK_LATENCY_AVG, unit = NS)
+    long drainedTaskLatencyAvgNanos() {
+        long tasks = drainedTaskCount.get();
+        return tasks == 0 ? 0 : drainedTaskLatencyNanos.get() / tasks;
+    }
+
     @Probe(name = OPERATION_METRIC_PARTITION_OPERATION_THREAD_PRIORITY_PENDING_COUNT)
     int priorityPendingCount() {
         return queue.prioritySize();
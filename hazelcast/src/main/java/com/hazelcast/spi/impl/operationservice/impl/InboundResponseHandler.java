@@ -28,6 +28,7 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
@@ -38,6 +39,10 @@ import static com.hazelcast.spi.impl.SpiDataSerializerHook.BACKUP_ACK_RESPONSE;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.CALL_TIMEOUT_RESPONSE;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.ERROR_RESPONSE;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.NORMAL_RESPONSE;
+import static com.hazelcast.spi.impl.SpiDataSerializerHook.RESPONSE_BATCH;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseAggregator.OFFSET_BATCH_COUNT;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseAggregator.OFFSET_BATCH_RESPONSES;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse.OFFSET_BACKUP_ACKS;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_CALL_ID;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_TYPE_ID;
@@ -52,6 +57,10 @@ import static com.hazelcast.internal.util.Preconditions.checkTrue;
  * InboundResponseHandlers are not thread-safe. So if there are multiple threads
  * processing responses, each thread needs to get its own instance. Only the backup
  * handling is thread-safe since backups can be completed locally by any thread.
+ * <p>
+ * A response batch sent by an {@link OutboundResponseAggregator} is unpacked in a
+ * single pass. Backup acks are completed straight from the bytes of the batch, the
+ * other responses are handled as if they were received as separate packets.
  */
 public final class InboundResponseHandler implements Consumer<Packet> {
 
@@ -82,8 +91,38 @@ public final class InboundResponseHandler implements Consumer<Packet> {
 
         byte[] bytes = packet.toByteArray();
         int typeId = Bits.readInt(bytes, OFFSET_TYPE_ID, useBigEndian);
-        long callId = Bits.readLong(bytes, OFFSET_CALL_ID, useBigEndian);
         Address sender = packet.getConn().getRemoteAddress();
+        if (typeId == RESPONSE_BATCH) {
+            acceptBatch(packet, bytes, sender);
+        } else {
+            accept(packet, bytes, typeId, sender);
+        }
+    }
+
+    private void acceptBatch(Packet batch, byte[] bytes, Address sender) {
+        int count = Bits.readInt(bytes, OFFSET_BATCH_COUNT, useBigEndian);
+        int offset = OFFSET_BATCH_RESPONSES;
+        for (int i = 0; i < count; i++) {
+            int length = Bits.readInt(bytes, offset, useBigEndian);
+            offset += INT_SIZE_IN_BYTES;
+            int typeId = Bits.readInt(bytes, offset + OFFSET_TYPE_ID, useBigEndian);
+            if (typeId == BACKUP_ACK_RESPONSE) {
+                // backup acks have no content besides the call ID, so no packet is needed
+                notifyBackupComplete(Bits.readLong(bytes, offset + OFFSET_CALL_ID, useBigEndian));
+            } else {
+                byte[] responseBytes = Arrays.copyOfRange(bytes, offset, offset + length);
+                Packet response = new Packet(responseBytes, -1)
+                        .setPacketType(OPERATION)
+                        .raiseFlags(FLAG_OP_RESPONSE)
+                        .setConn(batch.getConn());
+                accept(response, responseBytes, typeId, sender);
+            }
+            offset += length;
+        }
+    }
+
+    private void accept(Packet packet, byte[] bytes, int typeId, Address sender) {
+        long callId = Bits.readLong(bytes, OFFSET_CALL_ID, useBigEndian);
         try {
             switch (typeId) {
                 case NORMAL_RESPONSE:
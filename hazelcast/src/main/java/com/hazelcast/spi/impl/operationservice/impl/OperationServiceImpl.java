@@ -84,6 +84,7 @@ import static com.hazelcast.spi.properties.ClusterProperty.FAIL_ON_INDETERMINATE
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_MAX_RETRY_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_RETRY_PAUSE;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.RESPONSE_BATCH_WINDOW_MICROS;
 import static java.util.Collections.newSetFromMap;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -167,8 +168,9 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         this.backpressureRegulator = new BackpressureRegulator(
                 properties, node.getLogger(BackpressureRegulator.class));
 
+        String hzName = nodeEngine.getHazelcastInstance().getName();
         this.outboundResponseHandler = new OutboundResponseHandler(thisAddress, serializationService,
-                node.getLogger(OutboundResponseHandler.class));
+                node.getLogger(OutboundResponseHandler.class), properties.getNanos(RESPONSE_BATCH_WINDOW_MICROS), hzName);
 
         this.invocationRegistry = new InvocationRegistry(
                 node.getLogger(OperationServiceImpl.class),
@@ -183,7 +185,6 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
 
         this.backupHandler = new OperationBackupHandler(this, outboundOperationHandler);
 
-        String hzName = nodeEngine.getHazelcastInstance().getName();
         ClassLoader configClassLoader = node.getConfigClassLoader();
         this.inboundResponseHandlerSupplier = new InboundResponseHandlerSupplier(
                 configClassLoader, invocationRegistry, hzName, nodeEngine);
@@ -532,6 +533,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     @Override
     public void onEndpointLeft(Address endpoint) {
         invocationMonitor.onEndpointLeft(endpoint);
+        outboundResponseHandler.onEndpointLeft(endpoint);
     }
 
     public void reset() {
@@ -552,6 +554,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         invocationMonitor.start();
         operationExecutor.start();
         inboundResponseHandlerSupplier.start();
+        outboundResponseHandler.start();
         slowOperationDetector.start();
     }
 
@@ -607,5 +610,6 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
 
         operationExecutor.shutdown();
         slowOperationDetector.shutdown();
+        outboundResponseHandler.shutdown();
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.server.ServerConnectionManager;
+import com.hazelcast.internal.util.executor.HazelcastManagedThread;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.operationexecutor.OperationHostileThread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.instance.impl.OutOfMemoryErrorDispatcher.inspectOutOfMemoryError;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
+import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.RESPONSE_SIZE_IN_BYTES;
+
+/**
+ * Combines the small responses and backup acks sent to the same member within
+ * a short window into a single response batch packet.
+ * <p>
+ * The first response queued for any member wakes up the flusher thread. The
+ * flusher waits for the window to pass, so the responses produced in the
+ * meantime are picked up too, and then sends the responses queued for each
+ * member as one packet. A member with only a single queued response gets it
+ * as a regular response packet.
+ * <p>
+ * A response batch starts with a regular response prologue with the
+ * {@link com.hazelcast.spi.impl.SpiDataSerializerHook#RESPONSE_BATCH} type
+ * id, followed by the number of responses and a length prefixed copy of the
+ * bytes of each response. It is unpacked by the {@link InboundResponseHandler}.
+ */
+final class OutboundResponseAggregator {
+
+    /**
+     * The offset of the number of responses in a response batch.
+     */
+    static final int OFFSET_BATCH_COUNT = RESPONSE_SIZE_IN_BYTES;
+    /**
+     * The offset of the first length prefixed response in a response batch.
+     */
+    static final int OFFSET_BATCH_RESPONSES = OFFSET_BATCH_COUNT + INT_SIZE_IN_BYTES;
+    /**
+     * Responses larger than this are not worth the copy into a batch.
+     */
+    static final int MAX_BATCHED_RESPONSE_SIZE = 1024;
+
+    private static final int MAX_BATCH_SIZE_IN_BYTES = 64 * 1024;
+
+    private final ConcurrentMap<Address, TargetResponses> targets = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final OutboundResponseHandler responseHandler;
+    private final long windowNanos;
+    private final FlushThread flushThread;
+    private final ILogger logger;
+
+    OutboundResponseAggregator(OutboundResponseHandler responseHandler, long windowNanos, String hzName, ILogger logger) {
+        this.responseHandler = responseHandler;
+        this.windowNanos = windowNanos;
+        this.logger = logger;
+        this.flushThread = new FlushThread(hzName);
+    }
+
+    void start() {
+        flushThread.start();
+    }
+
+    void shutdown() {
+        flushThread.shutdown = true;
+        LockSupport.unpark(flushThread);
+    }
+
+    /**
+     * Forgets the responses queued for a member that left.
+     */
+    void onEndpointLeft(Address target) {
+        targets.remove(target);
+    }
+
+    /**
+     * Queues the bytes of a response to be sent to the target with the next
+     * flush.
+     */
+    void offer(ServerConnectionManager connectionManager, Address target, byte[] response) {
+        TargetResponses responses = targets.get(target);
+        if (responses == null) {
+            responses = targets.computeIfAbsent(target, TargetResponses::new);
+        }
+        responses.connectionManager = connectionManager;
+        responses.queue.offer(response);
+
+        if (!scheduled.get() && scheduled.compareAndSet(false, true)) {
+            LockSupport.unpark(flushThread);
+        }
+    }
+
+    void flush() {
+        // the flag is cleared before draining, so a response queued after
+        // the drain of its target schedules another flush
+        scheduled.set(false);
+        for (TargetResponses responses : targets.values()) {
+            try {
+                flush(responses);
+            } catch (Exception e) {
+                logger.warning("Failed to send responses to " + responses.target, e);
+            }
+        }
+    }
+
+    private void flush(TargetResponses responses) {
+        Queue<byte[]> queue = responses.queue;
+        List<byte[]> batch = responses.batch;
+        for (; ; ) {
+            int batchSize = OFFSET_BATCH_RESPONSES;
+            byte[] response;
+            while (batchSize < MAX_BATCH_SIZE_IN_BYTES && (response = queue.poll()) != null) {
+                batch.add(response);
+                batchSize += INT_SIZE_IN_BYTES + response.length;
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                byte[] bytes = batch.size() == 1 ? batch.get(0) : responseHandler.toBatchBytes(batch, batchSize);
+                if (!responseHandler.transmit(responses.target, bytes, responses.connectionManager)) {
+                    logger.warning("Cannot send " + batch.size() + " responses to " + responses.target);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private static final class TargetResponses {
+        private final Address target;
+        private final Queue<byte[]> queue = new ConcurrentLinkedQueue<>();
+        // only accessed by the flush thread
+        private final List<byte[]> batch = new ArrayList<>();
+        private volatile ServerConnectionManager connectionManager;
+
+        private TargetResponses(Address target) {
+            this.target = target;
+        }
+    }
+
+    /**
+     * The FlushThread needs to implement the OperationHostileThread interface to make sure
+     * that the OperationExecutor is not going to schedule any operations on this thread.
+     */
+    private final class FlushThread extends HazelcastManagedThread implements OperationHostileThread {
+
+        private volatile boolean shutdown;
+
+        private FlushThread(String hzName) {
+            super(createThreadName(hzName, "response-aggregator"));
+        }
+
+        @Override
+        public void executeRun() {
+            try {
+                while (!shutdown) {
+                    if (!scheduled.get()) {
+                        LockSupport.park();
+                        continue;
+                    }
+
+                    // give the responses produced within the window the chance to join
+                    LockSupport.parkNanos(windowNanos);
+                    flush();
+                }
+            } catch (Throwable t) {
+                inspectOutOfMemoryError(t);
+                logger.severe(t);
+            }
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
 
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static com.hazelcast.internal.serialization.impl.SerializationConstants.CONSTANT_TYPE_DATA_SERIALIZABLE;
@@ -43,6 +44,10 @@ import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 import static com.hazelcast.internal.nio.Packet.Type.OPERATION;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.BACKUP_ACK_RESPONSE;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.NORMAL_RESPONSE;
+import static com.hazelcast.spi.impl.SpiDataSerializerHook.RESPONSE_BATCH;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseAggregator.MAX_BATCHED_RESPONSE_SIZE;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseAggregator.OFFSET_BATCH_COUNT;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseAggregator.OFFSET_BATCH_RESPONSES;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.BackupAckResponse.BACKUP_RESPONSE_SIZE_IN_BYTES;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse.OFFSET_BACKUP_ACKS;
 import static com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse.OFFSET_DATA_LENGTH;
@@ -62,6 +67,10 @@ import static java.nio.ByteOrder.BIG_ENDIAN;
  * An {@link OperationResponseHandler} that is used for a remotely executed Operation. So when a calling member
  * sends an Operation to the receiving member, the receiving member attaches this OutboundResponseHandler
  * to that operation so that the response is returned to the right machine.
+ * <p>
+ * If a response batch window is configured, small non-urgent normal responses and
+ * backup acks are handed to an {@link OutboundResponseAggregator}, which sends the
+ * responses for the same member within the window as a single packet.
  */
 public final class OutboundResponseHandler implements OperationResponseHandler {
 
@@ -69,14 +78,44 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
     private final InternalSerializationService serializationService;
     private final boolean useBigEndian;
     private final ILogger logger;
+    private final OutboundResponseAggregator aggregator;
 
     OutboundResponseHandler(Address thisAddress,
                             InternalSerializationService serializationService,
                             ILogger logger) {
+        this(thisAddress, serializationService, logger, 0, null);
+    }
+
+    OutboundResponseHandler(Address thisAddress,
+                            InternalSerializationService serializationService,
+                            ILogger logger,
+                            long batchWindowNanos,
+                            String hzName) {
         this.thisAddress = thisAddress;
         this.serializationService = serializationService;
         this.useBigEndian = serializationService.getByteOrder() == BIG_ENDIAN;
         this.logger = logger;
+        this.aggregator = batchWindowNanos > 0
+                ? new OutboundResponseAggregator(this, batchWindowNanos, hzName, logger)
+                : null;
+    }
+
+    void start() {
+        if (aggregator != null) {
+            aggregator.start();
+        }
+    }
+
+    void shutdown() {
+        if (aggregator != null) {
+            aggregator.shutdown();
+        }
+    }
+
+    void onEndpointLeft(Address endpoint) {
+        if (aggregator != null) {
+            aggregator.onEndpointLeft(endpoint);
+        }
     }
 
     @Override
@@ -124,12 +163,16 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
                                        int backupAcks, boolean urgent, Object value) {
         checkTarget(target);
 
-        Packet packet = toNormalResponsePacket(callId, (byte) backupAcks, urgent, value);
+        byte[] bytes = toNormalResponseBytes(callId, (byte) backupAcks, urgent, value);
 
-        return transmit(target, packet, connectionManager);
+        return transmitOrAggregate(target, bytes, urgent, connectionManager);
     }
 
     Packet toNormalResponsePacket(long callId, int backupAcks, boolean urgent, Object value) {
+        return newResponsePacket(toNormalResponseBytes(callId, backupAcks, urgent, value), urgent);
+    }
+
+    private byte[] toNormalResponseBytes(long callId, int backupAcks, boolean urgent, Object value) {
         byte[] bytes;
         boolean isData = value instanceof Data;
         if (isData) {
@@ -163,23 +206,50 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
         bytes[OFFSET_IS_DATA] = (byte) (isData ? 1 : 0);
         //the remaining part of the byte array is already filled, so we are done.
 
-        return newResponsePacket(bytes, urgent);
+        return bytes;
     }
 
     public void sendBackupAck(ServerConnectionManager connectionManager, Address target, long callId, boolean urgent) {
         checkTarget(target);
 
-        Packet packet = toBackupAckPacket(callId, urgent);
+        byte[] bytes = toBackupAckBytes(callId, urgent);
 
-        transmit(target, packet, connectionManager);
+        transmitOrAggregate(target, bytes, urgent, connectionManager);
     }
 
     Packet toBackupAckPacket(long callId, boolean urgent) {
+        return newResponsePacket(toBackupAckBytes(callId, urgent), urgent);
+    }
+
+    private byte[] toBackupAckBytes(long callId, boolean urgent) {
         byte[] bytes = new byte[BACKUP_RESPONSE_SIZE_IN_BYTES];
 
         writeResponsePrologueBytes(bytes, BACKUP_ACK_RESPONSE, callId, urgent);
 
-        return newResponsePacket(bytes, urgent);
+        return bytes;
+    }
+
+    /**
+     * Creates a response batch out of the bytes of non-urgent responses.
+     *
+     * @param responses the bytes of the responses
+     * @param batchSize the size of the batch in bytes
+     * @return the bytes of the response batch
+     */
+    byte[] toBatchBytes(List<byte[]> responses, int batchSize) {
+        byte[] bytes = new byte[batchSize];
+        // the call ID is not used, the responses carry their own
+        writeResponsePrologueBytes(bytes, RESPONSE_BATCH, 0, false);
+        writeInt(bytes, OFFSET_BATCH_COUNT, responses.size(), useBigEndian);
+
+        int offset = OFFSET_BATCH_RESPONSES;
+        for (byte[] response : responses) {
+            writeInt(bytes, offset, response.length, useBigEndian);
+            offset += INT_SIZE_IN_BYTES;
+            System.arraycopy(response, 0, bytes, offset, response.length);
+            offset += response.length;
+        }
+        return bytes;
     }
 
     private void writeResponsePrologueBytes(byte[] bytes, int typeId, long callId, boolean urgent) {
@@ -210,6 +280,20 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
         return packet;
     }
 
+    private boolean transmitOrAggregate(Address target, byte[] bytes, boolean urgent,
+                                        ServerConnectionManager connectionManager) {
+        // urgent responses don't wait for the batch window
+        if (aggregator != null && !urgent && bytes.length <= MAX_BATCHED_RESPONSE_SIZE) {
+            aggregator.offer(connectionManager, target, bytes);
+            return true;
+        }
+        return transmit(target, newResponsePacket(bytes, urgent), connectionManager);
+    }
+
+    boolean transmit(Address target, byte[] bytes, ServerConnectionManager connectionManager) {
+        return transmit(target, newResponsePacket(bytes, false), connectionManager);
+    }
+
     private boolean transmit(Address target, Packet packet, ServerConnectionManager connectionManager) {
         // The response is sent over an arbitrary stream id. It needs to be arbitrary so that
         // responses don't end up at stream 0 and the connection this stream belongs to, becomes
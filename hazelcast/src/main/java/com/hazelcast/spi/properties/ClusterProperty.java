@@ -363,6 +363,67 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.io.write.through", true);
 
+    /**
+     * The minimum payload size in bytes of a member to member packet that is
+     * written to the socket directly from the packet's byte array with a
+     * gathering write, instead of being copied into the send buffer first.
+     * This saves a full copy of large entry processor results, migration
+     * chunks etc.
+     * <p>
+     * Gathering writes are only used when no other handler, e.g. TLS,
+     * follows the packet encoder in the outbound pipeline. The value 0
+     * disables gathering writes; this is the default.
+     */
+    public static final HazelcastProperty IO_GATHERING_WRITE_THRESHOLD
+            = new HazelcastProperty("hazelcast.io.gathering.write.threshold", 0);
+
+    /**
+     * The maximum time in microseconds a member to member write may be held
+     * back to coalesce it with frames that are about to be written, so they
+     * go out with a single socket write.
+     * <p>
+     * A write is only held back if the connection wrote frames within that
+     * time before and new frames keep arriving, so an idle connection
+     * doesn't get additional latency. The value 0 disables coalescing; this
+     * is the default.
+     *
+     * @see #IO_WRITE_COALESCING_BYTES
+     */
+    public static final HazelcastProperty IO_WRITE_COALESCING_LATENCY_MICROS
+            = new HazelcastProperty("hazelcast.io.write.coalescing.latency.micros", 0, MICROSECONDS);
+
+    /**
+     * The number of pending bytes from which a coalesced member to member
+     * write is flushed without waiting any longer.
+     *
+     * @see #IO_WRITE_COALESCING_LATENCY_MICROS
+     */
+    public static final HazelcastProperty IO_WRITE_COALESCING_BYTES
+            = new HazelcastProperty("hazelcast.io.write.coalescing.bytes", 32 * 1024);
+
+    /**
+     * Enables LZ4 compression of the bytes sent over member and client
+     * connections. Compression is negotiated during the protocol handshake,
+     * so it is only used when both sides of a connection have it enabled.
+     * Members without support for compression reject connections that
+     * request it, so it needs to be enabled only once all members support it.
+     * <p>
+     * It is disabled by default.
+     *
+     * @see #IO_COMPRESSION_THRESHOLD
+     */
+    public static final HazelcastProperty IO_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.io.compression.enabled", false);
+
+    /**
+     * The minimum number of bytes pending at once on a connection to compress
+     * them; smaller writes are sent uncompressed, since they rarely shrink.
+     *
+     * @see #IO_COMPRESSION_ENABLED
+     */
+    public static final HazelcastProperty IO_COMPRESSION_THRESHOLD
+            = new HazelcastProperty("hazelcast.io.compression.threshold", 1024);
+
     /**
      * Property needed for concurrency detection so that write through can be
      * done correctly.
@@ -1106,6 +1167,24 @@ public final class ClusterProperty {
     public static final HazelcastProperty QUERY_OPTIMIZER_TYPE
             = new HazelcastProperty("hazelcast.query.optimizer.type", QueryOptimizerFactory.Type.RULES.toString());
 
+    /**
+     * Maximum number of optimized predicates cached per map by the rule based
+     * query optimizer.
+     * <p>
+     * Predicates built only from the predicates provided by
+     * {@link com.hazelcast.query.Predicates} are cached by their value, SQL
+     * predicates by their parsed form, so repeated queries skip the
+     * optimization. The cache of a map is cleared when its indexes are added,
+     * removed or cleared. Caching applies to maps with global indexes only,
+     * i.e. not to maps with the {@code NATIVE} in-memory format.
+     * <p>
+     * The value of {@code 0} disables the cache. The default is {@code 256}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty QUERY_PLAN_CACHE_SIZE
+            = new HazelcastProperty("hazelcast.query.plan.cache.size", 256);
+
     /**
      * Type of Query Index result copying behavior. Defines the behavior for
      * index copying on index read/write.
@@ -1248,6 +1327,17 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_LOAD_CHUNK_SIZE
             = new HazelcastProperty("hazelcast.map.load.chunk.size", 1000);
 
+    /**
+     * The maximum number of keys read with a single invocation by
+     * {@link com.hazelcast.map.IMap#getAllStreaming} on a member. The keys are
+     * read one chunk at a time, so this bounds the number of entries held by
+     * the member while they are handed to the consumer.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_GET_ALL_STREAMING_CHUNK_SIZE
+            = new HazelcastProperty("hazelcast.map.get.all.streaming.chunk.size", 1000);
+
     /**
      * Scheduler delay for map tasks those are executed on backup members.
      */
@@ -1318,6 +1408,19 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_WRITE_BEHIND_QUEUE_CAPACITY
             = new HazelcastProperty("hazelcast.map.write.behind.queue.capacity", 50000);
 
+    /**
+     * Maximum number of megabytes a partition of a map with
+     * {@link com.hazelcast.config.MapConfig#setOffHeapStorageEnabled(boolean) off-heap storage}
+     * may reserve outside the Java heap. Operations which would need more memory fail with a
+     * {@link com.hazelcast.memory.NativeOutOfMemoryError}.
+     * <p>
+     * Default: 256 megabytes per partition and map
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_OFF_HEAP_STORAGE_PARTITION_MAX_SIZE_MB
+            = new HazelcastProperty("hazelcast.map.offheap.storage.partition.max.size.in.mb", 256);
+
     /*
      * INVOCATION / OPERATION SYSTEM PROPERTIES
      */
@@ -1459,6 +1562,45 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.operation.thread.count",
             (Function<HazelcastProperties, Integer>) properties -> max(2, RuntimeAvailableProcessors.get()));
 
+    /**
+     * The queue implementation of the partition operation threads:
+     * <ul>
+     * <li>{@code linked}: a lock-free linked queue; every added operation
+     * allocates a node. This is the default.</li>
+     * <li>{@code array}: a lock-free bounded array queue, see
+     * {@link #PARTITION_OPERATION_QUEUE_CAPACITY}. An idle partition thread
+     * spins, then yields and then parks, so a busy partition thread picks up
+     * new operations without being unparked.</li>
+     * </ul>
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_QUEUE_TYPE
+            = new HazelcastProperty("hazelcast.operation.partitionthread.queue.type", "linked");
+
+    /**
+     * The capacity of the array of the {@code array} partition operation
+     * queue, rounded up to the next power of two. Operations that don't fit
+     * are not rejected, but kept in an unbounded overflow queue.
+     *
+     * @see #PARTITION_OPERATION_QUEUE_TYPE
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_QUEUE_CAPACITY
+            = new HazelcastProperty("hazelcast.operation.partitionthread.queue.capacity", 16384);
+
+    /**
+     * The maximum number of queued tasks a partition thread runs in one
+     * drain. After taking a task, the thread keeps polling its queue until it
+     * is empty or this many tasks ran. Responses to clients produced during a
+     * drain are written to their connections together when the drain ends,
+     * and consecutive operations on the same map resolve its record store
+     * once.
+     * <p>
+     * A higher value amortizes the wakeup and the response writes over more
+     * operations, at the cost of holding back the responses of the first
+     * operations of a drain. The default {@code 1} disables draining.
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_THREAD_DRAIN_SIZE
+            = new HazelcastProperty("hazelcast.operation.partitionthread.drain.size", 1);
+
     /**
      * The number of generic operation handler threads per member.
      * <p>
@@ -1499,6 +1641,18 @@ public final class ClusterProperty {
     public static final HazelcastProperty RESPONSE_THREAD_COUNT
             = new HazelcastProperty("hazelcast.operation.response.thread.count", 2);
 
+    /**
+     * The time in microseconds small responses and backup acks for the same
+     * member are collected, so they can be sent as a single packet.
+     * <p>
+     * Urgent responses and responses larger than 1 KB are never held back.
+     * Members without support for response batches can't process them, so
+     * it needs to be enabled only once all members support it. The value 0
+     * disables response batching; this is the default.
+     */
+    public static final HazelcastProperty RESPONSE_BATCH_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.operation.response.batch.window.micros", 0, MICROSECONDS);
+
     /*
      * ICACHE / JCACHE PROPERTIES
      */
@@ -1685,6 +1839,40 @@ public final class ClusterProperty {
             // https://github.com/hazelcast/hazelcast/issues/13161
             .setDeprecatedName("hazelcast.enterprise.licence.key");
 
+    /**
+     * Enables the size class buffer pool of the member's serialization service.
+     * <p>
+     * By default, each thread keeps up to 3 serialization buffers, and buffers
+     * which have grown while serializing a large value are shrunk when they are
+     * returned to the pool. With this property enabled, each thread keeps a few
+     * buffers of several size classes instead, backed by bounded pools shared
+     * by all threads, so a mix of small and large values doesn't keep
+     * reallocating the large buffers. The hits, misses and trims of the pool
+     * are published as {@code serialization.bufferPool} metrics.
+     * <p>
+     * Default: {@code false}
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty SERIALIZATION_BUFFER_POOL_SIZE_CLASSES_ENABLED
+            = new HazelcastProperty("hazelcast.serialization.buffer.pool.size.classes.enabled", false);
+
+    /**
+     * The number of bytes the shared pool of each size class of the size class
+     * buffer pool may hold at most, see
+     * {@link #SERIALIZATION_BUFFER_POOL_SIZE_CLASSES_ENABLED}.
+     * <p>
+     * The buffers of the largest size class are kept in the shared pool only,
+     * not by the threads, so the memory retained for the largest values is
+     * bounded by this property regardless of the number of threads.
+     * <p>
+     * Default: 32 MB
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty SERIALIZATION_BUFFER_POOL_SHARED_BYTES
+            = new HazelcastProperty("hazelcast.serialization.buffer.pool.shared.bytes", 32L * 1024 * 1024);
+
     /**
      * Hazelcast serialization version. This is single byte value between 1 and
      * Max supported serialization version.
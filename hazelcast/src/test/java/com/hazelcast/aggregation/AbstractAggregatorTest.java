@@ -16,6 +16,7 @@
 
 package com.hazelcast.aggregation;
 
+import com.hazelcast.aggregation.impl.AbstractAggregator;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -29,6 +30,9 @@ import java.util.Map;
 
 import static com.hazelcast.aggregation.TestSamples.createEntryWithValue;
 import static com.hazelcast.aggregation.TestSamples.sampleBigDecimals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -49,4 +53,37 @@ public class AbstractAggregatorTest {
         Aggregator<Map.Entry<BigDecimal, BigDecimal>, BigDecimal> aggregation = Aggregators.bigDecimalAvg("notFound");
         aggregation.accumulate(createEntryWithValue(values.get(0)));
     }
+
+    @Test(timeout = TimeoutInMillis.MINUTE)
+    public void testLongSum_deaccumulate() {
+        AbstractAggregator<Map.Entry<Long, Long>, Long, Long> aggregation =
+                (AbstractAggregator<Map.Entry<Long, Long>, Long, Long>) Aggregators.<Map.Entry<Long, Long>>longSum();
+        aggregation.accumulate(createEntryWithValue(3L));
+        aggregation.accumulate(createEntryWithValue(5L));
+
+        assertTrue(aggregation.deaccumulate(createEntryWithValue(3L)));
+        assertEquals(Long.valueOf(5), aggregation.aggregate());
+    }
+
+    @Test(timeout = TimeoutInMillis.MINUTE)
+    public void testMax_deaccumulate_onlyValuesBelowMax() {
+        AbstractAggregator<Map.Entry<Integer, Integer>, Integer, Integer> aggregation =
+                (AbstractAggregator<Map.Entry<Integer, Integer>, Integer, Integer>) Aggregators.<Map.Entry<Integer, Integer>,
+                        Integer>comparableMax();
+        aggregation.accumulate(createEntryWithValue(3));
+        aggregation.accumulate(createEntryWithValue(5));
+
+        assertTrue(aggregation.deaccumulate(createEntryWithValue(3)));
+        assertEquals(Integer.valueOf(5), aggregation.aggregate());
+        assertFalse(aggregation.deaccumulate(createEntryWithValue(5)));
+    }
+
+    @Test(timeout = TimeoutInMillis.MINUTE)
+    public void testDoubleSum_deaccumulate_notSupported() {
+        AbstractAggregator<Map.Entry<Double, Double>, Double, Double> aggregation =
+                (AbstractAggregator<Map.Entry<Double, Double>, Double, Double>) Aggregators.<Map.Entry<Double, Double>>doubleSum();
+        aggregation.accumulate(createEntryWithValue(3.0));
+
+        assertFalse(aggregation.deaccumulate(createEntryWithValue(3.0)));
+    }
 }
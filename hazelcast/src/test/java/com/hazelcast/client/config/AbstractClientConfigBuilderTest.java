@@ -455,6 +455,9 @@ public abstract class AbstractClientConfigBuilderTest extends HazelcastTestSuppo
     @Test
     public abstract void testNearCacheInMemoryFormatNative_withKeysByReference();
 
+    @Test
+    public abstract void testNearCacheOffHeapStorageEnabled();
+
     @Test
     public abstract void testNearCacheEvictionPolicy();
 
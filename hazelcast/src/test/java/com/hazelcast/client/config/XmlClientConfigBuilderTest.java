@@ -269,6 +269,24 @@ public class XmlClientConfigBuilderTest extends AbstractClientConfigBuilderTest
         assertTrue(ncConfig.isSerializeKeys());
     }
 
+    @Override
+    @Test
+    public void testNearCacheOffHeapStorageEnabled() {
+        String mapName = "testMapNearCacheOffHeapStorage";
+        String xml = HAZELCAST_CLIENT_START_TAG
+                + "  <near-cache name=\"" + mapName + "\">\n"
+                + "    <in-memory-format>BINARY</in-memory-format>\n"
+                + "    <off-heap-storage-enabled>true</off-heap-storage-enabled>\n"
+                + "  </near-cache>\n"
+                + HAZELCAST_CLIENT_END_TAG;
+
+        ClientConfig clientConfig = buildConfig(xml);
+        NearCacheConfig ncConfig = clientConfig.getNearCacheConfig(mapName);
+
+        assertEquals(InMemoryFormat.BINARY, ncConfig.getInMemoryFormat());
+        assertTrue(ncConfig.isOffHeapStorageEnabled());
+    }
+
     @Override
     @Test
     public void testNearCacheEvictionPolicy() {
@@ -207,6 +207,23 @@ public class YamlClientConfigBuilderTest extends AbstractClientConfigBuilderTest
         assertTrue(ncConfig.isSerializeKeys());
     }
 
+    @Override
+    @Test
+    public void testNearCacheOffHeapStorageEnabled() {
+        String mapName = "testMapNearCacheOffHeapStorage";
+        String yaml = "hazelcast-client:\n"
+                + "  near-cache:\n"
+                + "    " + mapName + ":\n"
+                + "      in-memory-format: BINARY\n"
+                + "      off-heap-storage-enabled: true";
+
+        ClientConfig clientConfig = buildConfig(yaml);
+        NearCacheConfig ncConfig = clientConfig.getNearCacheConfig(mapName);
+
+        assertEquals(InMemoryFormat.BINARY, ncConfig.getInMemoryFormat());
+        assertTrue(ncConfig.isOffHeapStorageEnabled());
+    }
+
     @Override
     @Test
     public void testNearCacheEvictionPolicy() {
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.util;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageWriter;
+import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
+import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
+import com.hazelcast.client.impl.protocol.codec.MapRemoveCodec;
+import com.hazelcast.client.impl.protocol.codec.MapSetCodec;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapRequestEncoderTest {
+
+    private static final String NAME = "map-\u00e9";
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+    private final byte[] encodedName = MapRequestEncoder.encodeName(NAME);
+    private final Data key = ss.toData("key");
+    private final Data value = ss.toData("value");
+
+    @Test
+    public void testGetRequest() {
+        assertSameMessage(MapGetCodec.encodeRequest(NAME, key, 1),
+                MapRequestEncoder.encodeGetRequest(encodedName, key, 1));
+    }
+
+    @Test
+    public void testRemoveRequest() {
+        assertSameMessage(MapRemoveCodec.encodeRequest(NAME, key, 1),
+                MapRequestEncoder.encodeRemoveRequest(encodedName, key, 1));
+    }
+
+    @Test
+    public void testPutRequest() {
+        assertSameMessage(MapPutCodec.encodeRequest(NAME, key, value, 1, 2),
+                MapRequestEncoder.encodePutRequest(encodedName, key, value, 1, 2));
+    }
+
+    @Test
+    public void testSetRequest() {
+        assertSameMessage(MapSetCodec.encodeRequest(NAME, key, value, 1, 2),
+                MapRequestEncoder.encodeSetRequest(encodedName, key, value, 1, 2));
+    }
+
+    @Test
+    public void testRequestIsDecodedByGeneratedCodec() {
+        ClientMessage message = MapRequestEncoder.encodePutRequest(encodedName, key, value, 1, 2);
+
+        MapPutCodec.RequestParameters parameters = MapPutCodec.decodeRequest(message);
+
+        assertEquals(NAME, parameters.name);
+        assertEquals(key, parameters.key);
+        assertEquals(value, parameters.value);
+        assertEquals(1, parameters.threadId);
+        assertEquals(2, parameters.ttl);
+    }
+
+    @Test
+    public void testNameFrameSharesEncodedName() {
+        ClientMessage message = MapRequestEncoder.encodeGetRequest(encodedName, key, 1);
+
+        assertSame(encodedName, message.getStartFrame().next.content);
+    }
+
+    private static void assertSameMessage(ClientMessage expected, ClientMessage actual) {
+        expected.setCorrelationId(42);
+        actual.setCorrelationId(42);
+
+        assertEquals(expected.getOperationName(), actual.getOperationName());
+        assertEquals(expected.isRetryable(), actual.isRetryable());
+        assertEquals(expected.isContainsSerializedDataInRequest(), actual.isContainsSerializedDataInRequest());
+        assertArrayEquals(write(expected), write(actual));
+    }
+
+    private static byte[] write(ClientMessage message) {
+        ByteBuffer buffer = ByteBuffer.allocate(message.getFrameLength());
+        assertTrue(new ClientMessageWriter().writeTo(buffer, message));
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
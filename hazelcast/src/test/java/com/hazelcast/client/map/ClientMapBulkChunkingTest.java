@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.client.properties.ClientProperty.MAP_BULK_CHUNK_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.MAP_BULK_MAX_IN_FLIGHT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapBulkChunkingTest extends AbstractClientMapTest {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Override
+    protected ClientConfig getClientConfig() {
+        return new ClientConfig()
+                .setProperty(MAP_BULK_CHUNK_SIZE.getName(), "7")
+                .setProperty(MAP_BULK_MAX_IN_FLIGHT.getName(), "2");
+    }
+
+    @Test
+    public void putAll_withEntriesSplitIntoChunks() {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+
+        map.putAll(entries());
+
+        assertEquals(ENTRY_COUNT, map.size());
+        assertEquals(entries(), new HashMap<>(map.getAll(entries().keySet())));
+    }
+
+    @Test
+    public void getAllStreaming_handsAllFoundEntriesToConsumer() throws Exception {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        map.putAll(entries());
+        Set<Integer> keys = new HashSet<>(entries().keySet());
+        keys.add(-1);
+
+        Map<Integer, Integer> result = new ConcurrentHashMap<>();
+        AtomicInteger concurrentCalls = new AtomicInteger();
+        AtomicBoolean calledConcurrently = new AtomicBoolean();
+        map.getAllStreaming(keys, (key, value) -> {
+            if (concurrentCalls.incrementAndGet() > 1) {
+                calledConcurrently.set(true);
+            }
+            result.put(key, value);
+            concurrentCalls.decrementAndGet();
+        }).toCompletableFuture().get();
+
+        assertEquals(entries(), result);
+        assertFalse(calledConcurrently.get());
+    }
+
+    @Test
+    public void getAllStreaming_withEmptyKeys() throws Exception {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+
+        map.getAllStreaming(new HashSet<>(), (key, value) -> fail()).toCompletableFuture().get();
+    }
+
+    @Test
+    public void getAllStreaming_whenConsumerThrows_thenCompletesExceptionally() throws Exception {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        map.putAll(entries());
+
+        try {
+            map.getAllStreaming(entries().keySet(), (key, value) -> {
+                throw new IllegalStateException("expected");
+            }).toCompletableFuture().get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    private static Map<Integer, Integer> entries() {
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            entries.put(i, i);
+        }
+        return entries;
+    }
+}
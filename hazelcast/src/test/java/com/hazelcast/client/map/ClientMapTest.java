@@ -457,6 +457,21 @@ public class ClientMapTest extends HazelcastTestSupport {
         assertThat((Map) map).hasSize(1);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddMapConfig_withOffHeapStorage() {
+        client.getConfig().addMapConfig(new MapConfig(randomMapName()).setOffHeapStorageEnabled(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddMapConfig_withPackedRecords() {
+        client.getConfig().addMapConfig(new MapConfig(randomMapName()).setPackedRecordsEnabled(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddMapConfig_withValueCompression() {
+        client.getConfig().addMapConfig(new MapConfig(randomMapName()).setValueCompressionEnabled(true));
+    }
+
     @Test
     public void testWithMetadataMultipleEntries() {
         String mapName = randomMapName();
@@ -22,6 +22,7 @@ import com.hazelcast.client.test.TestHazelcastFactory;
 import com.hazelcast.client.util.StaticLB;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
 import com.hazelcast.config.IndexType;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.XmlConfigBuilder;
@@ -51,6 +52,40 @@ public class ClientMapWithIndexCreationTest extends HazelcastTestSupport {
         factory.shutdownAll();
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void test_addIndex_withIncludedAttributes() {
+        factory.newHazelcastInstance(smallInstanceConfig());
+        HazelcastInstance client = factory.newHazelcastClient();
+
+        client.getMap("test").addIndex(new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_addMapConfig_withIncludedAttributes() {
+        factory.newHazelcastInstance(smallInstanceConfig());
+        HazelcastInstance client = factory.newHazelcastClient();
+
+        client.getConfig().addMapConfig(new MapConfig("test")
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_addIndex_withStoreType() {
+        factory.newHazelcastInstance(smallInstanceConfig());
+        HazelcastInstance client = factory.newHazelcastClient();
+
+        client.getMap("test").addIndex(new IndexConfig(IndexType.SORTED, "age").setStoreType(IndexStoreType.BTREE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_addMapConfig_withStoreType() {
+        factory.newHazelcastInstance(smallInstanceConfig());
+        HazelcastInstance client = factory.newHazelcastClient();
+
+        client.getConfig().addMapConfig(new MapConfig("test")
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "age").setStoreType(IndexStoreType.BTREE)));
+    }
+
     /**
      * Given a two member (A, B) cluster, a SINGLE_MEMBER routing client connected to B,
      * attempts to create a map proxy targeting member A.
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Compares the throughput of many small async map calls of a client with and
+ * without write coalescing. Run it with and without the member side
+ * partition thread drain to see the effect of both.
+ */
+public class ClientMapWriteCoalescingBenchmark {
+
+    private static final int WARMUP_OPERATIONS = 200_000;
+    private static final int OPERATIONS = 1_000_000;
+    private static final int IN_FLIGHT = 1000;
+    private static final int KEY_COUNT = 10_000;
+
+    public static void main(String[] args) {
+        System.setProperty("hazelcast.local.localAddress", "127.0.0.1");
+        Config config = new Config()
+                .setProperty(ClusterProperty.PARTITION_OPERATION_THREAD_DRAIN_SIZE.getName(),
+                        System.getProperty("drainSize", "1"));
+        HazelcastInstance member = Hazelcast.newHazelcastInstance(config);
+        try {
+            run("coalescing disabled", 0);
+            run("coalescing 100us", 100);
+        } finally {
+            HazelcastClient.shutdownAll();
+            member.shutdown();
+        }
+    }
+
+    private static void run(String name, int latencyMicros) {
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(ClientProperty.IO_WRITE_COALESCING_LATENCY_MICROS.getName(), String.valueOf(latencyMicros));
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+        try {
+            IMap<Integer, Integer> map = client.getMap("map");
+            execute(map, WARMUP_OPERATIONS);
+
+            long startNanos = System.nanoTime();
+            execute(map, OPERATIONS);
+            long durationNanos = System.nanoTime() - startNanos;
+
+            System.out.printf("%s: %,d ops/s%n", name, OPERATIONS * 1_000_000_000L / durationNanos);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static void execute(IMap<Integer, Integer> map, int operations) {
+        Semaphore inFlight = new Semaphore(IN_FLIGHT);
+        for (int i = 0; i < operations; i++) {
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<?> future = i % 2 == 0
+                    ? map.setAsync(i % KEY_COUNT, i).toCompletableFuture()
+                    : map.getAsync(i % KEY_COUNT).toCompletableFuture();
+            future.whenComplete((r, t) -> inFlight.release());
+        }
+        inFlight.acquireUninterruptibly(IN_FLIGHT);
+    }
+}
@@ -30,6 +30,8 @@ import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.nearcache.NearCache;
+import com.hazelcast.internal.nearcache.impl.DefaultNearCache;
+import com.hazelcast.internal.nearcache.impl.store.NearCacheOffHeapRecordStore;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.map.IMap;
@@ -1151,6 +1153,37 @@ public class ClientMapNearCacheTest extends NearCacheTestSupport {
         getNearCachedMapFromClient(nearCacheConfig);
     }
 
+    @Test
+    public void testNearCache_whenOffHeapStorageEnabled_thenEntriesStoredOffHeap() {
+        NearCacheConfig nearCacheConfig = newNearCacheConfig()
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setOffHeapStorageEnabled(true);
+
+        IMap<Integer, Integer> map = getNearCachedMapFromClient(nearCacheConfig);
+        populateMap(map, 100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (int) map.get(i));
+            assertEquals(i, (int) map.get(i));
+        }
+
+        NearCache<Object, Object> nearCache = ((NearCachedClientMapProxy<Integer, Integer>) map).getNearCache();
+        assertThat(((DefaultNearCache<Object, Object>) nearCache).getNearCacheRecordStore())
+                .isInstanceOf(NearCacheOffHeapRecordStore.class);
+        NearCacheStats stats = nearCache.getNearCacheStats();
+        assertEquals(100, stats.getOwnedEntryCount());
+        assertEquals(100, stats.getHits());
+        assertTrue(stats.getOwnedEntryMemoryCost() > 0);
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void testNearCache_whenOffHeapStorageEnabledWithObjectFormat_thenThrowInvalidConfigurationException() {
+        NearCacheConfig nearCacheConfig = newNearCacheConfig()
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setOffHeapStorageEnabled(true);
+
+        getNearCachedMapFromClient(nearCacheConfig);
+    }
+
     @Override
     protected NearCacheConfig newNearCacheConfigWithEntryCountEviction(EvictionPolicy evictionPolicy, int size) {
         return super.newNearCacheConfigWithEntryCountEviction(evictionPolicy, size)
@@ -160,6 +160,15 @@ public abstract class AbstractConfigBuilderTest extends HazelcastTestSupport {
     @Test
     public abstract void testMapConfig_perEntryStatsEnabled();
 
+    @Test
+    public abstract void testMapConfig_offHeapStorageEnabled();
+
+    @Test
+    public abstract void testMapConfig_packedRecordsEnabled();
+
+    @Test
+    public abstract void testMapConfig_valueCompressionEnabled();
+
     @Test
     public abstract void testMapConfig_metadataPolicy_defaultValue();
 
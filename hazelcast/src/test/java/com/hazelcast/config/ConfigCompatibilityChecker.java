@@ -336,6 +336,7 @@ public class ConfigCompatibilityChecker {
             return c1 == c2 || (c1 != null && c2 != null
                 && c1.isCacheLocalEntries() == c2.isCacheLocalEntries()
                 && c1.isSerializeKeys() == c2.isSerializeKeys()
+                && c1.isOffHeapStorageEnabled() == c2.isOffHeapStorageEnabled()
                 && c1.isInvalidateOnChange() == c2.isInvalidateOnChange()
                 && c1.getTimeToLiveSeconds() == c2.getTimeToLiveSeconds()
                 && c1.getMaxIdleSeconds() == c2.getMaxIdleSeconds()
@@ -58,4 +58,19 @@ public class IndexConfigReadOnlyTest {
     public void addColumn2() {
         getConfig().addAttribute("column");
     }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void setIncludedColumns() {
+        getConfig().setIncludedAttributes(Collections.singletonList("column"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addIncludedColumn() {
+        getConfig().addIncludedAttribute("column");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void setStoreType() {
+        getConfig().setStoreType(IndexStoreType.BTREE);
+    }
 }
@@ -17,6 +17,7 @@
 package com.hazelcast.config;
 
 import com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation;
+import com.hazelcast.internal.config.IndexConfigReadOnly;
 import com.hazelcast.query.QueryConstants;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -45,6 +46,43 @@ public class IndexConfigTest {
         assertNull(config.getName());
         assertEquals(QueryConstants.KEY_ATTRIBUTE_NAME.value(), config.getBitmapIndexOptions().getUniqueKey());
         assertEquals(UniqueKeyTransformation.OBJECT, config.getBitmapIndexOptions().getUniqueKeyTransformation());
+        assertEquals(IndexStoreType.DEFAULT, config.getStoreType());
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void testIncludedAttributes_rejectedInXmlConfig() {
+        String xml = "<hazelcast xmlns=\"http://www.hazelcast.com/schema/config\">\n"
+                + "    <map name=\"map\">\n"
+                + "        <indexes>\n"
+                + "            <index type=\"SORTED\">\n"
+                + "                <attributes>\n"
+                + "                    <attribute>age</attribute>\n"
+                + "                </attributes>\n"
+                + "                <included-attributes>\n"
+                + "                    <attribute>name</attribute>\n"
+                + "                </included-attributes>\n"
+                + "            </index>\n"
+                + "        </indexes>\n"
+                + "    </map>\n"
+                + "</hazelcast>\n";
+
+        new InMemoryXmlConfig(xml);
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void testIncludedAttributes_rejectedInYamlConfig() {
+        String yaml = ""
+                + "hazelcast:\n"
+                + "  map:\n"
+                + "    map:\n"
+                + "      indexes:\n"
+                + "        - type: SORTED\n"
+                + "          attributes:\n"
+                + "            - age\n"
+                + "          included-attributes:\n"
+                + "            - name\n";
+
+        new InMemoryYamlConfig(yaml);
     }
 
     @Test
@@ -67,6 +105,14 @@ public class IndexConfigTest {
 
         checkIndexQuality(new IndexConfig().setName("name"), new IndexConfig().setName("name"), true);
         checkIndexQuality(new IndexConfig().setName("name"), new IndexConfig().setName("name2"), false);
+
+        checkIndexQuality(new IndexConfig().addIncludedAttribute("col4"), new IndexConfig().addIncludedAttribute("col4"),
+                true);
+        checkIndexQuality(new IndexConfig().addIncludedAttribute("col4"), new IndexConfig(), false);
+
+        checkIndexQuality(new IndexConfig().setStoreType(IndexStoreType.BTREE),
+                new IndexConfig().setStoreType(IndexStoreType.BTREE), true);
+        checkIndexQuality(new IndexConfig().setStoreType(IndexStoreType.BTREE), new IndexConfig(), false);
     }
 
     private void checkIndexQuality(IndexConfig config1, IndexConfig config2, boolean expected) {
@@ -100,6 +146,11 @@ public class IndexConfigTest {
         new IndexConfig().setType(null);
     }
 
+    @Test(expected = NullPointerException.class)
+    public void testStoreTypeNull() {
+        new IndexConfig().setStoreType(null);
+    }
+
     @Test(expected = NullPointerException.class)
     public void testAttributesNull() {
         new IndexConfig().setAttributes(null);
@@ -125,4 +176,30 @@ public class IndexConfigTest {
         new IndexConfig().addAttribute("");
     }
 
+    @Test(expected = NullPointerException.class)
+    public void testIncludedAttributesNull() {
+        new IndexConfig().setIncludedAttributes(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncludedAttributeEmptyAdd() {
+        new IndexConfig().addIncludedAttribute("");
+    }
+
+    @Test
+    public void testCopy_keepsIncludedAttributes() {
+        IndexConfig config = new IndexConfig(IndexType.SORTED, "col1").addIncludedAttribute("col2");
+
+        assertEquals(config, new IndexConfig(config));
+        assertEquals(List.of("col2"), new IndexConfigReadOnly(config).getIncludedAttributes());
+    }
+
+    @Test
+    public void testCopy_keepsStoreType() {
+        IndexConfig config = new IndexConfig(IndexType.SORTED, "col1").setStoreType(IndexStoreType.BTREE);
+
+        assertEquals(config, new IndexConfig(config));
+        assertEquals(IndexStoreType.BTREE, new IndexConfigReadOnly(config).getStoreType());
+    }
+
 }
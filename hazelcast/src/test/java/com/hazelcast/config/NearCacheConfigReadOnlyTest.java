@@ -52,6 +52,11 @@ public class NearCacheConfigReadOnlyTest {
         getReadOnlyConfig().setSerializeKeys(true);
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void setOffHeapStorageEnabledOnReadOnlyNearCacheConfigShouldFail() {
+        getReadOnlyConfig().setOffHeapStorageEnabled(true);
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void setInvalidateOnChangeOnReadOnlyNearCacheConfigShouldFail() {
         getReadOnlyConfig().setInvalidateOnChange(true);
@@ -1081,6 +1081,48 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapConfig.isPerEntryStatsEnabled());
     }
 
+    @Override
+    public void testMapConfig_offHeapStorageEnabled() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<off-heap-storage-enabled>true</off-heap-storage-enabled>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isOffHeapStorageEnabled());
+    }
+
+    @Override
+    public void testMapConfig_packedRecordsEnabled() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<packed-records-enabled>true</packed-records-enabled>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isPackedRecordsEnabled());
+    }
+
+    @Override
+    public void testMapConfig_valueCompressionEnabled() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<value-compression-enabled>true</value-compression-enabled>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isValueCompressionEnabled());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
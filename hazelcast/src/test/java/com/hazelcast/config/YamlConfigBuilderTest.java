@@ -1089,6 +1089,48 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapConfig.isStatisticsEnabled());
     }
 
+    @Override
+    public void testMapConfig_offHeapStorageEnabled() {
+        String yaml = """
+                hazelcast:
+                  map:
+                    mymap:
+                      off-heap-storage-enabled: true""";
+
+        Config config = buildConfig(yaml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isOffHeapStorageEnabled());
+    }
+
+    @Override
+    public void testMapConfig_packedRecordsEnabled() {
+        String yaml = """
+                hazelcast:
+                  map:
+                    mymap:
+                      packed-records-enabled: true""";
+
+        Config config = buildConfig(yaml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isPackedRecordsEnabled());
+    }
+
+    @Override
+    public void testMapConfig_valueCompressionEnabled() {
+        String yaml = """
+                hazelcast:
+                  map:
+                    mymap:
+                      value-compression-enabled: true""";
+
+        Config config = buildConfig(yaml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isValueCompressionEnabled());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class DirectBufferMemoryManagerTest {
+
+    private static final int MIN_SLAB_SIZE = 1 << 10;
+    private static final int MAX_SLAB_SIZE = 1 << 14;
+
+    private DirectBufferMemoryManager memoryManager;
+    private MemoryAllocator malloc;
+    private MemoryAccessor mem;
+
+    @Before
+    public void setUp() {
+        memoryManager = new DirectBufferMemoryManager(MIN_SLAB_SIZE, MAX_SLAB_SIZE, Long.MAX_VALUE);
+        malloc = memoryManager.getAllocator();
+        mem = memoryManager.getAccessor();
+    }
+
+    @After
+    public void tearDown() {
+        memoryManager.dispose();
+    }
+
+    @Test
+    public void testAllocate_returnsZeroedBlock() {
+        long address = malloc.allocate(64);
+        for (int i = 0; i < 64; i += 8) {
+            mem.putLong(address + i, -1L);
+        }
+        malloc.free(address, 64);
+
+        long reused = malloc.allocate(64);
+
+        assertEquals(address, reused);
+        for (int i = 0; i < 64; i += 8) {
+            assertEquals(0L, mem.getLong(reused + i));
+        }
+    }
+
+    @Test
+    public void testAllocate_returnsDistinctNonNullAddresses() {
+        long first = malloc.allocate(24);
+        long second = malloc.allocate(24);
+
+        assertNotEquals(NULL_ADDRESS, first);
+        assertNotEquals(NULL_ADDRESS, second);
+        assertNotEquals(first, second);
+        assertEquals(2 * memoryManager.blockSizeOf(24), memoryManager.getUsedMemory());
+    }
+
+    @Test
+    public void testPrimitiveAccess() {
+        long address = malloc.allocate(32);
+
+        mem.putByte(address, (byte) 1);
+        mem.putShort(address + 2, (short) 2);
+        mem.putInt(address + 4, 3);
+        mem.putLong(address + 8, 4L);
+        mem.putDouble(address + 16, 5.5d);
+        mem.putFloat(address + 24, 6.5f);
+        mem.putChar(address + 28, 'x');
+
+        assertEquals(1, mem.getByte(address));
+        assertEquals(2, mem.getShort(address + 2));
+        assertEquals(3, mem.getInt(address + 4));
+        assertEquals(4L, mem.getLong(address + 8));
+        assertEquals(5.5d, mem.getDouble(address + 16), 0d);
+        assertEquals(6.5f, mem.getFloat(address + 24), 0f);
+        assertEquals('x', mem.getChar(address + 28));
+    }
+
+    @Test
+    public void testByteArrayCopy() {
+        byte[] source = {1, 2, 3, 4, 5, 6, 7};
+        long address = malloc.allocate(source.length);
+
+        mem.copyFromByteArray(source, 0, address, source.length);
+        byte[] target = new byte[source.length];
+        mem.copyToByteArray(address, target, 0, target.length);
+
+        assertEquals(source.length, target.length);
+        for (int i = 0; i < source.length; i++) {
+            assertEquals(source[i], target[i]);
+        }
+    }
+
+    @Test
+    public void testCopyMemory_acrossSlabs() {
+        long source = malloc.allocate(MAX_SLAB_SIZE / 4);
+        long target = malloc.allocate(MAX_SLAB_SIZE / 2);
+        for (int i = 0; i < 16; i++) {
+            mem.putByte(source + i, (byte) i);
+        }
+
+        mem.copyMemory(source, target, 16);
+
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i, mem.getByte(target + i));
+        }
+    }
+
+    @Test
+    public void testReallocate_keepsContent() {
+        long address = malloc.allocate(16);
+        mem.putLong(address, 42L);
+
+        long reallocated = malloc.reallocate(address, 16, 512);
+
+        assertEquals(42L, mem.getLong(reallocated));
+        assertEquals(memoryManager.blockSizeOf(512), memoryManager.getUsedMemory());
+    }
+
+    @Test
+    public void testFree_releasesUsedMemory() {
+        long first = malloc.allocate(100);
+        long second = malloc.allocate(3000);
+
+        malloc.free(first, 100);
+        malloc.free(second, 3000);
+
+        assertEquals(0, memoryManager.getUsedMemory());
+    }
+
+    @Test
+    public void testLargeBlock_getsDedicatedSlabWhichIsReleasedOnFree() {
+        long committedBefore = memoryManager.getCommittedMemory();
+        long address = malloc.allocate(MAX_SLAB_SIZE);
+        assertTrue(memoryManager.getCommittedMemory() >= committedBefore + MAX_SLAB_SIZE);
+
+        malloc.free(address, MAX_SLAB_SIZE);
+
+        assertEquals(committedBefore, memoryManager.getCommittedMemory());
+    }
+
+    @Test
+    public void testSizeClasses_areMonotonic() {
+        int previousBlockSize = 0;
+        for (int size = 1; size < MAX_SLAB_SIZE; size += 7) {
+            int blockSize = memoryManager.blockSizeOf(size);
+            assertTrue(blockSize >= size);
+            assertTrue(blockSize >= previousBlockSize);
+            previousBlockSize = blockSize;
+        }
+    }
+
+    @Test(expected = NativeOutOfMemoryError.class)
+    public void testAllocate_failsWhenCapacityIsExceeded() {
+        DirectBufferMemoryManager limited = new DirectBufferMemoryManager(MIN_SLAB_SIZE, MIN_SLAB_SIZE, MIN_SLAB_SIZE);
+        try {
+            for (int i = 0; i < 2 * MIN_SLAB_SIZE / 64; i++) {
+                limited.getAllocator().allocate(64);
+            }
+        } finally {
+            limited.dispose();
+        }
+    }
+
+    @Test
+    public void testDispose_releasesAllSlabs() {
+        malloc.allocate(100);
+        malloc.allocate(MAX_SLAB_SIZE);
+
+        memoryManager.dispose();
+
+        assertEquals(0, memoryManager.getUsedMemory());
+        assertEquals(0, memoryManager.getCommittedMemory());
+    }
+}
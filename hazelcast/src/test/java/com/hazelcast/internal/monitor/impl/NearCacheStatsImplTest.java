@@ -67,6 +67,9 @@ public class NearCacheStatsImplTest extends HazelcastTestSupport {
         nearCacheStats.incrementExpirations();
         nearCacheStats.incrementExpirations();
 
+        nearCacheStats.incrementAdmissionRejections();
+        nearCacheStats.incrementAdmissionRejections();
+
         nearCacheStats.incrementInvalidations(23);
         nearCacheStats.incrementInvalidations();
 
@@ -109,6 +112,20 @@ public class NearCacheStatsImplTest extends HazelcastTestSupport {
         assertEquals(100d, nearCacheStats.getRatio(), 0.0001);
     }
 
+    @Test
+    public void testGetHitRate_NaN() {
+        NearCacheStatsImpl nearCacheStats = new NearCacheStatsImpl();
+        assertEquals(Double.NaN, nearCacheStats.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testGetHitRate() {
+        NearCacheStatsImpl nearCacheStats = new NearCacheStatsImpl();
+        nearCacheStats.setHits(3);
+        nearCacheStats.setMisses(1);
+        assertEquals(0.75d, nearCacheStats.getHitRate(), 0.0001);
+    }
+
     @Test
     public void testConcurrentModification() {
         int incThreads = 40;
@@ -153,6 +170,7 @@ public class NearCacheStatsImplTest extends HazelcastTestSupport {
         assertEquals(305, stats.getMisses());
         assertEquals(4, stats.getEvictions());
         assertEquals(3, stats.getExpirations());
+        assertEquals(2, stats.getAdmissionRejections());
         assertEquals(24, stats.getInvalidations());
         assertEquals(2, stats.getInvalidationRequests());
         assertEquals(expectedPersistenceCount, stats.getPersistenceCount());
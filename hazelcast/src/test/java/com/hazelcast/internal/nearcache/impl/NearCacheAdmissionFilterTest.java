@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.nearcache.impl.store.NearCacheObjectRecordStore;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NearCacheAdmissionFilterTest {
+
+    private static final int MAX_SIZE = 100;
+
+    private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testFrequency_countsAccesses() {
+        NearCacheAdmissionFilter filter = new NearCacheAdmissionFilter(MAX_SIZE);
+
+        for (int i = 0; i < 5; i++) {
+            filter.recordAccess(23);
+        }
+
+        assertEquals(5, filter.frequency(23));
+        assertEquals(0, filter.frequency(42));
+    }
+
+    @Test
+    public void testFrequency_isLimited() {
+        NearCacheAdmissionFilter filter = new NearCacheAdmissionFilter(MAX_SIZE);
+
+        for (int i = 0; i < 100; i++) {
+            filter.recordAccess(23);
+        }
+
+        assertEquals(15, filter.frequency(23));
+        assertEquals(15, filter.getSize());
+    }
+
+    @Test
+    public void testReset_halvesFrequencies() {
+        NearCacheAdmissionFilter filter = new NearCacheAdmissionFilter(16);
+        for (int i = 0; i < 15; i++) {
+            filter.recordAccess(23);
+        }
+
+        int size = filter.getSize();
+        for (int i = 1000; filter.getSize() >= size; i++) {
+            size = filter.getSize();
+            filter.recordAccess(i);
+        }
+
+        assertEquals(7, filter.frequency(23));
+    }
+
+    @Test
+    public void testAdmit() {
+        NearCacheAdmissionFilter filter = new NearCacheAdmissionFilter(MAX_SIZE);
+        filter.recordAccess(23);
+        filter.recordAccess(23);
+        filter.recordAccess(42);
+
+        assertTrue(filter.admit(23, 42));
+        assertFalse(filter.admit(42, 23));
+        // a tie keeps the victim
+        assertFalse(filter.admit(42, 42));
+    }
+
+    @Test
+    public void testScan_doesNotEvictFrequentlyReadEntries() {
+        NearCacheObjectRecordStore<Integer, String> store = createStore();
+        for (int i = 0; i < MAX_SIZE; i++) {
+            store.put(i, null, "value-" + i, null);
+        }
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < MAX_SIZE; i++) {
+                assertNotNull(store.get(i));
+            }
+        }
+
+        // keys which are read once, e.g. by iterating over a map
+        for (int i = 1000; i < 1500; i++) {
+            store.get(i);
+            store.put(i, null, "value-" + i, null);
+        }
+
+        for (int i = 0; i < MAX_SIZE; i++) {
+            assertEquals("value-" + i, store.get(i));
+        }
+        assertEquals(MAX_SIZE, store.size());
+        assertEquals(500, store.getNearCacheStats().getAdmissionRejections());
+        assertEquals(0, store.getNearCacheStats().getEvictions());
+    }
+
+    @Test
+    public void testScan_admitsFrequentlyReadKey() {
+        NearCacheObjectRecordStore<Integer, String> store = createStore();
+        for (int i = 0; i < MAX_SIZE; i++) {
+            store.put(i, null, "value-" + i, null);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            store.get(1000);
+        }
+        store.put(1000, null, "value-1000", null);
+
+        assertEquals("value-1000", store.get(1000));
+        assertEquals(MAX_SIZE, store.size());
+        assertEquals(1, store.getNearCacheStats().getEvictions());
+        assertEquals(0, store.getNearCacheStats().getAdmissionRejections());
+    }
+
+    private NearCacheObjectRecordStore<Integer, String> createStore() {
+        NearCacheConfig nearCacheConfig = new NearCacheConfig()
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.LRU)
+                        .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                        .setSize(MAX_SIZE));
+        NearCacheObjectRecordStore<Integer, String> store = new NearCacheObjectRecordStore<>("name", nearCacheConfig,
+                serializationService, null);
+        store.initialize();
+        store.setAdmissionFilter(new NearCacheAdmissionFilter(MAX_SIZE));
+        return store;
+    }
+}
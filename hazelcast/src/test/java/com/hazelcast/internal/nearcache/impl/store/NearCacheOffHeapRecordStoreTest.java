@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
+import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.WRITE_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.READ_PERMITTED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NearCacheOffHeapRecordStoreTest {
+
+    private static final int KEY = 23;
+    private static final String VALUE1 = "value1";
+    private static final String VALUE2 = "a somewhat longer value2";
+
+    private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    private NearCacheOffHeapRecordStore<Integer, String> store;
+
+    @After
+    public void tearDown() {
+        if (store != null) {
+            store.destroy();
+        }
+    }
+
+    @Test
+    public void testRecordCreation_withReservation() {
+        store = createStore(new NearCacheConfig());
+        Data keyData = serializationService.toData(KEY);
+
+        long reservationId1 = store.tryReserveForUpdate(KEY, keyData, READ_UPDATE);
+        long reservationId2 = store.tryReserveForUpdate(KEY, keyData, READ_UPDATE);
+
+        // only one reservation ID is given for the same key
+        assertNotEquals(NOT_RESERVED, reservationId1);
+        assertEquals(NOT_RESERVED, reservationId2);
+        assertRecordState(reservationId1);
+
+        // cannot publish the value with the wrong reservation ID
+        assertNull(store.tryPublishReserved(KEY, VALUE2, reservationId2, true));
+        assertRecordState(reservationId1);
+
+        // can publish the value with the correct reservation ID
+        assertEquals(VALUE1, store.tryPublishReserved(KEY, VALUE1, reservationId1, true));
+        assertRecordState(READ_PERMITTED);
+
+        // cannot change a published value with the wrong or the correct reservation ID
+        assertEquals(VALUE1, store.tryPublishReserved(KEY, VALUE2, reservationId2, true));
+        assertEquals(VALUE1, store.tryPublishReserved(KEY, VALUE2, reservationId1, true));
+        assertRecordState(READ_PERMITTED);
+
+        assertEquals(VALUE1, store.get(KEY));
+        assertEquals(1, store.size());
+        assertEquals(1, store.getNearCacheStats().getOwnedEntryCount());
+    }
+
+    @Test
+    public void testWriteUpdate_replacesValue() {
+        store = createStore(new NearCacheConfig());
+        Data keyData = serializationService.toData(KEY);
+        put(KEY, VALUE1);
+        long memoryCost = store.getNearCacheStats().getOwnedEntryMemoryCost();
+
+        long reservationId = store.tryReserveForUpdate(KEY, keyData, WRITE_UPDATE);
+        assertEquals(VALUE2, store.tryPublishReserved(KEY, VALUE2, reservationId, true));
+
+        assertEquals(VALUE2, store.get(KEY));
+        assertEquals(1, store.getNearCacheStats().getOwnedEntryCount());
+        assertEquals(memoryCost + serializationService.toData(VALUE2).totalSize()
+                - serializationService.toData(VALUE1).totalSize(), store.getNearCacheStats().getOwnedEntryMemoryCost());
+    }
+
+    @Test
+    public void testGet_updatesAccessStatistics() {
+        store = createStore(new NearCacheConfig());
+        put(KEY, VALUE1);
+
+        store.get(KEY);
+        store.get(KEY);
+
+        NearCacheRecord record = store.getRecord(KEY);
+        assertEquals(2, record.getHits());
+        assertNotEquals(NearCacheRecord.TIME_NOT_SET, record.getLastAccessTime());
+        assertEquals(2, store.getNearCacheStats().getHits());
+    }
+
+    @Test
+    public void testNullValue_isCachedAsNull() {
+        store = createStore(new NearCacheConfig());
+        put(KEY, null);
+
+        NearCacheRecord record = store.getRecord(KEY);
+        assertTrue(record.isCachedAsNull());
+        assertNull(record.getValue());
+    }
+
+    @Test
+    public void testInvalidate_releasesEntry() {
+        store = createStore(new NearCacheConfig());
+        for (int i = 0; i < 1000; i++) {
+            put(i, VALUE1 + i);
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            store.invalidate(i);
+        }
+
+        assertEquals(500, store.size());
+        assertEquals(500, store.getNearCacheStats().getOwnedEntryCount());
+        assertEquals(500, store.getNearCacheStats().getInvalidations());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? null : VALUE1 + i, store.get(i));
+        }
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertEquals(0, store.records.getUsedMemory());
+    }
+
+    @Test
+    public void testEviction_keepsSizeBounded() {
+        NearCacheConfig config = new NearCacheConfig()
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.LRU)
+                        .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                        .setSize(100));
+        store = createStore(config);
+
+        for (int i = 0; i < 1000; i++) {
+            store.doEviction(false);
+            put(i, VALUE1);
+        }
+
+        assertEquals(100, store.size());
+        assertEquals(900, store.getNearCacheStats().getEvictions());
+        assertEquals(100, store.getNearCacheStats().getOwnedEntryCount());
+    }
+
+    @Test
+    public void testInvalidationMetaData_isKeptOffHeap() {
+        store = createStore(new NearCacheConfig());
+        MetaDataContainer metaData = new MetaDataContainer();
+        metaData.setUuid(UUID.randomUUID());
+        metaData.setSequence(42);
+        store.setStaleReadDetector(new TestStaleReadDetector(metaData));
+
+        put(KEY, VALUE1);
+
+        NearCacheRecord record = store.getRecord(KEY);
+        assertEquals(1, record.getPartitionId());
+        assertEquals(42, record.getInvalidationSequence());
+        assertTrue(record.hasSameUuid(metaData.getUuid()));
+        assertEquals(VALUE1, store.get(KEY));
+
+        // an invalidation with a higher sequence was missed
+        metaData.casStaleSequence(0, 43);
+        assertNull(store.get(KEY));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testEntrySet_iteratesAllEntries() {
+        store = createStore(new NearCacheConfig());
+        for (int i = 0; i < 1000; i++) {
+            put(i, VALUE1);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        for (Map.Entry<Data, NearCacheOffHeapRecord> entry : store.records.entrySet()) {
+            keys.add(serializationService.toObject(entry.getKey()));
+            assertEquals(VALUE1, serializationService.toObject(entry.getValue().getValue()));
+        }
+
+        assertEquals(1000, keys.size());
+    }
+
+    private NearCacheOffHeapRecordStore<Integer, String> createStore(NearCacheConfig config) {
+        config.setInMemoryFormat(InMemoryFormat.BINARY);
+        NearCacheOffHeapRecordStore<Integer, String> store = new NearCacheOffHeapRecordStore<>("name", config,
+                serializationService, getClass().getClassLoader());
+        store.initialize();
+        return store;
+    }
+
+    private void put(int key, String value) {
+        store.put(key, serializationService.toData(key), value, serializationService.toData(value));
+    }
+
+    private void assertRecordState(long recordState) {
+        assertEquals(recordState, store.getRecord(KEY).getReservationId());
+    }
+
+    private static class TestStaleReadDetector implements StaleReadDetector {
+
+        private final MetaDataContainer metaData;
+
+        TestStaleReadDetector(MetaDataContainer metaData) {
+            this.metaData = metaData;
+        }
+
+        @Override
+        public boolean isStaleRead(Object key, NearCacheRecord record) {
+            return !record.hasSameUuid(metaData.getUuid())
+                    || record.getInvalidationSequence() < metaData.getStaleSequence();
+        }
+
+        @Override
+        public int getPartitionId(Object key) {
+            return 1;
+        }
+
+        @Override
+        public MetaDataContainer getMetaDataContainer(int partitionId) {
+            return metaData;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompressionEncoderDecoderTest {
+
+    private static final int THRESHOLD = 256;
+
+    private final Random random = new Random(42);
+    private final WireCompression compression = new WireCompression(THRESHOLD);
+
+    @Test
+    public void testRoundTrip_compressibleBytes() {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 300_000) {
+            sb.append("key-").append(random.nextInt(100)).append("=value;");
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(bytes, roundTrip(bytes, 8192, 1000));
+        assertTrue(compression.getCompressionRatio() > 2);
+        assertEquals(bytes.length, compression.getRawBytesWritten());
+        assertEquals(bytes.length, compression.getRawBytesRead());
+        assertEquals(compression.getWireBytesWritten(), compression.getWireBytesRead());
+        assertTrue(compression.getCompressionNanos() > 0);
+        assertTrue(compression.getDecompressionNanos() > 0);
+    }
+
+    @Test
+    public void testRoundTrip_randomBytes_sentRaw() {
+        byte[] bytes = new byte[100_000];
+        random.nextBytes(bytes);
+
+        assertArrayEquals(bytes, roundTrip(bytes, 4096, 4096));
+        assertTrue(compression.getCompressionRatio() < 1);
+        assertTrue(compression.getCompressionRatio() > 0.99);
+    }
+
+    @Test
+    public void testRoundTrip_belowThreshold_notCompressed() {
+        byte[] bytes = new byte[THRESHOLD - 1];
+
+        assertArrayEquals(bytes, roundTrip(bytes, 4096, 4096));
+        assertEquals(0, compression.getCompressionNanos());
+        assertEquals(CompressionEncoder.RAW_HEADER_LENGTH + bytes.length, compression.getWireBytesWritten());
+    }
+
+    /**
+     * Passes the bytes through an encoder and a decoder with small buffers,
+     * so that blocks get split over several reads and writes.
+     */
+    private byte[] roundTrip(byte[] bytes, int encoderBufferSize, int decoderBufferSize) {
+        CompressionEncoder encoder = new CompressionEncoder(compression);
+        ByteBuffer encoderSrc = ByteBuffer.allocate(encoderBufferSize);
+        encoderSrc.flip();
+        ByteBuffer encoderDst = ByteBuffer.allocate(encoderBufferSize);
+        encoderDst.flip();
+        encoder.src(encoderSrc);
+        encoder.dst(encoderDst);
+
+        CompressionDecoder decoder = new CompressionDecoder(compression);
+        ByteBuffer decoderSrc = ByteBuffer.allocate(CompressionEncoder.LZ4_HEADER_LENGTH
+                + Lz4Codec.maxCompressedLength(CompressionEncoder.MAX_BLOCK_LENGTH));
+        ByteBuffer decoderDst = ByteBuffer.allocate(decoderBufferSize);
+        decoder.src(decoderSrc);
+        decoder.dst(decoderDst);
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        int offset = 0;
+        HandlerStatus encoderStatus = CLEAN;
+        while (offset < bytes.length || encoderStatus == DIRTY || encoderDst.hasRemaining()) {
+            // the previous handler fills the src
+            encoderSrc.compact();
+            int length = Math.min(encoderSrc.remaining(), bytes.length - offset);
+            encoderSrc.put(bytes, offset, length).flip();
+            offset += length;
+
+            encoderStatus = encoder.onWrite();
+
+            // the socket transfers what it can
+            int transferred = Math.min(encoderDst.remaining(), decoderSrc.remaining());
+            decoderSrc.put(encoderDst.array(), encoderDst.position(), transferred);
+            encoderDst.position(encoderDst.position() + transferred);
+
+            HandlerStatus decoderStatus;
+            do {
+                decoderStatus = decoder.onRead();
+                // the next handler consumes the dst
+                decoderDst.flip();
+                result.write(decoderDst.array(), 0, decoderDst.limit());
+                decoderDst.clear();
+            } while (decoderStatus == DIRTY);
+        }
+        return result.toByteArray();
+    }
+}
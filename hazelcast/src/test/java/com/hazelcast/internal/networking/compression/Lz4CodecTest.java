@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class Lz4CodecTest {
+
+    private final Random random = new Random(42);
+    private final Lz4Codec codec = new Lz4Codec();
+
+    @Test
+    public void testRoundTrip_randomBytes() {
+        for (int length : new int[]{0, 1, 4, 12, 13, 100, 4096, 65536}) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            assertRoundTrip(bytes);
+        }
+    }
+
+    @Test
+    public void testRoundTrip_compressibleBytes() {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 65536) {
+            sb.append("{\"id\":").append(random.nextInt(1000)).append(",\"name\":\"customer\",\"active\":true}");
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        int compressedLength = assertRoundTrip(bytes);
+
+        assertTrue(compressedLength < bytes.length / 3);
+    }
+
+    @Test
+    public void testRoundTrip_longRuns() {
+        byte[] bytes = new byte[65536];
+        Arrays.fill(bytes, 0, 30000, (byte) 7);
+        byte[] randomBytes = new byte[300];
+        random.nextBytes(randomBytes);
+        System.arraycopy(randomBytes, 0, bytes, 30000, randomBytes.length);
+        Arrays.fill(bytes, 30300, bytes.length, (byte) 1);
+
+        int compressedLength = assertRoundTrip(bytes);
+
+        assertTrue(compressedLength < 1000);
+    }
+
+    @Test
+    public void testRoundTrip_withOffsets() {
+        byte[] bytes = "abcabcabcabcabcabcabcabcabcabcabcabc-abcabcabcabcabc".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = new byte[3 + Lz4Codec.maxCompressedLength(bytes.length - 5)];
+        int compressedLength = codec.compress(bytes, 5, bytes.length - 5, compressed, 3);
+
+        byte[] result = new byte[bytes.length];
+        Lz4Codec.decompress(compressed, 3, compressedLength, result, 5, bytes.length - 5);
+
+        assertArrayEquals(Arrays.copyOfRange(bytes, 5, bytes.length), Arrays.copyOfRange(result, 5, result.length));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDecompress_malformedInput() {
+        byte[] bytes = new byte[1000];
+        Arrays.fill(bytes, (byte) 3);
+        byte[] compressed = new byte[Lz4Codec.maxCompressedLength(bytes.length)];
+        int compressedLength = codec.compress(bytes, 0, bytes.length, compressed, 0);
+
+        Lz4Codec.decompress(compressed, 0, compressedLength - 1, new byte[bytes.length], 0, bytes.length);
+    }
+
+    private int assertRoundTrip(byte[] bytes) {
+        byte[] compressed = new byte[Lz4Codec.maxCompressedLength(bytes.length)];
+        int compressedLength = codec.compress(bytes, 0, bytes.length, compressed, 0);
+
+        byte[] result = new byte[bytes.length];
+        Lz4Codec.decompress(compressed, 0, compressedLength, result, 0, bytes.length);
+
+        assertArrayEquals(bytes, result);
+        return compressedLength;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.EndpointQualifier;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_GATHERING_WRITE_THRESHOLD;
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.test.HazelcastTestSupport.assertClusterSizeEventually;
+import static com.hazelcast.test.HazelcastTestSupport.smallInstanceConfig;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class GatheringWriteIntegrationTest extends AbstractAdvancedNetworkIntegrationTest {
+
+    private static final int THRESHOLD = 64 * 1024;
+    private static final int[] VALUE_SIZES = {16 * 1024, THRESHOLD, 512 * 1024, 2 * 1024 * 1024, 8 * 1024 * 1024};
+
+    @Test
+    public void testLargeValues_betweenMembers() {
+        HazelcastInstance instance1 = newHazelcastInstance(getConfig(MEMBER_PORT, false));
+        HazelcastInstance instance2 = newHazelcastInstance(getConfig(MEMBER_PORT + 1, false));
+        assertClusterSizeEventually(2, instance1, instance2);
+
+        assertLargeValues(instance1, instance2);
+
+        assertTrue(gatheringWrites(instance1) > 0);
+        assertTrue(gatheringWrites(instance2) > 0);
+    }
+
+    @Test
+    public void testLargeValues_whenHandlerAfterEncoder_thenPayloadCopied() {
+        // the compression encoder gets added after the packet encoder
+        HazelcastInstance instance1 = newHazelcastInstance(getConfig(MEMBER_PORT, true));
+        HazelcastInstance instance2 = newHazelcastInstance(getConfig(MEMBER_PORT + 1, true));
+        assertClusterSizeEventually(2, instance1, instance2);
+
+        assertLargeValues(instance1, instance2);
+
+        assertEquals(0, gatheringWrites(instance1));
+        assertEquals(0, gatheringWrites(instance2));
+    }
+
+    private static void assertLargeValues(HazelcastInstance instance1, HazelcastInstance instance2) {
+        IMap<Integer, byte[]> map1 = instance1.getMap("map");
+        IMap<Integer, byte[]> map2 = instance2.getMap("map");
+
+        Random random = new Random(42);
+        byte[][] values = new byte[VALUE_SIZES.length][];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new byte[VALUE_SIZES[i]];
+            random.nextBytes(values[i]);
+            map1.put(i, values[i]);
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            assertArrayEquals(values[i], map2.get(i));
+            assertArrayEquals(values[i], map1.get(i));
+        }
+    }
+
+    private Config getConfig(int memberPort, boolean compression) {
+        Config config = smallInstanceConfig()
+                .setProperty(IO_GATHERING_WRITE_THRESHOLD.getName(), String.valueOf(THRESHOLD))
+                .setProperty(IO_COMPRESSION_ENABLED.getName(), String.valueOf(compression));
+        config.getNetworkConfig().setPort(memberPort);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getTcpIpConfig().setEnabled(true)
+                .addMember("127.0.0.1:" + MEMBER_PORT)
+                .addMember("127.0.0.1:" + (MEMBER_PORT + 1));
+        return config;
+    }
+
+    private static long gatheringWrites(HazelcastInstance instance) {
+        long gatheringWrites = 0;
+        for (ServerConnection connection : getNode(instance).getServer()
+                .getConnectionManager(EndpointQualifier.MEMBER).getConnections()) {
+            NioChannel channel = (NioChannel) ((TcpServerConnection) connection).getChannel();
+            gatheringWrites += channel.outboundPipeline().gatheringWrites();
+        }
+        return gatheringWrites;
+    }
+}
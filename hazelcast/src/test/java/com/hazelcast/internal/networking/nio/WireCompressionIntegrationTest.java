@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.EndpointQualifier;
+import com.hazelcast.internal.networking.compression.WireCompression;
+import com.hazelcast.internal.server.NetworkStats;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_ENABLED;
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.test.HazelcastTestSupport.assertClusterSizeEventually;
+import static com.hazelcast.test.HazelcastTestSupport.assertTrueEventually;
+import static com.hazelcast.test.HazelcastTestSupport.smallInstanceConfig;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class WireCompressionIntegrationTest extends AbstractAdvancedNetworkIntegrationTest {
+
+    private static final int ENTRY_COUNT = 100;
+
+    @After
+    public void shutdownClients() {
+        HazelcastClient.shutdownAll();
+    }
+
+    @Test
+    public void testMembers() {
+        HazelcastInstance instance1 = newHazelcastInstance(getConfig(MEMBER_PORT, true));
+        HazelcastInstance instance2 = newHazelcastInstance(getConfig(MEMBER_PORT + 1, true));
+        assertClusterSizeEventually(2, instance1, instance2);
+
+        assertMapContents(instance1, instance2);
+
+        assertCompressed(instance1, EndpointQualifier.MEMBER);
+        assertCompressed(instance2, EndpointQualifier.MEMBER);
+    }
+
+    @Test
+    public void testMembers_compressionDisabledOnOneSide() {
+        HazelcastInstance instance1 = newHazelcastInstance(getConfig(MEMBER_PORT, true));
+        HazelcastInstance instance2 = newHazelcastInstance(getConfig(MEMBER_PORT + 1, false));
+        assertClusterSizeEventually(2, instance1, instance2);
+
+        assertMapContents(instance1, instance2);
+
+        List<WireCompression> compressions = compressions(instance1, EndpointQualifier.MEMBER);
+        assertFalse(compressions.isEmpty());
+        for (WireCompression compression : compressions) {
+            assertFalse(compression.isNegotiated());
+            assertEquals(0, compression.getRawBytesWritten());
+        }
+        assertTrue(compressions(instance2, EndpointQualifier.MEMBER).isEmpty());
+    }
+
+    @Test
+    public void testMembers_advancedNetwork() {
+        HazelcastInstance instance1 = newHazelcastInstance(getAdvancedConfig(MEMBER_PORT, CLIENT_PORT));
+        HazelcastInstance instance2 = newHazelcastInstance(getAdvancedConfig(WAN1_PORT, WAN2_PORT));
+        assertClusterSizeEventually(2, instance1, instance2);
+
+        assertMapContents(instance1, instance2);
+
+        assertCompressed(instance1, EndpointQualifier.MEMBER);
+        assertCompressed(instance2, EndpointQualifier.MEMBER);
+        assertTrueEventually(() -> {
+            NetworkStats stats = getNode(instance1).getServer().getNetworkStats().get(EndpointQualifier.MEMBER);
+            assertTrue(stats.getCompressionRatio() > 1);
+            assertTrue(stats.getCompressionTimeNanos() > 0);
+            assertTrue(stats.getDecompressionTimeNanos() > 0);
+        });
+    }
+
+    @Test
+    public void testClient() {
+        HazelcastInstance instance = newHazelcastInstance(getConfig(MEMBER_PORT, true));
+        HazelcastInstance client = newHazelcastClient(MEMBER_PORT);
+
+        assertMapContents(client, instance);
+
+        assertCompressed(instance, EndpointQualifier.CLIENT);
+    }
+
+    @Test
+    public void testClient_advancedNetwork() {
+        HazelcastInstance instance = newHazelcastInstance(getAdvancedConfig(MEMBER_PORT, CLIENT_PORT));
+        HazelcastInstance client = newHazelcastClient(CLIENT_PORT);
+
+        assertMapContents(client, instance);
+
+        assertCompressed(instance, EndpointQualifier.CLIENT);
+    }
+
+    @Test
+    public void testClient_compressionDisabledOnMember() {
+        HazelcastInstance instance = newHazelcastInstance(getConfig(MEMBER_PORT, false));
+        HazelcastInstance client = newHazelcastClient(MEMBER_PORT);
+
+        assertMapContents(client, instance);
+
+        assertTrue(compressions(instance, EndpointQualifier.CLIENT).isEmpty());
+    }
+
+    private static void assertMapContents(HazelcastInstance writer, HazelcastInstance reader) {
+        IMap<Integer, String> writerMap = writer.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            writerMap.put(i, value(i));
+        }
+
+        IMap<Integer, String> readerMap = reader.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(value(i), readerMap.get(i));
+            assertEquals(value(i), writerMap.get(i));
+        }
+    }
+
+    private static void assertCompressed(HazelcastInstance instance, EndpointQualifier qualifier) {
+        List<WireCompression> compressions = compressions(instance, qualifier);
+        assertFalse(compressions.isEmpty());
+        long rawBytesWritten = 0;
+        long wireBytesWritten = 0;
+        for (WireCompression compression : compressions) {
+            assertTrue(compression.isNegotiated());
+            rawBytesWritten += compression.getRawBytesWritten();
+            wireBytesWritten += compression.getWireBytesWritten();
+        }
+        assertTrue(rawBytesWritten > 2 * wireBytesWritten);
+    }
+
+    private static List<WireCompression> compressions(HazelcastInstance instance, EndpointQualifier qualifier) {
+        List<WireCompression> compressions = new ArrayList<>();
+        for (ServerConnection connection : getNode(instance).getServer()
+                .getConnectionManager(qualifier).getConnections()) {
+            WireCompression compression = WireCompression.of(((TcpServerConnection) connection).getChannel());
+            if (compression != null && connection.isClient() == (qualifier == EndpointQualifier.CLIENT)) {
+                compressions.add(compression);
+            }
+        }
+        return compressions;
+    }
+
+    private static String value(int i) {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 16 * 1024) {
+            sb.append("entry-").append(i).append(", field-").append(sb.length() % 10).append(';');
+        }
+        return sb.toString();
+    }
+
+    private HazelcastInstance newHazelcastClient(int port) {
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(ClientProperty.IO_COMPRESSION_ENABLED.getName(), "true");
+        clientConfig.getNetworkConfig().addAddress("127.0.0.1:" + port);
+        return HazelcastClient.newHazelcastClient(clientConfig);
+    }
+
+    private Config getConfig(int memberPort, boolean compression) {
+        Config config = smallInstanceConfig()
+                .setProperty(IO_COMPRESSION_ENABLED.getName(), String.valueOf(compression));
+        config.getNetworkConfig().setPort(memberPort);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getTcpIpConfig().setEnabled(true)
+                .addMember("127.0.0.1:" + MEMBER_PORT)
+                .addMember("127.0.0.1:" + (MEMBER_PORT + 1));
+        return config;
+    }
+
+    private Config getAdvancedConfig(int memberPort, int clientPort) {
+        Config config = smallInstanceConfig()
+                .setProperty(IO_COMPRESSION_ENABLED.getName(), "true");
+        config.getAdvancedNetworkConfig().setEnabled(true)
+                .setMemberEndpointConfig(createServerSocketConfig(memberPort))
+                .setClientEndpointConfig(createServerSocketConfig(clientPort));
+        config.getAdvancedNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getAdvancedNetworkConfig().getJoin().getTcpIpConfig().setEnabled(true)
+                .addMember("127.0.0.1:" + MEMBER_PORT)
+                .addMember("127.0.0.1:" + WAN1_PORT);
+        return config;
+    }
+}
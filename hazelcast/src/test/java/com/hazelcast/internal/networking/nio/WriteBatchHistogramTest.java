@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.networking.nio.WriteBatchHistogram.BUCKET_COUNT;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WriteBatchHistogramTest {
+
+    @Test
+    public void bucketIndex() {
+        assertEquals(0, WriteBatchHistogram.bucketIndex(1));
+        assertEquals(1, WriteBatchHistogram.bucketIndex(2));
+        assertEquals(1, WriteBatchHistogram.bucketIndex(3));
+        assertEquals(2, WriteBatchHistogram.bucketIndex(4));
+        assertEquals(6, WriteBatchHistogram.bucketIndex(127));
+        assertEquals(BUCKET_COUNT - 1, WriteBatchHistogram.bucketIndex(128));
+        assertEquals(BUCKET_COUNT - 1, WriteBatchHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void record() {
+        WriteBatchHistogram histogram = new WriteBatchHistogram();
+
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(5);
+        histogram.record(6);
+        histogram.record(1000);
+
+        assertEquals(1, histogram.bucket(0));
+        assertEquals(0, histogram.bucket(1));
+        assertEquals(2, histogram.bucket(2));
+        assertEquals(1, histogram.bucket(BUCKET_COUNT - 1));
+    }
+}
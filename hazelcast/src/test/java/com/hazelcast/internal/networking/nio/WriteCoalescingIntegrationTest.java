@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.connection.tcp.TcpClientConnectionManager;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.EndpointQualifier;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static com.hazelcast.internal.networking.nio.WriteBatchHistogram.BUCKET_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_COALESCING_LATENCY_MICROS;
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.test.HazelcastTestSupport.assertClusterSizeEventually;
+import static com.hazelcast.test.HazelcastTestSupport.smallInstanceConfig;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class WriteCoalescingIntegrationTest extends AbstractAdvancedNetworkIntegrationTest {
+
+    private static final int ENTRY_COUNT = 20000;
+
+    @After
+    public void shutdownClients() {
+        HazelcastClient.shutdownAll();
+    }
+
+    @Test
+    public void testManySmallOperations_areCoalesced() {
+        HazelcastInstance instance1 = newHazelcastInstance(getConfig(MEMBER_PORT));
+        HazelcastInstance instance2 = newHazelcastInstance(getConfig(MEMBER_PORT + 1));
+        assertClusterSizeEventually(2, instance1, instance2);
+        IMap<Integer, String> map1 = instance1.getMap("map");
+        IMap<Integer, String> map2 = instance2.getMap("map");
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(map1.putAsync(i, "value-" + i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (int i = 0; i < ENTRY_COUNT; i += 100) {
+            assertEquals("value-" + i, map2.get(i));
+        }
+        assertTrue(framesPerWrite(instance1) > 1);
+    }
+
+    @Test
+    public void testManySmallClientInvocations_areCoalesced() {
+        newHazelcastInstance(getConfig(MEMBER_PORT));
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(ClientProperty.IO_WRITE_COALESCING_LATENCY_MICROS.getName(), "1000");
+        clientConfig.getNetworkConfig().addAddress("127.0.0.1:" + MEMBER_PORT);
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+        IMap<Integer, String> map = client.getMap("map");
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(map.putAsync(i, "value-" + i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (int i = 0; i < ENTRY_COUNT; i += 100) {
+            assertEquals("value-" + i, map.get(i));
+        }
+        assertTrue(coalescedWrites(client) > 0);
+    }
+
+    private Config getConfig(int memberPort) {
+        Config config = smallInstanceConfig()
+                .setProperty(IO_WRITE_COALESCING_LATENCY_MICROS.getName(), "1000");
+        config.getNetworkConfig().setPort(memberPort);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getTcpIpConfig().setEnabled(true)
+                .addMember("127.0.0.1:" + MEMBER_PORT)
+                .addMember("127.0.0.1:" + (MEMBER_PORT + 1));
+        return config;
+    }
+
+    private static long coalescedWrites(HazelcastInstance client) {
+        TcpClientConnectionManager connectionManager
+                = (TcpClientConnectionManager) getHazelcastClientInstanceImpl(client).getConnectionManager();
+        long coalescedWrites = 0;
+        for (NioChannel channel : connectionManager.getNetworking().getChannels()) {
+            WriteBatchHistogram writeBatchSizes = channel.outboundPipeline().writeBatchSizes();
+            // the first bucket counts the writes of a single frame
+            for (int k = 1; k < BUCKET_COUNT; k++) {
+                coalescedWrites += writeBatchSizes.bucket(k);
+            }
+        }
+        return coalescedWrites;
+    }
+
+    private static double framesPerWrite(HazelcastInstance instance) {
+        double framesPerWrite = 0;
+        for (ServerConnection connection : getNode(instance).getServer()
+                .getConnectionManager(EndpointQualifier.MEMBER).getConnections()) {
+            NioChannel channel = (NioChannel) ((TcpServerConnection) connection).getChannel();
+            framesPerWrite = Math.max(framesPerWrite, channel.outboundPipeline().framesPerWrite());
+        }
+        return framesPerWrite;
+    }
+}
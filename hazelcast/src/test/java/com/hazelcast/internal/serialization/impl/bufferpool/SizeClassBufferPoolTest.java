@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.bufferpool;
+
+import com.hazelcast.internal.metrics.LongGauge;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassBufferPoolFactory.DEFAULT_MIN_BUFFER_SIZE;
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassBufferPoolFactory.LOCAL_BUFFERS_PER_CLASS;
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassBufferPoolFactory.SIZE_CLASS_COUNT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SizeClassBufferPoolTest {
+
+    private static final int SMALL_PAYLOAD = 100;
+    private static final int MEDIUM_PAYLOAD = 100 * 1024;
+    private static final int LARGE_PAYLOAD = 2 * 1024 * 1024;
+
+    private InternalSerializationService serializationService;
+    private SizeClassBufferPoolFactory factory;
+    private SizeClassBufferPool bufferPool;
+
+    @Before
+    public void setup() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        factory = new SizeClassBufferPoolFactory(DEFAULT_MIN_BUFFER_SIZE, Long.MAX_VALUE);
+        bufferPool = (SizeClassBufferPool) factory.create(serializationService);
+    }
+
+    @Test
+    public void takeOutputBuffer_whenPooledInstance() {
+        BufferObjectDataOutput found1 = bufferPool.takeOutputBuffer();
+        bufferPool.returnOutputBuffer(found1);
+        BufferObjectDataOutput found2 = bufferPool.takeOutputBuffer();
+
+        assertSame(found1, found2);
+        assertEquals(1, factory.misses.sum());
+        assertEquals(1, factory.localHits.sum());
+    }
+
+    @Test
+    public void takeOutputBuffer_whenNestedInstance() {
+        BufferObjectDataOutput found1 = bufferPool.takeOutputBuffer();
+        BufferObjectDataOutput found2 = bufferPool.takeOutputBuffer();
+
+        assertNotSame(found1, found2);
+    }
+
+    @Test
+    public void takeOutputBuffer_whenMixedPayloads_thenLargeBufferReused() {
+        // the first large payload grows a buffer of the smallest class
+        writeAndReturn(bufferPool.takeOutputBuffer(), LARGE_PAYLOAD);
+        assertEquals(1, factory.trims.sum());
+
+        BufferObjectDataOutput large = bufferPool.takeOutputBuffer();
+        writeAndReturn(large, LARGE_PAYLOAD);
+        for (int i = 0; i < SizeClassBufferPool.SHRINK_AFTER - 1; i++) {
+            BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+            assertSame(large, out);
+            writeAndReturn(out, SMALL_PAYLOAD);
+        }
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        assertSame(large, out);
+        writeAndReturn(out, LARGE_PAYLOAD);
+
+        assertEquals(2, factory.misses.sum());
+        assertEquals(1, factory.trims.sum());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenSmallPayloads_thenPredictionShrinks() {
+        writeAndReturn(bufferPool.takeOutputBuffer(), LARGE_PAYLOAD);
+        assertEquals(SIZE_CLASS_COUNT - 1, bufferPool.predictedClass);
+
+        for (int i = 0; i < SizeClassBufferPool.SHRINK_AFTER; i++) {
+            writeAndReturn(bufferPool.takeOutputBuffer(), SMALL_PAYLOAD);
+        }
+
+        assertEquals(SIZE_CLASS_COUNT - 2, bufferPool.predictedClass);
+    }
+
+    @Test
+    public void returnOutputBuffer_whenLocalBuffersFull_thenSharedWithOtherThreads() {
+        BufferObjectDataOutput[] buffers = new BufferObjectDataOutput[LOCAL_BUFFERS_PER_CLASS + 1];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = bufferPool.takeOutputBuffer();
+        }
+        for (BufferObjectDataOutput out : buffers) {
+            bufferPool.returnOutputBuffer(out);
+        }
+        assertEquals(LOCAL_BUFFERS_PER_CLASS, bufferPool.localCounts[0]);
+        assertEquals(1, factory.sharedPooled());
+
+        BufferPool otherBufferPool = factory.create(serializationService);
+        assertSame(buffers[buffers.length - 1], otherBufferPool.takeOutputBuffer());
+        assertEquals(1, factory.sharedHits.sum());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenLargestClass_thenNotKeptLocally() {
+        // the first large payload predicts the largest class
+        writeAndReturn(bufferPool.takeOutputBuffer(), LARGE_PAYLOAD);
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        writeAndReturn(out, LARGE_PAYLOAD);
+
+        assertEquals(1, factory.sharedPooled());
+        BufferPool otherBufferPool = factory.create(serializationService);
+        assertSame(out, otherBufferPool.takeOutputBuffer());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenLargerThanSmallestClass_thenNotKeptLocally() {
+        // the first medium payload grows a buffer of the smallest class into the next one
+        writeAndReturn(bufferPool.takeOutputBuffer(), MEDIUM_PAYLOAD);
+        // and predicts a class between the next one and the largest one
+        writeAndReturn(bufferPool.takeOutputBuffer(), MEDIUM_PAYLOAD);
+
+        assertEquals(0, bufferPool.localCounts[0]);
+        assertEquals(2, factory.sharedPooled());
+        assertEquals(2, factory.misses.sum());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenSharedPoolFull_thenTrimmed() {
+        factory = new SizeClassBufferPoolFactory(DEFAULT_MIN_BUFFER_SIZE, 1);
+        bufferPool = (SizeClassBufferPool) factory.create(serializationService);
+        BufferObjectDataOutput[] buffers = new BufferObjectDataOutput[LOCAL_BUFFERS_PER_CLASS + 2];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = bufferPool.takeOutputBuffer();
+        }
+        for (BufferObjectDataOutput out : buffers) {
+            bufferPool.returnOutputBuffer(out);
+        }
+
+        assertEquals(1, factory.sharedPooled());
+        assertEquals(1, factory.trims.sum());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenNull() {
+        bufferPool.returnOutputBuffer(null);
+
+        assertEquals(0, bufferPool.localCounts[0]);
+    }
+
+    @Test
+    public void metrics() {
+        MetricsRegistryImpl metricsRegistry = new MetricsRegistryImpl(Logger.getLogger(MetricsRegistryImpl.class),
+                ProbeLevel.INFO);
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder()
+                .setBufferPoolFactory(factory)
+                .build();
+        metricsRegistry.provideMetrics(serializationService);
+
+        serializationService.toData("foo");
+        serializationService.toData("bar");
+
+        assertEquals(1, readGauge(metricsRegistry, "serialization.bufferPool.misses"));
+        assertEquals(1, readGauge(metricsRegistry, "serialization.bufferPool.localHits"));
+        assertEquals(0, readGauge(metricsRegistry, "serialization.bufferPool.sharedHits"));
+        assertEquals(0, readGauge(metricsRegistry, "serialization.bufferPool.trims"));
+        metricsRegistry.shutdown();
+    }
+
+    private static long readGauge(MetricsRegistry metricsRegistry, String name) {
+        LongGauge gauge = metricsRegistry.newLongGauge(name);
+        return gauge.read();
+    }
+
+    private void writeAndReturn(BufferObjectDataOutput out, int payloadSize) {
+        out.writeZeroBytes(payloadSize);
+        bufferPool.returnOutputBuffer(out);
+    }
+}
@@ -37,12 +37,16 @@ import java.util.function.Supplier;
 
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class PacketEncoderTest extends HazelcastTestSupport {
 
+    private static final int PACKET_HEADER_SIZE = 11;
+
     private InternalSerializationService serializationService;
     private PacketEncoder encoder;
 
@@ -90,6 +94,137 @@ public class PacketEncoderTest extends HazelcastTestSupport {
         assertEquals(DIRTY, result);
     }
 
+    @Test
+    public void whenGatheringWrite_thenOnlyHeaderCopied() {
+        final Packet packet = new Packet(serializationService.toBytes(new byte[2000]));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(packet);
+
+        encoder = new PacketEncoder(1024);
+        encoder.setGatheringWritesEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        // the payload is pending, so the encoder stays dirty
+        assertEquals(DIRTY, encoder.onWrite());
+        assertEquals(PACKET_HEADER_SIZE, dst.remaining());
+
+        ByteBuffer written = ByteBuffer.allocate(dst.remaining() + packet.totalSize());
+        written.put(dst);
+        for (ByteBuffer payload = encoder.payload(); payload != null; payload = encoder.payload()) {
+            // a single write never exceeds the capacity of the send buffer
+            assertEquals(Math.min(dst.capacity(), written.remaining()), payload.remaining());
+            written.put(payload);
+        }
+        written.flip();
+
+        assertEquals(CLEAN, encoder.onWrite());
+        Packet resultPacket = new PacketIOHelper().readFrom(written);
+        assertEquals(packet, resultPacket);
+    }
+
+    @Test
+    public void whenGatheringWritePending_thenNextPacketWaits() {
+        final Packet largePacket = new Packet(serializationService.toBytes(new byte[2000]));
+        final Packet smallPacket = new Packet(serializationService.toBytes("foobar"));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(largePacket);
+        src.queue.add(smallPacket);
+
+        encoder = new PacketEncoder(1024);
+        encoder.setGatheringWritesEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        assertEquals(DIRTY, encoder.onWrite());
+        // the pipeline writes the header
+        dst.position(dst.limit());
+        assertEquals(DIRTY, encoder.onWrite());
+        assertEquals(0, dst.remaining());
+        assertEquals(1, src.queue.size());
+
+        ByteBuffer payload = ByteBuffer.allocate(largePacket.totalSize());
+        for (ByteBuffer chunk = encoder.payload(); chunk != null; chunk = encoder.payload()) {
+            payload.put(chunk);
+        }
+        assertArrayEquals(largePacket.toByteArray(), payload.array());
+        assertNull(encoder.payload());
+
+        assertEquals(CLEAN, encoder.onWrite());
+        assertEquals(smallPacket, new PacketIOHelper().readFrom(dst));
+    }
+
+    @Test
+    public void whenGatheringWritesDisabled_thenPayloadCopied() {
+        final Packet packet = new Packet(serializationService.toBytes(new byte[2000]));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(packet);
+
+        // another handler follows the encoder
+        encoder = new PacketEncoder(1024);
+        encoder.setGatheringWritesEnabled(false);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        ByteBuffer written = ByteBuffer.allocate(packet.totalSize() + PACKET_HEADER_SIZE);
+        HandlerStatus result;
+        do {
+            result = encoder.onWrite();
+            assertNull(encoder.payload());
+            written.put(dst);
+        } while (result == DIRTY);
+        written.flip();
+
+        Packet resultPacket = new PacketIOHelper().readFrom(written);
+        assertEquals(packet, resultPacket);
+    }
+
+    @Test
+    public void whenGatheringWritesDisabledWhilePayloadPending_thenRestCopied() {
+        final Packet packet = new Packet(serializationService.toBytes(new byte[2000]));
+        final Packet smallPacket = new Packet(serializationService.toBytes("foobar"));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(packet);
+        src.queue.add(smallPacket);
+
+        encoder = new PacketEncoder(1024);
+        encoder.setGatheringWritesEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        assertEquals(DIRTY, encoder.onWrite());
+        ByteBuffer written = ByteBuffer.allocate(4096);
+        written.put(dst);
+        // the pipeline writes a part of the payload before a handler gets added after the encoder
+        ByteBuffer payload = encoder.payload();
+        payload.limit(payload.position() + 100);
+        written.put(payload);
+        encoder.setGatheringWritesEnabled(false);
+
+        HandlerStatus result;
+        do {
+            result = encoder.onWrite();
+            written.put(dst);
+        } while (result == DIRTY);
+        written.flip();
+
+        PacketIOHelper reader = new PacketIOHelper();
+        assertEquals(packet, reader.readFrom(written));
+        assertEquals(smallPacket, reader.readFrom(written));
+    }
+
     static class PacketSupplier implements Supplier<Packet> {
         Queue<Packet> queue = new LinkedBlockingQueue<>();
 
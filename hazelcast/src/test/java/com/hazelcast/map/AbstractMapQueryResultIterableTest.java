@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastTestSupport;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public abstract class AbstractMapQueryResultIterableTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+    private static final int FETCH_SIZE = 7;
+
+    protected TestHazelcastFactory factory;
+    protected HazelcastInstance instanceProxy;
+
+    @After
+    public void teardown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void test_entrySetIterable() {
+        IMap<Integer, Integer> map = createMap();
+        Predicate<Integer, Integer> predicate = Predicates.lessThan("this", ENTRY_COUNT / 2);
+
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (Map.Entry<Integer, Integer> entry : map.entrySetIterable(predicate, FETCH_SIZE)) {
+            assertEquals(null, entries.put(entry.getKey(), entry.getValue()));
+        }
+
+        assertEquals(ENTRY_COUNT / 2, entries.size());
+        assertEquals(toMap(map.entrySet(predicate)), entries);
+    }
+
+    @Test
+    public void test_keySetIterable() {
+        IMap<Integer, Integer> map = createMap();
+        Predicate<Integer, Integer> predicate = Predicates.greaterEqual("this", ENTRY_COUNT / 2);
+
+        Set<Integer> keys = new HashSet<>();
+        map.keySetIterable(predicate, FETCH_SIZE).forEach(key -> assertTrue(keys.add(key)));
+
+        assertEquals(ENTRY_COUNT / 2, keys.size());
+        assertEquals(map.keySet(predicate), keys);
+    }
+
+    @Test
+    public void test_valuesIterable() {
+        IMap<Integer, Integer> map = createMap();
+        Predicate<Integer, Integer> predicate = Predicates.alwaysTrue();
+
+        List<Integer> values = new ArrayList<>();
+        map.valuesIterable(predicate, FETCH_SIZE).forEach(values::add);
+
+        assertEquals(ENTRY_COUNT, values.size());
+        assertEquals(new HashSet<>(map.values()), new HashSet<>(values));
+    }
+
+    @Test
+    public void test_partitionPredicate() {
+        IMap<Integer, Integer> map = createMap();
+        Predicate<Integer, Integer> predicate = Predicates.partitionPredicate(42, Predicates.alwaysTrue());
+
+        Set<Integer> keys = new HashSet<>();
+        map.keySetIterable(predicate, FETCH_SIZE).forEach(keys::add);
+
+        assertFalse(keys.isEmpty());
+        assertEquals(map.keySet(predicate), keys);
+    }
+
+    @Test
+    public void test_emptyResult() {
+        IMap<Integer, Integer> map = createMap();
+
+        Iterator<Integer> iterator = map.keySetIterable(Predicates.alwaysFalse(), FETCH_SIZE).iterator();
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_pagingPredicate_throwsException() {
+        IMap<Integer, Integer> map = instanceProxy.getMap(randomMapName());
+        map.entrySetIterable(Predicates.pagingPredicate(10), FETCH_SIZE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_nonPositiveFetchSize_throwsException() {
+        IMap<Integer, Integer> map = instanceProxy.getMap(randomMapName());
+        map.valuesIterable(Predicates.alwaysTrue(), 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_nullPredicate_throwsException() {
+        IMap<Integer, Integer> map = instanceProxy.getMap(randomMapName());
+        map.keySetIterable(null, FETCH_SIZE);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_remove_throwsException() {
+        IMap<Integer, Integer> map = createMap();
+        Iterator<Integer> iterator = map.keySetIterable(Predicates.alwaysTrue(), FETCH_SIZE).iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+    private IMap<Integer, Integer> createMap() {
+        IMap<Integer, Integer> map = instanceProxy.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        return map;
+    }
+
+    private static Map<Integer, Integer> toMap(Set<Map.Entry<Integer, Integer>> entries) {
+        Map<Integer, Integer> map = new HashMap<>();
+        entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+        return map;
+    }
+}
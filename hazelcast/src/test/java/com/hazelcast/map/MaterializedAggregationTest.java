@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MaterializedAggregationTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void testMaintainedOnPutUpdateAndRemove() {
+        MapProxyImpl<Integer, Integer> map = getMap(createHazelcastInstance(smallInstanceConfig()));
+        map.addMaterializedAggregation("count", Aggregators.count(), Predicates.greaterEqual("this", 50));
+        map.addMaterializedAggregation("sum", Aggregators.integerSum(), Predicates.alwaysTrue());
+        map.addMaterializedAggregation("max", Aggregators.comparableMax(), Predicates.alwaysTrue());
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i % 100);
+        }
+        assertAggregations(map);
+
+        for (int i = 0; i < ENTRY_COUNT; i += 3) {
+            map.put(i, i % 7);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i += 5) {
+            map.delete(i);
+        }
+        assertAggregations(map);
+
+        map.put(-1, 1000);
+        assertEquals(1000, (int) map.getMaterializedAggregation("max"));
+        map.remove(-1);
+        assertAggregations(map);
+
+        map.clear();
+        assertEquals(0L, (long) map.getMaterializedAggregation("count"));
+        assertEquals(0L, (long) map.getMaterializedAggregation("sum"));
+    }
+
+    @Test
+    public void testMaintainedOnSetAndEntryProcessor() {
+        MapProxyImpl<Integer, Integer> map = getMap(createHazelcastInstance(smallInstanceConfig()));
+        map.addMaterializedAggregation("count", Aggregators.count(), Predicates.greaterEqual("this", 50));
+        map.addMaterializedAggregation("sum", Aggregators.integerSum(), Predicates.alwaysTrue());
+        map.addMaterializedAggregation("max", Aggregators.comparableMax(), Predicates.alwaysTrue());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i % 100);
+        }
+        assertAggregations(map);
+
+        // updates which don't read the old value
+        for (int i = 0; i < ENTRY_COUNT; i += 3) {
+            map.set(i, i % 7);
+        }
+        map.executeOnEntries(entry -> entry.setValue(entry.getValue() + 1), Predicates.lessThan("this", 10));
+        assertAggregations(map);
+    }
+
+    @Test
+    public void testMaintainedOnSetWithPostProcessingMapStore() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("map").setMapStoreConfig(new MapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(new PostProcessingStore()));
+        MapProxyImpl<Integer, Integer> map = getMap(createHazelcastInstance(config));
+        map.addMaterializedAggregation("count", Aggregators.count(), Predicates.greaterEqual("this", 50));
+        map.addMaterializedAggregation("sum", Aggregators.integerSum(), Predicates.alwaysTrue());
+        map.addMaterializedAggregation("max", Aggregators.comparableMax(), Predicates.alwaysTrue());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i % 100);
+        }
+        assertAggregations(map);
+
+        // the store replaces the value of the record before it is updated in memory
+        for (int i = 0; i < ENTRY_COUNT; i += 3) {
+            map.set(i, i % 7);
+        }
+        assertAggregations(map);
+    }
+
+    @Test
+    public void testMaintainedOnEvictAndExpire() {
+        MapProxyImpl<Integer, Integer> map = getMap(createHazelcastInstance(smallInstanceConfig()));
+        map.addMaterializedAggregation("count", Aggregators.count(), Predicates.alwaysTrue());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        assertEquals((long) ENTRY_COUNT, (long) map.getMaterializedAggregation("count"));
+
+        map.evict(0);
+        assertEquals(ENTRY_COUNT - 1L, (long) map.getMaterializedAggregation("count"));
+
+        map.put(0, 0, 1, TimeUnit.SECONDS);
+        assertEquals((long) ENTRY_COUNT, (long) map.getMaterializedAggregation("count"));
+        assertTrueEventually(() -> {
+            // triggers the removal of the expired entry
+            map.get(0);
+            assertEquals(ENTRY_COUNT - 1L, (long) map.getMaterializedAggregation("count"));
+        });
+    }
+
+    @Test
+    public void testCustomAggregator_rebuiltOnRemove() {
+        MapProxyImpl<Integer, Integer> map = getMap(createHazelcastInstance(smallInstanceConfig()));
+        map.addMaterializedAggregation("distinct", Aggregators.distinct(), Predicates.lessThan("this", 10));
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i % 100);
+        }
+        assertEquals(map.aggregate(Aggregators.distinct(), Predicates.lessThan("this", 10)),
+                map.getMaterializedAggregation("distinct"));
+
+        map.removeAll(Predicates.equal("this", 5));
+        assertEquals(map.aggregate(Aggregators.distinct(), Predicates.lessThan("this", 10)),
+                map.getMaterializedAggregation("distinct"));
+    }
+
+    @Test
+    public void testRegisteredOnJoiningMember() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(smallInstanceConfig());
+        MapProxyImpl<Integer, Integer> map1 = getMap(instance1);
+        map1.addMaterializedAggregation("sum", Aggregators.integerSum(), Predicates.alwaysTrue());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map1.put(i, i);
+        }
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(smallInstanceConfig());
+        MapProxyImpl<Integer, Integer> map2 = getMap(instance2);
+        waitAllForSafeState(instance1, instance2);
+
+        long expected = (long) ENTRY_COUNT * (ENTRY_COUNT - 1) / 2;
+        assertEquals(expected, (long) map2.getMaterializedAggregation("sum"));
+        map2.delete(1);
+        assertEquals(expected - 1, (long) map1.getMaterializedAggregation("sum"));
+    }
+
+    @Test
+    public void testReplaceAndRemove() {
+        MapProxyImpl<Integer, Integer> map = getMap(createHazelcastInstance(smallInstanceConfig()));
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        map.addMaterializedAggregation("agg", Aggregators.count(), Predicates.alwaysTrue());
+        assertEquals((long) ENTRY_COUNT, (long) map.getMaterializedAggregation("agg"));
+
+        map.addMaterializedAggregation("agg", Aggregators.count(), Predicates.lessThan("this", 10));
+        assertEquals(10L, (long) map.getMaterializedAggregation("agg"));
+
+        assertTrue(map.removeMaterializedAggregation("agg"));
+        assertFalse(map.removeMaterializedAggregation("agg"));
+        assertThrows(IllegalArgumentException.class, () -> map.getMaterializedAggregation("agg"));
+    }
+
+    @Test
+    public void testPagingPredicate_notAllowed() {
+        MapProxyImpl<Integer, Integer> map = getMap(createHazelcastInstance(smallInstanceConfig()));
+        assertThrows(IllegalArgumentException.class,
+                () -> map.addMaterializedAggregation("agg", Aggregators.count(), Predicates.pagingPredicate(10)));
+    }
+
+    private static class PostProcessingStore extends MapStoreAdapter<Integer, Integer> implements PostProcessingMapStore {
+    }
+
+    private static MapProxyImpl<Integer, Integer> getMap(HazelcastInstance instance) {
+        return (MapProxyImpl<Integer, Integer>) instance.<Integer, Integer>getMap("map");
+    }
+
+    private static void assertAggregations(MapProxyImpl<Integer, Integer> map) {
+        assertEquals(map.aggregate(Aggregators.count(), Predicates.greaterEqual("this", 50)),
+                map.getMaterializedAggregation("count"));
+        assertEquals(map.aggregate(Aggregators.integerSum()), map.getMaterializedAggregation("sum"));
+        Aggregator<Map.Entry<Integer, Integer>, Integer> max = Aggregators.comparableMax();
+        assertEquals(map.aggregate(max), map.getMaterializedAggregation("max"));
+    }
+}
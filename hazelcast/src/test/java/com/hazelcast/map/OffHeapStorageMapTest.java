@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.recordstore.OffHeapStorage;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapStorageMapTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void testStorageSelection_byMapConfig() {
+        HazelcastInstance hz = createHazelcastInstance(getConfig());
+        IMap<Integer, String> offHeapMap = hz.getMap("offheap-map");
+        IMap<Integer, String> onHeapMap = hz.getMap("other-map");
+        offHeapMap.put(1, "value");
+        onHeapMap.put(1, "value");
+
+        assertInstanceOf(OffHeapStorage.class, getRecordStore(hz, "offheap-map", 1).getStorage());
+        assertFalse(getRecordStore(hz, "other-map", 1).getStorage() instanceof OffHeapStorage);
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void testStorageSelection_whenObjectInMemoryFormat_thenRejected() {
+        Config config = getConfig();
+        config.addMapConfig(new MapConfig("object-map")
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setOffHeapStorageEnabled(true));
+        HazelcastInstance hz = createHazelcastInstance(config);
+
+        hz.getMap("object-map");
+    }
+
+    @Test
+    public void testBasicOperations() {
+        HazelcastInstance hz = createHazelcastInstance(getConfig());
+        IMap<Integer, String> map = hz.getMap("offheap-map");
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, "value-" + i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+
+        assertEquals("value-1", map.put(1, "updated-value-".repeat(20)));
+        assertEquals("updated-value-".repeat(20), map.get(1));
+        assertTrue(map.replace(2, "value-2", "replaced"));
+        assertEquals("replaced", map.get(2));
+        assertEquals("value-3", map.remove(3));
+        assertNull(map.get(3));
+        map.delete(4);
+        assertFalse(map.containsKey(4));
+        assertEquals(ENTRY_COUNT - 2, map.size());
+
+        assertEquals(0, map.getEntryView(5).getVersion());
+        map.set(5, "value-5");
+        assertEquals(1, map.getEntryView(5).getVersion());
+
+        map.clear();
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testIteration() {
+        HazelcastInstance hz = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = hz.getMap("offheap-map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        Set<Integer> keys = new HashSet<>();
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            assertEquals(entry.getKey(), entry.getValue());
+            keys.add(entry.getKey());
+        }
+        assertEquals(ENTRY_COUNT, keys.size());
+
+        keys.clear();
+        map.iterator(10).forEachRemaining(entry -> keys.add(entry.getKey()));
+        assertEquals(ENTRY_COUNT, keys.size());
+    }
+
+    @Test
+    public void testQuery() {
+        HazelcastInstance hz = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = hz.getMap("offheap-map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        assertEquals(100, map.values(Predicates.lessThan("this", 100)).size());
+        assertEquals(10, map.keySet(Predicates.between("this", 10, 19)).size());
+    }
+
+    @Test
+    public void testEviction() {
+        Config config = getConfig();
+        config.getMapConfig("offheap-map").getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_PARTITION)
+                .setSize(10);
+        HazelcastInstance hz = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = hz.getMap("offheap-map");
+
+        for (int i = 0; i < 100 * ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        int partitionCount = hz.getPartitionService().getPartitions().size();
+        assertTrue(map.size() <= 10 * partitionCount);
+    }
+
+    @Test
+    public void testBackupsAndMigration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(getConfig());
+        IMap<Integer, String> map = hz1.getMap("offheap-map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, "value-" + i);
+        }
+
+        HazelcastInstance hz2 = factory.newHazelcastInstance(getConfig());
+        factory.newHazelcastInstance(getConfig());
+        waitAllForSafeState(factory.getAllHazelcastInstances());
+        hz1.getLifecycleService().terminate();
+        waitAllForSafeState(factory.getAllHazelcastInstances());
+
+        IMap<Integer, String> survivingMap = hz2.getMap("offheap-map");
+        assertEquals(ENTRY_COUNT, survivingMap.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("value-" + i, survivingMap.get(i));
+        }
+    }
+
+    @Test
+    public void testLocalMapStats_heapCostExcludesOffHeapEntries() {
+        HazelcastInstance hz = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = hz.getMap("offheap-map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        LocalMapStats stats = map.getLocalMapStats();
+
+        assertTrue(stats.getOwnedEntryMemoryCost() > 0);
+        assertEquals(0, stats.getHeapCost());
+    }
+
+    @Override
+    protected Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.addMapConfig(new MapConfig("offheap-*")
+                .setBackupCount(1)
+                .setOffHeapStorageEnabled(true));
+        return config;
+    }
+
+    private static RecordStore getRecordStore(HazelcastInstance hz, String mapName, Object key) {
+        MapServiceContext mapServiceContext = ((MapService) getNodeEngineImpl(hz)
+                .getService(MapService.SERVICE_NAME)).getMapServiceContext();
+        int partitionId = hz.getPartitionService().getPartition(key).getPartitionId();
+        return mapServiceContext.getExistingRecordStore(partitionId, mapName);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.impl.record.PackedDataRecord;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PackedRecordsMapTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void testBasicOperations() {
+        HazelcastInstance hz = createHazelcastInstance(getConfig());
+        IMap<Integer, String> map = hz.getMap("packed-map");
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, "value-" + i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+
+        assertEquals("value-1", map.put(1, "updated"));
+        assertEquals(1, map.getEntryView(1).getVersion());
+        assertEquals("value-2", map.remove(2));
+        assertNull(map.get(2));
+        assertEquals(ENTRY_COUNT - 1, map.size());
+        assertEquals(10, map.keySet(Predicates.like("this", "value-1_")).size());
+    }
+
+    @Test
+    public void testRecordSelection_byMapConfig() {
+        HazelcastInstance hz = createHazelcastInstance(getConfig());
+        hz.getMap("packed-map").put(1, 1);
+        hz.getMap("other-map").put(1, 1);
+
+        assertTrue(hz.getMap("packed-map").getLocalMapStats().getPackedRecordHeapSavings() > 0);
+        assertEquals(0, hz.getMap("other-map").getLocalMapStats().getPackedRecordHeapSavings());
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void testRecordSelection_whenObjectInMemoryFormat_thenRejected() {
+        Config config = getConfig();
+        config.addMapConfig(new MapConfig("object-map")
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setPackedRecordsEnabled(true));
+        HazelcastInstance hz = createHazelcastInstance(config);
+
+        hz.getMap("object-map");
+    }
+
+    @Test
+    public void testPerEntryStats() {
+        Config config = getConfig();
+        config.getMapConfig("packed-map").setPerEntryStatsEnabled(true);
+        HazelcastInstance hz = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = hz.getMap("packed-map");
+
+        map.put(1, 1);
+        map.get(1);
+        map.get(1);
+
+        EntryView<Integer, Integer> entryView = map.getEntryView(1);
+        assertEquals(2, entryView.getHits());
+        assertTrue(entryView.getCreationTime() > 0);
+        assertTrue(entryView.getLastAccessTime() > 0);
+    }
+
+    @Test
+    public void testEviction() {
+        Config config = getConfig();
+        config.getMapConfig("packed-map").getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LFU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_PARTITION)
+                .setSize(10);
+        HazelcastInstance hz = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = hz.getMap("packed-map");
+
+        for (int i = 0; i < 100 * ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        assertTrue(map.size() <= 10 * hz.getPartitionService().getPartitions().size());
+    }
+
+    @Test
+    public void testLocalMapStats_reportHeapSavings() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(getConfig());
+        HazelcastInstance hz2 = factory.newHazelcastInstance(getConfig());
+        IMap<Integer, Integer> packedMap = hz1.getMap("packed-map");
+        IMap<Integer, Integer> otherMap = hz1.getMap("other-map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            packedMap.put(i, i);
+            otherMap.put(i, i);
+        }
+
+        long savingPerEntry = PackedDataRecord.heapCostSavingPerEntry(hz1.getConfig().getMapConfig("packed-map"));
+        long savings = hz1.getMap("packed-map").getLocalMapStats().getPackedRecordHeapSavings()
+                + hz2.getMap("packed-map").getLocalMapStats().getPackedRecordHeapSavings();
+        long otherSavings = hz1.getMap("other-map").getLocalMapStats().getPackedRecordHeapSavings()
+                + hz2.getMap("other-map").getLocalMapStats().getPackedRecordHeapSavings();
+
+        assertEquals(2 * ENTRY_COUNT * savingPerEntry, savings);
+        assertEquals(0, otherSavings);
+        assertTrue(hz1.getMap("packed-map").getLocalMapStats().getOwnedEntryMemoryCost()
+                < hz1.getMap("other-map").getLocalMapStats().getOwnedEntryMemoryCost());
+    }
+
+    @Override
+    protected Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.addMapConfig(new MapConfig("packed-*")
+                .setBackupCount(1)
+                .setPackedRecordsEnabled(true));
+        return config;
+    }
+}
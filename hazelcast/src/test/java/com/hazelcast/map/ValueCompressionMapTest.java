@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ValueCompressionMapTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+    private static final String[] STATUSES = {"ORDER_STATUS_PENDING", "ORDER_STATUS_SHIPPED", "ORDER_STATUS_DELIVERED"};
+
+    @Test
+    public void testBasicOperations() {
+        HazelcastInstance hz = createHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> map = hz.getMap("compressed-map");
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, order(i));
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(order(i), map.get(i));
+        }
+
+        assertEquals(order(1), map.put(1, order(2)));
+        assertEquals(order(2), map.get(1));
+        assertEquals(334, map.keySet(Predicates.equal("status", STATUSES[0])).size());
+    }
+
+    @Test
+    public void testLocalMapStats() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(getConfig());
+        HazelcastInstance hz2 = factory.newHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> compressedMap = hz1.getMap("compressed-map");
+        IMap<Integer, GenericRecord> otherMap = hz1.getMap("other-map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            compressedMap.put(i, order(i));
+            otherMap.put(i, order(i));
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            compressedMap.get(i);
+        }
+
+        for (HazelcastInstance hz : new HazelcastInstance[]{hz1, hz2}) {
+            LocalMapStats stats = hz.getMap("compressed-map").getLocalMapStats();
+            assertTrue(stats.getValueCompressionRatio() > 1);
+            assertTrue(stats.getValueCompressionNanos() > 0);
+            assertEquals(1, hz.getMap("other-map").getLocalMapStats().getValueCompressionRatio(), 0);
+        }
+        assertTrue(hz1.getMap("compressed-map").getLocalMapStats().getOwnedEntryMemoryCost()
+                < hz1.getMap("other-map").getLocalMapStats().getOwnedEntryMemoryCost());
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void testCompression_whenObjectInMemoryFormat_thenRejected() {
+        Config config = getConfig();
+        config.addMapConfig(new MapConfig("object-map")
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setValueCompressionEnabled(true));
+        HazelcastInstance hz = createHazelcastInstance(config);
+
+        hz.getMap("object-map");
+    }
+
+    @Override
+    protected Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.addMapConfig(new MapConfig("compressed-*")
+                .setBackupCount(1)
+                .setValueCompressionEnabled(true));
+        return config;
+    }
+
+    private static GenericRecord order(int id) {
+        return GenericRecordBuilder.compact("Order")
+                .setInt64("id", id)
+                .setString("status", STATUSES[id % STATUSES.length])
+                .setString("currency", "EUR")
+                .setArrayOfInt32("quantities", new int[]{1, 1, 2, 1})
+                .build();
+    }
+}
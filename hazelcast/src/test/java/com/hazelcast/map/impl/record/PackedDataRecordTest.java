@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.map.impl.record.Record.UNSET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PackedDataRecordTest {
+
+    private SerializationService ss;
+    private Data value;
+
+    @Before
+    public void setUp() {
+        ss = new DefaultSerializationServiceBuilder().build();
+        value = ss.toData("value");
+    }
+
+    @Test
+    public void testGetValue() {
+        PackedDataRecord record = new PackedDataRecord(value);
+
+        assertEquals(value, record.getValue());
+    }
+
+    @Test
+    public void testNullValue() {
+        PackedDataRecord record = new PackedDataRecord(null);
+
+        assertNull(record.getValue());
+    }
+
+    @Test
+    public void testSetValue_keepsMetadata() {
+        PackedDataRecordWithStats record = new PackedDataRecordWithStats(value);
+        record.setVersion(3);
+        record.setHits(5);
+        record.setRawCreationTime(7);
+
+        Data newValue = ss.toData("a much longer value than before");
+        record.setValue(newValue);
+
+        assertEquals(newValue, record.getValue());
+        assertEquals(3, record.getVersion());
+        assertEquals(5, record.getHits());
+        assertEquals(7, record.getRawCreationTime());
+    }
+
+    @Test
+    public void testStatsRecord_initialMetadata() {
+        PackedDataRecordWithStats record = new PackedDataRecordWithStats(value);
+
+        assertEquals(0, record.getVersion());
+        assertEquals(0, record.getHits());
+        assertEquals(UNSET, record.getRawLastAccessTime());
+        assertEquals(UNSET, record.getRawLastUpdateTime());
+        assertEquals(UNSET, record.getRawCreationTime());
+        assertEquals(0L, record.getLastStoredTime());
+    }
+
+    @Test
+    public void testStatsRecord_timestamps() {
+        PackedDataRecordWithStats record = new PackedDataRecordWithStats(value);
+        long now = System.currentTimeMillis();
+
+        record.setCreationTime(now);
+        record.onUpdate(now);
+        record.onAccess(now);
+
+        assertEquals(now / 1000, record.getCreationTime() / 1000);
+        assertEquals(now / 1000, record.getLastUpdateTime() / 1000);
+        assertEquals(now / 1000, record.getLastAccessTime() / 1000);
+        assertEquals(1, record.getVersion());
+        assertEquals(1, record.getHits());
+    }
+
+    @Test
+    public void testEvictionRecords_onAccess() {
+        PackedDataRecordWithLFUEviction lfuRecord = new PackedDataRecordWithLFUEviction(value);
+        PackedDataRecordWithLRUEviction lruRecord = new PackedDataRecordWithLRUEviction(value);
+        long now = System.currentTimeMillis();
+
+        lfuRecord.onAccess(now);
+        lfuRecord.onAccess(now);
+        lruRecord.onAccess(now);
+
+        assertEquals(2, lfuRecord.getHits());
+        assertEquals(now / 1000, lruRecord.getLastAccessTime() / 1000);
+    }
+
+    @Test
+    public void testGetCost_isLowerThanUnpackedRecord() {
+        assertTrue(new PackedDataRecord(value).getCost() < new CachedSimpleRecord(value).getCost());
+        assertTrue(new PackedDataRecordWithStats(value).getCost() < new DataRecordWithStats(value).getCost());
+    }
+
+    @Test
+    public void testHeapCostSavingPerEntry() {
+        MapConfig mapConfig = new MapConfig();
+
+        long savingWithCachedValues = PackedDataRecord.heapCostSavingPerEntry(
+                mapConfig.setCacheDeserializedValues(CacheDeserializedValues.ALWAYS));
+        long savingWithoutCachedValues = PackedDataRecord.heapCostSavingPerEntry(
+                mapConfig.setCacheDeserializedValues(CacheDeserializedValues.NEVER));
+
+        assertTrue(savingWithoutCachedValues > 0);
+        assertTrue(savingWithCachedValues > savingWithoutCachedValues);
+    }
+
+    @Test
+    public void testEquals() {
+        PackedDataRecord record = new PackedDataRecord(value);
+
+        assertEquals(record, new PackedDataRecord(value));
+        assertEquals(record.hashCode(), new PackedDataRecord(value).hashCode());
+        assertNotEquals(record, new PackedDataRecord(ss.toData("other")));
+        assertNotEquals(record, new PackedDataRecordWithLRUEviction(value));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.compact.CompactTestUtil;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static com.hazelcast.map.impl.record.ValueCompressor.COMPRESSED;
+import static com.hazelcast.map.impl.record.ValueCompressor.RAW;
+import static com.hazelcast.map.impl.record.ValueCompressor.SAMPLE_COUNT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ValueCompressorTest {
+
+    private static final String[] STATUSES = {"ORDER_STATUS_PENDING", "ORDER_STATUS_SHIPPED", "ORDER_STATUS_DELIVERED"};
+
+    private InternalSerializationService ss;
+    private ValueCompressor compressor;
+
+    @Before
+    public void setUp() {
+        ss = CompactTestUtil.createSerializationService();
+        compressor = new ValueCompressor();
+    }
+
+    @Test
+    public void testCompress_afterSampling() {
+        // the value completing the samples is compressed with the new dictionary
+        for (int i = 0; i < SAMPLE_COUNT - 1; i++) {
+            byte[] payload = compressor.compress(order(i));
+
+            assertEquals(RAW, payload[0]);
+            assertEquals(order(i), compressor.decompress(payload, 0));
+        }
+
+        for (int i = SAMPLE_COUNT - 1; i < 2 * SAMPLE_COUNT; i++) {
+            Data value = order(i);
+            byte[] payload = compressor.compress(value);
+
+            assertEquals(COMPRESSED, payload[0]);
+            assertTrue(payload.length < value.totalSize());
+            assertEquals(value, compressor.decompress(payload, 0));
+        }
+        assertTrue(compressor.getCompressionRatio() > 1);
+        assertTrue(compressor.getCompressionNanos() > 0);
+        assertTrue(compressor.getDecompressionNanos() > 0);
+    }
+
+    @Test
+    public void testCompress_whenNoSchema() {
+        for (int i = 0; i < 2 * SAMPLE_COUNT; i++) {
+            Data value = ss.toData(STATUSES[i % STATUSES.length]);
+            byte[] payload = compressor.compress(value);
+
+            assertEquals(RAW, payload[0]);
+            assertEquals(value, compressor.decompress(payload, 0));
+        }
+    }
+
+    @Test
+    public void testCompress_whenSchemaEmbedded_thenSharesDictionaryOfSchema() {
+        for (int i = 0; i < SAMPLE_COUNT - 1; i++) {
+            Data value = ss.toDataWithSchema(orderRecord(i));
+            assertEquals(RAW, compressor.compress(value)[0]);
+        }
+        // completes the samples of the schema collected from the values embedding it
+        assertEquals(COMPRESSED, compressor.compress(order(SAMPLE_COUNT))[0]);
+
+        Data value = ss.toDataWithSchema(orderRecord(0));
+        byte[] payload = compressor.compress(value);
+        assertEquals(COMPRESSED, payload[0]);
+        assertEquals(value, compressor.decompress(payload, 0));
+    }
+
+    @Test
+    public void testDecompress_atOffset() {
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            compressor.compress(order(i));
+        }
+        byte[] payload = compressor.compress(order(0));
+        assertEquals(COMPRESSED, payload[0]);
+        byte[] slab = new byte[3 + payload.length];
+        System.arraycopy(payload, 0, slab, 3, payload.length);
+
+        assertEquals(order(0), compressor.decompress(slab, 3));
+    }
+
+    @Test
+    public void testRecord_keepsMetadata() {
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            compressor.compress(order(i));
+        }
+        CompressedDataRecord record = new CompressedDataRecord(order(0), compressor);
+        record.setVersion(3);
+        record.setHits(5);
+
+        record.setValue(order(1));
+
+        assertEquals(order(1), record.getValue());
+        assertEquals(3, record.getVersion());
+        assertEquals(5, record.getHits());
+        assertNull(new CompressedDataRecord(null, compressor).getValue());
+    }
+
+    @Test
+    public void testTrainer_whenNothingInCommon() {
+        byte[] dictionary = DictionaryTrainer.train(List.of(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9},
+                new byte[]{9, 8, 7, 6, 5, 4, 3, 2, 1}), 100);
+
+        assertEquals(0, dictionary.length);
+    }
+
+    private Data order(int id) {
+        return ss.toData(orderRecord(id));
+    }
+
+    private static GenericRecord orderRecord(int id) {
+        return GenericRecordBuilder.compact("Order")
+                .setInt64("id", id)
+                .setString("status", STATUSES[id % STATUSES.length])
+                .setString("currency", "EUR")
+                .setArrayOfInt32("quantities", new int[]{1, 1, 2, 1})
+                .build();
+    }
+}
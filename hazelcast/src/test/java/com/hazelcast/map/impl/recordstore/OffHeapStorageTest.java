@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.impl.DirectBufferMemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapStorageTest {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private SerializationService ss;
+    private DirectBufferMemoryManager memoryManager;
+    private OffHeapRecordFactory recordFactory;
+    private OffHeapStorage storage;
+
+    @Before
+    public void setUp() {
+        ss = new DefaultSerializationServiceBuilder().build();
+        memoryManager = new DirectBufferMemoryManager();
+        recordFactory = new OffHeapRecordFactory(ss);
+        storage = new OffHeapStorage(memoryManager, ExpirySystem.NULL, ss);
+    }
+
+    @After
+    public void tearDown() {
+        storage.destroy(false);
+    }
+
+    @Test
+    public void testPutAndGet() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value-" + i);
+        }
+
+        assertEquals(ENTRY_COUNT, storage.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("value-" + i, ss.toObject(storage.get(ss.toData(i)).getValue()));
+        }
+        assertNull(storage.get(ss.toData(ENTRY_COUNT)));
+    }
+
+    @Test
+    public void testPut_attachesRecord() {
+        OffHeapRecord record = put(1, "value");
+        record.setVersion(5);
+        record.setHits(3);
+
+        OffHeapRecord stored = storage.get(ss.toData(1));
+
+        assertTrue(record.isAttached());
+        assertEquals(5, stored.getVersion());
+        assertEquals(3, stored.getHits());
+    }
+
+    @Test
+    public void testUpdateRecordValue_growsAndShrinksValue() {
+        Data key = ss.toData(1);
+        OffHeapRecord record = put(1, "small");
+        String bigValue = "big-value-".repeat(100);
+
+        OffHeapRecord updated = storage.updateRecordValue(key, record, bigValue);
+        assertEquals(bigValue, ss.toObject(updated.getValue()));
+        assertEquals(bigValue, ss.toObject(storage.get(key).getValue()));
+
+        updated = storage.updateRecordValue(key, updated, "tiny");
+        assertEquals("tiny", ss.toObject(storage.get(key).getValue()));
+        assertEquals(1, storage.size());
+    }
+
+    @Test
+    public void testUpdateRecordValue_keepsMetadata() {
+        Data key = ss.toData(1);
+        OffHeapRecord record = put(1, "small");
+        record.setVersion(7);
+
+        OffHeapRecord updated = storage.updateRecordValue(key, record, "big-value-".repeat(100));
+
+        assertEquals(7, updated.getVersion());
+        assertEquals(7, storage.get(key).getVersion());
+    }
+
+    @Test
+    public void testRemoveRecord_detachesRecord() {
+        Data key = ss.toData(1);
+        OffHeapRecord record = put(1, "value");
+        record.setVersion(2);
+
+        storage.removeRecord(key, record);
+
+        assertFalse(storage.containsKey(key));
+        assertFalse(record.isAttached());
+        assertEquals("value", ss.toObject(record.getValue()));
+        assertEquals(2, record.getVersion());
+        assertEquals(0, storage.size());
+    }
+
+    @Test
+    public void testPutAfterRemove_reusesSlots() {
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                put(i, i);
+            }
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                Data key = ss.toData(i);
+                storage.removeRecord(key, storage.get(key));
+            }
+        }
+
+        assertTrue(storage.isEmpty());
+        put(1, 1);
+        assertEquals(1, (int) ss.toObject(storage.get(ss.toData(1)).getValue()));
+    }
+
+    @Test
+    public void testNullValue() {
+        put(1, null);
+
+        assertTrue(storage.containsKey(ss.toData(1)));
+        assertNull(storage.get(ss.toData(1)).getValue());
+    }
+
+    @Test
+    public void testEntryCost_tracksPutsAndRemoves() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+        assertTrue(storage.getEntryCostEstimator().getEstimate() > 0);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            Data key = ss.toData(i);
+            storage.removeRecord(key, storage.get(key));
+        }
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+    }
+
+    @Test
+    public void testMutationTolerantIterator_toleratesRemoval() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        Iterator<Map.Entry<Data, OffHeapRecord>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Data, OffHeapRecord> entry = iterator.next();
+            seen.add(ss.toObject(entry.getKey()));
+            storage.removeRecord(entry.getKey(), entry.getValue());
+        }
+
+        assertEquals(ENTRY_COUNT, seen.size());
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void testFetchKeys_returnsAllKeysOnce_whenTableGrowsInBetween() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        boolean grown = false;
+        while (pointers[pointers.length - 1].getIndex() >= 0) {
+            MapKeysWithCursor cursor = storage.fetchKeys(pointers, 100);
+            for (Data key : cursor.getBatch()) {
+                assertTrue(seen.add(ss.toObject(key)));
+            }
+            pointers = cursor.getIterationPointers();
+            if (!grown) {
+                for (int i = ENTRY_COUNT; i < 4 * ENTRY_COUNT; i++) {
+                    put(i, i);
+                }
+                grown = true;
+            }
+        }
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertTrue(seen.contains(i));
+        }
+    }
+
+    @Test
+    public void testGetRandomSamples() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        int sampleCount = 0;
+        for (EntryView entryView : storage.getRandomSamples(15)) {
+            assertEquals(entryView.getKey(), entryView.getValue());
+            sampleCount++;
+        }
+
+        assertEquals(15, sampleCount);
+    }
+
+    @Test
+    public void testClear_releasesMemory() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, i);
+        }
+
+        storage.clear(false);
+
+        assertTrue(storage.isEmpty());
+        assertEquals(0, memoryManager.getUsedMemory());
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+        put(1, 1);
+        assertEquals(1, storage.size());
+    }
+
+    @Test(expected = NativeOutOfMemoryError.class)
+    public void testPut_failsWhenCapacityIsExceeded() {
+        storage.destroy(false);
+        storage = new OffHeapStorage(1 << 16, ExpirySystem.NULL, ss);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value-".repeat(20) + i);
+        }
+    }
+
+    private OffHeapRecord put(int key, Object value) {
+        Data dataKey = ss.toData(key);
+        OffHeapRecord record = (OffHeapRecord) recordFactory.newRecord(dataKey, value);
+        storage.put(dataKey, record);
+        return record;
+    }
+}
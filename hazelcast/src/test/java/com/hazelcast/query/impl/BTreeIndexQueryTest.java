@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.test.Accessors.getAllIndexes;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BTreeIndexQueryTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 10000;
+
+    @Test
+    public void testStoreSelection_byIndexConfig() {
+        IMap<Integer, Integer> map = createMap();
+
+        assertInstanceOf(BTreeIndexStore.class, getIndexStore(map, "btree-index"));
+        assertInstanceOf(OrderedIndexStore.class, getIndexStore(map, "skiplist-index"));
+        assertInstanceOf(BTreeIndexStore.class, getIndexStore(map, "map_sorted_this"));
+    }
+
+    @Test
+    public void testStoreSelection_whenAddedDynamically() {
+        IMap<Integer, Integer> map = createMap();
+        map.addIndex(new IndexConfig(IndexType.SORTED, "this").setName("dynamic-index")
+                .setStoreType(IndexStoreType.BTREE));
+
+        assertInstanceOf(BTreeIndexStore.class, getIndexStore(map, "dynamic-index"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStoreSelection_whenHashIndex_thenRejected() {
+        IMap<Integer, Integer> map = createMap();
+        map.addIndex(new IndexConfig(IndexType.HASH, "this").setStoreType(IndexStoreType.BTREE));
+    }
+
+    @Test
+    public void testQueries() {
+        IMap<Integer, Integer> map = createMap();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i % 100);
+        }
+
+        assertEquals(ENTRY_COUNT / 10, map.keySet(Predicates.lessThan("__key", ENTRY_COUNT / 10)).size());
+        assertEquals(ENTRY_COUNT / 100, map.keySet(Predicates.equal("this", 7)).size());
+        assertEquals(ENTRY_COUNT / 10, map.keySet(Predicates.between("this", 10, 19)).size());
+        assertEquals(ENTRY_COUNT / 50, map.keySet(Predicates.in("this", 1, 2)).size());
+
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            map.delete(i);
+        }
+        map.put(1, 200);
+
+        assertEquals(ENTRY_COUNT / 20, map.keySet(Predicates.lessThan("__key", ENTRY_COUNT / 10)).size());
+        assertEquals(1, map.keySet(Predicates.greaterThan("this", 100)).size());
+        assertEquals(0, map.keySet(Predicates.equal("this", 10)).size());
+    }
+
+    private IMap<Integer, Integer> createMap() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("map")
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "__key").setName("btree-index")
+                        .setStoreType(IndexStoreType.BTREE))
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "__key").setName("skiplist-index"))
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "this").setStoreType(IndexStoreType.BTREE));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        return instance.getMap("map");
+    }
+
+    private static IndexStore getIndexStore(IMap<?, ?> map, String indexName) {
+        AbstractIndex index = (AbstractIndex) getAllIndexes(map).get(0).getIndex(indexName);
+        return index.indexStore;
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link BTreeIndexStore} against {@link OrderedIndexStore} on enough
+ * entries to split and collapse the tree several times.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BTreeIndexStoreTest {
+
+    private static final int ENTRY_COUNT = 4 * BTreeIndexStore.NODE_CAPACITY * BTreeIndexStore.NODE_CAPACITY;
+    private static final int VALUE_COUNT = 97;
+    private static final SerializationService SERIALIZATION_SERVICE = new DefaultSerializationServiceBuilder().build();
+
+    private final Random random = new Random(42);
+    private final BTreeIndexStore store = new BTreeIndexStore();
+    private final OrderedIndexStore expectedStore = new OrderedIndexStore(IndexCopyBehavior.NEVER);
+
+    @Before
+    public void setup() {
+        List<Integer> keys = shuffledKeys();
+        for (int key : keys) {
+            insert(key);
+        }
+    }
+
+    @Test
+    public void testFullScan() {
+        assertSameBatches(s -> s.getSqlRecordIteratorBatch(false));
+        assertSameBatches(s -> s.getSqlRecordIteratorBatch(true));
+    }
+
+    @Test
+    public void testPointLookups() {
+        for (int value = -1; value <= VALUE_COUNT; value++) {
+            Comparable indexValue = value;
+            assertEquals(expectedStore.getRecords(indexValue), store.getRecords(indexValue));
+            assertSameBatches(s -> s.getSqlRecordIteratorBatch(indexValue, false));
+            assertSameBatches(s -> s.getSqlRecordIteratorBatch(indexValue, true));
+        }
+        assertEquals(expectedStore.getRecords(NULL), store.getRecords(NULL));
+
+        Set<Comparable> values = Set.of(1, 5, NULL, VALUE_COUNT + 1);
+        assertEquals(expectedStore.getRecords(values), store.getRecords(values));
+    }
+
+    @Test
+    public void testComparisons() {
+        for (Comparison comparison : Comparison.values()) {
+            for (int value = -1; value <= VALUE_COUNT; value += 7) {
+                int indexValue = value;
+                assertEquals(expectedStore.getRecords(comparison, indexValue), store.getRecords(comparison, indexValue));
+                assertSameBatches(s -> s.getSqlRecordIteratorBatch(comparison, indexValue, false));
+                assertSameBatches(s -> s.getSqlRecordIteratorBatch(comparison, indexValue, true));
+            }
+        }
+    }
+
+    @Test
+    public void testRanges() {
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(VALUE_COUNT + 2) - 1;
+            int to = random.nextInt(VALUE_COUNT + 2) - 1;
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+
+            assertEquals(expectedStore.getRecords(from, fromInclusive, to, toInclusive),
+                    store.getRecords(from, fromInclusive, to, toInclusive));
+            assertSameBatches(s -> s.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, false));
+            assertSameBatches(s -> s.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, true));
+        }
+    }
+
+    @Test
+    public void testCursors() {
+        for (int i = 0; i < 50; i++) {
+            int from = random.nextInt(VALUE_COUNT / 2);
+            int to = from + random.nextInt(VALUE_COUNT / 2);
+            boolean otherInclusive = random.nextBoolean();
+            Data cursor = keyData(random.nextInt(ENTRY_COUNT));
+
+            assertSameBatches(s -> s.getSqlRecordIteratorBatch(from, true, to, otherInclusive, false, cursor));
+            assertSameBatches(s -> s.getSqlRecordIteratorBatch(from, otherInclusive, to, true, true, cursor));
+            assertSameBatches(s -> s.getSqlRecordIteratorBatch(from, false, cursor));
+            assertSameBatches(s -> s.getSqlRecordIteratorBatch(from, true, cursor));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCursor_withExclusiveStart() {
+        store.getSqlRecordIteratorBatch(0, false, 1, true, false, keyData(0));
+    }
+
+    @Test
+    public void testUpdate_replacesEntry() {
+        Entry entry = new Entry(0);
+        Object oldEntry = store.insertInternal(valueOf(0), entry);
+
+        assertTrue(oldEntry instanceof Entry);
+        assertEquals(0, ((Entry) oldEntry).getKey());
+        assertSame(entry, store.getRecords(valueOf(0)).stream().filter(e -> e.getKey().equals(0)).findFirst().get());
+    }
+
+    @Test
+    public void testRemove() {
+        List<Integer> keys = shuffledKeys();
+        for (int i = 0; i < keys.size(); i++) {
+            int key = keys.get(i);
+            assertEquals(expectedStore.removeInternal(valueOf(key), keyData(key)) != null,
+                    store.removeInternal(valueOf(key), keyData(key)) != null);
+            if (i % (ENTRY_COUNT / 4) == 0) {
+                assertSameBatches(s -> s.getSqlRecordIteratorBatch(false));
+                assertSameBatches(s -> s.getSqlRecordIteratorBatch(true));
+                assertSameBatches(s -> s.getSqlRecordIteratorBatch(10, true, 20, false, false));
+            }
+        }
+
+        assertNull(store.removeInternal(valueOf(0), keyData(0)));
+        assertFalse(store.getSqlRecordIteratorBatch(false).hasNext());
+        assertFalse(store.getSqlRecordIteratorBatch(true).hasNext());
+        assertTrue(store.getRecords(0, true, VALUE_COUNT, true).isEmpty());
+
+        setup();
+        assertSameBatches(s -> s.getSqlRecordIteratorBatch(false));
+    }
+
+    @Test
+    public void testClear() {
+        store.clear();
+
+        assertFalse(store.getSqlRecordIteratorBatch(false).hasNext());
+        insert(1);
+        assertEquals(1, store.getRecords(valueOf(1)).size());
+    }
+
+    @Test
+    public void testIteratorFromBatch() {
+        Set<Object> keys = new HashSet<>();
+        store.getSqlRecordIterator(false).forEachRemaining(entry -> assertTrue(keys.add(entry.getKey())));
+
+        assertEquals(ENTRY_COUNT, keys.size());
+    }
+
+    private void insert(int key) {
+        expectedStore.insertInternal(valueOf(key), new Entry(key));
+        store.insertInternal(valueOf(key), new Entry(key));
+    }
+
+    private List<Integer> shuffledKeys() {
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            keys.add(i);
+        }
+        Collections.shuffle(keys, random);
+        return keys;
+    }
+
+    private static Comparable valueOf(int key) {
+        return key % (VALUE_COUNT + 1) == VALUE_COUNT ? NULL : key % (VALUE_COUNT + 1);
+    }
+
+    private static Data keyData(int key) {
+        return SERIALIZATION_SERVICE.toData(key);
+    }
+
+    private void assertSameBatches(Function<BaseSingleValueIndexStore, Iterator<IndexKeyEntries>> query) {
+        assertEquals(toKeys(query.apply(expectedStore)), toKeys(query.apply(store)));
+    }
+
+    private static List<List<Object>> toKeys(Iterator<IndexKeyEntries> batches) {
+        List<List<Object>> keys = new ArrayList<>();
+        while (batches.hasNext()) {
+            IndexKeyEntries batch = batches.next();
+            List<Object> batchKeys = new ArrayList<>();
+            batch.getEntries().forEachRemaining(entry -> batchKeys.add(entry.getKey()));
+            // OrderedIndexStore returns the group of a cursor even if no entry is left in it
+            if (!batchKeys.isEmpty()) {
+                batchKeys.add(0, batch.getIndexKey());
+                keys.add(batchKeys);
+            }
+        }
+        return keys;
+    }
+
+    private static class Entry extends QueryEntry {
+        private final int key;
+        private final Data keyData;
+
+        Entry(int key) {
+            this.key = key;
+            this.keyData = keyData(key);
+        }
+
+        @Override
+        public Data getKeyData() {
+            return keyData;
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry that && key == that.key;
+        }
+
+        @Override
+        public int hashCode() {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that projections and aggregations over indexed and included
+ * attributes are answered from the index. Values are counting accesses to
+ * their attributes, so the test runs serially.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class CoveringIndexTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+    private static final AtomicInteger NAME_READS = new AtomicInteger();
+
+    private IMap<Integer, Person> map;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("map")
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "age").addIncludedAttribute("name"));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        map = instance.getMap("map");
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Person(i % 100, "name-" + i, "city-" + i % 10));
+        }
+    }
+
+    @Test
+    public void testProjection_readsIndex() {
+        NAME_READS.set(0);
+
+        Collection<Object[]> result = map.project(Projections.multiAttribute("age", "name"),
+                Predicates.greaterEqual("age", 90));
+
+        assertEquals(0, NAME_READS.get());
+        Set<String> names = result.stream().map(row -> (String) row[1]).collect(toSet());
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            if (i % 100 >= 90) {
+                expected.add("name-" + i);
+            }
+        }
+        assertEquals(expected, names);
+        assertTrue(result.stream().allMatch(row -> (int) row[0] >= 90));
+    }
+
+    @Test
+    public void testAggregation_readsIndex() {
+        NAME_READS.set(0);
+
+        Set<String> names = map.aggregate(Aggregators.distinct("name"), Predicates.equal("age", 7));
+
+        assertEquals(0, NAME_READS.get());
+        assertEquals(ENTRY_COUNT / 100, names.size());
+        assertTrue(names.contains("name-107"));
+    }
+
+    @Test
+    public void testNotIncludedAttribute_readsValue() {
+        Collection<String> cities = map.project(Projections.singleAttribute("city"), Predicates.equal("age", 7));
+
+        assertEquals(List.of("city-7"), List.copyOf(new HashSet<>(cities)));
+    }
+
+    @Test
+    public void testUpdate() {
+        map.put(7, new Person(7, "renamed", "city-7"));
+        map.put(8, new Person(7, "moved", "city-8"));
+        map.delete(107);
+
+        Set<String> names = map.aggregate(Aggregators.distinct("name"), Predicates.equal("age", 7));
+
+        assertEquals(ENTRY_COUNT / 100, names.size());
+        assertTrue(names.contains("renamed"));
+        assertTrue(names.contains("moved"));
+        assertTrue(!names.contains("name-7") && !names.contains("name-107"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateIncludedAttribute() {
+        map.addIndex(new IndexConfig(IndexType.HASH, "city").addIncludedAttribute("name").addIncludedAttribute("this.name"));
+    }
+
+    public static class Person implements Serializable {
+
+        private final int age;
+        private final String name;
+        private final String city;
+
+        Person(int age, String name, String city) {
+            this.age = age;
+            this.name = name;
+            this.city = city;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public String getName() {
+            NAME_READS.incrementAndGet();
+            return name;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.monitor.impl.LocalIndexStatsImpl;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastParametrizedRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static com.hazelcast.spi.properties.ClusterProperty.INDEX_COPY_BEHAVIOR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IndexBulkInsertTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 5000;
+    private static final String[] INDEX_NAMES = {"sorted", "hash", "btree", "composite", "multi-value"};
+
+    @Parameterized.Parameters(name = "copyBehavior: {0}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[][]{
+                {IndexCopyBehavior.COPY_ON_READ},
+                {IndexCopyBehavior.COPY_ON_WRITE},
+                {IndexCopyBehavior.NEVER},
+        });
+    }
+
+    @Parameterized.Parameter
+    public IndexCopyBehavior copyBehavior;
+
+    @Test
+    public void testAddIndex() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig(false));
+        IMap<Integer, Value> map = instance.getMap("map");
+        fill(map);
+
+        for (IndexConfig indexConfig : indexConfigs()) {
+            map.addIndex(indexConfig);
+        }
+
+        assertQueries(map);
+        assertBulkInserted(map);
+    }
+
+    @Test
+    public void testMemoryCost_afterRemovingBulkInsertedEntries() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig(false));
+        IMap<Integer, Value> map = instance.getMap("map");
+        IMap<Integer, Value> emptyMap = instance.getMap("empty");
+        fill(map);
+
+        for (IndexConfig indexConfig : indexConfigs()) {
+            map.addIndex(indexConfig);
+            emptyMap.addIndex(indexConfig);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.delete(i);
+        }
+
+        for (String indexName : INDEX_NAMES) {
+            assertEquals(indexName, getMemoryCost(emptyMap, indexName), getMemoryCost(map, indexName));
+        }
+    }
+
+    @Test
+    public void testMigration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance = factory.newHazelcastInstance(getConfig(true));
+        IMap<Integer, Value> map = instance.getMap("map");
+        fill(map);
+
+        HazelcastInstance otherInstance = factory.newHazelcastInstance(getConfig(true));
+        waitAllForSafeState(instance, otherInstance);
+
+        assertQueries(map);
+        assertQueries(otherInstance.getMap("map"));
+        assertBulkInserted(otherInstance.getMap("map"));
+    }
+
+    private Config getConfig(boolean withIndexes) {
+        Config config = smallInstanceConfig();
+        config.setProperty(INDEX_COPY_BEHAVIOR.getName(), copyBehavior.name());
+        if (withIndexes) {
+            config.getMapConfig("map").setIndexConfigs(Arrays.asList(indexConfigs()));
+        }
+        return config;
+    }
+
+    private static IndexConfig[] indexConfigs() {
+        return new IndexConfig[]{
+                new IndexConfig(IndexType.SORTED, "group").setName("sorted"),
+                new IndexConfig(IndexType.HASH, "group").setName("hash"),
+                new IndexConfig(IndexType.SORTED, "id").setName("btree").setStoreType(IndexStoreType.BTREE),
+                new IndexConfig(IndexType.SORTED, "group", "id").setName("composite"),
+                new IndexConfig(IndexType.HASH, "tags[any]").setName("multi-value"),
+        };
+    }
+
+    private static void fill(IMap<Integer, Value> map) {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Value(i));
+        }
+    }
+
+    private static void assertQueries(IMap<Integer, Value> map) {
+        assertEquals(ENTRY_COUNT / 10, map.keySet(Predicates.equal("group", 3)).size());
+        assertEquals(ENTRY_COUNT / 10, map.keySet(Predicates.equal("group", null)).size());
+        assertEquals(100, map.keySet(Predicates.between("id", 100, 199)).size());
+        assertEquals(10, map.keySet(Predicates.and(Predicates.equal("group", 3),
+                Predicates.between("id", 0, 99))).size());
+        assertEquals(ENTRY_COUNT / 2, map.keySet(Predicates.equal("tags[any]", "even")).size());
+        assertEquals(ENTRY_COUNT / 7 + 1, map.keySet(Predicates.equal("tags[any]", "seven")).size());
+    }
+
+    private static void assertBulkInserted(IMap<Integer, Value> map) {
+        for (String indexName : INDEX_NAMES) {
+            LocalIndexStatsImpl stats = (LocalIndexStatsImpl) map.getLocalMapStats().getIndexStats().get(indexName);
+            assertEquals(indexName, map.getLocalMapStats().getOwnedEntryCount(), stats.getBulkInsertedEntryCount());
+        }
+    }
+
+    private static long getMemoryCost(IMap<Integer, Value> map, String indexName) {
+        return map.getLocalMapStats().getIndexStats().get(indexName).getMemoryCost();
+    }
+
+    private static class Value implements Serializable {
+
+        private final int id;
+        private final Integer group;
+        private final String[] tags;
+
+        Value(int id) {
+            this.id = id;
+            this.group = id % 10 == 9 ? null : id % 10;
+            this.tags = id % 7 == 0 ? new String[]{parity(id), "seven"} : new String[]{parity(id)};
+        }
+
+        private static String parity(int id) {
+            return id % 2 == 0 ? "even" : "odd";
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import static com.hazelcast.test.Accessors.getAllIndexes;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PrimitiveHashIndexQueryTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 10000;
+
+    @Test
+    public void testStoreSelection_byIndexConfig() {
+        IMap<Integer, Order> map = createMap();
+
+        assertInstanceOf(PrimitiveHashIndexStore.class, getIndexStore(map, "map_hash_customerId"));
+        assertInstanceOf(PrimitiveHashIndexStore.class, getIndexStore(map, "map_hash_trackingId"));
+        assertInstanceOf(UnorderedIndexStore.class, getIndexStore(map, "map_hash_status"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStoreSelection_whenSortedIndex_thenRejected() {
+        IMap<Integer, Order> map = createMap();
+        map.addIndex(new IndexConfig(IndexType.SORTED, "customerId").setStoreType(IndexStoreType.PRIMITIVE_HASH));
+    }
+
+    @Test
+    public void testQueries() {
+        IMap<Integer, Order> map = createMap();
+        UUID[] trackingIds = new UUID[ENTRY_COUNT];
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            trackingIds[i] = UUID.randomUUID();
+            map.put(i, new Order(i % 1000, trackingIds[i], "status-" + i % 3));
+        }
+
+        assertEquals(ENTRY_COUNT / 1000, map.keySet(Predicates.equal("customerId", 7)).size());
+        assertEquals(ENTRY_COUNT / 1000, map.keySet(Predicates.equal("customerId", 7L)).size());
+        assertEquals(2 * ENTRY_COUNT / 1000, map.keySet(Predicates.in("customerId", 7, 8)).size());
+        assertEquals(1, map.keySet(Predicates.equal("trackingId", trackingIds[42])).size());
+        assertEquals(2, map.keySet(Predicates.in("trackingId", trackingIds[1], trackingIds[2])).size());
+        assertEquals(ENTRY_COUNT / 100, map.keySet(Predicates.lessThan("customerId", 10)).size());
+
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            map.delete(i);
+        }
+        map.put(1, new Order(-1, trackingIds[1], "status-0"));
+
+        assertEquals(0, map.keySet(Predicates.equal("customerId", 8)).size());
+        assertEquals(ENTRY_COUNT / 1000 - 1, map.keySet(Predicates.equal("customerId", 1)).size());
+        assertEquals(1, map.keySet(Predicates.equal("customerId", -1)).size());
+        assertEquals(0, map.keySet(Predicates.equal("trackingId", trackingIds[42])).size());
+    }
+
+    private IMap<Integer, Order> createMap() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("map")
+                .addIndexConfig(new IndexConfig(IndexType.HASH, "customerId").setStoreType(IndexStoreType.PRIMITIVE_HASH))
+                .addIndexConfig(new IndexConfig(IndexType.HASH, "trackingId").setStoreType(IndexStoreType.PRIMITIVE_HASH))
+                .addIndexConfig(new IndexConfig(IndexType.HASH, "status"));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        return instance.getMap("map");
+    }
+
+    private static IndexStore getIndexStore(IMap<?, ?> map, String indexName) {
+        AbstractIndex index = (AbstractIndex) getAllIndexes(map).get(0).getIndex(indexName);
+        return index.indexStore;
+    }
+
+    public static class Order implements Serializable {
+        private final long customerId;
+        private final UUID trackingId;
+        private final String status;
+
+        public Order(long customerId, UUID trackingId, String status) {
+            this.customerId = customerId;
+            this.trackingId = trackingId;
+            this.status = status;
+        }
+
+        public long getCustomerId() {
+            return customerId;
+        }
+
+        public UUID getTrackingId() {
+            return trackingId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link PrimitiveHashIndexStore} against {@link UnorderedIndexStore}
+ * with values of every kind of posting.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PrimitiveHashIndexStoreTest {
+
+    private static final int ENTRY_COUNT = 10000;
+    private static final SerializationService SERIALIZATION_SERVICE = new DefaultSerializationServiceBuilder().build();
+
+    private final Random random = new Random(42);
+    private final PrimitiveHashIndexStore store = new PrimitiveHashIndexStore();
+    private final UnorderedIndexStore expectedStore = new UnorderedIndexStore(IndexCopyBehavior.NEVER);
+
+    @Before
+    public void setup() {
+        for (int key : shuffledKeys()) {
+            insert(key);
+        }
+    }
+
+    @Test
+    public void testPointLookups() {
+        for (int key = 0; key < ENTRY_COUNT; key += 13) {
+            Comparable value = valueOf(key);
+            assertSameRecords(expectedStore.getRecords(value), store.getRecords(value));
+        }
+        assertSameRecords(expectedStore.getRecords(NULL), store.getRecords(NULL));
+        assertTrue(store.getRecords(-1).isEmpty());
+        assertTrue(store.getRecords(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    public void testPointLookups_canonicalizeQueryArguments() {
+        Comparable value = valueOf(10);
+        assertEquals(Integer.class, value.getClass());
+
+        assertSameRecords(store.getRecords(value), store.getRecords(((Integer) value).longValue()));
+        assertSameRecords(store.getRecords(value), store.getRecords(((Integer) value).doubleValue()));
+    }
+
+    @Test
+    public void testInLookups() {
+        Set<Comparable> values = new HashSet<>();
+        for (int key = 0; key < 100; key++) {
+            values.add(store.canonicalizeQueryArgumentScalar(valueOf(key)));
+        }
+        values.add(NULL);
+
+        assertSameRecords(expectedStore.getRecords(values), store.getRecords(values));
+    }
+
+    @Test
+    public void testComparisonsAndRanges() {
+        // only numbers are comparable with each other
+        PrimitiveHashIndexStore numericStore = new PrimitiveHashIndexStore();
+        UnorderedIndexStore expectedNumericStore = new UnorderedIndexStore(IndexCopyBehavior.NEVER);
+        for (int key = 0; key < ENTRY_COUNT; key++) {
+            Comparable value = UnorderedIndexStore.canonicalizeNumberForStorage(
+                    key % 2 == 0 ? (long) key % 100 : key * 1_000_000L);
+            numericStore.insertInternal(value, new Entry(key));
+            expectedNumericStore.insertInternal(value, new Entry(key));
+        }
+
+        for (Comparison comparison : Comparison.values()) {
+            assertSameRecords(expectedNumericStore.getRecords(comparison, 50), numericStore.getRecords(comparison, 50));
+            assertSameRecords(expectedNumericStore.getRecords(comparison, 5_000_000_000L),
+                    numericStore.getRecords(comparison, 5_000_000_000L));
+        }
+        assertSameRecords(expectedNumericStore.getRecords(10, true, 20, false),
+                numericStore.getRecords(10, true, 20, false));
+        assertSameRecords(expectedNumericStore.getRecords(10, false, 10, true),
+                numericStore.getRecords(10, false, 10, true));
+        assertSameRecords(expectedNumericStore.getRecords(10, true, 10, true),
+                numericStore.getRecords(10, true, 10, true));
+    }
+
+    @Test
+    public void testFullScan() {
+        Set<QueryableEntry> expected = new HashSet<>();
+        expectedStore.getSqlRecordIterator(false).forEachRemaining(expected::add);
+        Set<QueryableEntry> actual = new HashSet<>();
+        store.getSqlRecordIterator(false).forEachRemaining(actual::add);
+
+        assertEquals(ENTRY_COUNT, actual.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testUpdate_replacesEntry() {
+        for (int key : new int[]{0, 1, 2, 3}) {
+            Entry entry = new Entry(key);
+            Object oldEntry = store.insertInternal(valueOf(key), entry);
+
+            assertEquals(new Entry(key), oldEntry);
+            assertSame(entry, store.getRecords(valueOf(key)).stream()
+                    .filter(e -> e.getKey().equals(key)).findFirst().get());
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        List<Integer> keys = shuffledKeys();
+        for (int i = 0; i < keys.size(); i++) {
+            int key = keys.get(i);
+            assertEquals(expectedStore.removeInternal(valueOf(key), keyData(key)),
+                    store.removeInternal(valueOf(key), keyData(key)));
+            if (i % (ENTRY_COUNT / 4) == 0) {
+                testPointLookups();
+            }
+        }
+
+        assertNull(store.removeInternal(valueOf(0), keyData(0)));
+        assertFalse(store.getSqlRecordIterator(false).hasNext());
+
+        setup();
+        testPointLookups();
+    }
+
+    @Test
+    public void testClear() {
+        store.clear();
+
+        assertFalse(store.getSqlRecordIterator(false).hasNext());
+        insert(1);
+        assertEquals(1, store.getRecords(valueOf(1)).size());
+    }
+
+    private void insert(int key) {
+        expectedStore.insertInternal(valueOf(key), new Entry(key));
+        store.insertInternal(valueOf(key), new Entry(key));
+    }
+
+    private List<Integer> shuffledKeys() {
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            keys.add(i);
+        }
+        Collections.shuffle(keys, random);
+        return keys;
+    }
+
+    /**
+     * Spreads the keys over single entry, array and map postings of every
+     * kind of value.
+     */
+    private static Comparable valueOf(int key) {
+        int value = key % 1000;
+        Comparable result = switch (key % 5) {
+            case 0 -> value < 10 ? value : value / 3;
+            case 1 -> value + 5_000_000_000L;
+            case 2 -> new UUID(value % 7, value);
+            case 3 -> "value-" + (value % 100);
+            default -> value == 4 ? NULL : 0.5 + value / 50;
+        };
+        return UnorderedIndexStore.canonicalizeNumberForStorage(result);
+    }
+
+    private static Data keyData(int key) {
+        return SERIALIZATION_SERVICE.toData(key);
+    }
+
+    private static void assertSameRecords(Set<QueryableEntry> expected, Set<QueryableEntry> actual) {
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+    }
+
+    private static class Entry extends QueryEntry {
+        private final int key;
+        private final Data keyData;
+
+        Entry(int key) {
+            this.key = key;
+            this.keyData = keyData(key);
+        }
+
+        @Override
+        public Data getKeyData() {
+            return keyData;
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry that && key == that.key;
+        }
+
+        @Override
+        public int hashCode() {
+            return key;
+        }
+    }
+}
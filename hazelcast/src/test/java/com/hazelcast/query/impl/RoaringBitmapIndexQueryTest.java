@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexStoreType;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RoaringBitmapIndexQueryTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 10000;
+
+    @Test
+    public void testQueries() {
+        IMap<Integer, Integer> map = createMap();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i % 100);
+        }
+
+        assertEquals(ENTRY_COUNT / 100, map.keySet(Predicates.equal("this", 7)).size());
+        assertEquals(ENTRY_COUNT / 50, map.keySet(Predicates.in("this", 1, 2)).size());
+        assertEquals(ENTRY_COUNT / 50, map.keySet(Predicates.or(Predicates.equal("this", 1),
+                Predicates.equal("this", 2))).size());
+        assertEquals(0, map.keySet(Predicates.and(Predicates.equal("this", 1),
+                Predicates.equal("this", 2))).size());
+        assertEquals(ENTRY_COUNT - ENTRY_COUNT / 100, map.keySet(Predicates.notEqual("this", 7)).size());
+
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            map.delete(i);
+        }
+        map.put(1, 200);
+
+        assertEquals(ENTRY_COUNT / 100, map.keySet(Predicates.in("this", 3, 4)).size());
+        assertEquals(1, map.keySet(Predicates.equal("this", 200)).size());
+        assertEquals(0, map.keySet(Predicates.equal("this", 10)).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStoreSelection_whenSortedIndex_thenRejected() {
+        IMap<Integer, Integer> map = createMap();
+        map.addIndex(new IndexConfig(IndexType.SORTED, "this").setStoreType(IndexStoreType.ROARING_BITMAP));
+    }
+
+    private IMap<Integer, Integer> createMap() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("map")
+                .addIndexConfig(new IndexConfig(IndexType.BITMAP, "this").setStoreType(IndexStoreType.ROARING_BITMAP));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        return instance.getMap("map");
+    }
+}
@@ -20,14 +20,18 @@ import com.hazelcast.internal.monitor.impl.GlobalIndexOperationStats;
 import com.hazelcast.internal.monitor.impl.IndexOperationStats;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
-import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastParametrizedRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.SortedSet;
@@ -41,9 +45,12 @@ import static com.hazelcast.query.Predicates.notEqual;
 import static com.hazelcast.query.Predicates.or;
 import static com.hazelcast.query.impl.TypeConverters.INTEGER_CONVERTER;
 import static org.junit.Assert.assertEquals;
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertFalse;
+import static org.junit.runners.Parameterized.UseParametersRunnerFactory;
 
-@RunWith(HazelcastParallelClassRunner.class)
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class BitmapTest {
 
@@ -89,10 +96,23 @@ public class BitmapTest {
         expectedQueries[9] = new ExpectedQuery(value -> bit(1, value));
     }
 
-    private final Bitmap<String> bitmap = new Bitmap<>();
+    @Parameterized.Parameters(name = "roaring:{0}")
+    public static Collection<Object[]> parameters() {
+        return asList(new Object[][]{{false}, {true}});
+    }
+
+    @Parameterized.Parameter
+    public boolean roaring;
+
+    private Bitmap<String> bitmap;
 
     private final IndexOperationStats operationStats = new GlobalIndexOperationStats();
 
+    @Before
+    public void before() {
+        bitmap = new Bitmap<>(roaring);
+    }
+
     @Test
     public void testInsertUpdateRemove() {
         // insert
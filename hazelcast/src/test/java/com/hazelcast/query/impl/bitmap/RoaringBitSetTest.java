@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.bitmap;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.hazelcast.query.impl.bitmap.RoaringBitSet.ARRAY_CONTAINER_MAX_SIZE;
+import static com.hazelcast.query.impl.bitmap.RoaringBitSet.CHUNK_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RoaringBitSetTest {
+
+    private final Random random = new Random(42);
+
+    private final NavigableSet<Long> expected = new TreeSet<>();
+    private final RoaringBitSet actual = new RoaringBitSet();
+
+    @Test
+    public void testAddRemove_arrayToBitmapAndBack() {
+        for (long i = 0; i <= ARRAY_CONTAINER_MAX_SIZE; ++i) {
+            set(i * 3);
+        }
+        assertContainer(RoaringBitSet.BitmapContainer.class, 0);
+        verify();
+
+        for (long i = 0; i <= ARRAY_CONTAINER_MAX_SIZE; i += 2) {
+            clear(i * 3);
+        }
+        assertContainer(RoaringBitSet.ArrayContainer.class, 0);
+        verify();
+    }
+
+    @Test
+    public void testAddRemove_runs() {
+        for (long i = 0; i < CHUNK_SIZE; ++i) {
+            set(i);
+        }
+        assertContainer(RoaringBitSet.RunContainer.class, 0);
+        verify();
+
+        // split the single run into many
+        for (long i = 100; i < CHUNK_SIZE; i += 100) {
+            clear(i);
+        }
+        assertContainer(RoaringBitSet.RunContainer.class, 0);
+        verify();
+
+        // join them back
+        for (long i = 100; i < CHUNK_SIZE; i += 100) {
+            set(i);
+        }
+        verify();
+
+        // too many runs are kept in a bitmap
+        for (long i = 1; i < CHUNK_SIZE; i += 4) {
+            clear(i);
+        }
+        assertContainer(RoaringBitSet.BitmapContainer.class, 0);
+        verify();
+    }
+
+    @Test
+    public void testAddRemove_random() {
+        for (int i = 0; i < 100000; ++i) {
+            long member = randomMember();
+            if (random.nextInt(3) == 0) {
+                clear(member);
+            } else {
+                set(member);
+            }
+        }
+        verify();
+
+        for (long member : new TreeSet<>(expected)) {
+            clear(member);
+        }
+        verify();
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    public void testRemove_reportsEmptiness() {
+        actual.add(1);
+        actual.add(CHUNK_SIZE * 5L);
+
+        assertFalse(actual.remove(2));
+        assertFalse(actual.remove(1));
+        assertTrue(actual.remove(CHUNK_SIZE * 5L));
+    }
+
+    @Test
+    public void testEdgeMembers() {
+        set(0);
+        set(CHUNK_SIZE - 1);
+        set(CHUNK_SIZE);
+        set(Integer.MAX_VALUE);
+        set(Long.MAX_VALUE - 1);
+        set(Long.MAX_VALUE);
+        verify();
+    }
+
+    @Test
+    public void testAdvanceAtLeastTo() {
+        for (int i = 0; i < 20000; ++i) {
+            set(randomMember());
+        }
+
+        AscendingLongIterator iterator = actual.iterator();
+        long member = 0;
+        while (true) {
+            Long next = expected.ceiling(member);
+            long index = iterator.advanceAtLeastTo(member);
+            assertEquals(next == null ? AscendingLongIterator.END : next, index);
+            if (next == null) {
+                break;
+            }
+            member = next + 1 + random.nextInt(CHUNK_SIZE * 2);
+        }
+    }
+
+    @Test
+    public void testSetOperations() {
+        for (int round = 0; round < 20; ++round) {
+            RoaringBitSet[] bitSets = new RoaringBitSet[3];
+            @SuppressWarnings("unchecked")
+            NavigableSet<Long>[] sets = new NavigableSet[3];
+            for (int i = 0; i < bitSets.length; ++i) {
+                bitSets[i] = new RoaringBitSet();
+                sets[i] = new TreeSet<>();
+                int count = random.nextInt(20000);
+                for (int j = 0; j < count; ++j) {
+                    long member = randomMember();
+                    bitSets[i].add(member);
+                    sets[i].add(member);
+                }
+            }
+
+            NavigableSet<Long> and = new TreeSet<>(sets[0]);
+            and.retainAll(sets[1]);
+            and.retainAll(sets[2]);
+            verify(and, BitmapAlgorithms.and(bitSets));
+
+            NavigableSet<Long> or = new TreeSet<>(sets[0]);
+            or.addAll(sets[1]);
+            or.addAll(sets[2]);
+            verify(or, BitmapAlgorithms.or(bitSets));
+            verify(or, RoaringBitSet.or(RoaringBitSet.or(bitSets[0], bitSets[1]), bitSets[2]));
+
+            NavigableSet<Long> andNot = new TreeSet<>(sets[0]);
+            andNot.removeAll(sets[1]);
+            verify(andNot, RoaringBitSet.andNot(bitSets[0], bitSets[1]));
+            verify(and, RoaringBitSet.andNot(bitSets[0], RoaringBitSet.andNot(bitSets[0],
+                    RoaringBitSet.and(bitSets[1], bitSets[2]))));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        for (long i = 0; i < 10000; ++i) {
+            set(i * 7);
+        }
+        actual.clear();
+        expected.clear();
+        verify();
+
+        set(5);
+        verify();
+    }
+
+    /**
+     * Produces members from a few chunks with sparse, dense and consecutive
+     * regions to exercise every container type.
+     */
+    private long randomMember() {
+        long chunk = random.nextInt(4) * 1000L;
+        int low = switch (random.nextInt(3)) {
+            case 0 -> random.nextInt(CHUNK_SIZE);
+            case 1 -> random.nextInt(CHUNK_SIZE / 8);
+            default -> CHUNK_SIZE / 2 + random.nextInt(64);
+        };
+        return chunk * CHUNK_SIZE + low;
+    }
+
+    private void set(long member) {
+        expected.add(member);
+        actual.add(member);
+        assertTrue(actual.contains(member));
+    }
+
+    private void clear(long member) {
+        expected.remove(member);
+        actual.remove(member);
+        assertFalse(actual.contains(member));
+    }
+
+    private void assertContainer(Class<?> expectedClass, long chunk) {
+        assertEquals(expectedClass, actual.getContainer(chunk).getClass());
+    }
+
+    private void verify() {
+        verify(expected, actual);
+    }
+
+    private static void verify(NavigableSet<Long> expected, RoaringBitSet actual) {
+        assertEquals(expected.size(), actual.cardinality());
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+
+        AscendingLongIterator iterator = actual.iterator();
+        for (long member : expected) {
+            assertEquals(member, iterator.getIndex());
+            assertEquals(member, iterator.advance());
+        }
+        assertEquals(AscendingLongIterator.END, iterator.getIndex());
+        assertEquals(AscendingLongIterator.END, iterator.advance());
+    }
+
+}
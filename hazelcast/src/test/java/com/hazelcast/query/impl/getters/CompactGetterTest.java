@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.getters;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.compact.CompactTestUtil;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static com.hazelcast.query.impl.getters.CompactPrimitiveFieldReader.NOT_READ;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactGetterTest {
+
+    private static final List<String> PRIMITIVE_FIELDS = List.of("boolean", "boolean2", "int8", "int16", "int32",
+            "int64", "float32", "float64", "nullableBoolean", "nullableInt8", "nullableInt16", "nullableInt32",
+            "nullableInt64", "nullableFloat32", "nullableFloat64", "nullInt32");
+
+    @Test
+    public void testPrimitiveFields_readDirectly() throws Exception {
+        for (ByteOrder byteOrder : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+            // the string length selects the byte, short and int offset readers
+            for (int stringLength : new int[]{0, 10, 1000, 100_000}) {
+                InternalSerializationService ss = createSerializationService(byteOrder);
+                Data data = ss.toData(createRecord(stringLength));
+
+                for (String field : PRIMITIVE_FIELDS) {
+                    Object value = new CompactPrimitiveFieldReader(field, ss).read((HeapData) data);
+                    assertNotSame(NOT_READ, value);
+                    assertEquals(field, readWithRecord(ss, data, field), value);
+                    assertEquals(field, value, new CompactGetter(ss).getValue(data, field));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFixedSizeFieldsOnly() throws Exception {
+        InternalSerializationService ss = createSerializationService(ByteOrder.BIG_ENDIAN);
+        GenericRecord record = GenericRecordBuilder.compact("fixed")
+                .setBoolean("boolean", true)
+                .setInt32("int32", -5)
+                .setFloat64("float64", 2.5)
+                .build();
+        Data data = ss.toData(record);
+
+        CompactGetter getter = new CompactGetter(ss);
+        assertEquals(true, getter.getValue(data, "boolean"));
+        assertEquals(-5, getter.getValue(data, "int32"));
+        assertEquals(2.5, getter.getValue(data, "float64"));
+    }
+
+    @Test
+    public void testNonPrimitiveOrMissingFields_readWithRecord() throws Exception {
+        InternalSerializationService ss = createSerializationService(ByteOrder.BIG_ENDIAN);
+        Data data = ss.toData(createRecord(10));
+
+        for (String field : new String[]{"string", "nested", "nested.int32", "missing", "int32Array[0]"}) {
+            assertSame(NOT_READ, new CompactPrimitiveFieldReader(field, ss).read((HeapData) data));
+            assertEquals(field, readWithRecord(ss, data, field), new CompactGetter(ss).getValue(data, field));
+        }
+    }
+
+    @Test
+    public void testSchemaVersions() throws Exception {
+        InternalSerializationService ss = createSerializationService(ByteOrder.BIG_ENDIAN);
+        CompactGetter getter = new CompactGetter(ss);
+        Data oldVersion = ss.toData(GenericRecordBuilder.compact("type")
+                .setInt32("b", 1)
+                .build());
+        Data newVersion = ss.toData(GenericRecordBuilder.compact("type")
+                .setInt64("a", 5)
+                .setInt32("b", 2)
+                .setString("c", "value")
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(1, getter.getValue(oldVersion, "b"));
+            assertEquals(2, getter.getValue(newVersion, "b"));
+            assertEquals(null, getter.getValue(oldVersion, "a"));
+            assertEquals(5L, getter.getValue(newVersion, "a"));
+        }
+    }
+
+    @Test
+    public void testGenericRecordTarget() throws Exception {
+        InternalSerializationService ss = createSerializationService(ByteOrder.BIG_ENDIAN);
+        GenericRecord record = createRecord(10);
+
+        assertEquals(42, new CompactGetter(ss).getValue(record, "int32"));
+    }
+
+    @Test
+    public void isCacheable() {
+        assertFalse(new CompactGetter(null).isCacheable());
+    }
+
+    private static Object readWithRecord(InternalSerializationService ss, Data data, String field) throws Exception {
+        return new GenericRecordQueryReader(ss.readAsInternalGenericRecord(data), false).read(field);
+    }
+
+    private static InternalSerializationService createSerializationService(ByteOrder byteOrder) {
+        return CompactTestUtil.createSerializationService(new SerializationConfig().setByteOrder(byteOrder));
+    }
+
+    private static GenericRecord createRecord(int stringLength) {
+        return GenericRecordBuilder.compact("type" + stringLength)
+                .setBoolean("boolean", true)
+                .setBoolean("boolean2", false)
+                .setInt8("int8", (byte) -3)
+                .setInt16("int16", (short) 1234)
+                .setInt32("int32", 42)
+                .setInt64("int64", Long.MIN_VALUE + 7)
+                .setFloat32("float32", 1.5F)
+                .setFloat64("float64", -0.25)
+                .setString("string", "x".repeat(stringLength))
+                .setNullableBoolean("nullableBoolean", true)
+                .setNullableInt8("nullableInt8", (byte) 8)
+                .setNullableInt16("nullableInt16", (short) -16)
+                .setNullableInt32("nullableInt32", 32)
+                .setNullableInt64("nullableInt64", 64L)
+                .setNullableFloat32("nullableFloat32", 32.5F)
+                .setNullableFloat64("nullableFloat64", 64.5)
+                .setNullableInt32("nullInt32", null)
+                .setArrayOfInt32("int32Array", new int[]{1, 2})
+                .setGenericRecord("nested", GenericRecordBuilder.compact("nested").setInt32("int32", 1).build())
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.predicates;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.IndexRegistry;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.ilike;
+import static com.hazelcast.query.Predicates.like;
+import static com.hazelcast.query.Predicates.sql;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_PLAN_CACHE_SIZE;
+import static com.hazelcast.test.Accessors.getAllIndexes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class QueryPlanCacheTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    @Test
+    public void testRepeatedQueries_reuseCachedPlan() {
+        IMap<Integer, Integer> map = createMap(smallInstanceConfig());
+
+        assertEquals(9, map.keySet(sql("this > 10 and this < 20")).size());
+        LocalMapStats stats = map.getLocalMapStats();
+        long misses = stats.getQueryPlanCacheMisses();
+        long hits = stats.getQueryPlanCacheHits();
+        assertEquals(1, getQueryPlanCache(map).size());
+
+        assertEquals(9, map.keySet(sql("this > 10 and this < 20")).size());
+        assertEquals(9, map.keySet(sql("this>10  AND  this<20")).size());
+
+        stats = map.getLocalMapStats();
+        assertEquals(misses, stats.getQueryPlanCacheMisses());
+        assertTrue(stats.getQueryPlanCacheHits() >= hits + 2);
+        assertEquals(1, getQueryPlanCache(map).size());
+    }
+
+    @Test
+    public void testIndexChanges_invalidatePlans() {
+        IMap<Integer, Integer> map = createMap(smallInstanceConfig());
+        map.keySet(sql("this > 10"));
+        assertEquals(1, getQueryPlanCache(map).size());
+
+        map.addIndex(IndexType.HASH, "__key");
+        assertEquals(0, getQueryPlanCache(map).size());
+
+        assertEquals(89, map.keySet(sql("this > 10")).size());
+        assertEquals(1, getQueryPlanCache(map).size());
+    }
+
+    @Test
+    public void testUnresolvedConverters_planNotCached() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("map").addIndexConfig(new IndexConfig(IndexType.SORTED, "this"));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap("map");
+
+        assertEquals(0, map.keySet(sql("this > 10")).size());
+        assertEquals(0, getQueryPlanCache(map).size());
+
+        map.put(11, 11);
+        assertEquals(1, map.keySet(sql("this > 10")).size());
+        assertEquals(1, getQueryPlanCache(map).size());
+    }
+
+    @Test
+    public void testLikeAndILike_haveDistinctPlans() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("map").addIndexConfig(new IndexConfig(IndexType.SORTED, "this"));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, String> map = instance.getMap("map");
+        map.put(1, "Hazelcast");
+        map.put(2, "hazelcast");
+
+        assertEquals(1, map.keySet(like("this", "h%")).size());
+        assertEquals(2, map.keySet(ilike("this", "h%")).size());
+        assertEquals(1, map.keySet(like("this", "h%")).size());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        Config config = smallInstanceConfig().setProperty(QUERY_PLAN_CACHE_SIZE.getName(), "0");
+        IMap<Integer, Integer> map = createMap(config);
+
+        assertEquals(9, map.keySet(sql("this > 10 and this < 20")).size());
+        assertNull(getQueryPlanCache(map));
+        assertEquals(0, map.getLocalMapStats().getQueryPlanCacheMisses());
+    }
+
+    @Test
+    public void testToPlanKey() {
+        Predicate predicate = and(equal("a", 1), Predicates.not(equal("b", 2)));
+        assertSame(predicate, QueryPlanCache.toPlanKey(predicate));
+        assertEquals(QueryPlanCache.toPlanKey(sql("a = 1")), QueryPlanCache.toPlanKey(sql("a=1")));
+
+        assertNull(QueryPlanCache.toPlanKey(entry -> true));
+        assertNull(QueryPlanCache.toPlanKey(and(equal("a", 1), entry -> true)));
+        assertNull(QueryPlanCache.toPlanKey(Predicates.pagingPredicate(equal("a", 1), 10)));
+        assertNull(QueryPlanCache.toPlanKey(Predicates.partitionPredicate(1, equal("a", 1))));
+    }
+
+    @Test
+    public void testSizeBound_evictsLeastRecentlyUsed() {
+        QueryPlanCache cache = new QueryPlanCache(2);
+        Predicate first = equal("a", 1);
+        Predicate second = equal("a", 2);
+        Predicate third = equal("a", 3);
+
+        cache.put(first, first, cache.getVersion());
+        cache.put(second, second, cache.getVersion());
+        assertNotNull(cache.get(first));
+        cache.put(third, third, cache.getVersion());
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get(first));
+        assertNull(cache.get(second));
+        assertSame(third, cache.get(third));
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testSizeBound_whenManyPlansPutAtOnce_thenKeepsMostRecentlyUsed() {
+        int maxSize = 1000;
+        QueryPlanCache cache = new QueryPlanCache(maxSize);
+        for (int i = 0; i < 2 * maxSize; i++) {
+            Predicate predicate = equal("a", i);
+            cache.put(predicate, predicate, cache.getVersion());
+        }
+
+        assertEquals(maxSize, cache.size());
+        for (int i = 0; i < maxSize; i++) {
+            assertNull(cache.get(equal("a", i)));
+            assertNotNull(cache.get(equal("a", maxSize + i)));
+        }
+    }
+
+    @Test
+    public void testPut_afterClear_ignoresOutdatedPlan() {
+        QueryPlanCache cache = new QueryPlanCache(2);
+        Predicate predicate = equal("a", 1);
+
+        long version = cache.getVersion();
+        cache.clear();
+        cache.put(predicate, predicate, version);
+
+        assertEquals(0, cache.size());
+    }
+
+    private IMap<Integer, Integer> createMap(Config config) {
+        config.getMapConfig("map").addIndexConfig(new IndexConfig(IndexType.SORTED, "this"));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        return map;
+    }
+
+    private static QueryPlanCache getQueryPlanCache(IMap<?, ?> map) {
+        IndexRegistry indexRegistry = getAllIndexes(map).get(0);
+        return indexRegistry.getQueryPlanCache();
+    }
+}
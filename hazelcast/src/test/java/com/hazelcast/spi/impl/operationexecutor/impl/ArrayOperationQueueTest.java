@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestThread;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_QUEUE_CAPACITY;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_QUEUE_TYPE;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ArrayOperationQueueTest extends HazelcastTestSupport {
+
+    private final ArrayOperationQueue queue = new ArrayOperationQueue(4);
+
+    @Test(expected = NullPointerException.class)
+    public void add_whenNull() {
+        queue.add(null, false);
+    }
+
+    @Test
+    public void poll_priorityBeforeNormal() {
+        queue.add("normal1", false);
+        queue.add("priority1", true);
+        queue.add("normal2", false);
+        queue.add("priority2", true);
+
+        assertEquals(2, queue.normalSize());
+        assertEquals(2, queue.prioritySize());
+        assertEquals(4, queue.size());
+        assertEquals("priority1", queue.poll());
+        assertEquals("priority2", queue.poll());
+        assertEquals("normal1", queue.poll());
+        assertEquals("normal2", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void add_whenArrayFull_thenOverflowRetainsOrder() {
+        for (int i = 0; i < 10; i++) {
+            queue.add(i, false);
+        }
+        assertEquals(10, queue.normalSize());
+
+        assertEquals(0, queue.poll());
+        // the array has room again, but the overflowing tasks need to be taken first
+        queue.add(10, false);
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void take_whenParked_thenWokenUpByAdd() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Object task = new Object();
+        TestThread consumer = new TestThread() {
+            @Override
+            public void doRun() throws Throwable {
+                started.countDown();
+                assertSame(task, queue.take(false));
+            }
+        };
+        queue.setConsumerThread(consumer);
+        consumer.start();
+        started.await();
+        assertTrueEventually(() -> assertEquals(Thread.State.WAITING, consumer.getState()));
+
+        queue.add(task, false);
+
+        consumer.assertSucceedsEventually();
+    }
+
+    @Test
+    public void take_whenInterrupted() {
+        TestThread consumer = new TestThread() {
+            @Override
+            public void doRun() throws Throwable {
+                queue.take(false);
+            }
+        };
+        queue.setConsumerThread(consumer);
+        consumer.start();
+        assertTrueEventually(() -> assertEquals(Thread.State.WAITING, consumer.getState()));
+
+        consumer.interrupt();
+
+        consumer.assertFailsEventually(InterruptedException.class);
+    }
+
+    @Test
+    public void take_whenManyProducers_thenFifoPerProducer() {
+        int producerCount = 3;
+        int taskCount = 200_000;
+        TestThread consumer = new TestThread() {
+            @Override
+            public void doRun() throws Throwable {
+                int[] expected = new int[producerCount];
+                for (int i = 0; i < producerCount * taskCount; i++) {
+                    int[] task = (int[]) queue.take(false);
+                    assertEquals(expected[task[0]]++, task[1]);
+                }
+            }
+        };
+        queue.setConsumerThread(consumer);
+        consumer.start();
+
+        for (int producerId = 0; producerId < producerCount; producerId++) {
+            int id = producerId;
+            new Thread(() -> {
+                for (int i = 0; i < taskCount; i++) {
+                    queue.add(new int[]{id, i}, false);
+                }
+            }).start();
+        }
+
+        consumer.assertSucceedsEventually();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testPartitionOperationThreads() {
+        Config config = smallInstanceConfig()
+                .setProperty(PARTITION_OPERATION_QUEUE_TYPE.getName(), "array")
+                .setProperty(PARTITION_OPERATION_QUEUE_CAPACITY.getName(), "8");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap("map");
+
+        for (int i = 0; i < 1000; i++) {
+            map.putAsync(i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        assertEquals(1000, map.size());
+        OperationExecutorImpl executor = (OperationExecutorImpl) getOperationService(instance).getOperationExecutor();
+        for (PartitionOperationThread thread : executor.getPartitionThreads()) {
+            assertTrue(thread.queue instanceof ArrayOperationQueue);
+        }
+    }
+}
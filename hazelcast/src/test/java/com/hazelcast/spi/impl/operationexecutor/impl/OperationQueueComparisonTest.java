@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.util.concurrent.MPSCQueue;
+import com.hazelcast.test.HazelcastParametrizedRunner;
+import com.hazelcast.test.HazelcastSerialParametersRunnerFactory;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestThread;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs the same producer/consumer workload against the {@link ArrayOperationQueue}
+ * and the {@link OperationQueueImpl} backed by a blocking {@link MPSCQueue}, the
+ * queue the partition threads use by default.
+ */
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastSerialParametersRunnerFactory.class)
+@Category(QuickTest.class)
+public class OperationQueueComparisonTest extends HazelcastTestSupport {
+
+    private static final int PRODUCER_COUNT = 4;
+    private static final int ARRAY_CAPACITY = 1024;
+
+    @Parameters(name = "queueType: {0}")
+    public static Collection<Object> parameters() {
+        return asList("linked", "array");
+    }
+
+    @Parameter
+    public String queueType;
+
+    @Test
+    public void take_retainsOrderPerProducer() {
+        // more tasks than the array holds, so the array queue overflows
+        ConsumerThread consumer = new ConsumerThread(100 * ARRAY_CAPACITY);
+        OperationQueue queue = newQueue(consumer);
+
+        run(queue, consumer);
+
+        assertEquals(PRODUCER_COUNT * consumer.tasksPerProducer, consumer.normalTaken);
+        assertEquals(PRODUCER_COUNT * (consumer.tasksPerProducer / ProducerThread.PRIORITY_EVERY), consumer.priorityTaken);
+    }
+
+    /**
+     * Compares the throughput of the queues, to be run manually.
+     */
+    @Test
+    @Ignore("benchmark, the result depends on the machine")
+    public void throughput() {
+        for (int round = 0; round < 5; round++) {
+            ConsumerThread consumer = new ConsumerThread(5_000_000);
+            OperationQueue queue = newQueue(consumer);
+
+            long startNanos = System.nanoTime();
+            run(queue, consumer);
+            long durationNanos = System.nanoTime() - startNanos;
+
+            long taskCount = PRODUCER_COUNT * consumer.tasksPerProducer;
+            System.out.println(queueType + ": " + taskCount / Math.max(1, NANOSECONDS.toMillis(durationNanos))
+                    + " tasks/ms");
+        }
+    }
+
+    private OperationQueue newQueue(Thread consumer) {
+        if (queueType.equals("array")) {
+            ArrayOperationQueue queue = new ArrayOperationQueue(ARRAY_CAPACITY);
+            queue.setConsumerThread(consumer);
+            return queue;
+        }
+        // blocking, like with the default idle strategy of the partition threads
+        MPSCQueue<Object> normalQueue = new MPSCQueue<>(null);
+        normalQueue.setConsumerThread(consumer);
+        return new OperationQueueImpl(normalQueue, new ConcurrentLinkedQueue<>());
+    }
+
+    private static void run(OperationQueue queue, ConsumerThread consumer) {
+        consumer.queue = queue;
+        ProducerThread[] producers = new ProducerThread[PRODUCER_COUNT];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new ProducerThread(queue, i, consumer.tasksPerProducer);
+        }
+
+        consumer.start();
+        for (ProducerThread producer : producers) {
+            producer.start();
+        }
+        for (ProducerThread producer : producers) {
+            producer.assertSucceedsEventually();
+        }
+        consumer.assertSucceedsEventually();
+    }
+
+    private record Task(int producer, int sequence) {
+    }
+
+    private static class ProducerThread extends TestThread {
+
+        static final int PRIORITY_EVERY = 100;
+
+        private final OperationQueue queue;
+        private final int producer;
+        private final int taskCount;
+
+        ProducerThread(OperationQueue queue, int producer, int taskCount) {
+            super("ProducerThread-" + producer);
+            this.queue = queue;
+            this.producer = producer;
+            this.taskCount = taskCount;
+        }
+
+        @Override
+        public void doRun() {
+            for (int sequence = 0; sequence < taskCount; sequence++) {
+                queue.add(new Task(producer, sequence), false);
+                if ((sequence + 1) % PRIORITY_EVERY == 0) {
+                    queue.add(new Task(producer, -1), true);
+                }
+            }
+        }
+    }
+
+    private static class ConsumerThread extends TestThread {
+
+        final int tasksPerProducer;
+        final int[] nextSequences = new int[PRODUCER_COUNT];
+        volatile OperationQueue queue;
+        long normalTaken;
+        long priorityTaken;
+
+        ConsumerThread(int tasksPerProducer) {
+            super("ConsumerThread");
+            this.tasksPerProducer = tasksPerProducer;
+        }
+
+        @Override
+        public void doRun() throws Throwable {
+            while (normalTaken < (long) PRODUCER_COUNT * tasksPerProducer
+                    || priorityTaken < (long) PRODUCER_COUNT * (tasksPerProducer / ProducerThread.PRIORITY_EVERY)) {
+                Task task = (Task) queue.take(false);
+                if (task.sequence() < 0) {
+                    priorityTaken++;
+                } else {
+                    assertEquals("task of producer " + task.producer(), nextSequences[task.producer()]++, task.sequence());
+                    normalTaken++;
+                }
+            }
+        }
+    }
+}
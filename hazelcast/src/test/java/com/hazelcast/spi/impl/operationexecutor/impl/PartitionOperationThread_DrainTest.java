@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.NodeExtension;
+import com.hazelcast.internal.networking.OutboundFrame;
+import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_DRAIN_SIZE;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class PartitionOperationThread_DrainTest extends HazelcastTestSupport {
+
+    private final ArrayOperationQueue queue = new ArrayOperationQueue(64);
+    private final Map<Connection, List<List<OutboundFrame>>> writes = new ConcurrentHashMap<>();
+    private final List<Boolean> deferred = new CopyOnWriteArrayList<>();
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+    private PartitionOperationThread thread;
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (thread != null) {
+            thread.shutdown();
+            thread.awaitTermination(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS);
+        }
+        factory.terminateAll();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setDrainSize_whenZero() {
+        newThread().setDrainSize(0);
+    }
+
+    @Test
+    public void deferWrite_whenNotOnPartitionThread() {
+        assertFalse(PartitionOperationThread.deferWrite(newConnection(), new Packet()));
+    }
+
+    @Test
+    public void drain_writesFramesOncePerConnection() {
+        Connection connection1 = newConnection();
+        Connection connection2 = newConnection();
+        List<OutboundFrame> frames = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            OutboundFrame frame = new Packet();
+            frames.add(frame);
+            queue.add(deferWriteTask(i % 2 == 0 ? connection1 : connection2, frame), false);
+        }
+
+        startThread(16);
+
+        assertTrueEventually(() -> {
+            assertEquals(List.of(asList(frames.get(0), frames.get(2))), writes.get(connection1));
+            assertEquals(List.of(asList(frames.get(1), frames.get(3))), writes.get(connection2));
+        });
+        assertEquals(List.of(true, true, true, true), deferred);
+        assertEquals(4, thread.tasksPerDrain(), 0);
+    }
+
+    @Test
+    public void drain_whenMoreTasksThanDrainSize() {
+        Connection connection = newConnection();
+        for (int i = 0; i < 5; i++) {
+            queue.add(deferWriteTask(connection, new Packet()), false);
+        }
+
+        startThread(2);
+
+        assertTrueEventually(() -> assertEquals(3, writes.getOrDefault(connection, List.of()).size()));
+        assertEquals(5d / 3, thread.tasksPerDrain(), 0.001);
+    }
+
+    @Test
+    public void drain_whenDisabled() {
+        Connection connection = newConnection();
+        queue.add(deferWriteTask(connection, new Packet()), false);
+
+        startThread(1);
+
+        assertTrueEventually(() -> assertEquals(List.of(false), deferred));
+        assertFalse(writes.containsKey(connection));
+        assertEquals(0, thread.tasksPerDrain(), 0);
+    }
+
+    @Test
+    public void testClientRequests() {
+        Config config = smallInstanceConfig()
+                .setProperty(PARTITION_OPERATION_THREAD_DRAIN_SIZE.getName(), "32");
+        HazelcastInstance instance = factory.newHazelcastInstance(config);
+        HazelcastInstance client = factory.newHazelcastClient();
+        IMap<Integer, Integer> map = client.getMap("map");
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(map.putAsync(i, i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+
+        OperationExecutorImpl executor = (OperationExecutorImpl) getOperationService(instance).getOperationExecutor();
+        double tasksPerDrain = 0;
+        for (PartitionOperationThread partitionThread : executor.getPartitionThreads()) {
+            tasksPerDrain = Math.max(tasksPerDrain, partitionThread.tasksPerDrain());
+        }
+        assertTrue(tasksPerDrain >= 1);
+    }
+
+    private Runnable deferWriteTask(Connection connection, OutboundFrame frame) {
+        return () -> deferred.add(PartitionOperationThread.deferWrite(connection, frame));
+    }
+
+    private Connection newConnection() {
+        Connection connection = mock(Connection.class);
+        when(connection.writeAll(any())).thenAnswer(invocation -> {
+            // the batch reuses the list, so it needs to be copied
+            List<OutboundFrame> frames = new ArrayList<>(invocation.getArgument(0));
+            writes.computeIfAbsent(connection, c -> new CopyOnWriteArrayList<>()).add(frames);
+            return true;
+        });
+        return connection;
+    }
+
+    private PartitionOperationThread newThread() {
+        return new PartitionOperationThread("partition-thread", 0, queue, mock(ILogger.class), mock(NodeExtension.class),
+                new OperationRunner[0], Thread.currentThread().getContextClassLoader());
+    }
+
+    private void startThread(int drainSize) {
+        thread = newThread();
+        thread.setDrainSize(drainSize);
+        queue.setConsumerThread(thread);
+        thread.start();
+    }
+}
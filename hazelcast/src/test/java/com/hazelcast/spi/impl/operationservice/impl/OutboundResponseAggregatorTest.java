@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.server.ServerConnectionManager;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.hazelcast.spi.impl.SpiDataSerializerHook.BACKUP_ACK_RESPONSE;
+import static com.hazelcast.spi.impl.SpiDataSerializerHook.RESPONSE_BATCH;
+import static com.hazelcast.spi.impl.operationservice.impl.OutboundResponseAggregator.OFFSET_BATCH_COUNT;
+import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_TYPE_ID;
+import static com.hazelcast.spi.properties.ClusterProperty.RESPONSE_BATCH_WINDOW_MICROS;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OutboundResponseAggregatorTest extends HazelcastTestSupport {
+
+    private final ILogger logger = Logger.getLogger(OutboundResponseAggregatorTest.class);
+    private final List<Packet> packets = new CopyOnWriteArrayList<>();
+    private Address thatAddress;
+    private ServerConnectionManager connectionManager;
+    private InternalSerializationService serializationService;
+    private OutboundResponseHandler handler;
+
+    @Before
+    public void setup() throws Exception {
+        Address thisAddress = new Address("127.0.0.1", 5701);
+        thatAddress = new Address("127.0.0.1", 5702);
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        connectionManager = mock(ServerConnectionManager.class);
+        when(connectionManager.transmit(any(), eq(thatAddress), anyInt())).thenAnswer(invocation -> {
+            packets.add(invocation.getArgument(0));
+            return true;
+        });
+        handler = new OutboundResponseHandler(thisAddress, serializationService, logger,
+                MILLISECONDS.toNanos(100), randomName());
+        handler.start();
+    }
+
+    @After
+    public void tearDown() {
+        handler.shutdown();
+    }
+
+    @Test
+    public void responsesForSameTarget_areSentAsOneBatch() {
+        handler.sendBackupAck(connectionManager, thatAddress, 1, false);
+        handler.sendBackupAck(connectionManager, thatAddress, 2, false);
+        handler.sendBackupAck(connectionManager, thatAddress, 3, false);
+
+        assertTrueEventually(() -> assertEquals(1, packets.size()));
+        byte[] bytes = packets.get(0).toByteArray();
+        assertEquals(RESPONSE_BATCH, readInt(bytes, OFFSET_TYPE_ID));
+        assertEquals(3, readInt(bytes, OFFSET_BATCH_COUNT));
+    }
+
+    @Test
+    public void singleResponse_isSentAsRegularResponse() {
+        handler.sendBackupAck(connectionManager, thatAddress, 1, false);
+
+        assertTrueEventually(() -> assertEquals(1, packets.size()));
+        byte[] bytes = packets.get(0).toByteArray();
+        assertEquals(BACKUP_ACK_RESPONSE, readInt(bytes, OFFSET_TYPE_ID));
+        assertEquals(handler.toBackupAckPacket(1, false), packets.get(0));
+    }
+
+    @Test
+    public void urgentResponse_isSentImmediately() {
+        handler.sendBackupAck(connectionManager, thatAddress, 1, true);
+
+        // no need to wait for the batch window
+        assertEquals(1, packets.size());
+        assertEquals(handler.toBackupAckPacket(1, true), packets.get(0));
+    }
+
+    @Test
+    public void syncBackups_withResponseBatching() {
+        Config config = smallInstanceConfig()
+                .setProperty(RESPONSE_BATCH_WINDOW_MICROS.getName(), "50");
+        config.getMapConfig("map").setBackupCount(1);
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(config);
+        HazelcastInstance instance2 = factory.newHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance1.getMap("map");
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        IMap<Integer, Integer> otherMap = instance2.getMap("map");
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) otherMap.get(i));
+        }
+    }
+
+    private int readInt(byte[] bytes, int offset) {
+        return Bits.readInt(bytes, offset, serializationService.getByteOrder() == BIG_ENDIAN);
+    }
+}